@@ -0,0 +1,275 @@
+package com.burrows.easaddon;
+
+import com.burrows.easaddon.compat.PMWeatherBridge;
+import com.burrows.easaddon.compat.StormSnapshot;
+import com.burrows.easaddon.compat.StormSnapshotService;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.component.CustomData;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the EAS alert checks for every loaded EAS block, once per dimension per interval, on the
+ * logical server.
+ *
+ * EAS blocks register here when they load and are kept in a coarse grid with cells as wide as the
+ * alert range, so each storm is only distance-checked against the blocks in the cells around it.
+ * Alert levels are worked out once per storm rather than once per block, and bulletins are
+ * collected for the whole pass so a player bound to several EAS blocks hears about a storm once.
+ */
+public class AlertDispatcher {
+    private static AlertDispatcher instance;
+
+    // Same cadence the blocks used to run their own checks at
+    private static final int ALERT_INTERVAL_TICKS = 200;
+    private static final int CELL_SIZE = (int) EASBlockEntity.ALERT_RANGE;
+
+    /**
+     * A new warning or alert level change for one storm from one EAS block
+     */
+    public record Bulletin(long stationPos, long stormId, int type, int stage, int alertLevel, Vec3 velocity) {
+    }
+
+    /**
+     * Bulletins raised during one pass, sent together at the end of it
+     */
+    public static final class Bulletins {
+        private final List<Bulletin> raised = new ArrayList<>();
+
+        public void add(BlockPos station, long stormId, int type, int stage, int alertLevel, Vec3 velocity) {
+            raised.add(new Bulletin(station.asLong(), stormId, type, stage, alertLevel, velocity));
+        }
+
+        boolean isEmpty() {
+            return raised.isEmpty();
+        }
+    }
+
+    /**
+     * Loaded EAS blocks of one dimension, bucketed by grid cell
+     */
+    private static final class StationGrid {
+        private final Long2ObjectOpenHashMap<EASBlockEntity> stations = new Long2ObjectOpenHashMap<>();
+        private final Long2ObjectOpenHashMap<List<EASBlockEntity>> cells = new Long2ObjectOpenHashMap<>();
+
+        void add(EASBlockEntity station) {
+            BlockPos pos = station.getBlockPos();
+            EASBlockEntity previous = stations.put(pos.asLong(), station);
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+            cells.computeIfAbsent(cellKey(pos), key -> new ArrayList<>()).add(station);
+        }
+
+        void remove(EASBlockEntity station) {
+            // A replacement block entity at the same position may already have taken the slot
+            if (stations.remove(station.getBlockPos().asLong(), station)) {
+                removeFromCell(station);
+            }
+        }
+
+        private void removeFromCell(EASBlockEntity station) {
+            long key = cellKey(station.getBlockPos());
+            List<EASBlockEntity> cell = cells.get(key);
+            if (cell != null) {
+                cell.remove(station);
+                if (cell.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+
+        private static long cellKey(BlockPos pos) {
+            return cellKey(Math.floorDiv(pos.getX(), CELL_SIZE), Math.floorDiv(pos.getZ(), CELL_SIZE));
+        }
+
+        private static long cellKey(int cellX, int cellZ) {
+            return (long) cellX & 0xFFFFFFFFL | ((long) cellZ & 0xFFFFFFFFL) << 32;
+        }
+    }
+
+    private final Map<ResourceKey<Level>, StationGrid> grids = new HashMap<>();
+
+    private AlertDispatcher() {}
+
+    public static AlertDispatcher getInstance() {
+        if (instance == null) {
+            instance = new AlertDispatcher();
+        }
+        return instance;
+    }
+
+    public void register(ServerLevel level, EASBlockEntity station) {
+        grids.computeIfAbsent(level.dimension(), key -> new StationGrid()).add(station);
+    }
+
+    public void unregister(ServerLevel level, EASBlockEntity station) {
+        StationGrid grid = grids.get(level.dimension());
+        if (grid != null) {
+            grid.remove(station);
+        }
+    }
+
+    @SubscribeEvent
+    public void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel level) || !PMWeatherBridge.isAvailable()) return;
+        if (level.getGameTime() % ALERT_INTERVAL_TICKS != 0) return;
+
+        StationGrid grid = grids.get(level.dimension());
+        if (grid == null || grid.stations.isEmpty()) return;
+
+        try {
+            dispatch(level, grid);
+        } catch (Exception e) {
+            EASAddon.LOGGER.error("Error dispatching EAS alerts for {}: {}", level.dimension().location(), e.getMessage());
+        }
+    }
+
+    @SubscribeEvent
+    public void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            grids.remove(level.dimension());
+        }
+    }
+
+    private void dispatch(ServerLevel level, StationGrid grid) {
+        StormSnapshot storms = StormSnapshotService.getInstance().getSnapshot(level);
+
+        int[] alertLevels = new int[storms.size];
+        for (int i = 0; i < storms.size; i++) {
+            alertLevels[i] = EASBlockEntity.computeAlertLevel(storms.stormType[i], storms.stage[i], storms.windspeed[i]);
+        }
+
+        Map<EASBlockEntity, IntList> nearbyStorms = findNearbyStorms(storms, grid);
+
+        Bulletins bulletins = new Bulletins();
+        // Copy, a station can unload itself while updating its overlays
+        for (EASBlockEntity station : new ArrayList<>(grid.stations.values())) {
+            BlockPos pos = station.getBlockPos();
+            if (station.isRemoved() || !level.shouldTickBlocksAt(pos)) continue;
+
+            IntList nearby = nearbyStorms.getOrDefault(station, IntList.of());
+            station.runAlertPass(level, storms, alertLevels, nearby, bulletins);
+        }
+
+        if (!bulletins.isEmpty()) {
+            sendBulletins(level, bulletins);
+        }
+    }
+
+    /**
+     * Indices of the storms within alert range of each station, found by looking only at the grid
+     * cells each storm's range overlaps
+     */
+    private Map<EASBlockEntity, IntList> findNearbyStorms(StormSnapshot storms, StationGrid grid) {
+        Map<EASBlockEntity, IntList> nearby = new IdentityHashMap<>();
+        double range = EASBlockEntity.ALERT_RANGE;
+        double rangeSqr = range * range;
+
+        for (int i = 0; i < storms.size; i++) {
+            double x = storms.x[i];
+            double y = storms.y[i];
+            double z = storms.z[i];
+            int minCellX = (int) Math.floor((x - range) / CELL_SIZE);
+            int maxCellX = (int) Math.floor((x + range) / CELL_SIZE);
+            int minCellZ = (int) Math.floor((z - range) / CELL_SIZE);
+            int maxCellZ = (int) Math.floor((z + range) / CELL_SIZE);
+
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                    List<EASBlockEntity> cell = grid.cells.get(StationGrid.cellKey(cellX, cellZ));
+                    if (cell == null) continue;
+
+                    for (EASBlockEntity station : cell) {
+                        // Same block-corner distance the stations have always used
+                        BlockPos pos = station.getBlockPos();
+                        double dx = x - pos.getX();
+                        double dy = y - pos.getY();
+                        double dz = z - pos.getZ();
+                        if (dx * dx + dy * dy + dz * dz <= rangeSqr) {
+                            nearby.computeIfAbsent(station, key -> new IntArrayList()).add(i);
+                        }
+                    }
+                }
+            }
+        }
+        return nearby;
+    }
+
+    /**
+     * Send each player one bulletin per storm, from whichever of their bound EAS blocks raised the
+     * highest alert level for it
+     */
+    private void sendBulletins(ServerLevel level, Bulletins bulletins) {
+        String dimensionId = level.dimension().location().toString();
+        String time = LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm"));
+        SoundEvent alertSound = (SoundEvent) RegistryHandler.EAS_ALERT.get();
+
+        for (ServerPlayer player : level.players()) {
+            LongSet bound = boundStations(player, dimensionId);
+            if (bound.isEmpty()) continue;
+
+            Long2ObjectOpenHashMap<Bulletin> byStorm = new Long2ObjectOpenHashMap<>();
+            for (Bulletin bulletin : bulletins.raised) {
+                if (!bound.contains(bulletin.stationPos())) continue;
+                Bulletin current = byStorm.get(bulletin.stormId());
+                if (current == null || bulletin.alertLevel() > current.alertLevel()) {
+                    byStorm.put(bulletin.stormId(), bulletin);
+                }
+            }
+
+            for (Long2ObjectMap.Entry<Bulletin> entry : byStorm.long2ObjectEntrySet()) {
+                Bulletin bulletin = entry.getValue();
+                Component msg = EASBlockEntity.createBulletin(bulletin.type(), bulletin.stage(), bulletin.alertLevel(),
+                    time, bulletin.velocity());
+                if (msg == null) continue;
+
+                player.sendSystemMessage(msg);
+                level.playSound(null, player.getX(), player.getY(), player.getZ(), alertSound, SoundSource.MASTER, 1.0f, 1.0f);
+                player.playNotifySound(alertSound, SoundSource.MASTER, 1.0f, 1.0f);
+            }
+        }
+    }
+
+    /**
+     * Positions of the EAS blocks in this dimension the player carries a transmitter bound to
+     */
+    private static LongSet boundStations(ServerPlayer player, String dimensionId) {
+        LongSet bound = new LongOpenHashSet();
+        for (ItemStack stack : player.getInventory().items) {
+            CustomData data;
+            if (!(stack.getItem() instanceof EasTransmitterItem) || (data = (CustomData) stack.get(DataComponents.CUSTOM_DATA)) == null) continue;
+            CompoundTag tag = data.copyTag();
+            if (tag.contains("boundPos") && tag.getString("boundDim").equals(dimensionId)) {
+                bound.add(tag.getLong("boundPos"));
+            }
+        }
+        return bound;
+    }
+}
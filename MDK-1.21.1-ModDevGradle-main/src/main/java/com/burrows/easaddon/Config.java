@@ -9,14 +9,26 @@ import net.neoforged.neoforge.common.ModConfigSpec;
 
   @EventBusSubscriber(modid = EASAddon.MODID, bus = EventBusSubscriber.Bus.MOD)
   public class Config {
-  /*\*
+    private static final ModConfigSpec.Builder BUILDER = new ModConfigSpec.Builder();
 
-  * Empty ModConfigSpec: no definitions or comments, satisfying builder constraints.
-    \*/
-    public static final ModConfigSpec SPEC = new ModConfigSpec.Builder().build();
+    // ADDED: Client background work (tornado tracking, evidence scans, saves)
+    private static final ModConfigSpec.DoubleValue CLIENT_WORK_BUDGET_MS = BUILDER
+        .comment("Most time per client tick, in milliseconds, spent on queued tornado tracking, evidence scans and saves")
+        .defineInRange("clientWorkBudgetMs", 2.0, 0.25, 50.0);
+
+    private static final ModConfigSpec.DoubleValue TARGET_FRAME_TIME_MS = BUILDER
+        .comment("Frame time, in milliseconds, above which the client work budget is scaled back")
+        .defineInRange("targetFrameTimeMs", 20.0, 1.0, 1000.0);
+
+    public static final ModConfigSpec SPEC = BUILDER.build();
+
+    public static double clientWorkBudgetMs = 2.0;
+    public static double targetFrameTimeMs = 20.0;
 
     @SubscribeEvent
     public static void onLoad(ModConfigEvent event) {
-    // Placeholder: no values to read yet
+        if (event.getConfig().getSpec() != SPEC) return;
+        clientWorkBudgetMs = CLIENT_WORK_BUDGET_MS.get();
+        targetFrameTimeMs = TARGET_FRAME_TIME_MS.get();
     }
     }
@@ -5,19 +5,28 @@ import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.ModList;
 import net.neoforged.fml.common.Mod;
+import net.neoforged.fml.config.ModConfig;
 import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
 import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.neoforged.neoforge.common.NeoForge;
 import org.slf4j.Logger;
 import net.neoforged.neoforge.client.event.EntityRenderersEvent;
 import com.burrows.easaddon.client.RadarOverlayRenderer;
+import com.burrows.easaddon.survey.ChunkEvidenceStore;
+import com.burrows.easaddon.survey.SurveyChunkLeaseManager;
 import com.burrows.easaddon.survey.SurveyCommands;
+import com.burrows.easaddon.tornado.BlockStrengthTable;
+import com.burrows.easaddon.tornado.ClientWorkScheduler;
+import com.burrows.easaddon.tornado.ServerTornadoTracker;
 import com.burrows.easaddon.tornado.TornadoTracker;
+import com.burrows.easaddon.compat.WeatherHandlerResolver;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent; // ADDED
 import net.neoforged.neoforge.network.registration.PayloadRegistrar; // ADDED
 import com.burrows.easaddon.network.SurveyNetworkPackets; // ADDED
+import com.burrows.easaddon.network.TornadoSyncManager;
+import com.burrows.easaddon.network.TornadoSyncPackets;
 import net.neoforged.neoforge.event.level.ChunkEvent;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.fml.loading.FMLEnvironment;
@@ -33,6 +42,7 @@ public class EASAddon {
         verifyPMWeatherPresence();
         
         RegistryHandler.register(modEventBus);
+        modContainer.registerConfig(ModConfig.Type.CLIENT, Config.SPEC);
         modEventBus.addListener(EntityRenderersEvent.RegisterRenderers.class, this::onRegisterRenderers);
 
         // ADDED: Register network packets
@@ -41,6 +51,29 @@ public class EASAddon {
         modEventBus.addListener(this::commonSetup);
         modEventBus.addListener(this::clientSetup);
 
+        // Drop cached PMWeather weather handlers when their level unloads
+        if (pmweatherAvailable) {
+            NeoForge.EVENT_BUS.register(WeatherHandlerResolver.getInstance());
+        }
+        
+        // Rebuild the tornado block strength table when PMWeather's config reloads
+        NeoForge.EVENT_BUS.register(BlockStrengthTable.getInstance());
+        
+        // Save damage evidence with chunks and hand it back when they load
+        NeoForge.EVENT_BUS.register(ChunkEvidenceStore.getInstance());
+        
+        // Reference-counted chunk tickets for surveys
+        NeoForge.EVENT_BUS.register(SurveyChunkLeaseManager.getInstance());
+
+        // Track tornadoes once per dimension on the logical server and stream them to clients
+        if (pmweatherAvailable) {
+            NeoForge.EVENT_BUS.register(ServerTornadoTracker.getInstance());
+            NeoForge.EVENT_BUS.register(TornadoSyncManager.getInstance());
+            
+            // EAS alerts for all loaded EAS blocks, once per dimension
+            NeoForge.EVENT_BUS.register(AlertDispatcher.getInstance());
+        }
+
         // NeoForge version-aware logging
         LOGGER.info("Initialized for Minecraft {} with NeoForge");
         
@@ -83,6 +116,13 @@ public class EASAddon {
             SurveyNetworkPackets.SurveyUpdatePacket::handle
         );
         
+        // ADDED: Tornado tracks streamed from the server's tracker
+        registrar.playToClient(
+            TornadoSyncPackets.TornadoSyncPacket.TYPE,
+            TornadoSyncPackets.TornadoSyncPacket.STREAM_CODEC,
+            TornadoSyncPackets.TornadoSyncPacket::handle
+        );
+        
         LOGGER.info("Survey network packets registered successfully");
     }
     
@@ -129,6 +169,9 @@ public class EASAddon {
             NeoForge.EVENT_BUS.register(TornadoTracker.getInstance());
             LOGGER.info("Tornado tracker registered for client-side events");
             
+            // Time-budgeted queue for the tracker's and damage hook's background work
+            NeoForge.EVENT_BUS.register(ClientWorkScheduler.getInstance());
+            
             // Register PMWeather damage hook for real damage tracking
             NeoForge.EVENT_BUS.register(com.burrows.easaddon.survey.PMWeatherDamageHook.getInstance());
             LOGGER.info("PMWeather damage hook registered for real damage tracking");
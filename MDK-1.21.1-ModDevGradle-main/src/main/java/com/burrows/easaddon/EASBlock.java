@@ -15,8 +15,6 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
@@ -81,14 +79,6 @@ public class EASBlock extends Block implements EntityBlock {
         return new EASBlockEntity(pos, state);
     }
 
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> type) {
-        if (type == RegistryHandler.EAS_BLOCK_ENTITY.get()) {
-
-            return (lvl, pos, st, be) -> EASBlockEntity.tick(lvl, pos, st, (EASBlockEntity)be);
-        }
-        return null;
-    }
-
     private String posToString(Level level, BlockState state) {
         return state.toString();
     }
@@ -2,10 +2,6 @@
 package com.burrows.easaddon;
 
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -21,16 +17,10 @@ import net.minecraft.nbt.Tag;
 import javax.annotation.Nullable;
 
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.component.DataComponents;
 import net.minecraft.network.Connection;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.sounds.SoundEvent;
-import net.minecraft.sounds.SoundSource;
-import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
@@ -43,12 +33,18 @@ import org.apache.logging.log4j.Logger;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.core.HolderLookup;
+import com.burrows.easaddon.compat.PMWeatherBridge;
+import com.burrows.easaddon.compat.StormAccess;
+import com.burrows.easaddon.compat.StormSnapshot;
+import com.burrows.easaddon.compat.StormSnapshotService;
+import it.unimi.dsi.fastutil.ints.IntList;
 
 
 
 public class EASBlockEntity
 extends BlockEntity {
-    private int tickCounter = 0;
+    // Storms within this many blocks are alerted on
+    static final double ALERT_RANGE = 512.0;
     private final Map<Long, Integer> trackedStormsById = new HashMap<Long, Integer>();
     
 
@@ -57,18 +53,38 @@ extends BlockEntity {
         super((BlockEntityType)RegistryHandler.EAS_BLOCK_ENTITY.get(), pos, state);
     }
 
-    public static void tick(Level level, BlockPos pos, BlockState state, EASBlockEntity be) {
-        if (!(level instanceof ServerLevel)) {
-            return;
-        }
-        ServerLevel server = (ServerLevel)level;
-        if (++be.tickCounter >= 200) {
-            be.tickCounter = 0;
-            be.checkStorms(server, pos);
+    private static boolean isRadarBlock(BlockState state) {
+        StormAccess pm = PMWeatherBridge.get();
+        return pm != null && pm.isRadarBlock(state.getBlock());
+    }
+
+    // CHANGED: Alert checks run from the dimension's AlertDispatcher instead of a ticker per block
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (this.level instanceof ServerLevel server) {
+            AlertDispatcher.getInstance().register(server, this);
         }
-        if (be.tickCounter % 200 == 0) {
-            be.cleanupOrphanedOverlays(server, pos);
+    }
+
+    @Override
+    public void setRemoved() {
+        if (this.level instanceof ServerLevel server) {
+            AlertDispatcher.getInstance().unregister(server, this);
         }
+        super.setRemoved();
+    }
+
+    /**
+     * One alert check for this block, run by the AlertDispatcher. nearbyStorms holds the snapshot
+     * indices of the storms within ALERT_RANGE, alertLevels the alert level of every storm.
+     * Warnings go into bulletins; the dispatcher sends them once the pass is done.
+     */
+    void runAlertPass(ServerLevel level, StormSnapshot storms, int[] alertLevels, IntList nearbyStorms,
+                      AlertDispatcher.Bulletins bulletins) {
+        BlockPos pos = this.getBlockPos();
+        this.checkStorms(level, pos, storms, alertLevels, nearbyStorms, bulletins);
+        this.cleanupOrphanedOverlays(level, pos);
     }
     
     private void ensureRadarOverlays(ServerLevel level, BlockPos easPos) {
@@ -78,9 +94,8 @@ extends BlockEntity {
         BlockPos radarPos = easPos.relative(dir);
         BlockState radarState = level.getBlockState(radarPos);
         
-        try {
-            Class<?> radarCls = Class.forName("dev.protomanly.pmweather.block.RadarBlock");
-            if (radarCls.isInstance(radarState.getBlock())) {
+        if (PMWeatherBridge.isAvailable()) {
+            if (isRadarBlock(radarState)) {
                 BlockPos overlayPos = radarPos.above();
                 BlockState overlayState = level.getBlockState(overlayPos);
                 
@@ -98,7 +113,6 @@ extends BlockEntity {
                 // NEW: Check if this radar needs polygons for existing tracked storms
                 createMissingPolygonsForRadar(level, easPos, radarPos, overlayPos, isNewRadar);
             }
-        } catch (ClassNotFoundException e) {
         }
     }
     }
@@ -116,13 +130,7 @@ extends BlockEntity {
             
             // Check if we have an overlay block but no radar block
             if (overlayState.is(RegistryHandler.RADAR_OVERLAY_BLOCK.get())) {
-                boolean hasRadarBelow = false;
-                try {
-                    Class<?> radarCls = Class.forName("dev.protomanly.pmweather.block.RadarBlock");
-                    hasRadarBelow = radarCls.isInstance(radarState.getBlock());
-                } catch (ClassNotFoundException e) {
-                    // PMWeather not installed
-                }
+                boolean hasRadarBelow = isRadarBlock(radarState);
                 
                 if (!hasRadarBelow) {
                     // Remove orphaned overlay
@@ -143,18 +151,12 @@ private void createMissingPolygonsForRadar(ServerLevel level, BlockPos easPos, B
 
     
     try {
-        // Get current storms from PMWeather
-        Class<?> gbe = Class.forName("dev.protomanly.pmweather.event.GameBusEvents");
-        Field managersF = gbe.getField("MANAGERS");
-        Map managers = (Map)managersF.get(null);
-        Object handler = managers.get(level.dimension());
-        if (handler == null) {
+        // Get current storms from the shared per-tick snapshot
+        StormSnapshot storms = StormSnapshotService.getInstance().getSnapshot(level);
+        if (storms.isEmpty()) {
             return;
         }
         
-        Method getStorms = handler.getClass().getMethod("getStorms", new Class[0]);
-        List storms = (List)getStorms.invoke(handler, new Object[0]);
-        
         // Get existing polygons at this overlay position
         Collection<AlertPolygon> existingPolygons = AlertPolygonManager.getPolygonsAt(overlayPos);
         Set<Long> existingStormIds = new HashSet<>();
@@ -164,13 +166,13 @@ private void createMissingPolygonsForRadar(ServerLevel level, BlockPos easPos, B
         
         
         // Check each currently active storm
-        for (Object storm : storms) {
-            long stormId = storm.getClass().getField("ID").getLong(storm);
-            int type = storm.getClass().getField("stormType").getInt(storm);
-            int stage = storm.getClass().getField("stage").getInt(storm);
-            Vec3 stormPos = (Vec3)storm.getClass().getField("position").get(storm);
-            int windspeed = storm.getClass().getField("windspeed").getInt(storm);
-            Vec3 velocity = (Vec3)storm.getClass().getField("velocity").get(storm);
+        for (int i = 0; i < storms.size; i++) {
+            long stormId = storms.id[i];
+            int type = storms.stormType[i];
+            int stage = storms.stage[i];
+            Vec3 stormPos = storms.position(i);
+            int windspeed = storms.windspeed[i];
+            Vec3 velocity = storms.velocity(i);
             
             // Skip storms outside of range (512-block radius squared = 262144)
             if (stormPos.distanceToSqr(easPos.getX(), easPos.getY(), easPos.getZ()) > 262144) {
@@ -291,26 +293,11 @@ private void updatePolygonAlertLevels(ServerLevel level, BlockPos easPos, long s
     // FIXED: Get storm occlusion value for consistent rotation
     float stormOcclusion = 0.0f;
     Vec3 velocity = new Vec3(0, 0, 0);
-    try {
-        Class<?> gbe = Class.forName("dev.protomanly.pmweather.event.GameBusEvents");
-        Field managersF = gbe.getField("MANAGERS");
-        Map managers = (Map)managersF.get(null);
-        Object handler = managers.get(level.dimension());
-        if (handler != null) {
-            Method getStorms = handler.getClass().getMethod("getStorms", new Class[0]);
-            List storms = (List)getStorms.invoke(handler, new Object[0]);
-            
-            // Find the specific storm by ID
-            for (Object storm : storms) {
-                long currentStormId = storm.getClass().getField("ID").getLong(storm);
-                if (currentStormId == stormId) {
-                    stormOcclusion = storm.getClass().getField("occlusion").getFloat(storm);
-                    velocity = (Vec3)storm.getClass().getField("velocity").get(storm);
-                    break;
-                }
-            }
-        }
-    } catch (Exception e) {
+    StormSnapshot storms = StormSnapshotService.getInstance().getSnapshot(level);
+    int stormIndex = storms.indexOf(stormId);
+    if (stormIndex >= 0) {
+        stormOcclusion = storms.occlusion[stormIndex];
+        velocity = storms.velocity(stormIndex);
     }
     
     boolean polygonUpdated = false;
@@ -320,9 +307,8 @@ private void updatePolygonAlertLevels(ServerLevel level, BlockPos easPos, long s
         BlockPos radarPos = easPos.relative(dir);
         BlockState radarState = level.getBlockState(radarPos);
         
-        try {
-            Class<?> radarCls = Class.forName("dev.protomanly.pmweather.block.RadarBlock");
-            if (radarCls.isInstance(radarState.getBlock())) {
+        if (PMWeatherBridge.isAvailable()) {
+            if (isRadarBlock(radarState)) {
                 BlockPos overlayPos = radarPos.above();
                 
                 // Get existing polygons at this radar
@@ -390,8 +376,6 @@ private void updatePolygonAlertLevels(ServerLevel level, BlockPos easPos, long s
                     }
                 }
             }
-        } catch (ClassNotFoundException e) {
-            // PMWeather not installed
         }
     }
     
@@ -401,18 +385,17 @@ private void updatePolygonAlertLevels(ServerLevel level, BlockPos easPos, long s
 
 
 // Replace your existing checkStorms method with this enhanced version
-private void checkStorms(ServerLevel level, BlockPos easPos) {
-    Class<?> metarCls;
-    try {
-        metarCls = Class.forName("dev.protomanly.pmweather.block.MetarBlock");
-    } catch (ClassNotFoundException e) {
+private void checkStorms(ServerLevel level, BlockPos easPos, StormSnapshot storms, int[] alertLevels,
+                         IntList nearbyStorms, AlertDispatcher.Bulletins bulletins) {
+    StormAccess pm = PMWeatherBridge.get();
+    if (pm == null) {
         return;
     }
     boolean metarAdjacent = false;
     for (Direction dir : Direction.values()) {
         BlockPos adj = easPos.relative(dir);
         BlockState st = level.getBlockState(adj);
-        if (metarCls != null && metarCls.isInstance(st.getBlock())) {
+        if (pm.isMetarBlock(st.getBlock())) {
             metarAdjacent = true;
             break;
         }
@@ -425,61 +408,41 @@ private void checkStorms(ServerLevel level, BlockPos easPos) {
     ensureRadarOverlays(level, easPos);
 
     try {
-        Class<?> gbe = Class.forName("dev.protomanly.pmweather.event.GameBusEvents");
-        Field managersF = gbe.getField("MANAGERS");
-        Map managers = (Map)managersF.get(null);
-        Object handler = managers.get(level.dimension());
-        if (handler == null) {
-            return;
-        }
-        Method getStorms = handler.getClass().getMethod("getStorms", new Class[0]);
-        List storms = (List)getStorms.invoke(handler, new Object[0]);
-        
-        // 1) Gather current storm IDs and process storms
-        Set<Long> allCurrentStormIds = new HashSet<>();
+        // 1) Process the storms in EAS range (the dispatcher already did the distance check)
         Set<Long> inRangeStormIds = new HashSet<>();
         
-        for (Object storm : storms) {
-            long stormId = storm.getClass().getField("ID").getLong(storm);
-            int type = storm.getClass().getField("stormType").getInt(storm);
-            int stage = storm.getClass().getField("stage").getInt(storm);
-            Vec3 stormPos = (Vec3)storm.getClass().getField("position").get(storm);
-            int windspeed = storm.getClass().getField("windspeed").getInt(storm);
-            Vec3 velocity = (Vec3)storm.getClass().getField("velocity").get(storm);
-            double horizontalSpeed = Math.sqrt(velocity.x*velocity.x + velocity.z*velocity.z);
-            int movementSpeedMPH = (int)((horizontalSpeed * 20 * 2.23694) / 6);
+        for (int n = 0; n < nearbyStorms.size(); n++) {
+            int i = nearbyStorms.getInt(n);
+            long stormId = storms.id[i];
+            int type = storms.stormType[i];
+            int stage = storms.stage[i];
+            Vec3 stormPos = storms.position(i);
+            Vec3 velocity = storms.velocity(i);
+            inRangeStormIds.add(stormId);
             
-            allCurrentStormIds.add(stormId);
+            int newLevel = alertLevels[i];
+            Integer oldLevel = this.trackedStormsById.get(stormId);
             
-            // Check if storm is in EAS range
-            if (stormPos.distanceToSqr(easPos.getX(), easPos.getY(), easPos.getZ()) <= 262144) {
-            	EASAddon.LOGGER.warn("within range 1231323321321213312321");
-                inRangeStormIds.add(stormId);
+            // *** CRITICAL FIX: Handle both new storms AND alert level changes ***
+            if (oldLevel == null && newLevel > 0) {
+                // New storm detection
+                this.handleStormDetection(level, easPos, stormId, stormPos, type, stage, newLevel, velocity, bulletins);
+                this.trackedStormsById.put(stormId, newLevel);
+            } else if (oldLevel != null && newLevel != oldLevel && newLevel > 0) {
+                // *** NEW: Alert level changed for existing storm ***
+
                 
-                int newLevel = computeAlertLevel(type, stage, windspeed);
-                Integer oldLevel = this.trackedStormsById.get(stormId);
+                // Send new warning message
+                this.handleStormDetection(level, easPos, stormId, stormPos, type, stage, newLevel, velocity, bulletins);
                 
-                // *** CRITICAL FIX: Handle both new storms AND alert level changes ***
-                if (oldLevel == null && newLevel > 0) {
-                    // New storm detection
-                    this.handleStormDetection(level, easPos, stormId, stormPos, type, stage, windspeed, movementSpeedMPH, velocity);
-                    this.trackedStormsById.put(stormId, newLevel);
-                } else if (oldLevel != null && newLevel != oldLevel && newLevel > 0) {
-                    // *** NEW: Alert level changed for existing storm ***
-
-                    
-                    // Send new warning message
-                    this.handleStormDetection(level, easPos, stormId, stormPos, type, stage, windspeed, movementSpeedMPH, velocity);
-                    
-                    // Update polygons with new alert level
-                    this.updatePolygonAlertLevels(level, easPos, stormId, type, stage, newLevel);
-                    
-                    // Update tracking
-                    this.trackedStormsById.put(stormId, newLevel);
-                } else if (oldLevel != null && newLevel == 0) {
-                    // Storm no longer meets alert criteria
-                    this.trackedStormsById.remove(stormId);
-                }
+                // Update polygons with new alert level
+                this.updatePolygonAlertLevels(level, easPos, stormId, type, stage, newLevel);
+                
+                // Update tracking
+                this.trackedStormsById.put(stormId, newLevel);
+            } else if (oldLevel != null && newLevel == 0) {
+                // Storm no longer meets alert criteria
+                this.trackedStormsById.remove(stormId);
             }
         }
 
@@ -490,9 +453,8 @@ private void checkStorms(ServerLevel level, BlockPos easPos) {
             BlockPos radarPos = easPos.relative(dir);
             BlockState radarState = level.getBlockState(radarPos);
             
-            try {
-                Class<?> radarCls = Class.forName("dev.protomanly.pmweather.block.RadarBlock");
-                if (radarCls.isInstance(radarState.getBlock())) {
+            if (PMWeatherBridge.isAvailable()) {
+                if (isRadarBlock(radarState)) {
                     BlockPos overlayPos = radarPos.above();
                     
                     // Get current polygons at this radar
@@ -505,9 +467,9 @@ private void checkStorms(ServerLevel level, BlockPos easPos) {
                     
                     // Only add storm IDs if storms list is not empty
                     if (!storms.isEmpty()) {
-                        for (Object storm : storms) {
-                            long stormId = storm.getClass().getField("ID").getLong(storm);
-                            Vec3 stormPos = (Vec3)storm.getClass().getField("position").get(storm);
+                        for (int i = 0; i < storms.size; i++) {
+                            long stormId = storms.id[i];
+                            Vec3 stormPos = storms.position(i);
                             
                             // Check if storm is within this radar's display range
                             double worldDx = stormPos.x - (radarPos.getX() + 0.5);
@@ -543,8 +505,6 @@ private void checkStorms(ServerLevel level, BlockPos easPos) {
                         }
                     }
                 }
-            } catch (ClassNotFoundException e) {
-                // PMWeather not installed
             }
         }
 
@@ -560,21 +520,15 @@ private void checkStorms(ServerLevel level, BlockPos easPos) {
 
         // 4) Update existing polygons for position changes (only if storms exist)
         if (!storms.isEmpty()) {
-            for (Object storm : storms) {
-                long stormId = storm.getClass().getField("ID").getLong(storm);
-                int type = storm.getClass().getField("stormType").getInt(storm);
-                int stage = storm.getClass().getField("stage").getInt(storm);
-                Vec3 stormPos = (Vec3)storm.getClass().getField("position").get(storm);
-                Vec3 velocity = (Vec3)storm.getClass().getField("velocity").get(storm);
+            for (int i = 0; i < storms.size; i++) {
+                long stormId = storms.id[i];
+                int type = storms.stormType[i];
+                int stage = storms.stage[i];
+                Vec3 stormPos = storms.position(i);
+                Vec3 velocity = storms.velocity(i);
                 
                 // FIXED: Get occlusion value for rotation calculation
-                float stormOcclusion = 0.0f;
-                try {
-                    stormOcclusion = storm.getClass().getField("occlusion").getFloat(storm);
-                } catch (Exception e) {
-                    // Default to 0 if can't get occlusion
-                    stormOcclusion = 0.0f;
-                }
+                float stormOcclusion = storms.occlusion[i];
                 
                 // Only update polygons for storms that we're tracking
                 if (!trackedStormsById.containsKey(stormId)) {
@@ -586,9 +540,8 @@ private void checkStorms(ServerLevel level, BlockPos easPos) {
                     BlockPos radarPos = easPos.relative(dir);
                     BlockState radarState = level.getBlockState(radarPos);
                     
-                    try {
-                        Class<?> radarCls = Class.forName("dev.protomanly.pmweather.block.RadarBlock");
-                        if (radarCls.isInstance(radarState.getBlock())) {
+                    if (PMWeatherBridge.isAvailable()) {
+                        if (isRadarBlock(radarState)) {
                             BlockPos overlayPos = radarPos.above();
                             
                             // Check if storm is still visible to this radar
@@ -685,8 +638,6 @@ private void checkStorms(ServerLevel level, BlockPos easPos) {
                                 }
                             }
                         }
-                    } catch (ClassNotFoundException e) {
-                        // PMWeather not installed
                     }
                 }
             }
@@ -700,7 +651,7 @@ private void checkStorms(ServerLevel level, BlockPos easPos) {
     }
 }
 
-    private int computeAlertLevel(int type, int stage, int windspeed) {
+    static int computeAlertLevel(int type, int stage, int windspeed) {
         if (type == 0) {
             if (stage >= 3) {
                 if (windspeed > 190) {
@@ -734,7 +685,7 @@ private void checkStorms(ServerLevel level, BlockPos easPos) {
 
 
     
-    private String getWindDirection(Vec3 velocity) {
+    private static String getWindDirection(Vec3 velocity) {
         double dx = velocity.x;
         double dz = velocity.z;
         double angle = Math.toDegrees(Math.atan2(dx, -dz));
@@ -763,18 +714,10 @@ private void handleStormDetection(
     Vec3 stormPos,
     int type,
     int stage,
-    int windspeed,
-    int movementSpeedMPH,
-    Vec3 velocity
+    int alertLevel,
+    Vec3 velocity,
+    AlertDispatcher.Bulletins bulletins
 ) {
-    String dimensionId = level.dimension().location().toString();
-    String windDirection = this.getWindDirection(velocity);
-    String time = LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm"));
-    String windInfo = String.format("%s @ %d MPH", windDirection, movementSpeedMPH);
-    SoundEvent alertSound = (SoundEvent)RegistryHandler.EAS_ALERT.get();
-    
-    int alertLevel = computeAlertLevel(type, stage, windspeed);
-    
     // === DETERMINE IF WE SHOULD CREATE A POLYGON ===
     boolean shouldCreatePolygon = false;
     int polygonLevel = 0;
@@ -814,27 +757,10 @@ private void handleStormDetection(
         if (!polygonExists) {
             // FIXED: Get occlusion value from storm for rotation calculation
             float stormOcclusion = 0.0f;
-            try {
-                // Get current storms from PMWeather to find occlusion value
-                Class<?> gbe = Class.forName("dev.protomanly.pmweather.event.GameBusEvents");
-                Field managersF = gbe.getField("MANAGERS");
-                Map managers = (Map)managersF.get(null);
-                Object handler = managers.get(level.dimension());
-                if (handler != null) {
-                    Method getStorms = handler.getClass().getMethod("getStorms", new Class[0]);
-                    List storms = (List)getStorms.invoke(handler, new Object[0]);
-                    
-                    // Find the specific storm by ID
-                    for (Object storm : storms) {
-                        long currentStormId = storm.getClass().getField("ID").getLong(storm);
-                        if (currentStormId == stormId) {
-                            stormOcclusion = storm.getClass().getField("occlusion").getFloat(storm);
-                            break;
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                stormOcclusion = 0.0f;
+            StormSnapshot storms = StormSnapshotService.getInstance().getSnapshot(level);
+            int stormIndex = storms.indexOf(stormId);
+            if (stormIndex >= 0) {
+                stormOcclusion = storms.occlusion[stormIndex];
             }
             
             // FIXED: Calculate coordinates relative to each radar position
@@ -842,9 +768,8 @@ private void handleStormDetection(
                 BlockPos radarPos = easPos.relative(dir);
                 BlockState radarState = level.getBlockState(radarPos);
                 
-                try {
-                    Class<?> radarCls = Class.forName("dev.protomanly.pmweather.block.RadarBlock");
-                    if (radarCls.isInstance(radarState.getBlock())) {
+                if (PMWeatherBridge.isAvailable()) {
+                    if (isRadarBlock(radarState)) {
                         BlockPos overlayPos = radarPos.above();
                         
                         // CRITICAL FIX: Calculate radar display coordinates
@@ -923,43 +848,37 @@ private void handleStormDetection(
                             radarOverlay.requestClientUpdate();
                         }
                     }
-                } catch (ClassNotFoundException e) {
                 }
             }
         }
     }
     
-    // === PLAYER NOTIFICATIONS === (unchanged)
-    for (ServerPlayer player : level.players()) {
-        Component msg;
-        if (!this.isPlayerBound(player, easPos, dimensionId)) continue;
+    // === PLAYER NOTIFICATIONS ===
+    // CHANGED: Raised with the dispatcher, which sends each bound player one bulletin per storm
+    bulletins.add(easPos, stormId, type, stage, alertLevel, velocity);
+}
+
+    /**
+     * EAS bulletin text for a storm, or null if its type and stage don't warrant one
+     */
+    static Component createBulletin(int type, int stage, int alertLevel, String time, Vec3 velocity) {
+        double horizontalSpeed = Math.sqrt(velocity.x*velocity.x + velocity.z*velocity.z);
+        int movementSpeedMPH = (int)((horizontalSpeed * 20 * 2.23694) / 6);
+        String windInfo = String.format("%s @ %d MPH", getWindDirection(velocity), movementSpeedMPH);
         
-        if ((msg = (switch (type) {
+        return switch (type) {
             case 0 -> {
                 if (stage >= 3) {
-                    yield this.createTornadoMessage(alertLevel, time, windInfo);
+                    yield createTornadoMessage(alertLevel, time, windInfo);
                 }
-                yield this.createSupercellMessage(stage, time, windInfo);
+                yield createSupercellMessage(stage, time, windInfo);
             }
-            case 1 -> this.createSquallMessage(stage, time, windInfo);
+            case 1 -> createSquallMessage(stage, time, windInfo);
             default -> null;
-        })) == null) continue;
-        
-        player.sendSystemMessage(msg);
-        level.playSound(
-                null,                                    // Play for all players in range 
-                player.getX(),                          // Player's X position
-                player.getY(),                          // Player's Y position  
-                player.getZ(),                          // Player's Z position
-                alertSound,                             // The EAS alert sound
-                SoundSource.MASTER,                     // Sound category
-                1.0f,                                   // Volume
-                1.0f                                    // Pitch
-            );player.playNotifySound(alertSound, SoundSource.MASTER, 1.0f, 1.0f);
+        };
     }
-}
 
-    private Component createSquallMessage(int stage, String time, String windInfo) {
+    private static Component createSquallMessage(int stage, String time, String windInfo) {
         String template;
         switch (stage) {
             case 1:
@@ -978,7 +897,7 @@ private void handleStormDetection(
         return template != null ? Component.literal(String.format(template, time, windInfo)) : null;
     }
 
-    private Component createSupercellMessage(int stage, String time, String windInfo) {
+    private static Component createSupercellMessage(int stage, String time, String windInfo) {
         String template;
         switch (stage) {
             case 1:
@@ -994,7 +913,7 @@ private void handleStormDetection(
         return template != null ? Component.literal(String.format(template, time, windInfo)) : null;
     }
 
-    private Component createTornadoMessage(int alertLevel, String time, String windInfo) {
+    private static Component createTornadoMessage(int alertLevel, String time, String windInfo) {
         switch (alertLevel) {
             case 1:
                 // 0–136 → level 1
@@ -1046,20 +965,6 @@ private void handleStormDetection(
     }
 
 
-    private boolean isPlayerBound(ServerPlayer player, BlockPos easPos, String dimensionId) {
-        for (ItemStack stack : player.getInventory().items) {
-            CompoundTag tag;
-            CustomData data;
-            if (!(stack.getItem() instanceof EasTransmitterItem) || (data = (CustomData)stack.get(DataComponents.CUSTOM_DATA)) == null || (tag = data.copyTag()).getLong("boundPos") != easPos.asLong() || !tag.getString("boundDim").equals(dimensionId)) continue;
-            return true;
-        }
-        return false;
-    }
-    
-    
-
-    
-
     private record StormKey(BlockPos pos, int type) {
     }
     
@@ -1076,9 +981,8 @@ private void handleStormDetection(
         BlockState radarState = level.getBlockState(radarPos);
 
         
-        try {
-            Class<?> radarCls = Class.forName("dev.protomanly.pmweather.block.RadarBlock");
-            if (radarCls.isInstance(radarState.getBlock())) {
+        if (PMWeatherBridge.isAvailable()) {
+            if (isRadarBlock(radarState)) {
 
                 
                 // Found a radar block, now check for overlay above it
@@ -1125,7 +1029,6 @@ private void handleStormDetection(
             } else {
 
             }
-        } catch (ClassNotFoundException e) {
         }
     }
     
@@ -29,6 +29,7 @@ import com.burrows.easaddon.EASBlock;
 import com.burrows.easaddon.EASBlockEntity;
 import com.burrows.easaddon.EasTransmitterItem;
 import com.burrows.easaddon.DamageSurveyorItem;
+import com.burrows.easaddon.survey.ChunkDamageEvidence;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceKey;
@@ -43,8 +44,10 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.attachment.AttachmentType;
 import net.neoforged.neoforge.registries.DeferredHolder;
 import net.neoforged.neoforge.registries.DeferredRegister;
+import net.neoforged.neoforge.registries.NeoForgeRegistries;
 import net.neoforged.neoforge.registries.RegisterEvent;
 import com.burrows.easaddon.RadarOverlayBlock;
 import com.burrows.easaddon.RadarOverlayBlockEntity;
@@ -57,6 +60,7 @@ public class RegistryHandler {
     public static final DeferredRegister<BlockEntityType<?>> BLOCK_ENTITIES = DeferredRegister.create((ResourceKey)Registries.BLOCK_ENTITY_TYPE, (String)"easaddon");
     public static final DeferredRegister<CreativeModeTab> CREATIVE_TABS = DeferredRegister.create((ResourceKey)Registries.CREATIVE_MODE_TAB, (String)"easaddon");
     public static final DeferredRegister<SoundEvent> SOUNDS = DeferredRegister.create((ResourceKey)Registries.SOUND_EVENT, (String)"easaddon");
+    public static final DeferredRegister<AttachmentType<?>> ATTACHMENT_TYPES = DeferredRegister.create(NeoForgeRegistries.Keys.ATTACHMENT_TYPES, (String)"easaddon");
 
     public static final DeferredHolder<Block, EASBlock> EAS_BLOCK =
     	    BLOCKS.register("eas_block", () ->
@@ -76,6 +80,9 @@ public class RegistryHandler {
     // New Damage Surveyor Item
     public static final DeferredHolder<Item, DamageSurveyorItem> DAMAGE_SURVEYOR = ITEMS.register("damage_surveyor", () -> new DamageSurveyorItem(new Item.Properties().stacksTo(1)));
     
+    // ADDED: Tornado damage evidence saved with each chunk
+    public static final DeferredHolder<AttachmentType<?>, AttachmentType<ChunkDamageEvidence>> CHUNK_DAMAGE_EVIDENCE = ATTACHMENT_TYPES.register("chunk_damage_evidence", () -> AttachmentType.serializable(ChunkDamageEvidence::new).build());
+    
     public static final DeferredHolder<SoundEvent, SoundEvent> EAS_ALERT = SOUNDS.register("eas_alert", () -> SoundEvent.createVariableRangeEvent((ResourceLocation)ResourceLocation.parse((String)"easaddon:eas_alert")));
     public static final DeferredHolder<CreativeModeTab, CreativeModeTab> MAIN_TAB = CREATIVE_TABS.register("main", () -> CreativeModeTab.builder().title((Component)Component.translatable((String)"itemGroup.easaddon.main")).icon(() -> new ItemStack((ItemLike)EAS_BLOCK_ITEM.get())).displayItems((params, output) -> {
         output.accept((ItemLike)EAS_BLOCK_ITEM.get());
@@ -118,6 +125,7 @@ public class RegistryHandler {
         BLOCK_ENTITIES.register(modEventBus);
         CREATIVE_TABS.register(modEventBus);
         SOUNDS.register(modEventBus);
+        ATTACHMENT_TYPES.register(modEventBus);
         modEventBus.addListener(RegistryHandler::onRegistryEvent);
     }
 
@@ -1,6 +1,7 @@
 package com.burrows.easaddon.client;
 
 import com.burrows.easaddon.EASAddon;
+import com.burrows.easaddon.tornado.PositionHistory;
 import com.burrows.easaddon.tornado.TornadoData;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
@@ -22,7 +23,6 @@ import net.neoforged.api.distmarker.OnlyIn;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -70,18 +70,20 @@ private void recalculateBoundsIfNeeded() {
     if (tornadoData.isActive()) {
         // Get current tornado position from tracker - FIXED: Don't reassign, just get current data
         TornadoData currentData = com.burrows.easaddon.tornado.TornadoTracker.getInstance().getTornadoData(tornadoData.getId());
-        if (currentData != null && !currentData.getPositionHistory().isEmpty()) {
+        PositionHistory.View currentHistory = currentData != null ? currentData.getPositionView() : null;
+        if (currentHistory != null && !currentHistory.isEmpty()) {
             
             // Get the latest position from the tracker
-            List<TornadoData.PositionRecord> currentHistory = currentData.getPositionHistory();
-            TornadoData.PositionRecord latest = currentHistory.get(currentHistory.size() - 1);
+            int latest = currentHistory.size() - 1;
+            double latestX = currentHistory.x(latest);
+            double latestZ = currentHistory.z(latest);
             
             // Check if the latest position is outside current bounds with margin
             double margin = Math.max(100, tornadoData.getMaxWidth() * 2); // Dynamic margin based on tornado size
             
             boolean needsRecalc = false;
-            if (latest.position.x < minX + margin || latest.position.x > maxX - margin ||
-                latest.position.z < minZ + margin || latest.position.z > maxZ - margin) {
+            if (latestX < minX + margin || latestX > maxX - margin ||
+                latestZ < minZ + margin || latestZ > maxZ - margin) {
                 needsRecalc = true;
             }
             
@@ -162,7 +164,7 @@ public void render(GuiGraphics guiGraphics, int mouseX, int mouseY, float partia
     statsY += 15;
     guiGraphics.drawString(font, "Duration: " + formatDuration(currentDisplayData.getLastSeenTime() - currentDisplayData.getFirstSeenTime()), 
         leftPos + 10, statsY, 0xFFFFFF, true);
-    guiGraphics.drawString(font, "Chunks Affected: " + currentDisplayData.getDamagedChunks().size(), 
+    guiGraphics.drawString(font, "Chunks Affected: " + currentDisplayData.getDamagedChunkCount(), 
         leftPos + 120, statsY, 0xFFFFFF, true);
     
     // Draw separator
@@ -188,8 +190,10 @@ private void refreshTornadoData() {
         // FIXED: Update the existing tornado data object instead of reassigning
         // Copy position history
         tornadoData.clearPositionHistory();
-        for (TornadoData.PositionRecord record : freshData.getPositionHistory()) {
-            tornadoData.addPositionRecord(record);
+        PositionHistory.View freshHistory = freshData.getPositionView();
+        for (int i = 0; i < freshHistory.size(); i++) {
+            tornadoData.addPositionRecord(freshHistory.x(i), freshHistory.y(i), freshHistory.z(i),
+                freshHistory.timestamp(i), freshHistory.windspeed(i), freshHistory.width(i));
         }
         
         // Update other fields
@@ -303,7 +307,7 @@ protected void init() {
      * FIXED: Enhanced map bounds calculation with dynamic range and active tornado support
      */
     private void calculateMapBounds() {
-        List<TornadoData.PositionRecord> history = tornadoData.getPositionHistory();
+        PositionHistory.View history = tornadoData.getPositionView();
         if (history.isEmpty()) {
             // Default bounds if no history
             Player player = Minecraft.getInstance().player;
@@ -321,18 +325,18 @@ protected void init() {
         
         // Find the maximum tornado width for padding calculation
         float maxWidth = 0;
-        for (TornadoData.PositionRecord record : history) {
-            maxWidth = Math.max(maxWidth, record.width);
+        for (int i = 0; i < history.size(); i++) {
+            maxWidth = Math.max(maxWidth, history.width(i));
         }
         
-        minX = maxX = history.get(0).position.x;
-        minZ = maxZ = history.get(0).position.z;
+        minX = maxX = history.x(0);
+        minZ = maxZ = history.z(0);
         
-        for (TornadoData.PositionRecord record : history) {
-            minX = Math.min(minX, record.position.x);
-            maxX = Math.max(maxX, record.position.x);
-            minZ = Math.min(minZ, record.position.z);
-            maxZ = Math.max(maxZ, record.position.z);
+        for (int i = 0; i < history.size(); i++) {
+            minX = Math.min(minX, history.x(i));
+            maxX = Math.max(maxX, history.x(i));
+            minZ = Math.min(minZ, history.z(i));
+            maxZ = Math.max(maxZ, history.z(i));
         }
         
         // Include player position in bounds calculation
@@ -458,7 +462,7 @@ private void renderSatelliteMap(GuiGraphics guiGraphics) {
         guiGraphics.hLine(mapX, mapX + actualMapSize, gridPos, 0x40808080);
     }
     
-    List<TornadoData.PositionRecord> history = tornadoData.getPositionHistory();
+    PositionHistory.View history = tornadoData.getPositionView();
     if (history.isEmpty()) {
         guiGraphics.drawCenteredString(font, "No path data available", 
             mapX + actualMapSize / 2, mapY + actualMapSize / 2 - 4, 0x808080);
@@ -512,34 +516,30 @@ private void renderSatelliteMap(GuiGraphics guiGraphics) {
     
     // Draw tornado path with width visualization
     for (int i = 0; i < history.size(); i++) {
-        TornadoData.PositionRecord record = history.get(i);
-        Vec3 pos = record.position;
-        
-        int centerX = mapX + (int)((pos.x - minX) / (maxX - minX) * (actualMapSize - 4)) + 2;
-        int centerZ = mapY + (int)((pos.z - minZ) / (maxZ - minZ) * (actualMapSize - 4)) + 2;
+        int centerX = mapX + (int)((history.x(i) - minX) / (maxX - minX) * (actualMapSize - 4)) + 2;
+        int centerZ = mapY + (int)((history.z(i) - minZ) / (maxZ - minZ) * (actualMapSize - 4)) + 2;
         
         // Calculate tornado width in map pixels
         double worldRange = Math.max(maxX - minX, maxZ - minZ);
         double pixelsPerBlock = (actualMapSize - 4) / worldRange;
-        int widthRadius = Math.max(1, (int)(record.width * pixelsPerBlock / 2));
+        int widthRadius = Math.max(1, (int)(history.width(i) * pixelsPerBlock / 2));
         
         // Cap the radius to prevent oversized circles
         widthRadius = Math.min(widthRadius, actualMapSize / 8);
         
         // Get color based on windspeed
-        int color = getWindspeedColor(record.windspeed);
+        int color = getWindspeedColor(history.windspeed(i));
         
         // Variable transparency based on tornado intensity
-        float alpha = getTornadoAlpha(record.windspeed);
+        float alpha = getTornadoAlpha(history.windspeed(i));
         
         // Draw tornado width as a filled circle with transparency
         drawTornadoCircle(guiGraphics, centerX, centerZ, widthRadius, color, alpha);
         
         // Draw connecting line to next position (if exists)
         if (i < history.size() - 1) {
-            Vec3 nextPos = history.get(i + 1).position;
-            int nextX = mapX + (int)((nextPos.x - minX) / (maxX - minX) * (actualMapSize - 4)) + 2;
-            int nextZ = mapY + (int)((nextPos.z - minZ) / (maxZ - minZ) * (actualMapSize - 4)) + 2;
+            int nextX = mapX + (int)((history.x(i + 1) - minX) / (maxX - minX) * (actualMapSize - 4)) + 2;
+            int nextZ = mapY + (int)((history.z(i + 1) - minZ) / (maxZ - minZ) * (actualMapSize - 4)) + 2;
             
             // Draw thin connecting line
             drawLine(guiGraphics, centerX, centerZ, nextX, nextZ, 0xFF808080);
@@ -551,13 +551,12 @@ private void renderSatelliteMap(GuiGraphics guiGraphics) {
     
     // Draw start and end markers
     if (!history.isEmpty()) {
-        Vec3 start = history.get(0).position;
-        Vec3 end = history.get(history.size() - 1).position;
+        int last = history.size() - 1;
         
-        int startX = mapX + (int)((start.x - minX) / (maxX - minX) * (actualMapSize - 4)) + 2;
-        int startZ = mapY + (int)((start.z - minZ) / (maxZ - minZ) * (actualMapSize - 4)) + 2;
-        int endX = mapX + (int)((end.x - minX) / (maxX - minX) * (actualMapSize - 4)) + 2;
-        int endZ = mapY + (int)((end.z - minZ) / (maxZ - minZ) * (actualMapSize - 4)) + 2;
+        int startX = mapX + (int)((history.x(0) - minX) / (maxX - minX) * (actualMapSize - 4)) + 2;
+        int startZ = mapY + (int)((history.z(0) - minZ) / (maxZ - minZ) * (actualMapSize - 4)) + 2;
+        int endX = mapX + (int)((history.x(last) - minX) / (maxX - minX) * (actualMapSize - 4)) + 2;
+        int endZ = mapY + (int)((history.z(last) - minZ) / (maxZ - minZ) * (actualMapSize - 4)) + 2;
         
         // Start marker (green)
         guiGraphics.fill(startX - 2, startZ - 2, startX + 3, startZ + 3, 0xFF00FF00);
@@ -848,7 +847,7 @@ private void drawEFRatingLegend(GuiGraphics guiGraphics, int startX, int startY)
         int listY = topPos + 65;
         int listHeight = actualGuiHeight - 150; // FIXED: Use actual GUI height
         
-        List<TornadoData.PositionRecord> history = tornadoData.getPositionHistory();
+        PositionHistory.View history = tornadoData.getPositionView();
         Set<ChunkPos> damagedChunks = tornadoData.getDamagedChunks();
         
         // Headers
@@ -1019,7 +1018,7 @@ private void drawEFRatingLegend(GuiGraphics guiGraphics, int startX, int startY)
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double scrollX, double scrollY) {
         if (!showMap) {
-            List<TornadoData.PositionRecord> history = tornadoData.getPositionHistory();
+            PositionHistory.View history = tornadoData.getPositionView();
             int listHeight = actualGuiHeight - 150;
             int maxDisplay = Math.max(5, listHeight / 15); // Use calculated max display
             if (history.size() > maxDisplay) {
@@ -0,0 +1,63 @@
+package com.burrows.easaddon.compat;
+
+import com.burrows.easaddon.EASAddon;
+
+import javax.annotation.Nullable;
+import java.util.ServiceLoader;
+
+/**
+ * Resolves the {@link StormAccess} implementation once.
+ *
+ * Prefers the compiled bridge from the pmweather source set (registered in
+ * META-INF/services) and falls back to {@link ReflectiveStormAccess} if it can't be loaded.
+ * Returns null when PMWeather isn't installed.
+ */
+public final class PMWeatherBridge {
+    private static volatile StormAccess access;
+    private static volatile boolean resolved = false;
+
+    private PMWeatherBridge() {}
+
+    @Nullable
+    public static StormAccess get() {
+        if (!resolved) {
+            resolve();
+        }
+        return access;
+    }
+
+    public static boolean isAvailable() {
+        return get() != null;
+    }
+
+    private static synchronized void resolve() {
+        if (resolved) return;
+
+        if (EASAddon.isPMWeatherAvailable()) {
+            try {
+                for (StormAccess candidate : ServiceLoader.load(StormAccess.class, PMWeatherBridge.class.getClassLoader())) {
+                    access = candidate;
+                    break;
+                }
+            } catch (Throwable t) {
+                // LinkageError if the bridge was built against a different PMWeather version
+                EASAddon.LOGGER.warn("Compiled PMWeather bridge failed to load: {}", t.toString());
+                access = null;
+            }
+
+            if (access == null) {
+                try {
+                    access = new ReflectiveStormAccess();
+                } catch (Exception e) {
+                    EASAddon.LOGGER.error("Failed to initialize PMWeather access: {}", e.getMessage());
+                }
+            }
+
+            if (access != null) {
+                EASAddon.LOGGER.info("PMWeather storm access: {}", access.getName());
+            }
+        }
+
+        resolved = true;
+    }
+}
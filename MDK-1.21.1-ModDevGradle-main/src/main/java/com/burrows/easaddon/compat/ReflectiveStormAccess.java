@@ -0,0 +1,246 @@
+package com.burrows.easaddon.compat;
+
+import com.burrows.easaddon.EASAddon;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.phys.Vec3;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Fallback used when the compiled PMWeather bridge is not on the classpath.
+ * All lookups are resolved once in the constructor instead of per call.
+ */
+public class ReflectiveStormAccess implements StormAccess {
+    private final Class<?> weatherHandlerClass;
+    private final Class<?> radarBlockClass;
+    private final Class<?> metarBlockClass;
+    private final Method getStormsMethod;
+    private final Field managersField;
+    private final Field clientHandlerField;
+    private final Field blockStrengthsField;
+    private final Field idField;
+    private final Field typeField;
+    private final Field stageField;
+    private final Field positionField;
+    private final Field windspeedField;
+    private final Field widthField;
+    private final Field velocityField;
+    private final Field occlusionField;
+    private final Field deadField;
+    private final Field mediumScouringField;
+    private final Field heavyScouringField;
+
+    public ReflectiveStormAccess() throws ReflectiveOperationException {
+        weatherHandlerClass = Class.forName("dev.protomanly.pmweather.weather.WeatherHandler");
+        Class<?> stormClass = Class.forName("dev.protomanly.pmweather.weather.Storm");
+        radarBlockClass = Class.forName("dev.protomanly.pmweather.block.RadarBlock");
+        metarBlockClass = Class.forName("dev.protomanly.pmweather.block.MetarBlock");
+
+        getStormsMethod = weatherHandlerClass.getMethod("getStorms");
+        managersField = Class.forName("dev.protomanly.pmweather.event.GameBusEvents").getField("MANAGERS");
+        blockStrengthsField = Class.forName("dev.protomanly.pmweather.config.ServerConfig").getField("blockStrengths");
+
+        // GameBusClientEvents is client only, don't touch it on a dedicated server
+        Field clientField = null;
+        try {
+            if (net.neoforged.fml.loading.FMLEnvironment.dist.isClient()) {
+                clientField = Class.forName("dev.protomanly.pmweather.event.GameBusClientEvents").getField("weatherHandler");
+            }
+        } catch (ReflectiveOperationException e) {
+            EASAddon.LOGGER.debug("PMWeather client weather handler field not found: {}", e.getMessage());
+        }
+        clientHandlerField = clientField;
+
+        idField = stormClass.getField("ID");
+        typeField = stormClass.getField("stormType");
+        stageField = stormClass.getField("stage");
+        positionField = stormClass.getField("position");
+        windspeedField = stormClass.getField("windspeed");
+        widthField = stormClass.getField("width");
+        velocityField = stormClass.getField("velocity");
+        occlusionField = stormClass.getField("occlusion");
+        deadField = stormClass.getField("dead");
+
+        Class<?> modBlocks = Class.forName("dev.protomanly.pmweather.block.ModBlocks");
+        mediumScouringField = modBlocks.getField("MEDIUM_SCOURING");
+        heavyScouringField = modBlocks.getField("HEAVY_SCOURING");
+    }
+
+    @Override
+    @Nullable
+    public Object getServerWeatherHandler(ResourceKey<Level> dimension) {
+        try {
+            Map<?, ?> managers = (Map<?, ?>) managersField.get(null);
+            return managers != null ? managers.get(dimension) : null;
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @Override
+    @Nullable
+    public Object getClientWeatherHandler() {
+        if (clientHandlerField == null) return null;
+        try {
+            return clientHandlerField.get(null);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean isWeatherHandler(@Nullable Object handler) {
+        return weatherHandlerClass.isInstance(handler);
+    }
+
+    @Override
+    public List<?> getStorms(Object weatherHandler) {
+        try {
+            List<?> storms = (List<?>) getStormsMethod.invoke(weatherHandler);
+            return storms != null ? storms : Collections.emptyList();
+        } catch (ReflectiveOperationException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public long getId(Object storm) {
+        try {
+            return idField.getLong(storm);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public int getStormType(Object storm) {
+        try {
+            return typeField.getInt(storm);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public int getStage(Object storm) {
+        try {
+            return stageField.getInt(storm);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public Vec3 getPosition(Object storm) {
+        try {
+            return (Vec3) positionField.get(storm);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public int getWindspeed(Object storm) {
+        try {
+            return windspeedField.getInt(storm);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public float getWidth(Object storm) {
+        try {
+            return widthField.getFloat(storm);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public Vec3 getVelocity(Object storm) {
+        try {
+            Vec3 velocity = (Vec3) velocityField.get(storm);
+            return velocity != null ? velocity : Vec3.ZERO;
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public float getOcclusion(Object storm) {
+        try {
+            return occlusionField.getFloat(storm);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean isDead(Object storm) {
+        try {
+            return deadField.getBoolean(storm);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean isRadarBlock(Block block) {
+        return radarBlockClass.isInstance(block);
+    }
+
+    @Override
+    public boolean isMetarBlock(Block block) {
+        return metarBlockClass.isInstance(block);
+    }
+
+    @Override
+    @Nullable
+    public Block getMediumScouringBlock() {
+        return unwrapBlock(mediumScouringField);
+    }
+
+    @Override
+    @Nullable
+    public Block getHeavyScouringBlock() {
+        return unwrapBlock(heavyScouringField);
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public Map<Block, Float> getCustomBlockStrengths() {
+        try {
+            return (Map<Block, Float>) blockStrengthsField.get(null);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "reflection";
+    }
+
+    @Nullable
+    private static Block unwrapBlock(Field holderField) {
+        try {
+            Object holder = holderField.get(null);
+            if (holder instanceof Supplier<?> supplier && supplier.get() instanceof Block block) {
+                return block;
+            }
+        } catch (Exception e) {
+            EASAddon.LOGGER.debug("Failed to resolve PMWeather block {}: {}", holderField.getName(), e.getMessage());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,79 @@
+package com.burrows.easaddon.compat;
+
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.phys.Vec3;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typed view of the PMWeather internals the addon reads.
+ *
+ * Storms and weather handlers are passed around as plain Objects so the main
+ * source set never links against PMWeather. The compiled implementation lives in
+ * the pmweather source set and is picked up through ServiceLoader by
+ * {@link PMWeatherBridge}; {@link ReflectiveStormAccess} covers the case where it is missing.
+ */
+public interface StormAccess {
+
+    /**
+     * Server weather handler for a dimension (GameBusEvents.MANAGERS)
+     */
+    @Nullable
+    Object getServerWeatherHandler(ResourceKey<Level> dimension);
+
+    /**
+     * Client weather handler (GameBusClientEvents.weatherHandler). Only call on the client.
+     */
+    @Nullable
+    Object getClientWeatherHandler();
+
+    boolean isWeatherHandler(@Nullable Object handler);
+
+    /**
+     * Live storm list of a handler. Do not modify it.
+     */
+    List<?> getStorms(Object weatherHandler);
+
+    long getId(Object storm);
+
+    int getStormType(Object storm);
+
+    int getStage(Object storm);
+
+    Vec3 getPosition(Object storm);
+
+    int getWindspeed(Object storm);
+
+    float getWidth(Object storm);
+
+    Vec3 getVelocity(Object storm);
+
+    float getOcclusion(Object storm);
+
+    boolean isDead(Object storm);
+
+    boolean isRadarBlock(Block block);
+
+    boolean isMetarBlock(Block block);
+
+    @Nullable
+    Block getMediumScouringBlock();
+
+    @Nullable
+    Block getHeavyScouringBlock();
+
+    /**
+     * PMWeather's configured per-block strength overrides (ServerConfig.blockStrengths)
+     */
+    @Nullable
+    Map<Block, Float> getCustomBlockStrengths();
+
+    /**
+     * Short name for log output
+     */
+    String getName();
+}
@@ -0,0 +1,79 @@
+package com.burrows.easaddon.compat;
+
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Immutable struct-of-arrays copy of every PMWeather storm in one level at one tick.
+ * Index i refers to the same storm in every array. Do not write to the arrays.
+ */
+public final class StormSnapshot {
+    public static final StormSnapshot EMPTY = new StormSnapshot(-1L, 0);
+
+    public final long gameTime;
+    public final int size;
+
+    public final long[] id;
+    public final int[] stormType;
+    public final int[] stage;
+    public final double[] x;
+    public final double[] y;
+    public final double[] z;
+    public final int[] windspeed;
+    public final float[] width;
+    public final double[] velocityX;
+    public final double[] velocityZ;
+    public final float[] occlusion;
+    public final boolean[] dead;
+
+    StormSnapshot(long gameTime, int size) {
+        this.gameTime = gameTime;
+        this.size = size;
+        this.id = new long[size];
+        this.stormType = new int[size];
+        this.stage = new int[size];
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = new double[size];
+        this.windspeed = new int[size];
+        this.width = new float[size];
+        this.velocityX = new double[size];
+        this.velocityZ = new double[size];
+        this.occlusion = new float[size];
+        this.dead = new boolean[size];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Index of the storm with this ID, or -1
+     */
+    public int indexOf(long stormId) {
+        for (int i = 0; i < size; i++) {
+            if (id[i] == stormId) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Active tornado: type 0, stage 3+, not dead
+     */
+    public boolean isTornado(int i) {
+        return stormType[i] == 0 && stage[i] >= 3 && !dead[i];
+    }
+
+    public double horizontalDistanceSqr(int i, double px, double pz) {
+        double dx = x[i] - px;
+        double dz = z[i] - pz;
+        return dx * dx + dz * dz;
+    }
+
+    public Vec3 position(int i) {
+        return new Vec3(x[i], y[i], z[i]);
+    }
+
+    public Vec3 velocity(int i) {
+        return new Vec3(velocityX[i], 0.0, velocityZ[i]);
+    }
+}
@@ -0,0 +1,90 @@
+package com.burrows.easaddon.compat;
+
+import com.burrows.easaddon.EASAddon;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Builds at most one {@link StormSnapshot} per level per game tick.
+ *
+ * Every consumer (EAS blocks, tornado tracker, damage hook) reads the same snapshot, so
+ * PMWeather's storm list is walked once per tick no matter how many readers there are.
+ */
+public class StormSnapshotService {
+    private static StormSnapshotService instance;
+
+    private final Map<Level, StormSnapshot> snapshots = new WeakHashMap<>();
+
+    private StormSnapshotService() {}
+
+    public static StormSnapshotService getInstance() {
+        if (instance == null) {
+            instance = new StormSnapshotService();
+        }
+        return instance;
+    }
+
+    /**
+     * Snapshot of the level's storms for the current game tick. Never null.
+     */
+    public synchronized StormSnapshot getSnapshot(Level level) {
+        if (level == null) return StormSnapshot.EMPTY;
+
+        long gameTime = level.getGameTime();
+        StormSnapshot cached = snapshots.get(level);
+        if (cached != null && cached.gameTime == gameTime) {
+            return cached;
+        }
+
+        StormSnapshot snapshot = build(level, gameTime);
+        snapshots.put(level, snapshot);
+        return snapshot;
+    }
+
+    public synchronized void invalidate(Level level) {
+        snapshots.remove(level);
+    }
+
+    private StormSnapshot build(Level level, long gameTime) {
+        StormAccess pm = PMWeatherBridge.get();
+        if (pm == null) return new StormSnapshot(gameTime, 0);
+
+        Object handler = WeatherHandlerResolver.getInstance().getWeatherHandler(level);
+        if (handler == null) return new StormSnapshot(gameTime, 0);
+
+        try {
+            List<?> storms = pm.getStorms(handler);
+            int count = storms.size();
+            StormSnapshot snapshot = new StormSnapshot(gameTime, count);
+
+            for (int i = 0; i < count; i++) {
+                Object storm = storms.get(i);
+                Vec3 position = pm.getPosition(storm);
+                Vec3 velocity = pm.getVelocity(storm);
+
+                snapshot.id[i] = pm.getId(storm);
+                snapshot.stormType[i] = pm.getStormType(storm);
+                snapshot.stage[i] = pm.getStage(storm);
+                snapshot.x[i] = position.x;
+                snapshot.y[i] = position.y;
+                snapshot.z[i] = position.z;
+                snapshot.windspeed[i] = pm.getWindspeed(storm);
+                snapshot.width[i] = pm.getWidth(storm);
+                snapshot.velocityX[i] = velocity.x;
+                snapshot.velocityZ[i] = velocity.z;
+                snapshot.occlusion[i] = pm.getOcclusion(storm);
+                snapshot.dead[i] = pm.isDead(storm);
+            }
+            return snapshot;
+
+        } catch (Exception e) {
+            // PMWeather may mutate the list mid-read on the client; just try again next tick
+            EASAddon.LOGGER.debug("Failed to snapshot storms for {}: {}", level.dimension().location(), e.getMessage());
+            return new StormSnapshot(gameTime, 0);
+        }
+    }
+}
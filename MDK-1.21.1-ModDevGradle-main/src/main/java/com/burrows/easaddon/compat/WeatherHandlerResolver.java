@@ -0,0 +1,125 @@
+package com.burrows.easaddon.compat;
+
+import com.burrows.easaddon.EASAddon;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+import javax.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Finds the PMWeather WeatherHandler for a level once and caches it.
+ *
+ * Client levels use GameBusClientEvents.weatherHandler (falling back to the integrated
+ * server's MANAGERS entry), server levels use GameBusEvents.MANAGERS. Entries are held
+ * weakly per Level and dropped on LevelEvent.Unload or an explicit invalidate().
+ */
+public class WeatherHandlerResolver {
+    private static WeatherHandlerResolver instance;
+
+    public enum DiscoveryMethod {
+        CLIENT_HANDLER,
+        SERVER_MANAGERS
+    }
+
+    private static final class Resolution {
+        final WeakReference<Object> handler;
+        final DiscoveryMethod method;
+        final long discoveryNanos;
+
+        Resolution(Object handler, DiscoveryMethod method, long discoveryNanos) {
+            this.handler = new WeakReference<>(handler);
+            this.method = method;
+            this.discoveryNanos = discoveryNanos;
+        }
+    }
+
+    private final Map<Level, Resolution> resolved = new WeakHashMap<>();
+
+    private WeatherHandlerResolver() {}
+
+    public static WeatherHandlerResolver getInstance() {
+        if (instance == null) {
+            instance = new WeatherHandlerResolver();
+        }
+        return instance;
+    }
+
+    /**
+     * Cached weather handler for the level, or null if PMWeather has none for it (yet).
+     * Misses are not cached so a handler created after the level loads is still picked up.
+     */
+    @Nullable
+    public synchronized Object getWeatherHandler(Level level) {
+        StormAccess pm = PMWeatherBridge.get();
+        if (pm == null || level == null) return null;
+
+        Resolution cached = resolved.get(level);
+        if (cached != null) {
+            Object handler = cached.handler.get();
+            // The client handler is swapped by PMWeather on world change, so confirm it's still current
+            if (handler != null && (cached.method != DiscoveryMethod.CLIENT_HANDLER || handler == pm.getClientWeatherHandler())) {
+                return handler;
+            }
+            resolved.remove(level);
+        }
+
+        long start = System.nanoTime();
+        Object handler = null;
+        DiscoveryMethod method = null;
+
+        if (level.isClientSide()) {
+            handler = pm.getClientWeatherHandler();
+            method = DiscoveryMethod.CLIENT_HANDLER;
+        }
+        if (!pm.isWeatherHandler(handler)) {
+            handler = pm.getServerWeatherHandler(level.dimension());
+            method = DiscoveryMethod.SERVER_MANAGERS;
+        }
+        if (!pm.isWeatherHandler(handler)) {
+            return null;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        resolved.put(level, new Resolution(handler, method, elapsed));
+        EASAddon.LOGGER.info("Resolved PMWeather weather handler for {} ({}) via {} in {} µs",
+            level.dimension().location(), level.isClientSide() ? "client" : "server", method, elapsed / 1000);
+        return handler;
+    }
+
+    /**
+     * How the cached handler for this level was found, or null if not resolved
+     */
+    @Nullable
+    public synchronized DiscoveryMethod getDiscoveryMethod(Level level) {
+        Resolution cached = resolved.get(level);
+        return cached != null ? cached.method : null;
+    }
+
+    /**
+     * Time the lookup took in nanoseconds, or -1 if not resolved
+     */
+    public synchronized long getDiscoveryNanos(Level level) {
+        Resolution cached = resolved.get(level);
+        return cached != null ? cached.discoveryNanos : -1L;
+    }
+
+    public synchronized void invalidate(LevelAccessor level) {
+        if (level instanceof Level lvl && resolved.remove(lvl) != null) {
+            EASAddon.LOGGER.debug("Invalidated cached weather handler for {}", lvl.dimension().location());
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        resolved.clear();
+    }
+
+    @SubscribeEvent
+    public void onLevelUnload(LevelEvent.Unload event) {
+        invalidate(event.getLevel());
+    }
+}
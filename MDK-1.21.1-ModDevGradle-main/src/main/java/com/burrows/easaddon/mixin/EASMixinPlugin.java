@@ -0,0 +1,54 @@
+package com.burrows.easaddon.mixin;
+
+import net.neoforged.fml.loading.LoadingModList;
+import org.objectweb.asm.tree.ClassNode;
+import org.spongepowered.asm.mixin.extensibility.IMixinConfigPlugin;
+import org.spongepowered.asm.mixin.extensibility.IMixinInfo;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Skips the PMWeather mixins when PMWeather isn't installed, so the config can stay required.
+ */
+public class EASMixinPlugin implements IMixinConfigPlugin {
+    private static final String PMWEATHER_MIXIN_PACKAGE = "com.burrows.easaddon.mixin.pmweather.";
+
+    private boolean pmweatherPresent;
+
+    @Override
+    public void onLoad(String mixinPackage) {
+        LoadingModList modList = LoadingModList.get();
+        pmweatherPresent = modList != null && modList.getModFileById("pmweather") != null;
+    }
+
+    @Override
+    public String getRefMapperConfig() {
+        return null;
+    }
+
+    @Override
+    public boolean shouldApplyMixin(String targetClassName, String mixinClassName) {
+        if (mixinClassName.startsWith(PMWEATHER_MIXIN_PACKAGE)) {
+            return pmweatherPresent;
+        }
+        return true;
+    }
+
+    @Override
+    public void acceptTargets(Set<String> myTargets, Set<String> otherTargets) {
+    }
+
+    @Override
+    public List<String> getMixins() {
+        return null;
+    }
+
+    @Override
+    public void preApply(String targetClassName, ClassNode targetClass, String mixinClassName, IMixinInfo mixinInfo) {
+    }
+
+    @Override
+    public void postApply(String targetClassName, ClassNode targetClass, String mixinClassName, IMixinInfo mixinInfo) {
+    }
+}
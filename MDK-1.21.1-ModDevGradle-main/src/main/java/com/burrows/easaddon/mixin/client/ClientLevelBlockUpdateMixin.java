@@ -0,0 +1,26 @@
+package com.burrows.easaddon.mixin.client;
+
+import com.burrows.easaddon.survey.ClientBlockChangeDetector;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Sees every block state the server sends: both the single block update and the section blocks
+ * update packet handlers apply their changes through setServerVerifiedBlockState. Runs before the
+ * state is applied, so the detector can still read the old one.
+ *
+ * Optional: if another mod gets in the way, the damage hook's frontier scan covers for it.
+ */
+@Mixin(ClientLevel.class)
+public class ClientLevelBlockUpdateMixin {
+
+    @Inject(method = "setServerVerifiedBlockState", at = @At("HEAD"), require = 0)
+    private void easaddon$onServerBlockState(BlockPos pos, BlockState state, int flags, CallbackInfo ci) {
+        ClientBlockChangeDetector.getInstance().onServerBlockChange((ClientLevel) (Object) this, pos, state);
+    }
+}
@@ -0,0 +1,244 @@
+package com.burrows.easaddon.network;
+
+import com.burrows.easaddon.EASAddon;
+import com.burrows.easaddon.network.TornadoSyncPackets.Status;
+import com.burrows.easaddon.network.TornadoSyncPackets.TornadoDelta;
+import com.burrows.easaddon.network.TornadoSyncPackets.TornadoSyncPacket;
+import com.burrows.easaddon.tornado.DamagedChunkSet;
+import com.burrows.easaddon.tornado.PositionHistory;
+import com.burrows.easaddon.tornado.ServerTornadoTracker;
+import com.burrows.easaddon.tornado.TornadoData;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams the server's tornado tracks to clients.
+ *
+ * Remembers per dimension what was last broadcast for every tornado and, each tick, sends the
+ * players in that dimension one packet with only what changed since. Everyone in a dimension
+ * receives the same deltas, so they are worked out once per tick rather than once per player.
+ * A player gets a full snapshot when they join or change dimension.
+ */
+public class TornadoSyncManager {
+    private static TornadoSyncManager instance;
+
+    // Split snapshots well below the client's custom payload limit
+    private static final int MAX_PACKET_BYTES = 512 * 1024;
+
+    private static final PositionHistory.View NO_POSITIONS = new PositionHistory().view();
+    private static final long[] NO_IDS = new long[0];
+
+    private static final class Sent {
+        Status status;
+        PositionHistory.View positions;
+        int positionCount;
+        long lastTimestamp;
+        int chunkRevision = -1;
+        final LongOpenHashSet chunks = new LongOpenHashSet();
+    }
+
+    // Server thread only
+    private final Map<ResourceKey<Level>, Long2ObjectOpenHashMap<Sent>> sentByDimension = new HashMap<>();
+
+    private TornadoSyncManager() {}
+
+    public static TornadoSyncManager getInstance() {
+        if (instance == null) {
+            instance = new TornadoSyncManager();
+        }
+        return instance;
+    }
+
+    @SubscribeEvent
+    public void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) return;
+        // Nobody to send to; whoever joins next gets a snapshot, and later deltas overlapping it are harmless
+        if (level.players().isEmpty()) return;
+
+        try {
+            Map<Long, TornadoData> tornadoes = ServerTornadoTracker.getInstance().getTornadoes(level);
+            Long2ObjectOpenHashMap<Sent> sent = sentByDimension.computeIfAbsent(level.dimension(), k -> new Long2ObjectOpenHashMap<>());
+
+            List<TornadoDelta> deltas = new ArrayList<>();
+            for (TornadoData tornado : tornadoes.values()) {
+                TornadoDelta delta = diff(tornado, sent.computeIfAbsent(tornado.getId(), id -> new Sent()));
+                if (delta != null) {
+                    deltas.add(delta);
+                }
+            }
+
+            LongArrayList removed = new LongArrayList();
+            for (LongIterator it = sent.keySet().iterator(); it.hasNext(); ) {
+                long id = it.nextLong();
+                if (!tornadoes.containsKey(id)) {
+                    it.remove();
+                    removed.add(id);
+                }
+            }
+
+            if (deltas.isEmpty() && removed.isEmpty()) return;
+
+            for (TornadoSyncPacket packet : pack(dimensionKey(level), false, deltas, removed.toLongArray())) {
+                PacketDistributor.sendToPlayersInDimension(level, packet);
+            }
+        } catch (Exception e) {
+            EASAddon.LOGGER.error("Failed to sync tornadoes for {}: {}", level.dimension().location(), e.getMessage());
+        }
+    }
+
+    @SubscribeEvent
+    public void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            sendSnapshot(player);
+        }
+    }
+
+    @SubscribeEvent
+    public void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            sendSnapshot(player);
+        }
+    }
+
+    @SubscribeEvent
+    public void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        // Leaving the End respawns the player into another dimension without a dimension change event
+        if (event.getEntity() instanceof ServerPlayer player && event.isEndConquered()) {
+            sendSnapshot(player);
+        }
+    }
+
+    @SubscribeEvent
+    public void onServerStopped(ServerStoppedEvent event) {
+        sentByDimension.clear();
+    }
+
+    /**
+     * Send everything tracked in the player's dimension, replacing what their client has
+     */
+    private void sendSnapshot(ServerPlayer player) {
+        ServerLevel level = player.serverLevel();
+        try {
+            List<TornadoDelta> all = new ArrayList<>();
+            for (TornadoData tornado : ServerTornadoTracker.getInstance().getTornadoes(level).values()) {
+                // The position view is an immutable snapshot, so it can be encoded later as is
+                all.add(new TornadoDelta(tornado.getId(), Status.of(tornado), 0, tornado.getPositionView(),
+                    true, tornado.getDamagedChunkSet().toLongArray()));
+            }
+
+            for (TornadoSyncPacket packet : pack(dimensionKey(level), true, all, NO_IDS)) {
+                PacketDistributor.sendToPlayer(player, packet);
+            }
+            EASAddon.LOGGER.debug("Sent tornado snapshot ({} tornadoes) to {}", all.size(), player.getName().getString());
+        } catch (Exception e) {
+            EASAddon.LOGGER.error("Failed to send tornado snapshot to {}: {}", player.getName().getString(), e.getMessage());
+        }
+    }
+
+    /**
+     * What changed on this tornado since the last broadcast, or null if nothing did. Updates sent.
+     */
+    private static TornadoDelta diff(TornadoData tornado, Sent sent) {
+        Status status = Status.of(tornado);
+        boolean statusChanged = !status.equals(sent.status);
+        PositionHistory.View view = tornado.getPositionView();
+        boolean positionsChanged = view != sent.positions;
+        DamagedChunkSet chunkSet = tornado.getDamagedChunkSet();
+        boolean chunksChanged = chunkSet.revision() != sent.chunkRevision;
+
+        if (!statusChanged && !positionsChanged && !chunksChanged) return null;
+
+        int positionStart = sent.positionCount;
+        PositionHistory.View positions = NO_POSITIONS;
+        if (positionsChanged) {
+            int size = view.size();
+            // Shorter than before, or the last record sent is gone: the history was replaced
+            boolean replaced = size < sent.positionCount
+                || (sent.positionCount > 0 && view.timestamp(sent.positionCount - 1) != sent.lastTimestamp);
+            positionStart = replaced ? 0 : sent.positionCount;
+
+            PositionHistory added = new PositionHistory();
+            for (int i = positionStart; i < size; i++) {
+                added.add(view.x(i), view.y(i), view.z(i), view.timestamp(i), view.windspeed(i), view.width(i));
+            }
+            positions = added.view();
+
+            sent.positions = view;
+            sent.positionCount = size;
+            sent.lastTimestamp = size > 0 ? view.timestamp(size - 1) : 0;
+        }
+
+        long[] chunks = NO_IDS;
+        boolean resetChunks = false;
+        if (chunksChanged) {
+            long[] all;
+            synchronized (chunkSet) {
+                all = chunkSet.toLongArray();
+                sent.chunkRevision = chunkSet.revision();
+            }
+            int added = 0;
+            for (long chunk : all) {
+                if (!sent.chunks.contains(chunk)) added++;
+            }
+            // Fewer survivors than before means the set was trimmed; send it whole
+            resetChunks = all.length - added < sent.chunks.size();
+            if (resetChunks) {
+                sent.chunks.clear();
+                sent.chunks.addAll(LongArrayList.wrap(all));
+                chunks = all;
+            } else {
+                chunks = new long[added];
+                int n = 0;
+                for (long chunk : all) {
+                    if (sent.chunks.add(chunk)) {
+                        chunks[n++] = chunk;
+                    }
+                }
+            }
+        }
+
+        if (statusChanged) {
+            sent.status = status;
+        }
+        return new TornadoDelta(tornado.getId(), statusChanged ? status : null, positionStart, positions, resetChunks, chunks);
+    }
+
+    private static List<TornadoSyncPacket> pack(String dimension, boolean replaceAll, List<TornadoDelta> deltas, long[] removed) {
+        List<TornadoSyncPacket> packets = new ArrayList<>();
+        List<TornadoDelta> batch = new ArrayList<>();
+        int batchBytes = 0;
+        for (TornadoDelta delta : deltas) {
+            int size = delta.estimatedBytes();
+            if (!batch.isEmpty() && batchBytes + size > MAX_PACKET_BYTES) {
+                // Only the first packet of a snapshot clears the client's copy
+                packets.add(new TornadoSyncPacket(dimension, replaceAll && packets.isEmpty(), batch, NO_IDS));
+                batch = new ArrayList<>();
+                batchBytes = 0;
+            }
+            batch.add(delta);
+            batchBytes += size;
+        }
+        packets.add(new TornadoSyncPacket(dimension, replaceAll && packets.isEmpty(), batch, removed));
+        return packets;
+    }
+
+    private static String dimensionKey(ServerLevel level) {
+        return level.dimension().location().toString();
+    }
+}
@@ -0,0 +1,264 @@
+package com.burrows.easaddon.network;
+
+import com.burrows.easaddon.EASAddon;
+import com.burrows.easaddon.tornado.PositionHistory;
+import com.burrows.easaddon.tornado.TornadoData;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.ChunkPos;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Server -> client tornado sync.
+ *
+ * The server sends a full snapshot of the player's dimension on join and dimension change, then
+ * only deltas: new position records, newly damaged chunks, status/survey changes and removed
+ * tornadoes. Positions are sent as zigzag varint deltas in 1/16 block steps and chunks as
+ * deltas from the previous chunk, so a tick's worth of changes is a few bytes per tornado.
+ * Applying a delta twice is harmless, which lets a snapshot and a delta overlap.
+ */
+public class TornadoSyncPackets {
+
+    public static final ResourceLocation TORNADO_SYNC_ID = ResourceLocation.fromNamespaceAndPath(EASAddon.MODID, "tornado_sync");
+
+    // Positions travel as fixed point with this many steps per block
+    private static final double POSITION_SCALE = 16.0;
+
+    /**
+     * Header fields of a tornado: status, maxima and survey results
+     */
+    public record Status(boolean active, int maxWindspeed, float maxWidth, String rating,
+                         long firstSeenTime, long lastSeenTime, boolean hasRecordedData,
+                         boolean surveyed, String surveyedBy, long surveyTime,
+                         int surveyedEFRating, float surveyedMaxWindspeed) {
+
+        public static Status of(TornadoData tornado) {
+            return new Status(tornado.isActive(), tornado.getRawMaxWindspeed(), tornado.getMaxWidth(),
+                tornado.getRating() != null ? tornado.getRating() : "EFU",
+                tornado.getFirstSeenTime(), tornado.getLastSeenTime(), tornado.hasRecordedData(),
+                tornado.isSurveyed(), tornado.getSurveyedBy() != null ? tornado.getSurveyedBy() : "",
+                tornado.getSurveyTime(), tornado.getSurveyedEFRating(), tornado.getSurveyedMaxWindspeed());
+        }
+
+        public void applyTo(TornadoData tornado) {
+            tornado.setActive(active);
+            tornado.setMaxWindspeed(maxWindspeed);
+            tornado.setMaxWidth(maxWidth);
+            tornado.setFirstSeenTime(firstSeenTime);
+            tornado.setLastSeenTime(lastSeenTime);
+            tornado.setHasRecordedData(hasRecordedData);
+            tornado.setSurveyed(surveyed);
+            tornado.setSurveyedBy(surveyed ? surveyedBy : null);
+            tornado.setSurveyTime(surveyTime);
+            tornado.setSurveyedEFRating(surveyedEFRating);
+            tornado.setSurveyedMaxWindspeed(surveyedMaxWindspeed);
+            // Rating last; it is only accepted once the tornado is marked surveyed
+            tornado.setRating(rating);
+        }
+
+        private void write(FriendlyByteBuf buffer) {
+            buffer.writeBoolean(active);
+            buffer.writeVarInt(maxWindspeed);
+            buffer.writeFloat(maxWidth);
+            buffer.writeUtf(rating);
+            buffer.writeVarLong(firstSeenTime);
+            buffer.writeVarLong(lastSeenTime);
+            buffer.writeBoolean(hasRecordedData);
+            buffer.writeBoolean(surveyed);
+            if (surveyed) {
+                buffer.writeUtf(surveyedBy);
+                buffer.writeVarLong(surveyTime);
+                buffer.writeVarInt(surveyedEFRating);
+                buffer.writeFloat(surveyedMaxWindspeed);
+            }
+        }
+
+        private static Status read(FriendlyByteBuf buffer) {
+            boolean active = buffer.readBoolean();
+            int maxWindspeed = buffer.readVarInt();
+            float maxWidth = buffer.readFloat();
+            String rating = buffer.readUtf();
+            long firstSeenTime = buffer.readVarLong();
+            long lastSeenTime = buffer.readVarLong();
+            boolean hasRecordedData = buffer.readBoolean();
+            boolean surveyed = buffer.readBoolean();
+            if (!surveyed) {
+                return new Status(active, maxWindspeed, maxWidth, rating, firstSeenTime, lastSeenTime,
+                    hasRecordedData, false, "", 0L, -1, 0.0f);
+            }
+            return new Status(active, maxWindspeed, maxWidth, rating, firstSeenTime, lastSeenTime,
+                hasRecordedData, true, buffer.readUtf(), buffer.readVarLong(), buffer.readVarInt(), buffer.readFloat());
+        }
+    }
+
+    /**
+     * Changes to one tornado. status is null if it didn't change; positions holds only the new
+     * records, which start at index positionStart of the tornado's history (start 0 with records
+     * replaces the history); chunks are new damaged chunks, or the whole set when resetChunks is set.
+     */
+    public record TornadoDelta(long id, @Nullable Status status, int positionStart, PositionHistory.View positions,
+                               boolean resetChunks, long[] chunks) {
+
+        /**
+         * Rough encoded size, for splitting snapshots across packets
+         */
+        public int estimatedBytes() {
+            return 64 + positions.size() * 12 + chunks.length * 4;
+        }
+
+        private void write(FriendlyByteBuf buffer) {
+            buffer.writeLong(id);
+            buffer.writeBoolean(status != null);
+            if (status != null) {
+                status.write(buffer);
+            }
+
+            int count = positions.size();
+            buffer.writeVarInt(positionStart);
+            buffer.writeVarInt(count);
+            int lastX = 0, lastY = 0, lastZ = 0;
+            long lastTime = 0;
+            for (int i = 0; i < count; i++) {
+                int x = quantize(positions.x(i));
+                int y = quantize(positions.y(i));
+                int z = quantize(positions.z(i));
+                long time = positions.timestamp(i);
+                buffer.writeVarInt(zigzag(x - lastX));
+                buffer.writeVarInt(zigzag(y - lastY));
+                buffer.writeVarInt(zigzag(z - lastZ));
+                buffer.writeVarLong(zigzag(time - lastTime));
+                buffer.writeVarInt(positions.windspeed(i));
+                buffer.writeFloat(positions.width(i));
+                lastX = x;
+                lastY = y;
+                lastZ = z;
+                lastTime = time;
+            }
+
+            buffer.writeBoolean(resetChunks);
+            buffer.writeVarInt(chunks.length);
+            int lastChunkX = 0, lastChunkZ = 0;
+            for (long chunk : chunks) {
+                int chunkX = ChunkPos.getX(chunk);
+                int chunkZ = ChunkPos.getZ(chunk);
+                buffer.writeVarInt(zigzag(chunkX - lastChunkX));
+                buffer.writeVarInt(zigzag(chunkZ - lastChunkZ));
+                lastChunkX = chunkX;
+                lastChunkZ = chunkZ;
+            }
+        }
+
+        private static TornadoDelta read(FriendlyByteBuf buffer) {
+            long id = buffer.readLong();
+            Status status = buffer.readBoolean() ? Status.read(buffer) : null;
+
+            int positionStart = buffer.readVarInt();
+            int count = buffer.readVarInt();
+            PositionHistory history = new PositionHistory();
+            int x = 0, y = 0, z = 0;
+            long time = 0;
+            for (int i = 0; i < count; i++) {
+                x += unzigzag(buffer.readVarInt());
+                y += unzigzag(buffer.readVarInt());
+                z += unzigzag(buffer.readVarInt());
+                time += unzigzag(buffer.readVarLong());
+                int windspeed = buffer.readVarInt();
+                float width = buffer.readFloat();
+                history.add(x / POSITION_SCALE, y / POSITION_SCALE, z / POSITION_SCALE, time, windspeed, width);
+            }
+
+            boolean resetChunks = buffer.readBoolean();
+            int chunkCount = buffer.readVarInt();
+            long[] chunks = new long[chunkCount];
+            int chunkX = 0, chunkZ = 0;
+            for (int i = 0; i < chunkCount; i++) {
+                chunkX += unzigzag(buffer.readVarInt());
+                chunkZ += unzigzag(buffer.readVarInt());
+                chunks[i] = ChunkPos.asLong(chunkX, chunkZ);
+            }
+
+            return new TornadoDelta(id, status, positionStart, history.view(), resetChunks, chunks);
+        }
+    }
+
+    // === TORNADO SYNC PACKET (Server -> Client) ===
+    public record TornadoSyncPacket(
+        String dimension,
+        boolean replaceAll, // Drop every tornado the client has for this dimension first (start of a snapshot)
+        List<TornadoDelta> tornadoes,
+        long[] removed
+    ) implements CustomPacketPayload {
+        public static final Type<TornadoSyncPacket> TYPE = new Type<>(TORNADO_SYNC_ID);
+
+        public static final StreamCodec<FriendlyByteBuf, TornadoSyncPacket> STREAM_CODEC = new StreamCodec<FriendlyByteBuf, TornadoSyncPacket>() {
+            @Override
+            public void encode(FriendlyByteBuf buffer, TornadoSyncPacket packet) {
+                buffer.writeUtf(packet.dimension);
+                buffer.writeBoolean(packet.replaceAll);
+                buffer.writeVarInt(packet.tornadoes.size());
+                for (TornadoDelta delta : packet.tornadoes) {
+                    delta.write(buffer);
+                }
+                buffer.writeVarInt(packet.removed.length);
+                for (long id : packet.removed) {
+                    buffer.writeLong(id);
+                }
+            }
+
+            @Override
+            public TornadoSyncPacket decode(FriendlyByteBuf buffer) {
+                String dimension = buffer.readUtf();
+                boolean replaceAll = buffer.readBoolean();
+                int count = buffer.readVarInt();
+                List<TornadoDelta> tornadoes = new ArrayList<>(Math.min(count, 1024));
+                for (int i = 0; i < count; i++) {
+                    tornadoes.add(TornadoDelta.read(buffer));
+                }
+                int removedCount = buffer.readVarInt();
+                long[] removed = new long[removedCount];
+                for (int i = 0; i < removedCount; i++) {
+                    removed[i] = buffer.readLong();
+                }
+                return new TornadoSyncPacket(dimension, replaceAll, tornadoes, removed);
+            }
+        };
+
+        @Override
+        public Type<TornadoSyncPacket> type() {
+            return TYPE;
+        }
+
+        public static void handle(TornadoSyncPacket packet, IPayloadContext context) {
+            context.enqueueWork(() -> {
+                // Client-side handling
+                com.burrows.easaddon.tornado.TornadoTracker.getInstance().applyServerSync(packet);
+            });
+        }
+    }
+
+    private static int quantize(double coordinate) {
+        return (int) Math.round(coordinate * POSITION_SCALE);
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
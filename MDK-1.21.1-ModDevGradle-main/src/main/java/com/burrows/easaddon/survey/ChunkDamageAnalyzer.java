@@ -1,8 +1,14 @@
 package com.burrows.easaddon.survey;
 
 import com.burrows.easaddon.EASAddon;
+import com.burrows.easaddon.compat.PMWeatherBridge;
+import com.burrows.easaddon.compat.StormAccess;
+import com.burrows.easaddon.tornado.BlockStrengthTable;
 import com.burrows.easaddon.tornado.TornadoData;
+import com.burrows.easaddon.tornado.PositionHistory;
+import com.burrows.easaddon.tornado.TornadoTrackIndex;
 import com.burrows.easaddon.tornado.TornadoTracker;
+import com.burrows.easaddon.tornado.WindFieldModel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
@@ -12,29 +18,43 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.tags.BlockTags;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.api.distmarker.OnlyIn;
 
-import java.lang.reflect.Field;
+import javax.annotation.Nullable;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 /**
- * Analyzes chunks for tornado damage evidence when chunks are loaded late
+ * Analyzes chunks for tornado damage evidence when chunks are loaded late.
+ *
+ * The passes read a {@link ChunkSnapshot} rather than the live chunk, so a batch of chunks is
+ * copied on the client thread and analyzed in parallel on a worker pool.
  */
 @OnlyIn(Dist.CLIENT)
 public class ChunkDamageAnalyzer {
     private static ChunkDamageAnalyzer instance;
     
-    // Cache for block strength calculations
-    private final Map<Block, Float> blockStrengthCache = new HashMap<>();
+    // CHANGED: Block scans run from this far below the chunk's lowest surface up to each column's
+    // surface, instead of fixed y ranges; trunks and wreckage sit on the ground under the canopy
+    private static final int SCAN_DEPTH = 32;
     
-    // Reflection for PMWeather integration
-    private Class<?> serverConfigClass;
-    private Field blockStrengthsField;
-    private boolean reflectionInitialized = false;
+    // Leave cores for the client and render threads; idle workers exit on their own
+    private static final ForkJoinPool ANALYSIS_POOL = new ForkJoinPool(
+        Math.max(1, Runtime.getRuntime().availableProcessors() - 2),
+        ChunkDamageAnalyzer::newWorker, null, false);
+    
+    /**
+     * One chunk's worth of work for the pool: everything the passes need, captured on the client thread
+     */
+    private record AnalysisJob(ChunkSnapshot chunk, TornadoApproach approach,
+                               @Nullable Block mediumScouringBlock, @Nullable Block heavyScouringBlock) {
+    }
     
     private ChunkDamageAnalyzer() {
-        initializeReflection();
     }
     
     public static ChunkDamageAnalyzer getInstance() {
@@ -44,24 +64,6 @@ public class ChunkDamageAnalyzer {
         return instance;
     }
     
-    private void initializeReflection() {
-        if (!EASAddon.isPMWeatherAvailable()) {
-            return;
-        }
-        
-        try {
-            serverConfigClass = Class.forName("dev.protomanly.pmweather.config.ServerConfig");
-            blockStrengthsField = serverConfigClass.getDeclaredField("blockStrengths");
-            blockStrengthsField.setAccessible(true);
-            reflectionInitialized = true;
-            
-            EASAddon.LOGGER.info("ChunkDamageAnalyzer: PMWeather reflection initialized successfully");
-        } catch (Exception e) {
-            EASAddon.LOGGER.error("ChunkDamageAnalyzer: Failed to initialize PMWeather reflection", e);
-            reflectionInitialized = false;
-        }
-    }
-    
     /**
      * Analyze a chunk for tornado damage evidence
      */
@@ -83,20 +85,8 @@ public class ChunkDamageAnalyzer {
                 return result;
             }
             
-            result.withinDamageRange = true;
-            result.minDistanceToTornado = closestApproach.distance;
-            result.maxWindspeedAtChunk = closestApproach.windspeed;
-            
             // Analyze the chunk
-            LevelChunk chunk = level.getChunk(chunkPos.x, chunkPos.z);
-            analyzeFogwoodZone(chunk, result, closestApproach);
-            analyzeDebarkingEvidence(chunk, result, closestApproach);
-            analyzeScouringEvidence(chunk, result, closestApproach);
-            analyzeMissingVegetation(chunk, result, closestApproach);
-            analyzeStructuralDamage(chunk, result, closestApproach);
-            
-            EASAddon.LOGGER.info("ChunkDamageAnalyzer: Analysis complete for chunk ({}, {}) - {} evidence types found", 
-                chunkPos.x, chunkPos.z, result.getEvidenceTypeCount());
+            return analyze(createJob(level.getChunk(chunkPos.x, chunkPos.z), closestApproach));
             
         } catch (Exception e) {
             EASAddon.LOGGER.error("ChunkDamageAnalyzer: Error analyzing chunk ({}, {}): {}", 
@@ -107,29 +97,125 @@ public class ChunkDamageAnalyzer {
     }
     
     /**
-     * Find the tornado's closest approach to a chunk
+     * Analyze many chunks at once. Chunks are copied on the calling (client) thread and the
+     * passes run in parallel on the analysis pool. The future completes off-thread with results
+     * for the chunks that are loaded and within damage range; unloaded chunks have nothing to read.
      */
-    private TornadoApproach findClosestTornadoApproach(ChunkPos chunkPos, TornadoData tornadoData) {
-        Vec3 chunkCenter = new Vec3(chunkPos.x * 16 + 8, 0, chunkPos.z * 16 + 8);
+    public CompletableFuture<List<ChunkAnalysisResult>> analyzeChunksAsync(Collection<ChunkPos> chunks, Level level, long tornadoId) {
+        TornadoData tornadoData = TornadoTracker.getInstance().getTornadoData(tornadoId);
+        if (tornadoData == null) {
+            EASAddon.LOGGER.warn("ChunkDamageAnalyzer: No tornado data found for ID {}", tornadoId);
+            return CompletableFuture.completedFuture(List.of());
+        }
         
-        double minDistance = Double.MAX_VALUE;
-        int maxWindspeed = 0;
-        Vec3 closestPosition = null;
+        // Build the strength table here rather than racing to build it on the workers
+        BlockStrengthTable.getInstance().getStrength(Blocks.AIR);
         
-        for (TornadoData.PositionRecord record : tornadoData.getPositionHistory()) {
-            Vec3 tornadoPos = record.position;
-            double distance = tornadoPos.distanceTo(chunkCenter);
-            
-            if (distance < minDistance) {
-                minDistance = distance;
-                maxWindspeed = record.windspeed;
-                closestPosition = tornadoPos;
+        double maxDamageRange = getMaxDamageRange(tornadoData);
+        List<CompletableFuture<ChunkAnalysisResult>> tasks = new ArrayList<>();
+        int skippedUnloaded = 0;
+        
+        for (ChunkPos chunkPos : chunks) {
+            try {
+                TornadoApproach closestApproach = findClosestTornadoApproach(chunkPos, tornadoData);
+                if (closestApproach == null || closestApproach.distance > maxDamageRange) continue;
+                
+                if (!level.hasChunk(chunkPos.x, chunkPos.z)) {
+                    skippedUnloaded++;
+                    continue;
+                }
+                
+                AnalysisJob job = createJob(level.getChunk(chunkPos.x, chunkPos.z), closestApproach);
+                tasks.add(CompletableFuture.supplyAsync(() -> analyze(job), ANALYSIS_POOL));
+            } catch (Exception e) {
+                EASAddon.LOGGER.error("ChunkDamageAnalyzer: Error preparing chunk ({}, {}): {}", 
+                    chunkPos.x, chunkPos.z, e.getMessage());
             }
         }
         
-        if (closestPosition == null) return null;
+        EASAddon.LOGGER.info("ChunkDamageAnalyzer: Analyzing {} of {} chunks on {} workers ({} in range but not loaded)", 
+            tasks.size(), chunks.size(), ANALYSIS_POOL.getParallelism(), skippedUnloaded);
+        
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
+            .thenApply(done -> tasks.stream().map(CompletableFuture::join).toList());
+    }
+    
+    /**
+     * Copy what the passes need from the live chunk. Client thread only.
+     */
+    private AnalysisJob createJob(LevelChunk levelChunk, TornadoApproach approach) {
+        StormAccess pm = PMWeatherBridge.get();
+        return new AnalysisJob(ChunkSnapshot.capture(levelChunk, SCAN_DEPTH), approach,
+            pm != null ? pm.getMediumScouringBlock() : null,
+            pm != null ? pm.getHeavyScouringBlock() : null);
+    }
+    
+    /**
+     * Run every pass over a snapshot. Touches no live game state, so any thread may call it.
+     */
+    private ChunkAnalysisResult analyze(AnalysisJob job) {
+        ChunkSnapshot chunk = job.chunk();
+        TornadoApproach approach = job.approach();
+        ChunkAnalysisResult result = new ChunkAnalysisResult(chunk.getPos());
+        result.withinDamageRange = true;
+        result.minDistanceToTornado = approach.distance;
+        result.maxWindspeedAtChunk = approach.windspeed;
+        
+        try {
+            analyzeFogwoodZone(chunk, result, approach);
+            analyzeDebarkingEvidence(chunk, result, approach);
+            analyzeScouringEvidence(chunk, result, job);
+            analyzeMissingVegetation(chunk, result, approach);
+            analyzeStructuralDamage(chunk, result, approach);
+            
+            EASAddon.LOGGER.debug("ChunkDamageAnalyzer: Analysis complete for chunk ({}, {}) - {} evidence types found", 
+                chunk.getPos().x, chunk.getPos().z, result.getEvidenceTypeCount());
+        } catch (Exception e) {
+            EASAddon.LOGGER.error("ChunkDamageAnalyzer: Error analyzing chunk ({}, {}): {}", 
+                chunk.getPos().x, chunk.getPos().z, e.getMessage());
+        }
+        
+        return result;
+    }
+    
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("EASAddon Survey Analysis-" + thread.getPoolIndex());
+        // Mod classes aren't visible through the system class loader the pool would otherwise hand out
+        thread.setContextClassLoader(ChunkDamageAnalyzer.class.getClassLoader());
+        return thread;
+    }
+    
+    /**
+     * Find the tornado's closest approach to a chunk, and the peak wind every column
+     * of the chunk saw from the nearby stretch of track
+     */
+    private TornadoApproach findClosestTornadoApproach(ChunkPos chunkPos, TornadoData tornadoData) {
+        double chunkCenterX = chunkPos.x * 16 + 8;
+        double chunkCenterZ = chunkPos.z * 16 + 8;
+        int windfieldWidth = Math.max((int)tornadoData.getMaxWidth(), 40);
+        
+        TornadoTrackIndex.Approach closest = tornadoData.findClosestApproach(
+            chunkCenterX, chunkCenterZ, getMaxDamageRange(tornadoData), 0);
+        if (closest == null) return null;
+        
+        // Only track points whose windfield can reach this chunk contribute to the peak
+        PositionHistory.View track = tornadoData.getPositionView();
+        IntArrayList nearby = new IntArrayList();
+        double reach = windfieldWidth * 2.0;
+        tornadoData.getTrackIndex().collectPointsNear(chunkPos.getMinBlockX() - reach, chunkPos.getMinBlockZ() - reach,
+            chunkPos.getMaxBlockX() + reach, chunkPos.getMaxBlockZ() + reach, nearby);
+        
+        float[] columnWind = new float[WindFieldModel.CHUNK_COLUMNS];
+        for (int n = 0; n < nearby.size(); n++) {
+            int i = nearby.getInt(n);
+            if (i >= track.size()) continue;
+            WindFieldModel.accumulateChunkPeak(chunkPos.x, chunkPos.z, track.x(i), track.z(i),
+                windfieldWidth, track.windspeed(i), columnWind);
+        }
         
-        return new TornadoApproach(closestPosition, minDistance, maxWindspeed);
+        Vec3 closestPosition = new Vec3(closest.x, 0.0, closest.z);
+        return new TornadoApproach(closestPosition, closest.distance, closest.windspeed, windfieldWidth, columnWind);
     }
     
     /**
@@ -145,18 +231,13 @@ public class ChunkDamageAnalyzer {
     /**
      * Analyze for fogwood zone evidence (very close to tornado path)
      */
-    private void analyzeFogwoodZone(LevelChunk chunk, ChunkAnalysisResult result, TornadoApproach approach) {
+    private void analyzeFogwoodZone(ChunkSnapshot chunk, ChunkAnalysisResult result, TornadoApproach approach) {
         if (approach.distance > 50) return; // Fogwood only occurs very close to path
         
-        int chunkStartX = chunk.getPos().x * 16;
-        int chunkStartZ = chunk.getPos().z * 16;
-        
         // Sample blocks in the chunk
         for (int x = 0; x < 16; x += 4) {
             for (int z = 0; z < 16; z += 4) {
-                BlockPos surfacePos = chunk.getLevel().getHeightmapPos(
-                    net.minecraft.world.level.levelgen.Heightmap.Types.WORLD_SURFACE, 
-                    new BlockPos(chunkStartX + x, 0, chunkStartZ + z));
+                BlockPos surfacePos = chunk.getSurfacePos(x, z);
                 
                 // Look for scattered blocks or debris patterns
                 if (isScatteredDebris(chunk, surfacePos)) {
@@ -174,27 +255,16 @@ public class ChunkDamageAnalyzer {
     /**
      * Analyze for debarking evidence on logs
      */
-    private void analyzeDebarkingEvidence(LevelChunk chunk, ChunkAnalysisResult result, TornadoApproach approach) {
+    private void analyzeDebarkingEvidence(ChunkSnapshot chunk, ChunkAnalysisResult result, TornadoApproach approach) {
         if (approach.windspeed < 140) return; // Debarking requires 140+ mph winds
         
-        int chunkStartX = chunk.getPos().x * 16;
-        int chunkStartZ = chunk.getPos().z * 16;
-        
-        for (int x = 0; x < 16; x++) {
-            for (int z = 0; z < 16; z++) {
-                for (int y = 0; y < 100; y += 5) { // Sample every 5 blocks vertically
-                    BlockPos pos = new BlockPos(chunkStartX + x, y, chunkStartZ + z);
-                    BlockState state = chunk.getBlockState(pos);
-                    
-                    if (isStrippedLog(state)) {
-                        double windEffectAtBlock = calculateWindEffectAtPosition(pos, approach);
-                        if (windEffectAtBlock >= 140.0) {
-                            result.debarkingEvidence.add(pos);
-                        }
-                    }
-                }
+        // Sample every 5 blocks vertically; sections without stripped logs are never read
+        chunk.forEachMatch(this::isStrippedLog, 1, 5, chunk.getMinSurfaceY() - SCAN_DEPTH, pos -> {
+            double windEffectAtBlock = approach.windAt(pos);
+            if (windEffectAtBlock >= 140.0) {
+                result.debarkingEvidence.add(pos);
             }
-        }
+        });
         
         if (!result.debarkingEvidence.isEmpty()) {
             EASAddon.LOGGER.debug("ChunkDamageAnalyzer: Found {} debarking evidence points in chunk ({}, {})", 
@@ -205,19 +275,15 @@ public class ChunkDamageAnalyzer {
     /**
      * Analyze for ground scouring evidence
      */
-    private void analyzeScouringEvidence(LevelChunk chunk, ChunkAnalysisResult result, TornadoApproach approach) {
+    private void analyzeScouringEvidence(ChunkSnapshot chunk, ChunkAnalysisResult result, AnalysisJob job) {
+        TornadoApproach approach = job.approach();
         if (approach.windspeed < 140) return; // Scouring requires high winds
         
-        int chunkStartX = chunk.getPos().x * 16;
-        int chunkStartZ = chunk.getPos().z * 16;
-        
         for (int x = 0; x < 16; x += 2) {
             for (int z = 0; z < 16; z += 2) {
-                BlockPos surfacePos = chunk.getLevel().getHeightmapPos(
-                    net.minecraft.world.level.levelgen.Heightmap.Types.WORLD_SURFACE, 
-                    new BlockPos(chunkStartX + x, 0, chunkStartZ + z));
+                BlockPos surfacePos = chunk.getSurfacePos(x, z);
                 
-                ChunkDamageData.ScouringLevel scouringLevel = detectScouringLevel(chunk, surfacePos, approach);
+                ChunkDamageData.ScouringLevel scouringLevel = detectScouringLevel(chunk, surfacePos, job);
                 if (scouringLevel != null) {
                     result.scouringEvidence.put(surfacePos, scouringLevel);
                 }
@@ -233,15 +299,10 @@ public class ChunkDamageAnalyzer {
     /**
      * Analyze for missing vegetation patterns
      */
-    private void analyzeMissingVegetation(LevelChunk chunk, ChunkAnalysisResult result, TornadoApproach approach) {
-        int chunkStartX = chunk.getPos().x * 16;
-        int chunkStartZ = chunk.getPos().z * 16;
-        
+    private void analyzeMissingVegetation(ChunkSnapshot chunk, ChunkAnalysisResult result, TornadoApproach approach) {
         for (int x = 0; x < 16; x += 2) {
             for (int z = 0; z < 16; z += 2) {
-                BlockPos surfacePos = chunk.getLevel().getHeightmapPos(
-                    net.minecraft.world.level.levelgen.Heightmap.Types.WORLD_SURFACE, 
-                    new BlockPos(chunkStartX + x, 0, chunkStartZ + z));
+                BlockPos surfacePos = chunk.getSurfacePos(x, z);
                 
                 if (isMissingVegetation(chunk, surfacePos, approach)) {
                     result.missingVegetation.add(surfacePos);
@@ -258,22 +319,13 @@ public class ChunkDamageAnalyzer {
     /**
      * Analyze for structural damage evidence
      */
-    private void analyzeStructuralDamage(LevelChunk chunk, ChunkAnalysisResult result, TornadoApproach approach) {
-        int chunkStartX = chunk.getPos().x * 16;
-        int chunkStartZ = chunk.getPos().z * 16;
-        
-        // Look for patterns that suggest structures were damaged
-        for (int x = 0; x < 16; x += 3) {
-            for (int z = 0; z < 16; z += 3) {
-                for (int y = 60; y < 120; y += 10) {
-                    BlockPos pos = new BlockPos(chunkStartX + x, y, chunkStartZ + z);
-                    
-                    if (isStructuralDamageEvidence(chunk, pos, approach)) {
-                        result.structuralDamage.add(pos);
-                    }
-                }
+    private void analyzeStructuralDamage(ChunkSnapshot chunk, ChunkAnalysisResult result, TornadoApproach approach) {
+        // Look for patterns that suggest structures were damaged, every 3rd column and 10 blocks vertically
+        chunk.forEachMatch(this::isStructuralMaterial, 3, 10, chunk.getMinSurfaceY() - SCAN_DEPTH, pos -> {
+            if (isStructuralDamageEvidence(chunk, pos, approach)) {
+                result.structuralDamage.add(pos);
             }
-        }
+        });
         
         if (!result.structuralDamage.isEmpty()) {
             EASAddon.LOGGER.debug("ChunkDamageAnalyzer: Found {} structural damage points in chunk ({}, {})", 
@@ -284,7 +336,7 @@ public class ChunkDamageAnalyzer {
     /**
      * Check if a position shows scattered debris patterns
      */
-    private boolean isScatteredDebris(LevelChunk chunk, BlockPos pos) {
+    private boolean isScatteredDebris(ChunkSnapshot chunk, BlockPos pos) {
         BlockState state = chunk.getBlockState(pos);
         
         // Look for unusual block placements that might indicate scattered debris
@@ -329,23 +381,25 @@ public class ChunkDamageAnalyzer {
     /**
      * Detect scouring level at a position
      */
-    private ChunkDamageData.ScouringLevel detectScouringLevel(LevelChunk chunk, BlockPos pos, TornadoApproach approach) {
+    private ChunkDamageData.ScouringLevel detectScouringLevel(ChunkSnapshot chunk, BlockPos pos, AnalysisJob job) {
         BlockState surfaceState = chunk.getBlockState(pos);
         BlockState belowState = chunk.getBlockState(pos.below());
         
-        double windEffect = calculateWindEffectAtPosition(pos, approach);
+        double windEffect = job.approach().windAt(pos);
         
         // Check for different levels of scouring
         if (windEffect >= 200.0) {
             // Heavy scouring - exposed bedrock or deep removal
-            if (belowState.is(Blocks.BEDROCK) || surfaceState.is(Blocks.STONE)) {
+            if (belowState.is(Blocks.BEDROCK) || surfaceState.is(Blocks.STONE)
+                    || isBlock(surfaceState, job.heavyScouringBlock())) {
                 return ChunkDamageData.ScouringLevel.MEDIUM_TO_HEAVY;
             }
         }
         
         if (windEffect >= 170.0) {
             // Medium scouring - subsoil exposed
-            if (surfaceState.is(Blocks.DIRT) && !surfaceState.is(Blocks.GRASS_BLOCK)) {
+            if ((surfaceState.is(Blocks.DIRT) && !surfaceState.is(Blocks.GRASS_BLOCK))
+                    || isBlock(surfaceState, job.mediumScouringBlock())) {
                 return ChunkDamageData.ScouringLevel.DIRT_TO_MEDIUM;
             }
         }
@@ -360,16 +414,23 @@ public class ChunkDamageAnalyzer {
         return null;
     }
     
+    /**
+     * ADDED: PMWeather's own scouring blocks count too
+     */
+    private static boolean isBlock(BlockState state, @Nullable Block block) {
+        return block != null && state.getBlock() == block;
+    }
+    
     /**
      * Check for missing vegetation patterns
      */
-    private boolean isMissingVegetation(LevelChunk chunk, BlockPos pos, TornadoApproach approach) {
+    private boolean isMissingVegetation(ChunkSnapshot chunk, BlockPos pos, TornadoApproach approach) {
         BlockState state = chunk.getBlockState(pos);
         BlockState below = chunk.getBlockState(pos.below());
         
         // Air block above grass/dirt suggests removed vegetation
         if (state.isAir() && (below.is(Blocks.GRASS_BLOCK) || below.is(Blocks.DIRT))) {
-            double windEffect = calculateWindEffectAtPosition(pos, approach);
+            double windEffect = approach.windAt(pos);
             return windEffect >= 40.0; // Minimum wind to remove vegetation
         }
         
@@ -379,18 +440,14 @@ public class ChunkDamageAnalyzer {
     /**
      * Check for structural damage evidence
      */
-    private boolean isStructuralDamageEvidence(LevelChunk chunk, BlockPos pos, TornadoApproach approach) {
+    private boolean isStructuralDamageEvidence(ChunkSnapshot chunk, BlockPos pos, TornadoApproach approach) {
         BlockState state = chunk.getBlockState(pos);
         
         // Look for building material blocks that might be structural debris
-        if (state.is(BlockTags.PLANKS) || 
-            state.is(Blocks.COBBLESTONE) ||
-            state.is(Blocks.BRICKS) ||
-            state.is(BlockTags.DOORS) ||
-            state.is(BlockTags.FENCES)) {
+        if (isStructuralMaterial(state)) {
             
-            double windEffect = calculateWindEffectAtPosition(pos, approach);
-            float blockStrength = getBlockStrength(state.getBlock(), chunk.getLevel());
+            double windEffect = approach.windAt(pos);
+            float blockStrength = BlockStrengthTable.getInstance().getStrength(state);
             
             return windEffect >= blockStrength;
         }
@@ -398,6 +455,17 @@ public class ChunkDamageAnalyzer {
         return false;
     }
     
+    /**
+     * Building materials that end up as structural debris
+     */
+    private boolean isStructuralMaterial(BlockState state) {
+        return state.is(BlockTags.PLANKS) || 
+               state.is(Blocks.COBBLESTONE) ||
+               state.is(Blocks.BRICKS) ||
+               state.is(BlockTags.DOORS) ||
+               state.is(BlockTags.FENCES);
+    }
+    
     /**
      * Check if a block is a natural surface block
      */
@@ -411,52 +479,6 @@ public class ChunkDamageAnalyzer {
                state.is(BlockTags.SMALL_FLOWERS);
     }
     
-    /**
-     * Calculate wind effect at a specific position
-     */
-    private double calculateWindEffectAtPosition(BlockPos pos, TornadoApproach approach) {
-        double distance = approach.position.distanceTo(pos.getCenter());
-        // Simple linear decay - could be enhanced with more complex wind field modeling
-        double distanceRatio = 1.0 - (distance / 100.0); // Assumes 100 block effective range
-        return approach.windspeed * Math.max(0.0, distanceRatio);
-    }
-    
-    /**
-     * Get block strength with caching
-     */
-    private float getBlockStrength(Block block, Level level) {
-        return blockStrengthCache.computeIfAbsent(block, b -> calculateBlockStrength(b, level));
-    }
-    
-    /**
-     * Calculate block strength using PMWeather's method
-     */
-    private float calculateBlockStrength(Block block, Level level) {
-        try {
-            // Check for custom PMWeather block strengths first
-            if (reflectionInitialized && blockStrengthsField != null) {
-                Map<Block, Float> customStrengths = (Map<Block, Float>) blockStrengthsField.get(null);
-                if (customStrengths != null && customStrengths.containsKey(block)) {
-                    return customStrengths.get(block);
-                }
-            }
-        } catch (Exception e) {
-            // Fall through to default calculation
-        }
-        
-        // Use PMWeather's default calculation
-        net.minecraft.world.item.ItemStack item = new net.minecraft.world.item.ItemStack(net.minecraft.world.item.Items.IRON_AXE);
-        float destroySpeed = block.defaultBlockState().getDestroySpeed(level, BlockPos.ZERO);
-        
-        try {
-            destroySpeed /= item.getDestroySpeed(block.defaultBlockState());
-        } catch (Exception e) {
-            destroySpeed = 1.0f;
-        }
-        
-        return 60.0f + net.minecraft.util.Mth.sqrt(destroySpeed) * 60.0f;
-    }
-    
     /**
      * Data class for tornado approach information
      */
@@ -464,11 +486,23 @@ public class ChunkDamageAnalyzer {
         public final Vec3 position;
         public final double distance;
         public final int windspeed;
+        public final int windfieldWidth;
+        // Peak wind per column, indexed by WindFieldModel.columnIndex
+        private final float[] columnWind;
         
-        public TornadoApproach(Vec3 position, double distance, int windspeed) {
+        public TornadoApproach(Vec3 position, double distance, int windspeed, int windfieldWidth, float[] columnWind) {
             this.position = position;
             this.distance = distance;
             this.windspeed = windspeed;
+            this.windfieldWidth = windfieldWidth;
+            this.columnWind = columnWind;
+        }
+        
+        /**
+         * Peak wind the column containing pos saw along the tornado's path
+         */
+        public double windAt(BlockPos pos) {
+            return columnWind[WindFieldModel.columnIndex(pos.getX(), pos.getZ())];
         }
     }
     
@@ -1,28 +1,70 @@
 package com.burrows.easaddon.survey;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtUtils;
 import net.minecraft.nbt.Tag;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import it.unimi.dsi.fastutil.ints.Int2ByteMap;
+import it.unimi.dsi.fastutil.ints.Int2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 
-import com.burrows.easaddon.EASAddon;
+import java.util.*;
 
 /**
  * Enhanced chunk damage data that tracks debarking and ground scouring evidence
+ *
+ * Storage is packed per chunk: positions are chunk-relative ints (see {@link #packPos}), block
+ * states go through a small per-chunk palette of state ids, and damage records are parallel
+ * primitive arrays. The Map/Set getters are read-only views over a packed copy that build
+ * objects on demand. Every public accessor holds the instance lock, like the add methods.
  */
 public class ChunkDamageData {
+    private static final int INITIAL_CAPACITY = 8;
+    private static final short NO_STATE = -1;
+    private static final ScouringLevel[] SCOURING_LEVELS = ScouringLevel.values();
+    
+    // Evidence type bits
+    private static final int EVIDENCE_BLOCKS = 1;
+    private static final int EVIDENCE_DEBARKING = 1 << 1;
+    private static final int EVIDENCE_SCOURING = 1 << 2;
+    
     private final ChunkPos chunkPos;
-    private final Map<BlockPos, DamageRecord> damageRecords = new HashMap<>();
+    
+    // FIXED: Damage records as parallel arrays instead of a HashMap of objects
+    private final Int2IntOpenHashMap damageSlotByPos = new Int2IntOpenHashMap();
+    private int[] damagePos = new int[INITIAL_CAPACITY];
+    private short[] damageOriginal = new short[INITIAL_CAPACITY];
+    private short[] damageResulting = new short[INITIAL_CAPACITY];
+    private float[] damageStrength = new float[INITIAL_CAPACITY];
+    private long[] damageTime = new long[INITIAL_CAPACITY];
+    private short[] damageWindspeed = new short[INITIAL_CAPACITY];
+    private int damageCount = 0;
+    
+    // Block.getId() of each palette entry, and the reverse lookup
+    private int[] palette = new int[4];
+    private int paletteSize = 0;
+    private final Int2IntOpenHashMap paletteIndex = new Int2IntOpenHashMap();
     
     // ENHANCED: Track debarking and scouring evidence
-    private final Set<BlockPos> debarkedLogs = new HashSet<>();
-    private final Map<BlockPos, ScouringLevel> scouringEvidence = new HashMap<>();
+    private final IntOpenHashSet debarkedLogs = new IntOpenHashSet();
+    private final Int2ByteOpenHashMap scouringEvidence = new Int2ByteOpenHashMap(); // packed pos -> level ordinal
+    
+    // ADDED: Aggregates kept up to date by the add methods so queries are O(1)
+    private float maxBlockStrength = 0.0f;
+    private int maxTornadoWindspeed = 0;
+    private long windspeedSum = 0;
+    private boolean blockMaximaStale = false; // a replaced record may have held the maximum
+    private final int[] scouringCounts = new int[SCOURING_LEVELS.length];
+    private int evidenceMask = 0;
     
     private boolean surveyed = false;
     private String surveyedBy = null;
@@ -61,196 +103,232 @@ public class ChunkDamageData {
     
     public ChunkDamageData(ChunkPos chunkPos) {
         this.chunkPos = chunkPos;
+        damageSlotByPos.defaultReturnValue(-1);
+        paletteIndex.defaultReturnValue(-1);
     }
     
-    public void addDamage(BlockPos pos, BlockState original, BlockState resulting, float strength, int tornadoWindspeed) {
-        damageRecords.put(pos, new DamageRecord(original, resulting, strength, System.currentTimeMillis(), tornadoWindspeed));
+    public synchronized void addDamage(BlockPos pos, BlockState original, BlockState resulting, float strength, int tornadoWindspeed) {
+        short windspeed = (short) Math.min(tornadoWindspeed, Short.MAX_VALUE);
+        putDamage(packPos(pos), paletteId(original), paletteId(resulting), strength, System.currentTimeMillis(), windspeed);
+    }
+    
+    private void putDamage(int packed, short original, short resulting, float strength, long time, short windspeed) {
+        int slot = damageSlotByPos.get(packed);
+        if (slot < 0) {
+            // New position; a repeat hit on the same block replaces the old record
+            slot = damageCount++;
+            ensureDamageCapacity(damageCount);
+            damageSlotByPos.put(packed, slot);
+            damagePos[slot] = packed;
+        } else {
+            windspeedSum -= damageWindspeed[slot];
+            if (damageStrength[slot] >= maxBlockStrength || damageWindspeed[slot] >= maxTornadoWindspeed) {
+                blockMaximaStale = true;
+            }
+        }
+        damageOriginal[slot] = original;
+        damageResulting[slot] = resulting;
+        damageStrength[slot] = strength;
+        damageTime[slot] = time;
+        damageWindspeed[slot] = windspeed;
+        
+        windspeedSum += windspeed;
+        maxBlockStrength = Math.max(maxBlockStrength, strength);
+        maxTornadoWindspeed = Math.max(maxTornadoWindspeed, windspeed);
+        evidenceMask |= EVIDENCE_BLOCKS;
     }
     
     // ADDED: Record debarking evidence
-    public void addDebarkingEvidence(BlockPos pos) {
-        debarkedLogs.add(pos);
+    public synchronized void addDebarkingEvidence(BlockPos pos) {
+        addDebarkingEvidence(packPos(pos));
+    }
+    
+    private void addDebarkingEvidence(int packed) {
+        debarkedLogs.add(packed);
+        evidenceMask |= EVIDENCE_DEBARKING;
     }
     
     // ADDED: Record scouring evidence  
-    public void addScouringEvidence(BlockPos pos, ScouringLevel level) {
-        scouringEvidence.put(pos, level);
+    public synchronized void addScouringEvidence(BlockPos pos, ScouringLevel level) {
+        addScouringEvidence(packPos(pos), level);
+    }
+    
+    private void addScouringEvidence(int packed, ScouringLevel level) {
+        if (scouringEvidence.containsKey(packed)) {
+            scouringCounts[scouringEvidence.get(packed)]--;
+        }
+        scouringEvidence.put(packed, (byte) level.ordinal());
+        scouringCounts[level.ordinal()]++;
+        evidenceMask |= EVIDENCE_SCOURING;
     }
     
     // ENHANCED: Calculate maximum damage intensity including debarking/scouring
-    public float getMaxDamageIntensity() {
-        float maxFromBlocks = damageRecords.values().stream()
-                .map(record -> record.blockStrength)
-                .max(Float::compareTo)
-                .orElse(0.0f);
+    public synchronized float getMaxDamageIntensity() {
+        float maxFromBlocks = getMaxBlockStrength();
         
         // ADDED: Check debarking evidence (minimum 140 mph)
         float maxFromDebarking = debarkedLogs.isEmpty() ? 0.0f : 140.0f;
         
         // ADDED: Check scouring evidence
-        float maxFromScouring = scouringEvidence.values().stream()
-                .map(level -> level.minimumWindspeed)
-                .max(Float::compareTo)
-                .orElse(0.0f);
+        ScouringLevel maxScouring = getMaxScouringLevel();
+        float maxFromScouring = maxScouring != null ? maxScouring.minimumWindspeed : 0.0f;
         
         return Math.max(maxFromBlocks, Math.max(maxFromDebarking, maxFromScouring));
     }
     
-    // FIXED: Get enhanced windspeed estimate using evidence-based minimums
-/**
- * FIXED: Get enhanced windspeed estimate using evidence-based minimums properly
- */
-public float getEnhancedWindspeedEstimate() {
-    // Start with the highest block strength found
-    float maxBlockStrength = 0.0f;
-    float maxTornadoWindspeed = 0.0f;
-    
-    for (DamageRecord record : damageRecords.values()) {
-        maxBlockStrength = Math.max(maxBlockStrength, record.blockStrength);
-        maxTornadoWindspeed = Math.max(maxTornadoWindspeed, record.tornadoWindspeed);
+    /**
+     * ADDED: Highest block strength among the damage records
+     */
+    public synchronized float getMaxBlockStrength() {
+        refreshBlockMaxima();
+        return maxBlockStrength;
     }
     
-    // FIXED: Start with the actual recorded tornado windspeed as baseline
-    float estimatedWindspeed = Math.max(maxBlockStrength, maxTornadoWindspeed);
-    
-    // FIXED: Evidence establishes minimum thresholds, not additive bonuses
-    float minimumFromEvidence = estimatedWindspeed;
-    
-    // FIXED: Debarking evidence establishes absolute minimum of 140 mph
-    if (!debarkedLogs.isEmpty()) {
-        minimumFromEvidence = Math.max(minimumFromEvidence, 140.0f);
-        EASAddon.LOGGER.debug("Chunk {}: Debarking evidence found - minimum windspeed now 140mph", chunkPos);
+    /**
+     * ADDED: Most severe scouring level recorded, or null if none
+     */
+    public synchronized ScouringLevel getMaxScouringLevel() {
+        for (int i = SCOURING_LEVELS.length - 1; i >= 0; i--) {
+            if (scouringCounts[i] > 0) return SCOURING_LEVELS[i];
+        }
+        return null;
     }
     
-    // FIXED: Scouring evidence establishes minimum based on highest level found
-    for (ScouringLevel level : scouringEvidence.values()) {
-        minimumFromEvidence = Math.max(minimumFromEvidence, level.minimumWindspeed);
-        EASAddon.LOGGER.debug("Chunk {}: {} scouring evidence - minimum windspeed now {}mph", 
-            chunkPos, level.name(), level.minimumWindspeed);
+    /**
+     * ADDED: Number of evidence types present (block damage, debarking, scouring)
+     */
+    public synchronized int getEvidenceTypeCount() {
+        return Integer.bitCount(evidenceMask);
     }
     
-    // FIXED: Multiple evidence types increase confidence, not windspeed
-    int evidenceTypeCount = 0;
-    if (!damageRecords.isEmpty()) evidenceTypeCount++;
-    if (!debarkedLogs.isEmpty()) evidenceTypeCount++;
-    if (!scouringEvidence.isEmpty()) evidenceTypeCount++;
-    
-    // Small confidence boost (max 10%) for multiple evidence types
-    if (evidenceTypeCount >= 2) {
-        float confidenceBoost = 1.0f + (evidenceTypeCount - 1) * 0.05f; // 5% per additional evidence type
-        minimumFromEvidence *= confidenceBoost;
-        EASAddon.LOGGER.debug("Chunk {}: Multiple evidence types ({}) - confidence boost: {:.1f}%", 
-            chunkPos, evidenceTypeCount, (confidenceBoost - 1.0f) * 100);
+    // Only needed after a record holding the maximum was overwritten
+    private void refreshBlockMaxima() {
+        if (!blockMaximaStale) return;
+        float strength = 0.0f;
+        int windspeed = 0;
+        for (int i = 0; i < damageCount; i++) {
+            strength = Math.max(strength, damageStrength[i]);
+            windspeed = Math.max(windspeed, damageWindspeed[i]);
+        }
+        maxBlockStrength = strength;
+        maxTornadoWindspeed = windspeed;
+        blockMaximaStale = false;
     }
     
-    EASAddon.LOGGER.info("Chunk {}: Enhanced windspeed calculation: baseline={}mph, evidence_minimum={}mph, final={}mph", 
-        chunkPos, Math.round(estimatedWindspeed), Math.round(minimumFromEvidence), Math.round(minimumFromEvidence));
+    /**
+     * FIXED: Get enhanced windspeed estimate using evidence-based minimums properly
+     */
+    public synchronized float getEnhancedWindspeedEstimate() {
+        // FIXED: Start with the actual recorded tornado windspeed as baseline
+        refreshBlockMaxima();
+        float estimatedWindspeed = Math.max(maxBlockStrength, maxTornadoWindspeed);
     
-    return minimumFromEvidence;
-}
-
-/**
- * FIXED: Get minimum EF rating from evidence with proper thresholds
- */
-public int getMinimumEFRatingFromEvidence() {
-    int minimumRating = -1;
-    
-    // Debarking evidence = minimum EF3 (140+ mph)
-    if (!debarkedLogs.isEmpty()) {
-        minimumRating = Math.max(minimumRating, 3);
-        EASAddon.LOGGER.debug("Chunk {}: Debarking evidence establishes minimum EF3", chunkPos);
-    }
+        // FIXED: Evidence establishes minimum thresholds, not additive bonuses
+        float minimumFromEvidence = estimatedWindspeed;
     
-    // Scouring evidence establishes minimums
-    for (ScouringLevel level : scouringEvidence.values()) {
-        int ratingFromScouring = switch (level) {
-            case GRASS_TO_DIRT -> 3;      // 140+ mph = EF3+
-            case DIRT_TO_MEDIUM -> 4;     // 170+ mph = EF4+  
-            case MEDIUM_TO_HEAVY -> 5;    // 200+ mph = EF5
-        };
-        minimumRating = Math.max(minimumRating, ratingFromScouring);
-        EASAddon.LOGGER.debug("Chunk {}: {} scouring establishes minimum EF{}", 
-            chunkPos, level.name(), ratingFromScouring);
-    }
+        // FIXED: Debarking evidence establishes absolute minimum of 140 mph
+        if ((evidenceMask & EVIDENCE_DEBARKING) != 0) {
+            minimumFromEvidence = Math.max(minimumFromEvidence, 140.0f);
+        }
     
-    return minimumRating;
-}
-
-/**
- * FIXED: Check if chunk has high confidence evidence (multiple types)
- */
-public boolean hasHighConfidenceEvidence() {
-    int evidenceTypes = 0;
-    if (!damageRecords.isEmpty()) evidenceTypes++;
-    if (!debarkedLogs.isEmpty()) evidenceTypes++;
-    if (!scouringEvidence.isEmpty()) evidenceTypes++;
+        // FIXED: Scouring evidence establishes minimum based on highest level found
+        ScouringLevel maxScouring = getMaxScouringLevel();
+        if (maxScouring != null) {
+            minimumFromEvidence = Math.max(minimumFromEvidence, maxScouring.minimumWindspeed);
+        }
     
-    return evidenceTypes >= 2;
-}
-
-/**
- * FIXED: Get evidence summary with proper details
- */
-public String getEvidenceSummary() {
-    StringBuilder summary = new StringBuilder();
+        // FIXED: Multiple evidence types increase confidence, not windspeed
+        int evidenceTypeCount = getEvidenceTypeCount();
     
-    if (!damageRecords.isEmpty()) {
-        float maxStrength = (float) damageRecords.values().stream()
-            .mapToDouble(r -> r.blockStrength)
-            .max().orElse(0.0);
-        summary.append(String.format("Block damage (%.0f mph)", maxStrength));
-    }
+        // Small confidence boost (max 10%) for multiple evidence types
+        if (evidenceTypeCount >= 2) {
+            float confidenceBoost = 1.0f + (evidenceTypeCount - 1) * 0.05f; // 5% per additional evidence type
+            minimumFromEvidence *= confidenceBoost;
+        }
     
-    if (!debarkedLogs.isEmpty()) {
-        if (summary.length() > 0) summary.append(", ");
-        summary.append(String.format("Debarking (%d trees)", debarkedLogs.size()));
+        // REMOVED: Per-call INFO log; this runs for every chunk while rendering the survey map
+        return minimumFromEvidence;
     }
+
+    /**
+     * FIXED: Get minimum EF rating from evidence with proper thresholds
+     */
+    public synchronized int getMinimumEFRatingFromEvidence() {
+        int minimumRating = -1;
+    
+        // Debarking evidence = minimum EF3 (140+ mph)
+        if ((evidenceMask & EVIDENCE_DEBARKING) != 0) {
+            minimumRating = Math.max(minimumRating, 3);
+        }
     
-    if (!scouringEvidence.isEmpty()) {
-        if (summary.length() > 0) summary.append(", ");
-        
-        Map<ScouringLevel, Long> counts = scouringEvidence.values().stream()
-            .collect(Collectors.groupingBy(level -> level, Collectors.counting()));
-        
-        for (Map.Entry<ScouringLevel, Long> entry : counts.entrySet()) {
-            String levelName = switch (entry.getKey()) {
-                case GRASS_TO_DIRT -> "Light scouring";
-                case DIRT_TO_MEDIUM -> "Medium scouring";
-                case MEDIUM_TO_HEAVY -> "Heavy scouring";
+        // Scouring evidence establishes minimums; the most severe level decides
+        ScouringLevel maxScouring = getMaxScouringLevel();
+        if (maxScouring != null) {
+            int ratingFromScouring = switch (maxScouring) {
+                case GRASS_TO_DIRT -> 3;      // 140+ mph = EF3+
+                case DIRT_TO_MEDIUM -> 4;     // 170+ mph = EF4+  
+                case MEDIUM_TO_HEAVY -> 5;    // 200+ mph = EF5
             };
-            summary.append(String.format("%s (%d)", levelName, entry.getValue()));
+            minimumRating = Math.max(minimumRating, ratingFromScouring);
         }
-    }
     
-    if (summary.length() == 0) {
-        summary.append("No evidence found");
+        return minimumRating;
     }
-    
-    return summary.toString();
-}
 
-/**
- * FIXED: Get average tornado windspeed from damage records
- */
-public float getAverageTornadoWindspeed() {
-    if (damageRecords.isEmpty()) return 0.0f;
+    /**
+     * FIXED: Check if chunk has high confidence evidence (multiple types)
+     */
+    public synchronized boolean hasHighConfidenceEvidence() {
+        return getEvidenceTypeCount() >= 2;
+    }
+
+    /**
+     * FIXED: Get evidence summary with proper details
+     */
+    public synchronized String getEvidenceSummary() {
+        StringBuilder summary = new StringBuilder();
+    
+        if (damageCount > 0) {
+            summary.append(String.format("Block damage (%.0f mph)", getMaxBlockStrength()));
+        }
     
-    return (float) damageRecords.values().stream()
-        .mapToInt(record -> record.tornadoWindspeed)
-        .average()
-        .orElse(0.0);
-}
+        if (!debarkedLogs.isEmpty()) {
+            if (summary.length() > 0) summary.append(", ");
+            summary.append(String.format("Debarking (%d trees)", debarkedLogs.size()));
+        }
     
-    // ADDED: Get evidence summary for detailed reporting
- 
+        if (!scouringEvidence.isEmpty()) {
+            if (summary.length() > 0) summary.append(", ");
+        
+            for (ScouringLevel level : SCOURING_LEVELS) {
+                int count = getScouringCount(level);
+                if (count == 0) continue;
+                String levelName = switch (level) {
+                    case GRASS_TO_DIRT -> "Light scouring";
+                    case DIRT_TO_MEDIUM -> "Medium scouring";
+                    case MEDIUM_TO_HEAVY -> "Heavy scouring";
+                };
+                summary.append(String.format("%s (%d)", levelName, count));
+            }
+        }
     
-    // ADDED: Get minimum EF rating based on evidence types
-
+        if (summary.length() == 0) {
+            summary.append("No evidence found");
+        }
     
-    // ADDED: Check if chunk has high-confidence evidence
+        return summary.toString();
+    }
 
+    /**
+     * FIXED: Get average tornado windspeed from damage records
+     */
+    public synchronized float getAverageTornadoWindspeed() {
+        if (damageCount == 0) return 0.0f;
+    
+        return (float) windspeedSum / damageCount;
+    }
     
-    public void markSurveyed(String playerName, int efRating, float maxWindspeed) {
+    public synchronized void markSurveyed(String playerName, int efRating, float maxWindspeed) {
         this.surveyed = true;
         this.surveyedBy = playerName;
         this.surveyTime = System.currentTimeMillis();
@@ -258,31 +336,233 @@ public float getAverageTornadoWindspeed() {
         this.maxWindspeedFound = maxWindspeed;
     }
     
-
+    public synchronized int getDamageCount() {
+        return damageCount + debarkedLogs.size() + scouringEvidence.size();
+    }
     
-    public int getDamageCount() {
-        return damageRecords.size() + debarkedLogs.size() + scouringEvidence.size();
+    public synchronized boolean hasDamage() {
+        return damageCount > 0 || !debarkedLogs.isEmpty() || !scouringEvidence.isEmpty();
     }
     
-    public boolean hasDamage() {
-        return !damageRecords.isEmpty() || !debarkedLogs.isEmpty() || !scouringEvidence.isEmpty();
+    // ADDED: Counts without building the views
+    public synchronized int getBlockDamageCount() { return damageCount; }
+    public synchronized int getDebarkingCount() { return debarkedLogs.size(); }
+    public synchronized int getScouringCount() { return scouringEvidence.size(); }
+    
+    public synchronized int getScouringCount(ScouringLevel level) {
+        return scouringCounts[level.ordinal()];
     }
     
-    // Getters for new fields
-    public Set<BlockPos> getDebarkedLogs() { return new HashSet<>(debarkedLogs); }
-    public Map<BlockPos, ScouringLevel> getScouringEvidence() { return new HashMap<>(scouringEvidence); }
+    // Getters for new fields - FIXED: read-only views over a packed copy, not maps of objects
+    public synchronized Set<BlockPos> getDebarkedLogs() { return new PackedPosSet(debarkedLogs.clone()); }
+    public synchronized Map<BlockPos, ScouringLevel> getScouringEvidence() { return new ScouringView(scouringEvidence.clone()); }
     
     // Existing getters
     public ChunkPos getChunkPos() { return chunkPos; }
-    public boolean isSurveyed() { return surveyed; }
-    public String getSurveyedBy() { return surveyedBy; }
-    public long getSurveyTime() { return surveyTime; }
-    public int getDeterminedEFRating() { return determinedEFRating; }
-    public float getMaxWindspeedFound() { return maxWindspeedFound; }
-    public Map<BlockPos, DamageRecord> getDamageRecords() { return new HashMap<>(damageRecords); }
+    public synchronized boolean isSurveyed() { return surveyed; }
+    public synchronized String getSurveyedBy() { return surveyedBy; }
+    public synchronized long getSurveyTime() { return surveyTime; }
+    public synchronized int getDeterminedEFRating() { return determinedEFRating; }
+    public synchronized float getMaxWindspeedFound() { return maxWindspeedFound; }
+    public synchronized Map<BlockPos, DamageRecord> getDamageRecords() { return new DamageRecordView(); }
+    
+    /**
+     * Chunk-relative packed position: bits 0-3 local x, 4-7 local z, 8+ world y (signed)
+     */
+    private static int packPos(BlockPos pos) {
+        return (pos.getY() << 8) | ((pos.getZ() & 15) << 4) | (pos.getX() & 15);
+    }
+    
+    private BlockPos unpackPos(int packed) {
+        return new BlockPos(chunkPos.getMinBlockX() + (packed & 15), packed >> 8, chunkPos.getMinBlockZ() + ((packed >> 4) & 15));
+    }
+    
+    private short paletteId(BlockState state) {
+        if (state == null) return NO_STATE;
+        int stateId = Block.getId(state);
+        int index = paletteIndex.get(stateId);
+        if (index < 0) {
+            if (paletteSize == palette.length) {
+                palette = Arrays.copyOf(palette, paletteSize * 2);
+            }
+            index = paletteSize++;
+            palette[index] = stateId;
+            paletteIndex.put(stateId, index);
+        }
+        return (short) index;
+    }
+    
+    private void ensureDamageCapacity(int needed) {
+        if (needed <= damagePos.length) return;
+        int capacity = Math.max(needed, damagePos.length * 2);
+        damagePos = Arrays.copyOf(damagePos, capacity);
+        damageOriginal = Arrays.copyOf(damageOriginal, capacity);
+        damageResulting = Arrays.copyOf(damageResulting, capacity);
+        damageStrength = Arrays.copyOf(damageStrength, capacity);
+        damageTime = Arrays.copyOf(damageTime, capacity);
+        damageWindspeed = Arrays.copyOf(damageWindspeed, capacity);
+    }
+    
+    // ========== READ-ONLY VIEWS ==========
+    // Each view works on primitive copies taken under the lock by its getter, so readers on
+    // other threads never see the arrays mid-resize while the chunk keeps taking damage.
+    
+    private class DamageRecordView extends AbstractMap<BlockPos, DamageRecord> {
+        private final int count = damageCount;
+        private final Int2IntOpenHashMap slotByPos = damageSlotByPos.clone();
+        private final int[] positions = Arrays.copyOf(damagePos, damageCount);
+        private final short[] original = Arrays.copyOf(damageOriginal, damageCount);
+        private final short[] resulting = Arrays.copyOf(damageResulting, damageCount);
+        private final float[] strength = Arrays.copyOf(damageStrength, damageCount);
+        private final long[] time = Arrays.copyOf(damageTime, damageCount);
+        private final short[] windspeed = Arrays.copyOf(damageWindspeed, damageCount);
+        private final int[] states = Arrays.copyOf(palette, paletteSize);
+        
+        private BlockState state(short index) {
+            return index == NO_STATE ? null : Block.stateById(states[index]);
+        }
+        
+        private DamageRecord record(int slot) {
+            return new DamageRecord(state(original[slot]), state(resulting[slot]), strength[slot], time[slot], windspeed[slot]);
+        }
+        
+        @Override
+        public int size() {
+            return count;
+        }
+        
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof BlockPos pos && inChunk(pos) && slotByPos.containsKey(packPos(pos));
+        }
+        
+        @Override
+        public DamageRecord get(Object key) {
+            if (!(key instanceof BlockPos pos) || !inChunk(pos)) return null;
+            int slot = slotByPos.get(packPos(pos));
+            return slot < 0 ? null : record(slot);
+        }
+        
+        @Override
+        public Set<Map.Entry<BlockPos, DamageRecord>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return count;
+                }
+                
+                @Override
+                public Iterator<Map.Entry<BlockPos, DamageRecord>> iterator() {
+                    return new Iterator<>() {
+                        private int slot = 0;
+                        
+                        @Override
+                        public boolean hasNext() {
+                            return slot < count;
+                        }
+                        
+                        @Override
+                        public Map.Entry<BlockPos, DamageRecord> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            int current = slot++;
+                            return new AbstractMap.SimpleImmutableEntry<>(unpackPos(positions[current]), record(current));
+                        }
+                    };
+                }
+            };
+        }
+    }
+    
+    private class PackedPosSet extends AbstractSet<BlockPos> {
+        private final IntOpenHashSet positions;
+        
+        PackedPosSet(IntOpenHashSet positions) {
+            this.positions = positions;
+        }
+        
+        @Override
+        public int size() {
+            return positions.size();
+        }
+        
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof BlockPos pos && inChunk(pos) && positions.contains(packPos(pos));
+        }
+        
+        @Override
+        public Iterator<BlockPos> iterator() {
+            IntIterator it = positions.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+                
+                @Override
+                public BlockPos next() {
+                    return unpackPos(it.nextInt());
+                }
+            };
+        }
+    }
+    
+    private class ScouringView extends AbstractMap<BlockPos, ScouringLevel> {
+        private final Int2ByteOpenHashMap levels;
+        
+        ScouringView(Int2ByteOpenHashMap levels) {
+            this.levels = levels;
+        }
+        
+        @Override
+        public int size() {
+            return levels.size();
+        }
+        
+        @Override
+        public ScouringLevel get(Object key) {
+            if (!(key instanceof BlockPos pos) || !inChunk(pos)) return null;
+            int packed = packPos(pos);
+            return levels.containsKey(packed) ? SCOURING_LEVELS[levels.get(packed)] : null;
+        }
+        
+        @Override
+        public Set<Map.Entry<BlockPos, ScouringLevel>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return levels.size();
+                }
+                
+                @Override
+                public Iterator<Map.Entry<BlockPos, ScouringLevel>> iterator() {
+                    ObjectIterator<Int2ByteMap.Entry> it = levels.int2ByteEntrySet().fastIterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return it.hasNext();
+                        }
+                        
+                        @Override
+                        public Map.Entry<BlockPos, ScouringLevel> next() {
+                            Int2ByteMap.Entry entry = it.next();
+                            return new AbstractMap.SimpleImmutableEntry<>(
+                                unpackPos(entry.getIntKey()), SCOURING_LEVELS[entry.getByteValue()]);
+                        }
+                    };
+                }
+            };
+        }
+    }
+    
+    private boolean inChunk(BlockPos pos) {
+        return (pos.getX() >> 4) == chunkPos.x && (pos.getZ() >> 4) == chunkPos.z;
+    }
     
     // ENHANCED: NBT serialization with new evidence types
-    public CompoundTag toNBT() {
+    // FIXED: Packed format that round-trips; block states are saved by name through the palette.
+    // Synchronized with the add methods since chunk saves run on the server thread.
+    public synchronized CompoundTag toNBT() {
         CompoundTag tag = new CompoundTag();
         tag.putInt("chunkX", chunkPos.x);
         tag.putInt("chunkZ", chunkPos.z);
@@ -294,51 +574,44 @@ public float getAverageTornadoWindspeed() {
         tag.putInt("efRating", determinedEFRating);
         tag.putFloat("maxWindspeed", maxWindspeedFound);
         
-        // Serialize damage records
-        ListTag damageList = new ListTag();
-        for (Map.Entry<BlockPos, DamageRecord> entry : damageRecords.entrySet()) {
-            CompoundTag damageTag = new CompoundTag();
-            BlockPos pos = entry.getKey();
-            DamageRecord record = entry.getValue();
-            
-            damageTag.putInt("x", pos.getX());
-            damageTag.putInt("y", pos.getY());
-            damageTag.putInt("z", pos.getZ());
-            damageTag.putString("originalBlock", record.originalBlock.getBlock().getDescriptionId());
-            if (record.resultingBlock != null) {
-                damageTag.putString("resultingBlock", record.resultingBlock.getBlock().getDescriptionId());
-            }
-            damageTag.putFloat("blockStrength", record.blockStrength);
-            damageTag.putLong("timestamp", record.timestamp);
-            damageTag.putInt("tornadoWindspeed", record.tornadoWindspeed);
-            
-            damageList.add(damageTag);
+        // Palette, then damage records as parallel arrays of palette indices
+        ListTag paletteList = new ListTag();
+        for (int i = 0; i < paletteSize; i++) {
+            paletteList.add(NbtUtils.writeBlockState(Block.stateById(palette[i])));
         }
-        tag.put("damageRecords", damageList);
+        tag.put("palette", paletteList);
         
-        // ADDED: Serialize debarking evidence
-        ListTag debarkList = new ListTag();
-        for (BlockPos pos : debarkedLogs) {
-            CompoundTag debarkTag = new CompoundTag();
-            debarkTag.putInt("x", pos.getX());
-            debarkTag.putInt("y", pos.getY());
-            debarkTag.putInt("z", pos.getZ());
-            debarkList.add(debarkTag);
+        int[] original = new int[damageCount];
+        int[] resulting = new int[damageCount];
+        int[] strength = new int[damageCount];
+        int[] windspeed = new int[damageCount];
+        for (int i = 0; i < damageCount; i++) {
+            original[i] = damageOriginal[i];
+            resulting[i] = damageResulting[i];
+            strength[i] = Float.floatToIntBits(damageStrength[i]);
+            windspeed[i] = damageWindspeed[i];
         }
-        tag.put("debarkedLogs", debarkList);
+        tag.putIntArray("damagePos", Arrays.copyOf(damagePos, damageCount));
+        tag.putIntArray("damageOriginal", original);
+        tag.putIntArray("damageResulting", resulting);
+        tag.putIntArray("damageStrength", strength);
+        tag.putLongArray("damageTime", Arrays.copyOf(damageTime, damageCount));
+        tag.putIntArray("damageWindspeed", windspeed);
+        
+        // ADDED: Serialize debarking evidence
+        tag.putIntArray("debarkedLogs", debarkedLogs.toIntArray());
         
         // ADDED: Serialize scouring evidence
-        ListTag scourList = new ListTag();
-        for (Map.Entry<BlockPos, ScouringLevel> entry : scouringEvidence.entrySet()) {
-            CompoundTag scourTag = new CompoundTag();
-            BlockPos pos = entry.getKey();
-            scourTag.putInt("x", pos.getX());
-            scourTag.putInt("y", pos.getY());
-            scourTag.putInt("z", pos.getZ());
-            scourTag.putString("level", entry.getValue().name());
-            scourList.add(scourTag);
-        }
-        tag.put("scouringEvidence", scourList);
+        int[] scourPos = new int[scouringEvidence.size()];
+        byte[] scourLevel = new byte[scourPos.length];
+        int n = 0;
+        for (Int2ByteMap.Entry entry : scouringEvidence.int2ByteEntrySet()) {
+            scourPos[n] = entry.getIntKey();
+            scourLevel[n] = entry.getByteValue();
+            n++;
+        }
+        tag.putIntArray("scouringPos", scourPos);
+        tag.putByteArray("scouringLevel", scourLevel);
         
         return tag;
     }
@@ -355,48 +628,44 @@ public float getAverageTornadoWindspeed() {
         data.determinedEFRating = tag.getInt("efRating");
         data.maxWindspeedFound = tag.getFloat("maxWindspeed");
         
-        // Load damage records
-        if (tag.contains("damageRecords", Tag.TAG_LIST)) {
-            ListTag damageList = tag.getList("damageRecords", Tag.TAG_COMPOUND);
-            for (int i = 0; i < damageList.size(); i++) {
-                CompoundTag damageTag = damageList.getCompound(i);
-                // Simplified loading - could be enhanced to restore full BlockStates
-            }
+        // Saved palette indices are remapped onto this instance's palette (ids differ between runs)
+        ListTag paletteList = tag.getList("palette", Tag.TAG_COMPOUND);
+        short[] remap = new short[paletteList.size()];
+        for (int i = 0; i < remap.length; i++) {
+            remap[i] = data.paletteId(NbtUtils.readBlockState(BuiltInRegistries.BLOCK.asLookup(), paletteList.getCompound(i)));
+        }
+        
+        int[] positions = tag.getIntArray("damagePos");
+        int[] original = tag.getIntArray("damageOriginal");
+        int[] resulting = tag.getIntArray("damageResulting");
+        int[] strength = tag.getIntArray("damageStrength");
+        long[] time = tag.getLongArray("damageTime");
+        int[] windspeed = tag.getIntArray("damageWindspeed");
+        int records = Math.min(Math.min(positions.length, original.length), Math.min(Math.min(resulting.length, strength.length),
+            Math.min(time.length, windspeed.length)));
+        for (int i = 0; i < records; i++) {
+            data.putDamage(positions[i], remapState(remap, original[i]), remapState(remap, resulting[i]),
+                Float.intBitsToFloat(strength[i]), time[i], (short) windspeed[i]);
         }
         
         // ADDED: Load debarking evidence
-        if (tag.contains("debarkedLogs", Tag.TAG_LIST)) {
-            ListTag debarkList = tag.getList("debarkedLogs", Tag.TAG_COMPOUND);
-            for (int i = 0; i < debarkList.size(); i++) {
-                CompoundTag debarkTag = debarkList.getCompound(i);
-                BlockPos pos = new BlockPos(
-                    debarkTag.getInt("x"),
-                    debarkTag.getInt("y"),
-                    debarkTag.getInt("z")
-                );
-                data.debarkedLogs.add(pos);
-            }
+        for (int packed : tag.getIntArray("debarkedLogs")) {
+            data.addDebarkingEvidence(packed);
         }
         
         // ADDED: Load scouring evidence
-        if (tag.contains("scouringEvidence", Tag.TAG_LIST)) {
-            ListTag scourList = tag.getList("scouringEvidence", Tag.TAG_COMPOUND);
-            for (int i = 0; i < scourList.size(); i++) {
-                CompoundTag scourTag = scourList.getCompound(i);
-                BlockPos pos = new BlockPos(
-                    scourTag.getInt("x"),
-                    scourTag.getInt("y"),
-                    scourTag.getInt("z")
-                );
-                try {
-                    ScouringLevel level = ScouringLevel.valueOf(scourTag.getString("level"));
-                    data.scouringEvidence.put(pos, level);
-                } catch (IllegalArgumentException e) {
-                    // Skip invalid scouring levels
-                }
+        int[] scourPos = tag.getIntArray("scouringPos");
+        byte[] scourLevel = tag.getByteArray("scouringLevel");
+        for (int i = 0; i < Math.min(scourPos.length, scourLevel.length); i++) {
+            if (scourLevel[i] >= 0 && scourLevel[i] < SCOURING_LEVELS.length) {
+                data.addScouringEvidence(scourPos[i], SCOURING_LEVELS[scourLevel[i]]);
             }
         }
         
         return data;
     }
-}
\ No newline at end of file
+    
+    private static short remapState(short[] remap, int saved) {
+        return saved >= 0 && saved < remap.length ? remap[saved] : NO_STATE;
+    }
+}
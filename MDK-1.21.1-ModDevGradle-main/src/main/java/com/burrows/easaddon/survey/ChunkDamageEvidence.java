@@ -0,0 +1,72 @@
+package com.burrows.easaddon.survey;
+
+import com.burrows.easaddon.EASAddon;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.neoforged.neoforge.common.util.INBTSerializable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Damage evidence stored on a LevelChunk as a data attachment: one {@link ChunkDamageData} per
+ * tornado that damaged the chunk. Saved and loaded with the chunk itself, so evidence survives
+ * restarts without a separate file and is only read back when the chunk loads.
+ */
+public class ChunkDamageEvidence implements INBTSerializable<ListTag> {
+    private final Map<Long, ChunkDamageData> byTornado = new ConcurrentHashMap<>();
+
+    public ChunkDamageData get(long tornadoId) {
+        return byTornado.get(tornadoId);
+    }
+
+    public void put(long tornadoId, ChunkDamageData data) {
+        byTornado.put(tornadoId, data);
+    }
+
+    public void remove(long tornadoId) {
+        byTornado.remove(tornadoId);
+    }
+
+    public boolean isEmpty() {
+        return byTornado.isEmpty();
+    }
+
+    /**
+     * Read-only view of tornado id -> evidence
+     */
+    public Map<Long, ChunkDamageData> getAll() {
+        return Collections.unmodifiableMap(byTornado);
+    }
+
+    @Override
+    public ListTag serializeNBT(HolderLookup.Provider provider) {
+        ListTag list = new ListTag();
+        for (Map.Entry<Long, ChunkDamageData> entry : byTornado.entrySet()) {
+            // Nothing worth keeping if a survey never found anything here
+            if (!entry.getValue().hasDamage() && !entry.getValue().isSurveyed()) continue;
+
+            CompoundTag tag = new CompoundTag();
+            tag.putLong("tornadoId", entry.getKey());
+            tag.put("data", entry.getValue().toNBT());
+            list.add(tag);
+        }
+        return list;
+    }
+
+    @Override
+    public void deserializeNBT(HolderLookup.Provider provider, ListTag list) {
+        byTornado.clear();
+        for (int i = 0; i < list.size(); i++) {
+            CompoundTag tag = list.getCompound(i);
+            try {
+                byTornado.put(tag.getLong("tornadoId"), ChunkDamageData.fromNBT(tag.getCompound("data")));
+            } catch (Exception e) {
+                EASAddon.LOGGER.error("Skipping unreadable damage evidence for tornado {}: {}",
+                    tag.getLong("tornadoId"), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.burrows.easaddon.survey;
+
+import com.burrows.easaddon.EASAddon;
+import com.burrows.easaddon.RegistryHandler;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.loading.FMLEnvironment;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.neoforged.neoforge.server.ServerLifecycleHooks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps damage evidence on the server's chunks as a {@link ChunkDamageEvidence} attachment.
+ *
+ * The survey code records evidence on the client thread; attaches and dirty marks are queued here
+ * and applied on the server thread at the end of the level tick, so chunk saves always see the
+ * latest data. When a chunk with evidence loads again, the evidence is queued for
+ * {@link DamageSurveyManager} to adopt instead of re-analyzing the chunk.
+ *
+ * Only does anything when this JVM runs the server (singleplayer/LAN host); a remote client has
+ * no chunks of its own to save into.
+ */
+public class ChunkEvidenceStore {
+    private static ChunkEvidenceStore instance;
+
+    // Restored entries waiting for the client per dimension; oldest are dropped past this
+    private static final int MAX_RESTORED = 4096;
+
+    private record ChunkRef(ResourceKey<Level> dimension, long chunkKey) {}
+
+    private record PendingAttach(ChunkRef chunk, long tornadoId, ChunkDamageData data) {}
+
+    /**
+     * Evidence read back from a chunk that just loaded
+     */
+    public record Restored(ResourceKey<Level> dimension, ChunkPos chunkPos, Map<Long, ChunkDamageData> evidence) {}
+
+    private static final class RestoredQueue {
+        final ConcurrentLinkedQueue<Restored> entries = new ConcurrentLinkedQueue<>();
+        final AtomicInteger size = new AtomicInteger();
+
+        Restored poll() {
+            Restored next = entries.poll();
+            if (next != null) {
+                size.decrementAndGet();
+            }
+            return next;
+        }
+    }
+
+    private final ConcurrentLinkedQueue<PendingAttach> pendingAttach = new ConcurrentLinkedQueue<>();
+    // Attaches whose chunk wasn't loaded on the server yet; applied on ChunkEvent.Load
+    private final Map<ChunkRef, List<PendingAttach>> waitingForLoad = new ConcurrentHashMap<>();
+    private final Set<ChunkRef> dirty = ConcurrentHashMap.newKeySet();
+
+    // Per dimension, so the client only takes its own level's entries and the others stay queued
+    private final Map<ResourceKey<Level>, RestoredQueue> restored = new ConcurrentHashMap<>();
+    private final AtomicInteger droppedRestored = new AtomicInteger();
+
+    private ChunkEvidenceStore() {}
+
+    public static ChunkEvidenceStore getInstance() {
+        if (instance == null) {
+            instance = new ChunkEvidenceStore();
+        }
+        return instance;
+    }
+
+    /**
+     * Store this tornado's evidence object on the chunk. The object is kept by reference, so later
+     * changes only need {@link #markDirty}.
+     */
+    public void attach(ResourceKey<Level> dimension, ChunkPos chunkPos, long tornadoId, ChunkDamageData data) {
+        if (ServerLifecycleHooks.getCurrentServer() == null) return;
+        pendingAttach.add(new PendingAttach(new ChunkRef(dimension, chunkPos.toLong()), tornadoId, data));
+    }
+
+    /**
+     * Evidence on this chunk changed; have the server save the chunk again
+     */
+    public void markDirty(ResourceKey<Level> dimension, ChunkPos chunkPos) {
+        if (ServerLifecycleHooks.getCurrentServer() == null) return;
+        dirty.add(new ChunkRef(dimension, chunkPos.toLong()));
+    }
+
+    /**
+     * Next batch of evidence restored from disk in this dimension, or null if there is none
+     */
+    public Restored pollRestored(ResourceKey<Level> dimension) {
+        RestoredQueue queue = restored.get(dimension);
+        return queue != null ? queue.poll() : null;
+    }
+
+    @SubscribeEvent
+    public void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) return;
+        if (pendingAttach.isEmpty() && dirty.isEmpty()) return;
+
+        ResourceKey<Level> dimension = level.dimension();
+
+        // Attaches for other dimensions go back on the queue for their own level's tick
+        List<PendingAttach> otherDimensions = null;
+        PendingAttach attach;
+        while ((attach = pendingAttach.poll()) != null) {
+            if (attach.chunk().dimension() != dimension) {
+                if (otherDimensions == null) otherDimensions = new ArrayList<>();
+                otherDimensions.add(attach);
+                continue;
+            }
+            LevelChunk chunk = getLoadedChunk(level, attach.chunk().chunkKey());
+            if (chunk != null) {
+                apply(chunk, attach);
+            } else {
+                waitingForLoad.computeIfAbsent(attach.chunk(), k -> new ArrayList<>()).add(attach);
+            }
+        }
+        if (otherDimensions != null) {
+            pendingAttach.addAll(otherDimensions);
+        }
+
+        for (ChunkRef ref : dirty) {
+            if (ref.dimension() != dimension) continue;
+            // Remove before marking so a change made meanwhile re-marks the chunk for the next tick
+            dirty.remove(ref);
+            LevelChunk chunk = getLoadedChunk(level, ref.chunkKey());
+            if (chunk != null) {
+                chunk.setUnsaved(true);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onChunkLoad(ChunkEvent.Load event) {
+        if (!(event.getLevel() instanceof ServerLevel level) || !(event.getChunk() instanceof LevelChunk chunk)) return;
+
+        ChunkRef ref = new ChunkRef(level.dimension(), chunk.getPos().toLong());
+        List<PendingAttach> waiting = waitingForLoad.remove(ref);
+        if (waiting != null) {
+            for (PendingAttach attach : waiting) {
+                apply(chunk, attach);
+            }
+        }
+
+        // Only an integrated server has a client in this JVM to hand the evidence to
+        if (!FMLEnvironment.dist.isClient() || !chunk.hasData(RegistryHandler.CHUNK_DAMAGE_EVIDENCE)) return;
+
+        ChunkDamageEvidence evidence = chunk.getData(RegistryHandler.CHUNK_DAMAGE_EVIDENCE);
+        if (evidence.isEmpty()) return;
+
+        RestoredQueue queue = restored.computeIfAbsent(level.dimension(), k -> new RestoredQueue());
+        queue.entries.add(new Restored(level.dimension(), chunk.getPos(), Map.copyOf(evidence.getAll())));
+        if (queue.size.incrementAndGet() > MAX_RESTORED) {
+            Restored dropped = queue.poll();
+            if (dropped != null) {
+                logDropped(dropped);
+            }
+        }
+        EASAddon.LOGGER.debug("Restored damage evidence for {} tornadoes in chunk {}", evidence.getAll().size(), chunk.getPos());
+    }
+
+    @SubscribeEvent
+    public void onServerStopped(ServerStoppedEvent event) {
+        pendingAttach.clear();
+        waitingForLoad.clear();
+        dirty.clear();
+        restored.clear();
+        droppedRestored.set(0);
+    }
+
+    // The evidence stays on the chunk; it is only adopted once the chunk loads again
+    private void logDropped(Restored dropped) {
+        if (droppedRestored.incrementAndGet() == 1) {
+            EASAddon.LOGGER.warn("Over {} chunks of restored damage evidence waiting in {}, dropping the oldest until the client catches up",
+                MAX_RESTORED, dropped.dimension().location());
+        }
+        EASAddon.LOGGER.debug("Dropped restored damage evidence for chunk {} in {}", dropped.chunkPos(), dropped.dimension().location());
+    }
+
+    private static LevelChunk getLoadedChunk(ServerLevel level, long chunkKey) {
+        return level.getChunkSource().getChunkNow(ChunkPos.getX(chunkKey), ChunkPos.getZ(chunkKey));
+    }
+
+    private static void apply(LevelChunk chunk, PendingAttach attach) {
+        try {
+            chunk.getData(RegistryHandler.CHUNK_DAMAGE_EVIDENCE).put(attach.tornadoId(), attach.data());
+            chunk.setUnsaved(true);
+        } catch (Exception e) {
+            EASAddon.LOGGER.error("Failed to attach damage evidence to chunk {}: {}", chunk.getPos(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.burrows.easaddon.survey;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.api.distmarker.OnlyIn;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Read-only copy of the part of a chunk the damage analyzer looks at: the block palettes of the
+ * sections from some depth below the lowest surface up to the highest, and the WORLD_SURFACE
+ * heightmap.
+ *
+ * Taken on the client thread, then safe to read from any thread. Blocks outside the copied
+ * sections read as air. Like LevelChunk, x and z wrap into the chunk.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class ChunkSnapshot {
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+    private final ChunkPos pos;
+    private final int minSection;
+    // null for sections that are all air or weren't copied
+    private final PalettedContainer<BlockState>[] sections;
+    // First free y above the surface per column, indexed z * 16 + x
+    private final int[] surface;
+    private final int minSurfaceY;
+    private final int maxSurfaceY;
+
+    private ChunkSnapshot(ChunkPos pos, int minSection, PalettedContainer<BlockState>[] sections, int[] surface,
+                          int minSurfaceY, int maxSurfaceY) {
+        this.pos = pos;
+        this.minSection = minSection;
+        this.sections = sections;
+        this.surface = surface;
+        this.minSurfaceY = minSurfaceY;
+        this.maxSurfaceY = maxSurfaceY;
+    }
+
+    /**
+     * Copy the sections from depthBelowSurface under the lowest column's surface to one block
+     * above the highest. Client thread only.
+     */
+    @SuppressWarnings("unchecked")
+    public static ChunkSnapshot capture(LevelChunk chunk, int depthBelowSurface) {
+        int[] surface = new int[256];
+        int lowest = Integer.MAX_VALUE;
+        int highest = Integer.MIN_VALUE;
+        for (int z = 0; z < 16; z++) {
+            for (int x = 0; x < 16; x++) {
+                // Same as Level.getHeightmapPos
+                int y = chunk.getHeight(Heightmap.Types.WORLD_SURFACE, x, z) + 1;
+                surface[z << 4 | x] = y;
+                lowest = Math.min(lowest, y);
+                highest = Math.max(highest, y);
+            }
+        }
+
+        int fromSection = Math.max(chunk.getMinSection(), SectionPos.blockToSectionCoord(lowest - Math.max(1, depthBelowSurface)));
+        int toSection = Math.min(chunk.getMaxSection() - 1, SectionPos.blockToSectionCoord(highest + 1));
+
+        PalettedContainer<BlockState>[] sections = new PalettedContainer[Math.max(0, toSection - fromSection + 1)];
+        LevelChunkSection[] levelSections = chunk.getSections();
+        for (int sectionY = fromSection; sectionY <= toSection; sectionY++) {
+            LevelChunkSection section = levelSections[chunk.getSectionIndexFromSectionY(sectionY)];
+            if (!section.hasOnlyAir()) {
+                sections[sectionY - fromSection] = section.getStates().copy();
+            }
+        }
+
+        return new ChunkSnapshot(chunk.getPos(), fromSection, sections, surface, lowest, highest);
+    }
+
+    public ChunkPos getPos() {
+        return pos;
+    }
+
+    public BlockState getBlockState(int x, int y, int z) {
+        int index = SectionPos.blockToSectionCoord(y) - minSection;
+        if (index < 0 || index >= sections.length) return AIR;
+        PalettedContainer<BlockState> section = sections[index];
+        return section != null ? section.get(x & 15, y & 15, z & 15) : AIR;
+    }
+
+    public BlockState getBlockState(BlockPos pos) {
+        return getBlockState(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Lowest and highest WORLD_SURFACE height (first free y) over the chunk's columns
+     */
+    public int getMinSurfaceY() {
+        return minSurfaceY;
+    }
+
+    public int getMaxSurfaceY() {
+        return maxSurfaceY;
+    }
+
+    /**
+     * Visit the blocks matching target in every xzStep-th column, at y values that are multiples
+     * of yStep from minY up to the column's surface. Sections whose palette can't hold a matching
+     * state are skipped without reading a block.
+     */
+    public void forEachMatch(Predicate<BlockState> target, int xzStep, int yStep, int minY, Consumer<BlockPos> visitor) {
+        int fromIndex = Math.max(0, SectionPos.blockToSectionCoord(minY) - minSection);
+        // Nothing but air at or above a column's surface
+        int toIndex = Math.min(sections.length - 1, SectionPos.blockToSectionCoord(maxSurfaceY - 1) - minSection);
+
+        for (int index = fromIndex; index <= toIndex; index++) {
+            PalettedContainer<BlockState> section = sections[index];
+            if (section == null || !section.maybeHas(target)) continue;
+
+            int sectionMinY = SectionPos.sectionToBlockCoord(minSection + index);
+            int startY = Math.max(minY, sectionMinY);
+            startY += Math.floorMod(-startY, yStep);
+            int sectionMaxY = sectionMinY + 15;
+
+            for (int x = 0; x < 16; x += xzStep) {
+                for (int z = 0; z < 16; z += xzStep) {
+                    int topY = Math.min(sectionMaxY, surface[z << 4 | x] - 1);
+                    for (int y = startY; y <= topY; y += yStep) {
+                        if (target.test(section.get(x, y & 15, z))) {
+                            visitor.accept(new BlockPos(pos.getMinBlockX() + x, y, pos.getMinBlockZ() + z));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * WORLD_SURFACE heightmap position of a column, as Level.getHeightmapPos returns it
+     */
+    public BlockPos getSurfacePos(int localX, int localZ) {
+        return new BlockPos(pos.getMinBlockX() + localX, surface[localZ << 4 | localX], pos.getMinBlockZ() + localZ);
+    }
+}
@@ -0,0 +1,207 @@
+package com.burrows.easaddon.survey;
+
+import com.burrows.easaddon.EASAddon;
+import com.burrows.easaddon.compat.PMWeatherBridge;
+import com.burrows.easaddon.compat.StormAccess;
+import com.burrows.easaddon.compat.StormSnapshot;
+import com.burrows.easaddon.compat.StormSnapshotService;
+import com.burrows.easaddon.tornado.TornadoData;
+import com.burrows.easaddon.tornado.TornadoTracker;
+import com.burrows.easaddon.tornado.WindFieldModel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.api.distmarker.OnlyIn;
+import net.neoforged.neoforge.common.Tags;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Turns server block updates into debarking and scouring evidence as they arrive.
+ *
+ * Every block the server changes for the client (single block and section update packets) is
+ * passed in by the ClientLevel mixin before the new state is applied. Changes matching one of the
+ * transitions below are attributed to the nearest active tornado in the current storm snapshot,
+ * provided its wind at the block is strong enough for that transition. This replaces sampling
+ * chunks every few seconds and guessing from the surroundings whether dirt used to be grass.
+ *
+ * Not used while exact capture from an integrated server is active, which already records these.
+ * Until this has matched a transition in a level, PMWeatherDamageHook's frontier scan does the full
+ * job there instead.
+ */
+@OnlyIn(Dist.CLIENT)
+public class ClientBlockChangeDetector {
+    private static ClientBlockChangeDetector instance;
+
+    /**
+     * One evidence-producing block change: from a state matching from to a state matching to.
+     * scouring is null for debarking.
+     */
+    private record Transition(Predicate<BlockState> from, Predicate<BlockState> to,
+                              @Nullable ChunkDamageData.ScouringLevel scouring, double minimumWind) {
+    }
+
+    // PMWeather's debarking threshold
+    private static final double DEBARKING_WIND = 140.0;
+
+    private static final Predicate<BlockState> BARKED_LOG = state -> state.is(BlockTags.LOGS) && !state.is(Tags.Blocks.STRIPPED_LOGS);
+    private static final Predicate<BlockState> GRASS = state -> state.is(Blocks.GRASS_BLOCK);
+    private static final Predicate<BlockState> DIRT = state -> state.is(Blocks.DIRT);
+    private static final Predicate<BlockState> MEDIUM_SCOUR = state -> isScourBlock(state, false);
+    private static final Predicate<BlockState> HEAVY_SCOUR = state -> isScourBlock(state, true);
+
+    // A fast storm can skip a scouring stage between two updates, so earlier stages count as "from" too
+    private static final List<Transition> TRANSITIONS = List.of(
+        new Transition(BARKED_LOG, SectionPaletteFilter.STRIPPED_LOGS, null, DEBARKING_WIND),
+        new Transition(GRASS, DIRT, ChunkDamageData.ScouringLevel.GRASS_TO_DIRT,
+            ChunkDamageData.ScouringLevel.GRASS_TO_DIRT.minimumWindspeed),
+        new Transition(GRASS.or(DIRT), MEDIUM_SCOUR, ChunkDamageData.ScouringLevel.DIRT_TO_MEDIUM,
+            ChunkDamageData.ScouringLevel.DIRT_TO_MEDIUM.minimumWindspeed),
+        new Transition(GRASS.or(DIRT).or(MEDIUM_SCOUR), HEAVY_SCOUR, ChunkDamageData.ScouringLevel.MEDIUM_TO_HEAVY,
+            ChunkDamageData.ScouringLevel.MEDIUM_TO_HEAVY.minimumWindspeed)
+    );
+
+    // Level a transition was last matched in. Any block update would prove the mixin applied, but
+    // only a matched pair proves it delivers the old and new states the frontier scan looks for.
+    private Level receivingLevel;
+
+    // Storm snapshot for the current tick, so a burst of block packets shares one lookup
+    private Level snapshotLevel;
+    private long snapshotGameTime = Long.MIN_VALUE;
+    private StormSnapshot snapshot = StormSnapshot.EMPTY;
+
+    private ClientBlockChangeDetector() {}
+
+    public static ClientBlockChangeDetector getInstance() {
+        if (instance == null) {
+            instance = new ClientBlockChangeDetector();
+        }
+        return instance;
+    }
+
+    /**
+     * True once an evidence transition has come through the hook for this level
+     */
+    public boolean isReceivingUpdates(Level level) {
+        return receivingLevel == level;
+    }
+
+    /**
+     * Called on the client thread for each block state the server sends, before it is applied,
+     * so the level still holds the old state
+     */
+    public void onServerBlockChange(Level level, BlockPos pos, BlockState current) {
+        if (!EASAddon.isPMWeatherAvailable() || !couldBeEvidence(current)) return;
+
+        BlockState previous = level.getBlockState(pos);
+        if (previous == current) return;
+
+        Transition transition = match(previous, current);
+        if (transition == null) return;
+        receivingLevel = level;
+
+        try {
+            if (DamageSurveyManager.getInstance().isExactDamageCaptureActive()) return;
+
+            StormSnapshot storms = currentSnapshot(level);
+            int storm = nearestTornadoInRange(storms, pos);
+            if (storm < 0) return;
+
+            long stormId = storms.id[storm];
+            int windfieldWidth = Math.max((int) storms.width[storm], 40);
+            double wind = WindFieldModel.windAtBlock(pos, storms.position(storm), windfieldWidth, storms.windspeed[storm]);
+            if (wind < transition.minimumWind()) {
+                EASAddon.LOGGER.debug("Block change at {} not attributed to storm {} - wind {}mph below {}mph",
+                    pos, stormId, Math.round(wind), Math.round(transition.minimumWind()));
+                return;
+            }
+
+            BlockPos blockPos = pos.immutable();
+            ChunkPos chunk = new ChunkPos(blockPos);
+            DamageSurveyManager manager = DamageSurveyManager.getInstance();
+            if (transition.scouring() == null) {
+                manager.addDebarkingEvidence(stormId, chunk, blockPos);
+            } else {
+                manager.addScouringEvidence(stormId, chunk, blockPos, transition.scouring());
+            }
+
+            TornadoData tornadoData = TornadoTracker.getInstance().getTornadoData(stormId);
+            if (tornadoData != null) {
+                tornadoData.addDamagedChunk(chunk);
+            }
+
+            EASAddon.LOGGER.debug("{} at {} attributed to storm {} (wind: {}mph)",
+                transition.scouring() != null ? transition.scouring().name() : "DEBARKING",
+                blockPos, stormId, Math.round(wind));
+
+        } catch (Exception e) {
+            EASAddon.LOGGER.debug("Error attributing block change at {}: {}", pos, e.getMessage());
+        }
+    }
+
+    /**
+     * Cheap first check on the new state alone, before the old state is read
+     */
+    private static boolean couldBeEvidence(BlockState current) {
+        for (Transition transition : TRANSITIONS) {
+            if (transition.to().test(current)) return true;
+        }
+        return false;
+    }
+
+    private StormSnapshot currentSnapshot(Level level) {
+        long gameTime = level.getGameTime();
+        if (level != snapshotLevel || gameTime != snapshotGameTime) {
+            snapshot = StormSnapshotService.getInstance().getSnapshot(level);
+            snapshotLevel = level;
+            snapshotGameTime = gameTime;
+        }
+        return snapshot;
+    }
+
+    @Nullable
+    private static Transition match(BlockState previous, BlockState current) {
+        for (Transition transition : TRANSITIONS) {
+            if (transition.to().test(current) && transition.from().test(previous)) {
+                return transition;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Index of the closest active tornado whose damage range (twice the windfield width) reaches pos, or -1
+     */
+    private static int nearestTornadoInRange(StormSnapshot storms, BlockPos pos) {
+        double px = pos.getX() + 0.5;
+        double pz = pos.getZ() + 0.5;
+        int nearest = -1;
+        double nearestDistanceSqr = Double.MAX_VALUE;
+
+        for (int i = 0; i < storms.size; i++) {
+            if (!storms.isTornado(i)) continue;
+
+            double range = Math.max((int) storms.width[i], 40) * 2.0;
+            double distanceSqr = storms.horizontalDistanceSqr(i, px, pz);
+            if (distanceSqr <= range * range && distanceSqr < nearestDistanceSqr) {
+                nearest = i;
+                nearestDistanceSqr = distanceSqr;
+            }
+        }
+        return nearest;
+    }
+
+    private static boolean isScourBlock(BlockState state, boolean heavy) {
+        StormAccess pm = PMWeatherBridge.get();
+        if (pm == null) return false;
+        Block block = heavy ? pm.getHeavyScouringBlock() : pm.getMediumScouringBlock();
+        return block != null && state.is(block);
+    }
+}
@@ -1,8 +1,14 @@
 package com.burrows.easaddon.survey;
 
 import com.burrows.easaddon.EASAddon;
+import com.burrows.easaddon.compat.PMWeatherBridge;
+import com.burrows.easaddon.compat.StormAccess;
+import com.burrows.easaddon.compat.StormSnapshot;
+import com.burrows.easaddon.compat.StormSnapshotService;
 import net.minecraft.world.level.levelgen.Heightmap;
+import com.burrows.easaddon.tornado.BlockStrengthTable;
 import com.burrows.easaddon.tornado.TornadoData;
+import com.burrows.easaddon.tornado.WindFieldModel;
 import com.burrows.easaddon.tornado.TornadoTracker;
 
 import net.minecraft.client.Minecraft;
@@ -10,6 +16,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
+import net.minecraft.tags.BlockTags;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.ChunkPos;
@@ -20,6 +27,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.Vec3;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.api.distmarker.OnlyIn;
+import net.neoforged.neoforge.common.Tags;
 import net.neoforged.neoforge.network.PacketDistributor;
 import net.minecraft.world.level.chunk.LevelChunk;
 import java.util.concurrent.CompletableFuture;
@@ -28,7 +36,6 @@ import net.minecraft.world.level.chunk.LevelChunk;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
-import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -46,12 +53,15 @@ public class DamageSurveyManager {
     private final Map<Long, Map<ChunkPos, ChunkDamageData>> tornadoDamageData = new ConcurrentHashMap<>();
     private final Map<Long, String> activeSurveyIds = new HashMap<>();
     private final Set<ChunkPos> forceLoadedChunks = new HashSet<>();
+    // ADDED: Surveys whose chunks are still being analyzed, tornado ID -> player name. Client thread only.
+    private final Map<Long, String> pendingValidations = new HashMap<>();
     private static final int CHUNK_LOAD_TIMEOUT_MS = 3000;
     
-    // ADDED: Reflection for custom block strengths
-    private Class<?> serverConfigClass;
-    private Field blockStrengthsField;
-    private boolean reflectionInitialized = false;
+    // ADDED: Exact damage captured from Storm.tick, drained each client tick
+    private static final int MAX_CAPTURE_BATCHES = 4;
+    private final TornadoDamageEventBuffer.Batch captureBatch = new TornadoDamageEventBuffer.Batch(1024);
+    // Captured changes dropped because their storm wasn't in the client's snapshot, since startup
+    private long capturedChangesSkipped = 0;
     
     public static class SurveySession {
         public final long tornadoId;
@@ -86,7 +96,6 @@ public class DamageSurveyManager {
     }
     
     private DamageSurveyManager() {
-        initializeReflection();
     }
     
     public static DamageSurveyManager getInstance() {
@@ -96,26 +105,6 @@ public class DamageSurveyManager {
         return instance;
     }
     
-    // ADDED: Initialize reflection for custom block strengths
-    private void initializeReflection() {
-        if (!EASAddon.isPMWeatherAvailable()) {
-            return;
-        }
-        
-        try {
-            serverConfigClass = Class.forName("dev.protomanly.pmweather.config.ServerConfig");
-            blockStrengthsField = serverConfigClass.getDeclaredField("blockStrengths");
-            blockStrengthsField.setAccessible(true);
-            
-            reflectionInitialized = true;
-            EASAddon.LOGGER.info("DamageSurveyManager initialized with custom block strength support");
-            
-        } catch (Exception e) {
-            EASAddon.LOGGER.error("Failed to initialize DamageSurveyManager reflection for custom block strengths", e);
-            reflectionInitialized = false;
-        }
-    }
-    
     /**
      * NEW: Check if a survey would result in a rating downgrade
      */
@@ -194,6 +183,10 @@ public boolean startSurvey(TornadoData tornadoData, Player player) {
         player.sendSystemMessage((Component)Component.literal((String)("\u00a7cTornado is already being surveyed by " + existing.playerName)));
         return false;
     }
+    if (this.pendingValidations.containsKey(tornadoId) || this.pendingValidations.containsValue(playerName)) {
+        player.sendSystemMessage((Component)Component.literal((String)"\u00a7cStill analyzing damage evidence for your last survey request, please wait"));
+        return false;
+    }
     Set<ChunkPos> damagedChunks = tornadoData.getDamagedChunks();
     if (damagedChunks.isEmpty()) {
         player.sendSystemMessage((Component)Component.literal((String)"\u00a7cNo damaged chunks found for this tornado"));
@@ -201,12 +194,41 @@ public boolean startSurvey(TornadoData tornadoData, Player player) {
         player.sendSystemMessage((Component)Component.literal((String)"\u00a77or it was too weak to destroy blocks."));
         return false;
     }
-    List<ChunkPos> validChunks = this.filterChunksWithActualDamageEvidence(tornadoId, damagedChunks, player);
+    
+    // CHANGED: Chunk analysis runs on worker threads; the survey starts when it comes back
+    Level level = player.level();
+    this.pendingValidations.put(tornadoId, playerName);
+    player.sendSystemMessage((Component)Component.literal((String)("\u00a77Analyzing " + damagedChunks.size() + " damaged chunks for evidence...")));
+    this.filterChunksWithActualDamageEvidence(tornadoId, damagedChunks, player)
+        .whenCompleteAsync((validChunks, error) -> {
+            this.pendingValidations.remove(tornadoId);
+            if (Minecraft.getInstance().level != level) return; // Left the world while analyzing
+            if (error != null) {
+                EASAddon.LOGGER.error("Survey: Damage evidence analysis failed for tornado {}: {}", tornadoId, error.getMessage());
+                player.sendSystemMessage((Component)Component.literal((String)"\u00a7cDamage evidence analysis failed, see log"));
+                return;
+            }
+            this.beginValidatedSurvey(tornadoId, validChunks, player);
+        }, Minecraft.getInstance());
+    return true;
+}
+
+/**
+ * Second half of startSurvey, on the client thread once the damaged chunks have been analyzed
+ */
+private void beginValidatedSurvey(long tornadoId, List<ChunkPos> validChunks, Player player) {
+    String playerName = player.getName().getString();
+    ClientSurveyManager clientSurveyManager = ClientSurveyManager.getInstance();
+    // Someone may have started on it while the analysis ran
+    if (clientSurveyManager.isTornadoBeingSurveyed(tornadoId) || this.activeSurveys.containsKey(tornadoId)) {
+        player.sendSystemMessage((Component)Component.literal((String)"\u00a7cTornado is already being surveyed"));
+        return;
+    }
     if (validChunks.isEmpty()) {
         player.sendSystemMessage((Component)Component.literal((String)"\u00a7cNo surveyable damage evidence found for this tornado"));
         player.sendSystemMessage((Component)Component.literal((String)"\u00a77The tornado damaged chunks but no survey data was captured."));
         player.sendSystemMessage((Component)Component.literal((String)"\u00a77This may indicate the damage occurred before the mod was active."));
-        return false;
+        return;
     }
     Vec3 playerPos = player.position();
     validChunks.sort((a, b) -> {
@@ -217,7 +239,7 @@ public boolean startSurvey(TornadoData tornadoData, Player player) {
     boolean networkStartSuccess = clientSurveyManager.startSurvey(tornadoId, validChunks, player);
     if (!networkStartSuccess) {
         player.sendSystemMessage((Component)Component.literal((String)"\u00a7cFailed to start networked survey"));
-        return false;
+        return;
     }
     SurveySession session = new SurveySession(tornadoId, playerName, validChunks);
     this.activeSurveys.put(tornadoId, session);
@@ -234,178 +256,116 @@ public boolean startSurvey(TornadoData tornadoData, Player player) {
     player.sendSystemMessage((Component)Component.literal((String)"\u00a77\u2022 Use /survey quit to stop early"));
     this.guideToNextChunk(player, session);
     EASAddon.LOGGER.info("Started survey for tornado {} with {} chunks containing REAL damage (required: {})", new Object[]{tornadoId, validChunks.size(), session.requiredSurveys});
-    return true;
 }
 
     /**
      * SIMPLIFIED: Filter chunks to only include those with actual damage evidence
      * Much simpler now since tornadoData.getDamagedChunks() should only contain real damage
+     * CHANGED: Chunks without recorded evidence are snapshotted here and analyzed on the
+     * ChunkDamageAnalyzer pool; the future completes on the client thread after the merge.
      */
-    private List<ChunkPos> filterChunksWithActualDamageEvidence(long tornadoId, Set<ChunkPos> candidateChunks, Player player) {
-    List<ChunkPos> validChunks = new ArrayList<>();
-    Map<ChunkPos, ChunkDamageData> tornadoChunks = tornadoDamageData.get(tornadoId);
+    private CompletableFuture<List<ChunkPos>> filterChunksWithActualDamageEvidence(long tornadoId, Set<ChunkPos> candidateChunks, Player player) {
     Level level = player.level();
     
+    // ADDED: Pick up evidence saved with chunks before looking for anything to analyze
+    adoptRestoredEvidence(level);
+    Map<ChunkPos, ChunkDamageData> tornadoChunks = tornadoDamageData.get(tornadoId);
+    
     int totalCandidates = candidateChunks.size();
-    int chunksWithEvidence = 0;
-    int chunksForceLoaded = 0;
     
     EASAddon.LOGGER.info("Survey: Starting chunk damage evidence validation for {} candidate chunks", totalCandidates);
     
-    // STEP 1: Force load all candidate chunks to ensure damage calculations can run
-    Set<ChunkPos> chunksToLoad = new HashSet<>();
+    // STEP 1: Evidence recorded live or restored from the chunk's saved data needs no analysis
+    List<ChunkPos> recordedChunks = new ArrayList<>();
+    List<ChunkPos> chunksToAnalyze = new ArrayList<>();
     for (ChunkPos chunk : candidateChunks) {
-        if (!level.hasChunk(chunk.x, chunk.z)) {
-            chunksToLoad.add(chunk);
-        }
-    }
-    
-    if (!chunksToLoad.isEmpty()) {
-        EASAddon.LOGGER.info("Survey: Force loading {} unloaded chunks for damage analysis", chunksToLoad.size());
-        
-        // Force load chunks both client and server-side
-        forceLoadChunksForSurvey(chunksToLoad, level);
-        chunksForceLoaded = chunksToLoad.size();
-        
-        // Wait a moment for chunks to fully load and damage calculations to process
-        try {
-            Thread.sleep(500); // Give time for chunks to load and calculations to run
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            EASAddon.LOGGER.warn("Survey: Interrupted while waiting for chunk loading");
+        ChunkDamageData known = tornadoChunks != null ? tornadoChunks.get(chunk) : null;
+        if (known != null && known.hasDamage()) {
+            recordedChunks.add(chunk);
+            EASAddon.LOGGER.debug("Survey: Chunk ({}, {}) has {} real damage records, max intensity: {}", 
+                chunk.x, chunk.z, known.getDamageCount(), known.getMaxDamageIntensity());
+        } else {
+            chunksToAnalyze.add(chunk);
         }
     }
     
-    // STEP 2: Run damage recalculation for newly loaded chunks
-    recalculateDamageForLoadedChunks(tornadoId, chunksToLoad, level);
+    // REMOVED: Client "force loading" before analysis. A client level only holds what the server sent
+    // it; unloaded chunks have nothing to analyze, and the server leases survey chunks itself.
     
-    // STEP 3: Check for damage evidence (now that chunks are loaded)
-    if (tornadoChunks != null) {
-        for (ChunkPos chunk : candidateChunks) {
-            ChunkDamageData data = tornadoChunks.get(chunk);
+    // STEP 2: Analyze the rest off-thread, then merge what was found on the client thread
+    return ChunkDamageAnalyzer.getInstance().analyzeChunksAsync(chunksToAnalyze, level, tornadoId)
+        .thenApplyAsync(results -> {
+            List<ChunkPos> validChunks = new ArrayList<>(recordedChunks);
+            int chunksAnalyzedWithEvidence = 0;
             
-            if (data != null && data.hasDamage()) {
-                validChunks.add(chunk);
-                chunksWithEvidence++;
-                
-                EASAddon.LOGGER.debug("Survey: Chunk ({}, {}) has {} real damage records, max intensity: {}", 
-                    chunk.x, chunk.z, data.getDamageCount(), data.getMaxDamageIntensity());
-            } else {
-                // Try to analyze the chunk directly if no stored damage data
-                if (analyzeChunkForDamageEvidence(tornadoId, chunk, level)) {
-                    validChunks.add(chunk);
-                    chunksWithEvidence++;
-                    EASAddon.LOGGER.debug("Survey: Chunk ({}, {}) found damage evidence via direct analysis", 
-                        chunk.x, chunk.z);
+            if (Minecraft.getInstance().level == level) {
+                for (ChunkDamageAnalyzer.ChunkAnalysisResult result : results) {
+                    if (mergeAnalysisResult(tornadoId, result, level)) {
+                        validChunks.add(result.chunkPos);
+                        chunksAnalyzedWithEvidence++;
+                        EASAddon.LOGGER.debug("Survey: Chunk ({}, {}) found damage evidence via direct analysis", 
+                            result.chunkPos.x, result.chunkPos.z);
+                    }
                 }
             }
-        }
-    } else {
-        // No stored tornado data - perform direct analysis on all chunks
-        EASAddon.LOGGER.info("Survey: No stored tornado data found, performing direct chunk analysis");
-        for (ChunkPos chunk : candidateChunks) {
-            if (analyzeChunkForDamageEvidence(tornadoId, chunk, level)) {
-                validChunks.add(chunk);
-                chunksWithEvidence++;
-                EASAddon.LOGGER.debug("Survey: Chunk ({}, {}) found damage evidence via direct analysis", 
-                    chunk.x, chunk.z);
-            }
-        }
-    }
-    
-    // STEP 4: Log results and cleanup
-    EASAddon.LOGGER.info("Survey: Damage evidence validation complete:");
-    EASAddon.LOGGER.info("  Total candidates: {}", totalCandidates);
-    EASAddon.LOGGER.info("  Chunks force loaded: {}", chunksForceLoaded);
-    EASAddon.LOGGER.info("  Chunks with evidence: {}", chunksWithEvidence);
-    EASAddon.LOGGER.info("  Valid chunks found: {}", validChunks.size());
-    
-    // Clean up force loaded chunks after a delay (let survey process use them first)
-    scheduleChunkCleanup(chunksToLoad, level, 30000); // Clean up after 30 seconds
-    
-    return validChunks;
-}
-
-/**
- * Force load chunks for survey analysis on both client and server side
- */
-private void forceLoadChunksForSurvey(Set<ChunkPos> chunks, Level level) {
-    for (ChunkPos chunk : chunks) {
-        try {
-            if (level.isClientSide()) {
-                // CLIENT SIDE: Request chunk loading
-                EASAddon.LOGGER.debug("Survey: Force loading chunk ({}, {}) on client", chunk.x, chunk.z);
-                LevelChunk loadedChunk = level.getChunk(chunk.x, chunk.z);
-                if (loadedChunk != null) {
-                    forceLoadedChunks.add(chunk);
-                    EASAddon.LOGGER.debug("Survey: Successfully loaded chunk ({}, {}) on client", chunk.x, chunk.z);
-                }
-            } else {
-                // SERVER SIDE: Force load chunk
-                if (level instanceof ServerLevel serverLevel) {
-                    EASAddon.LOGGER.debug("Survey: Force loading chunk ({}, {}) on server", chunk.x, chunk.z);
-                    serverLevel.setChunkForced(chunk.x, chunk.z, true);
-                    forceLoadedChunks.add(chunk);
-                    EASAddon.LOGGER.debug("Survey: Successfully force loaded chunk ({}, {}) on server", chunk.x, chunk.z);
-                }
-            }
-        } catch (Exception e) {
-            EASAddon.LOGGER.error("Survey: Failed to force load chunk ({}, {}): {}", chunk.x, chunk.z, e.getMessage());
-        }
-    }
+            
+            // STEP 3: Log results
+            EASAddon.LOGGER.info("Survey: Damage evidence validation complete:");
+            EASAddon.LOGGER.info("  Total candidates: {}", totalCandidates);
+            EASAddon.LOGGER.info("  Chunks with recorded evidence: {}", recordedChunks.size());
+            EASAddon.LOGGER.info("  Chunks analyzed: {} ({} with evidence)", results.size(), chunksAnalyzedWithEvidence);
+            EASAddon.LOGGER.info("  Valid chunks found: {}", validChunks.size());
+            
+            return validChunks;
+        }, Minecraft.getInstance());
 }
 
 /**
- * Recalculate damage for newly loaded chunks by simulating tornado interaction
+ * ADDED: Record what the analyzer found in a chunk as survey evidence. Client thread only.
+ * Returns true if the chunk now has evidence for the tornado.
  */
-private void recalculateDamageForLoadedChunks(long tornadoId, Set<ChunkPos> loadedChunks, Level level) {
-    if (loadedChunks.isEmpty()) return;
-    
-    EASAddon.LOGGER.info("Survey: Recalculating damage for {} newly loaded chunks", loadedChunks.size());
-    
-    // Get tornado data to understand the tornado's path and intensity
-    TornadoData tornadoData = TornadoTracker.getInstance().getTornadoData(tornadoId);
-    if (tornadoData == null) {
-        EASAddon.LOGGER.warn("Survey: No tornado data found for ID {}, cannot recalculate damage", tornadoId);
-        return;
-    }
+private boolean mergeAnalysisResult(long tornadoId, ChunkDamageAnalyzer.ChunkAnalysisResult result, Level level) {
+    if (!result.hasAnyEvidence()) return false;
     
+    ChunkPos chunkPos = result.chunkPos;
     try {
-        // For each newly loaded chunk, scan for blocks that should have been damaged
-        for (ChunkPos chunkPos : loadedChunks) {
-            // OPTIMIZATION: Skip if we already have damage data for this chunk
-            if (hasDamageDataForChunk(tornadoId, chunkPos)) {
-                EASAddon.LOGGER.debug("Survey: Chunk ({}, {}) already has damage data, skipping recalculation", 
-                    chunkPos.x, chunkPos.z);
-                continue;
+        // Removed vegetation, debris, debarked logs and exposed structure each become a damage record
+        for (BlockPos pos : result.missingVegetation) {
+            recordRetroactiveDamage(tornadoId, chunkPos, pos, level);
+        }
+        for (BlockPos pos : result.fogwoodZoneEvidence) {
+            recordRetroactiveDamage(tornadoId, chunkPos, pos, level);
+        }
+        for (BlockPos pos : result.debarkingEvidence) {
+            recordRetroactiveDamage(tornadoId, chunkPos, pos, level);
+        }
+        for (BlockPos pos : result.structuralDamage) {
+            recordRetroactiveDamage(tornadoId, chunkPos, pos, level);
+        }
+        
+        if (!result.scouringEvidence.isEmpty()) {
+            ChunkDamageData chunkData = getOrCreateChunkData(tornadoId, chunkPos);
+            for (Map.Entry<BlockPos, ChunkDamageData.ScouringLevel> entry : result.scouringEvidence.entrySet()) {
+                chunkData.addScouringEvidence(entry.getKey(), entry.getValue());
             }
-            
-            analyzeChunkForRetroactiveDamage(tornadoId, chunkPos, level, tornadoData);
+            markEvidenceDirty(chunkPos);
         }
+        
+        EASAddon.LOGGER.info("Survey: Found {} damage evidence points in chunk ({}, {}) via retroactive analysis", 
+            result.getTotalEvidencePoints(), chunkPos.x, chunkPos.z);
     } catch (Exception e) {
-        EASAddon.LOGGER.error("Survey: Error during damage recalculation: {}", e.getMessage());
+        EASAddon.LOGGER.error("Survey: Error recording analysis results for chunk ({}, {}): {}", 
+            chunkPos.x, chunkPos.z, e.getMessage());
     }
+    
+    return hasDamageDataForChunk(tornadoId, chunkPos);
 }
 
-/**
- * Analyze a chunk for retroactive damage evidence
- */
-
-
-/**
- * Check if a specific block shows evidence of tornado damage
- */
-
-
-/**
- * Record retroactive damage evidence
- */
 /**
  * FIXED: Record retroactive damage with proper calculations instead of hardcoded values
  */
 private void recordRetroactiveDamage(long tornadoId, ChunkPos chunkPos, BlockPos pos, Level level) {
-    Map<ChunkPos, ChunkDamageData> tornadoChunks = tornadoDamageData.computeIfAbsent(tornadoId, k -> new ConcurrentHashMap<>());
-    ChunkDamageData chunkData = tornadoChunks.computeIfAbsent(chunkPos, ChunkDamageData::new);
+    ChunkDamageData chunkData = getOrCreateChunkData(tornadoId, chunkPos);
     
     BlockState currentState = level.getBlockState(pos);
     BlockState presumedOriginal;
@@ -438,7 +398,7 @@ private void recordRetroactiveDamage(long tornadoId, ChunkPos chunkPos, BlockPos
     }
     
     // FIXED: Calculate proper block strength instead of hardcoding 60.0f
-    float blockStrength = getBlockStrengthWithCustom(presumedOriginal.getBlock(), level);
+    float blockStrength = BlockStrengthTable.getInstance().getStrength(presumedOriginal);
     
     // FIXED: Get actual tornado windspeed from tornado data instead of hardcoding 100
     TornadoData tornadoData = TornadoTracker.getInstance().getTornadoData(tornadoId);
@@ -446,231 +406,19 @@ private void recordRetroactiveDamage(long tornadoId, ChunkPos chunkPos, BlockPos
     
     // Add damage record with proper values
     chunkData.addDamage(pos, presumedOriginal, currentState, blockStrength, actualTornadoWindspeed);
+    markEvidenceDirty(chunkPos);
     
     EASAddon.LOGGER.debug("Survey: Recorded retroactive damage at {} in chunk ({}, {}) - strength: {}, windspeed: {}mph", 
         pos, chunkPos.x, chunkPos.z, blockStrength, actualTornadoWindspeed);
 }
 
 /**
- * FIXED: Enhanced retroactive damage analysis with proper windspeed calculations
- */
-private void analyzeChunkForRetroactiveDamage(long tornadoId, ChunkPos chunkPos, Level level, TornadoData tornadoData) {
-    try {
-        LevelChunk chunk = level.getChunk(chunkPos.x, chunkPos.z);
-        int chunkStartX = chunkPos.x * 16;
-        int chunkStartZ = chunkPos.z * 16;
-        Vec3 chunkCenter = new Vec3(chunkStartX + 8, 0, chunkStartZ + 8);
-        
-        // Find closest tornado position and its windspeed
-        double minDistanceToTornado = Double.MAX_VALUE;
-        Vec3 closestTornadoPos = null;
-        int maxWindspeedAtChunk = 0;
-        
-        for (TornadoData.PositionRecord record : tornadoData.getPositionHistory()) {
-            Vec3 tornadoPos = record.position;
-            double distance = tornadoPos.distanceTo(chunkCenter);
-            if (distance < minDistanceToTornado) {
-                minDistanceToTornado = distance;
-                closestTornadoPos = tornadoPos;
-                maxWindspeedAtChunk = record.windspeed; // FIXED: Use actual windspeed from record
-            }
-        }
-        
-        if (closestTornadoPos == null) return;
-        
-        // FIXED: Use tornado's actual max width for damage range
-        double maxDamageRange = Math.max(tornadoData.getMaxWidth() * 2.0, 80.0);
-        if (minDistanceToTornado > maxDamageRange) {
-            EASAddon.LOGGER.debug("Survey: Chunk ({}, {}) too far from tornado path ({}m > {}m)", 
-                chunkPos.x, chunkPos.z, Math.round(minDistanceToTornado), Math.round(maxDamageRange));
-            return;
-        }
-        
-        int evidenceFound = 0;
-        
-        // FIXED: Sample more thoroughly for strong tornadoes
-        int sampleRate = maxWindspeedAtChunk > 150 ? 1 : 2; // Sample every block for strong tornadoes
-        
-        for (int x = 0; x < 16; x += sampleRate) {
-            for (int z = 0; z < 16; z += sampleRate) {
-                BlockPos surfacePos = level.getHeightmapPos(Heightmap.Types.WORLD_SURFACE, 
-                    new BlockPos(chunkStartX + x, 0, chunkStartZ + z));
-                
-                if (checkBlockForDamageEvidence(surfacePos, level, closestTornadoPos, maxWindspeedAtChunk)) {
-                    evidenceFound++;
-                    recordRetroactiveDamage(tornadoId, chunkPos, surfacePos, level);
-                }
-                
-                // FIXED: Check for scouring evidence
-                checkForScouringEvidence(tornadoId, chunkPos, surfacePos, level, closestTornadoPos, maxWindspeedAtChunk);
-            }
-        }
-        
-        if (evidenceFound > 0) {
-            EASAddon.LOGGER.info("Survey: Found {} damage evidence points in chunk ({}, {}) via retroactive analysis", 
-                evidenceFound, chunkPos.x, chunkPos.z);
-        }
-        
-    } catch (Exception e) {
-        EASAddon.LOGGER.error("Survey: Error analyzing chunk ({}, {}) for retroactive damage: {}", 
-            chunkPos.x, chunkPos.z, e.getMessage());
-    }
-}
-
-/**
- * FIXED: Enhanced damage evidence checking with proper windspeed calculations
- */
-private boolean checkBlockForDamageEvidence(BlockPos pos, Level level, Vec3 tornadoPos, int tornadoWindspeed) {
-    try {
-        BlockState currentState = level.getBlockState(pos);
-        
-        // Check for scouring evidence (grass -> air above dirt/grass)
-        if (currentState.isAir()) {
-            BlockPos below = pos.below();
-            BlockState belowState = level.getBlockState(below);
-            if (belowState.is(Blocks.GRASS_BLOCK) || belowState.is(Blocks.DIRT)) {
-                // Calculate wind effect at this position
-                double distanceToTornado = tornadoPos.distanceTo(pos.getCenter());
-                double windEffect = tornadoWindspeed * (1.0 - distanceToTornado / 200.0); // FIXED: Better distance falloff
-                
-                if (windEffect > 65.0) { // Minimum for any tornado damage
-                    return true;
-                }
-            }
-        }
-        
-        // Check for debarking evidence (stripped logs)
-        if (currentState.is(Blocks.STRIPPED_OAK_LOG) || currentState.is(Blocks.STRIPPED_BIRCH_LOG) || 
-            currentState.is(Blocks.STRIPPED_SPRUCE_LOG) || currentState.is(Blocks.STRIPPED_DARK_OAK_LOG) ||
-            currentState.is(Blocks.STRIPPED_ACACIA_LOG) || currentState.is(Blocks.STRIPPED_JUNGLE_LOG)) {
-            
-            double distanceToTornado = tornadoPos.distanceTo(pos.getCenter());
-            double windEffect = tornadoWindspeed * (1.0 - distanceToTornado / 200.0);
-            
-            if (windEffect > 140.0) { // Debarking requires 140+ mph
-                return true;
-            }
-        }
-        
-        return false;
-        
-    } catch (Exception e) {
-        return false;
-    }
-}
-
-/**
- * FIXED: Add proper scouring evidence detection
- */
-private void checkForScouringEvidence(long tornadoId, ChunkPos chunkPos, BlockPos surfacePos, Level level, Vec3 tornadoPos, int tornadoWindspeed) {
-    try {
-        BlockState surfaceState = level.getBlockState(surfacePos);
-        double distanceToTornado = tornadoPos.distanceTo(surfacePos.getCenter());
-        double windEffect = tornadoWindspeed * (1.0 - distanceToTornado / 200.0);
-        
-        Map<ChunkPos, ChunkDamageData> tornadoChunks = tornadoDamageData.computeIfAbsent(tornadoId, k -> new ConcurrentHashMap<>());
-        ChunkDamageData chunkData = tornadoChunks.computeIfAbsent(chunkPos, ChunkDamageData::new);
-        
-        // Check for grass scouring (grass -> dirt)
-        if (surfaceState.is(Blocks.DIRT) && isInNaturalGrassArea(surfacePos, level) && windEffect >= 140.0) {
-            chunkData.addScouringEvidence(surfacePos, ChunkDamageData.ScouringLevel.GRASS_TO_DIRT);
-            EASAddon.LOGGER.debug("Found grass scouring evidence at {} - wind: {}mph", surfacePos, Math.round(windEffect));
-        }
-        
-        // Check for medium scouring
-        if (isMediumScouringBlock(surfaceState) && windEffect >= 170.0) {
-            chunkData.addScouringEvidence(surfacePos, ChunkDamageData.ScouringLevel.DIRT_TO_MEDIUM);
-            EASAddon.LOGGER.debug("Found medium scouring evidence at {} - wind: {}mph", surfacePos, Math.round(windEffect));
-        }
-        
-        // Check for heavy scouring  
-        if (isHeavyScouringBlock(surfaceState) && windEffect >= 200.0) {
-            chunkData.addScouringEvidence(surfacePos, ChunkDamageData.ScouringLevel.MEDIUM_TO_HEAVY);
-            EASAddon.LOGGER.debug("Found heavy scouring evidence at {} - wind: {}mph", surfacePos, Math.round(windEffect));
-        }
-        
-    } catch (Exception e) {
-        EASAddon.LOGGER.error("Error checking scouring evidence: {}", e.getMessage());
-    }
-}
-
-/**
- * Direct analysis of chunk for damage evidence (when no stored data exists)
- */
-private boolean analyzeChunkForDamageEvidence(long tornadoId, ChunkPos chunk, Level level) {
-    try {
-        TornadoData tornadoData = TornadoTracker.getInstance().getTornadoData(tornadoId);
-        if (tornadoData == null) return false;
-        
-        // Quick check: was tornado close enough to this chunk to cause damage?
-        Vec3 chunkCenter = new Vec3(chunk.x * 16 + 8, 0, chunk.z * 16 + 8);
-        double minDistance = Double.MAX_VALUE;
-        
-        for (TornadoData.PositionRecord record : tornadoData.getPositionHistory()) {
-            Vec3 tornadoPos = record.position;
-            double distance = tornadoPos.distanceTo(chunkCenter);
-            minDistance = Math.min(minDistance, distance);
-        }
-        
-        double maxDamageRange = Math.max(tornadoData.getMaxWidth() * 2.0, 80.0);
-        if (minDistance <= maxDamageRange) {
-            // Tornado was close enough - likely damaged this chunk
-            EASAddon.LOGGER.debug("Survey: Chunk ({}, {}) within tornado damage range ({}m <= {}m)", 
-                chunk.x, chunk.z, Math.round(minDistance), Math.round(maxDamageRange));
-            
-            // Perform retroactive analysis
-            analyzeChunkForRetroactiveDamage(tornadoId, chunk, level, tornadoData);
-            
-            // Check if we found any evidence
-            Map<ChunkPos, ChunkDamageData> tornadoChunks = tornadoDamageData.get(tornadoId);
-            if (tornadoChunks != null) {
-                ChunkDamageData data = tornadoChunks.get(chunk);
-                return data != null && data.hasDamage();
-            }
-        }
-        
-        return false;
-        
-    } catch (Exception e) {
-        EASAddon.LOGGER.error("Survey: Error analyzing chunk ({}, {}) for damage evidence: {}", 
-            chunk.x, chunk.z, e.getMessage());
-        return false;
-    }
-}
-
-/**
- * Schedule cleanup of force-loaded chunks after survey completion
- */
-private void scheduleChunkCleanup(Set<ChunkPos> chunksToClean, Level level, long delayMs) {
-    if (chunksToClean.isEmpty()) return;
-    
-    // Use a separate thread to clean up after delay
-    CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS).execute(() -> {
-        cleanupForceLoadedChunks(chunksToClean, level);
-    });
-}
-
-/**
- * Clean up force-loaded chunks
+ * Drop chunks from the client-side tracking
  */
 private void cleanupForceLoadedChunks(Set<ChunkPos> chunksToClean, Level level) {
-    EASAddon.LOGGER.info("Survey: Cleaning up {} force-loaded chunks", chunksToClean.size());
-    
-    for (ChunkPos chunk : chunksToClean) {
-        try {
-            if (level instanceof ServerLevel serverLevel) {
-                serverLevel.setChunkForced(chunk.x, chunk.z, false);
-                forceLoadedChunks.remove(chunk);
-                EASAddon.LOGGER.debug("Survey: Released force-loaded chunk ({}, {}) on server", chunk.x, chunk.z);
-            } else {
-                // On client side, just remove from tracking
-                forceLoadedChunks.remove(chunk);
-                EASAddon.LOGGER.debug("Survey: Removed chunk ({}, {}) from client tracking", chunk.x, chunk.z);
-            }
-        } catch (Exception e) {
-            EASAddon.LOGGER.error("Survey: Error cleaning up chunk ({}, {}): {}", chunk.x, chunk.z, e.getMessage());
-        }
-    }
+    if (chunksToClean.isEmpty()) return;
+    EASAddon.LOGGER.debug("Survey: Removing {} chunks from client tracking", chunksToClean.size());
+    forceLoadedChunks.removeAll(chunksToClean);
 }
 
 /**
@@ -758,6 +506,7 @@ public void shutdown() {
         
         // Mark chunk as surveyed
         chunkData.markSurveyed(playerName, efRating, maxWindspeed);
+        markEvidenceDirty(currentChunk);
         session.surveyedChunks.add(currentChunk);
         
         // Update session state
@@ -774,13 +523,14 @@ public void shutdown() {
         player.sendSystemMessage(Component.literal("§7Enhanced windspeed: §e" + Math.round(maxWindspeed) + " mph"));
 
         // Show specific evidence contributions
-        if (!chunkData.getDebarkedLogs().isEmpty()) {
+        if (chunkData.getDebarkingCount() > 0) {
             player.sendSystemMessage(Component.literal("§c  + Debarking evidence (≥140mph → EF3+)"));
         }
 
-        Map<ChunkDamageData.ScouringLevel, Integer> scouringCounts = new HashMap<>();
-        for (ChunkDamageData.ScouringLevel level : chunkData.getScouringEvidence().values()) {
-            scouringCounts.merge(level, 1, Integer::sum);
+        Map<ChunkDamageData.ScouringLevel, Integer> scouringCounts = new EnumMap<>(ChunkDamageData.ScouringLevel.class);
+        for (ChunkDamageData.ScouringLevel level : ChunkDamageData.ScouringLevel.values()) {
+            int count = chunkData.getScouringCount(level);
+            if (count > 0) scouringCounts.put(level, count);
         }
 
         for (Map.Entry<ChunkDamageData.ScouringLevel, Integer> entry : scouringCounts.entrySet()) {
@@ -828,6 +578,7 @@ public void shutdown() {
         
         // Clear active surveys
         activeSurveys.clear();
+        pendingValidations.clear();
         
         // Clear tornado damage data
         tornadoDamageData.clear();
@@ -1032,17 +783,80 @@ public void shutdown() {
         return true;
     }
     
+    /**
+     * ADDED: Evidence for a tornado in a chunk, created on first use and attached to the chunk
+     * so it is saved with it. Call markEvidenceDirty after changing it.
+     */
+    private ChunkDamageData getOrCreateChunkData(long tornadoId, ChunkPos chunk) {
+        Map<ChunkPos, ChunkDamageData> tornadoChunks = tornadoDamageData.computeIfAbsent(tornadoId, k -> new ConcurrentHashMap<>());
+        ChunkDamageData chunkData = tornadoChunks.get(chunk);
+        if (chunkData == null) {
+            ChunkDamageData created = new ChunkDamageData(chunk);
+            chunkData = tornadoChunks.putIfAbsent(chunk, created);
+            if (chunkData == null) {
+                chunkData = created;
+                Level level = Minecraft.getInstance().level;
+                if (level != null) {
+                    ChunkEvidenceStore.getInstance().attach(level.dimension(), chunk, tornadoId, created);
+                }
+            }
+        }
+        return chunkData;
+    }
+    
+    private void markEvidenceDirty(ChunkPos chunk) {
+        Level level = Minecraft.getInstance().level;
+        if (level != null) {
+            ChunkEvidenceStore.getInstance().markDirty(level.dimension(), chunk);
+        }
+    }
+    
+    /**
+     * ADDED: Adopt evidence read back from chunks that loaded on the integrated server, so chunks
+     * damaged before a restart don't need re-analysis. In-memory evidence wins over the saved copy.
+     */
+    public void adoptRestoredEvidence(Level level) {
+        ChunkEvidenceStore store = ChunkEvidenceStore.getInstance();
+        TornadoTracker tracker = TornadoTracker.getInstance();
+        ChunkEvidenceStore.Restored restored;
+        int adopted = 0;
+        
+        // Entries for other dimensions stay queued until the client is in that level
+        while ((restored = store.pollRestored(level.dimension())) != null) {
+            for (Map.Entry<Long, ChunkDamageData> entry : restored.evidence().entrySet()) {
+                long tornadoId = entry.getKey();
+                Map<ChunkPos, ChunkDamageData> tornadoChunks = tornadoDamageData.computeIfAbsent(tornadoId, k -> new ConcurrentHashMap<>());
+                ChunkDamageData existing = tornadoChunks.putIfAbsent(restored.chunkPos(), entry.getValue());
+                if (existing == null) {
+                    adopted++;
+                } else if (existing != entry.getValue()) {
+                    // The chunk was unloaded and reloaded; put the live object back on it
+                    store.attach(restored.dimension(), restored.chunkPos(), tornadoId, existing);
+                }
+                
+                TornadoData tornadoData = tracker.getTornadoData(tornadoId);
+                if (tornadoData != null && (existing != null ? existing : entry.getValue()).hasDamage()) {
+                    tornadoData.addDamagedChunk(restored.chunkPos());
+                }
+            }
+        }
+        
+        if (adopted > 0) {
+            EASAddon.LOGGER.debug("Adopted saved damage evidence for {} tornado chunks", adopted);
+        }
+    }
+    
     /**
      * Add damage data for a tornado
      */
     public void addDamage(long tornadoId, ChunkPos chunk, BlockPos pos, BlockState original, BlockState resulting, int tornadoWindspeed, Level level) {
-        Map<ChunkPos, ChunkDamageData> tornadoChunks = tornadoDamageData.computeIfAbsent(tornadoId, k -> new ConcurrentHashMap<>());
-        ChunkDamageData chunkData = tornadoChunks.computeIfAbsent(chunk, ChunkDamageData::new);
+        ChunkDamageData chunkData = getOrCreateChunkData(tornadoId, chunk);
         
         // FIXED: Calculate block strength using custom values
-        float blockStrength = getBlockStrengthWithCustom(original.getBlock(), level);
+        float blockStrength = BlockStrengthTable.getInstance().getStrength(original);
         
         chunkData.addDamage(pos, original, resulting, blockStrength, tornadoWindspeed);
+        markEvidenceDirty(chunk);
     }
     
     // FIXED: Enhanced EF rating calculation using evidence-based minimums
@@ -1112,9 +926,9 @@ public void shutdown() {
         for (ChunkPos chunk : validChunks) {
             ChunkDamageData data = tornadoChunks.get(chunk);
             if (data != null) {
-                totalDamageBlocks += data.getDamageRecords().size();
-                totalDebarking += data.getDebarkedLogs().size();
-                totalScouring += data.getScouringEvidence().size();
+                totalDamageBlocks += data.getBlockDamageCount();
+                totalDebarking += data.getDebarkingCount();
+                totalScouring += data.getScouringCount();
                 
                 // Count high-confidence chunks
                 if (data.hasHighConfidenceEvidence()) {
@@ -1122,8 +936,9 @@ public void shutdown() {
                 }
                 
                 // Count scouring by level
-                for (ChunkDamageData.ScouringLevel level : data.getScouringEvidence().values()) {
-                    scouringByLevel.merge(level, 1, Integer::sum);
+                for (ChunkDamageData.ScouringLevel level : ChunkDamageData.ScouringLevel.values()) {
+                    int count = data.getScouringCount(level);
+                    if (count > 0) scouringByLevel.merge(level, count, Integer::sum);
                 }
                 
                 maxIntensityFound = Math.max(maxIntensityFound, data.getEnhancedWindspeedEstimate());
@@ -1178,37 +993,11 @@ public void shutdown() {
         return "EF" + rating;
     }
     
-    /**
-     * FIXED: Block strength calculation that checks PMWeather's custom values first
-     */
-    private float getBlockStrengthWithCustom(Block block, Level level) {
-        try {
-            // First check if PMWeather has a custom strength for this block
-            if (reflectionInitialized && blockStrengthsField != null) {
-                Map<Block, Float> customStrengths = (Map<Block, Float>) blockStrengthsField.get(null);
-                
-                if (customStrengths != null && customStrengths.containsKey(block)) {
-                    float customStrength = customStrengths.get(block);
-                    EASAddon.LOGGER.debug("DamageSurveyManager: Using custom block strength for {}: {} mph", 
-                                         block.getDescriptionId(), customStrength);
-                    return customStrength;
-                }
-            }
-        } catch (Exception e) {
-            EASAddon.LOGGER.debug("DamageSurveyManager: Failed to get custom block strength for {}: {}", 
-                                 block.getDescriptionId(), e.getMessage());
-        }
-        
-        // Fall back to default calculation if no custom strength found
-        return getBlockStrengthDefault(block, level);
-    }
-    
-    
-    
  // Add these methods to DamageSurveyManager.java class
 
  // Add this field to the class
- private final Map<Long, Map<ChunkPos, RetroactiveDamageInfo>> pendingRetroactiveAnalysis = new ConcurrentHashMap<>();
+ // Keyed by ChunkPos.toLong(), then tornado id, so a chunk load is a single lookup
+ private final Map<Long, Map<Long, RetroactiveDamageInfo>> pendingRetroactiveAnalysis = new ConcurrentHashMap<>();
 
  /**
   * ADDED: Mark a chunk for retroactive damage analysis when it loads
@@ -1221,8 +1010,8 @@ public void shutdown() {
          );
          
          pendingRetroactiveAnalysis
-             .computeIfAbsent(tornadoId, k -> new ConcurrentHashMap<>())
-             .put(chunkPos, damageInfo);
+             .computeIfAbsent(chunkPos.toLong(), k -> new ConcurrentHashMap<>())
+             .put(tornadoId, damageInfo);
          
          EASAddon.LOGGER.debug("Marked chunk ({}, {}) for retroactive analysis - tornado {} at {}mph", 
              chunkPos.x, chunkPos.z, tornadoId, windspeed);
@@ -1233,20 +1022,35 @@ public void shutdown() {
  }
 
  /**
-  * ADDED: Process retroactive damage for a chunk that just loaded
+  * ADDED: Process all pending retroactive damage for a chunk that just loaded.
+  * Returns the number of tornadoes that produced damage.
   */
- public boolean processRetroactiveDamageForChunk(long tornadoId, ChunkPos chunkPos, Level level) {
-     try {
-         Map<ChunkPos, RetroactiveDamageInfo> tornadoPendingChunks = pendingRetroactiveAnalysis.get(tornadoId);
-         if (tornadoPendingChunks == null) {
-             return false;
+ public int processRetroactiveDamageForChunk(ChunkPos chunkPos, Level level) {
+     Map<Long, RetroactiveDamageInfo> chunkPending = pendingRetroactiveAnalysis.remove(chunkPos.toLong());
+     if (chunkPending == null) {
+         return 0;
+     }
+     
+     // ADDED: Evidence saved with the chunk makes re-analysis unnecessary
+     adoptRestoredEvidence(level);
+     
+     int damaged = 0;
+     for (Map.Entry<Long, RetroactiveDamageInfo> entry : chunkPending.entrySet()) {
+         Map<ChunkPos, ChunkDamageData> tornadoChunks = tornadoDamageData.get(entry.getKey());
+         ChunkDamageData known = tornadoChunks != null ? tornadoChunks.get(chunkPos) : null;
+         if (known != null && known.hasDamage()) {
+             damaged++;
+             continue;
          }
-         
-         RetroactiveDamageInfo damageInfo = tornadoPendingChunks.remove(chunkPos);
-         if (damageInfo == null) {
-             return false;
+         if (processRetroactiveDamage(entry.getKey(), chunkPos, level, entry.getValue())) {
+             damaged++;
          }
-         
+     }
+     return damaged;
+ }
+
+ private boolean processRetroactiveDamage(long tornadoId, ChunkPos chunkPos, Level level, RetroactiveDamageInfo damageInfo) {
+     try {
          // Check if this retroactive analysis is still relevant (not too old)
          long age = System.currentTimeMillis() - damageInfo.timestamp;
          if (age > 600000) { // 10 minutes
@@ -1321,7 +1125,6 @@ public void shutdown() {
      }
  }
  
- 
 //Add these helper methods to DamageSurveyManager.java class
 
 /**
@@ -1333,6 +1136,11 @@ private boolean checkForRetroactiveDebarkingEvidence(long tornadoId, ChunkPos ch
       // Only check for debarking if tornado has sufficient windspeed
       if (windspeed < 140) return false;
       
+      // ADDED: Skip the neighborhood when no section it touches can hold a stripped log
+      if (!SectionPaletteFilter.mayContain(level, surfacePos.offset(-2, -1, -2), surfacePos.offset(2, 3, 2), SectionPaletteFilter.STRIPPED_LOGS)) {
+          return false;
+      }
+      
       // Check area around surface position for logs
       for (int dx = -2; dx <= 2; dx++) {
           for (int dy = -1; dy <= 3; dy++) {
@@ -1350,8 +1158,7 @@ private boolean checkForRetroactiveDebarkingEvidence(long tornadoId, ChunkPos ch
                       isInNaturalForestArea(pos, level)) {
                       
                       // Calculate wind effect at this position
-                      double windEffect = calculateWindEffectAtPosition(
-                          pos.getCenter(), tornadoPos, windfieldWidth, windspeed);
+                      double windEffect = WindFieldModel.windAtBlock(pos, tornadoPos, windfieldWidth, windspeed);
                       
                       // PMWeather's debarking threshold is 140 mph
                       if (windEffect >= 140.0) {
@@ -1386,8 +1193,7 @@ private boolean checkForRetroactiveScouringEvidence(long tornadoId, ChunkPos chu
       net.minecraft.world.level.block.state.BlockState surfaceState = level.getBlockState(surfacePos);
       
       // Calculate wind effect at surface
-      double windEffect = calculateWindEffectAtPosition(
-          surfacePos.getCenter(), tornadoPos, windfieldWidth, windspeed);
+      double windEffect = WindFieldModel.windAtBlock(surfacePos, tornadoPos, windfieldWidth, windspeed);
       
       // Check for evidence of grass -> dirt scouring
       if (surfaceState.is(net.minecraft.world.level.block.Blocks.DIRT) && 
@@ -1478,28 +1284,15 @@ private boolean isInNaturalGrassArea(BlockPos pos, Level level) {
 * ADDED: Helper methods for block type detection
 */
 private boolean isMediumScouringBlock(net.minecraft.world.level.block.state.BlockState state) {
-  try {
-      Class<?> modBlocks = Class.forName("dev.protomanly.pmweather.block.ModBlocks");
-      Object mediumScouringHolder = modBlocks.getField("MEDIUM_SCOURING").get(null);
-      Object mediumScouringBlock = mediumScouringHolder.getClass().getMethod("get").invoke(mediumScouringHolder);
-      return state.getBlock() == mediumScouringBlock;
-  } catch (Exception e) {
-      return false;
-  }
+    StormAccess pm = PMWeatherBridge.get();
+    return pm != null && state.getBlock() == pm.getMediumScouringBlock();
 }
 
 private boolean isHeavyScouringBlock(net.minecraft.world.level.block.state.BlockState state) {
-  try {
-      Class<?> modBlocks = Class.forName("dev.protomanly.pmweather.block.ModBlocks");
-      Object heavyScouringHolder = modBlocks.getField("HEAVY_SCOURING").get(null);
-      Object heavyScouringBlock = heavyScouringHolder.getClass().getMethod("get").invoke(heavyScouringHolder);
-      return state.getBlock() == heavyScouringBlock;
-  } catch (Exception e) {
-      return false;
-  }
+    StormAccess pm = PMWeatherBridge.get();
+    return pm != null && state.getBlock() == pm.getHeavyScouringBlock();
 }
  
-
  /**
   * ADDED: Check for retroactive block damage
   */
@@ -1521,11 +1314,10 @@ private boolean isHeavyScouringBlock(net.minecraft.world.level.block.state.Block
              }
              
              // Calculate wind effect using the same logic as TornadoTracker
-             double windEffect = calculateWindEffectAtPosition(
-                 pos.getCenter(), tornadoPos, windfieldWidth, windspeed);
+             double windEffect = WindFieldModel.windAtBlock(pos, tornadoPos, windfieldWidth, windspeed);
              
              // Calculate block strength
-             float blockStrength = getBlockStrengthPMWeather(blockState.getBlock(), level);
+             float blockStrength = BlockStrengthTable.getInstance().getStrength(blockState);
              
              // If wind would destroy this block, record the damage
              if (windEffect >= blockStrength) {
@@ -1570,11 +1362,11 @@ private boolean isHeavyScouringBlock(net.minecraft.world.level.block.state.Block
      try {
          long cutoffTime = System.currentTimeMillis() - 600000; // 10 minutes ago
          
-         pendingRetroactiveAnalysis.entrySet().removeIf(tornadoEntry -> {
-             Map<ChunkPos, RetroactiveDamageInfo> chunkMap = tornadoEntry.getValue();
-             chunkMap.entrySet().removeIf(chunkEntry -> 
-                 chunkEntry.getValue().timestamp < cutoffTime);
-             return chunkMap.isEmpty();
+         pendingRetroactiveAnalysis.entrySet().removeIf(chunkEntry -> {
+             Map<Long, RetroactiveDamageInfo> tornadoMap = chunkEntry.getValue();
+             tornadoMap.entrySet().removeIf(tornadoEntry -> 
+                 tornadoEntry.getValue().timestamp < cutoffTime);
+             return tornadoMap.isEmpty();
          });
          
      } catch (Exception e) {
@@ -1582,76 +1374,87 @@ private boolean isHeavyScouringBlock(net.minecraft.world.level.block.state.Block
      }
  }
 
- // Add these helper methods (copied from TornadoTracker for consistency)
-
- private double calculateWindEffectAtPosition(Vec3 pos, Vec3 tornadoPos, int windfieldWidth, int windspeed) {
-     // Distance calculation (2D)
-     double dist = tornadoPos.multiply(1.0, 0.0, 1.0).distanceTo(pos.multiply(1.0, 0.0, 1.0));
-     
-     // Rankine vortex calculation (from Storm.getRankine())
-     float rankineFactor = 4.5f;
-     float rankineWidth = (float)windfieldWidth / rankineFactor;
-     float perc = 0.0f;
-     
-     if (dist <= (double)(rankineWidth / 2.0f)) {
-         perc = (float)dist / (rankineWidth / 2.0f);
-     } else if (dist <= (double)((float)windfieldWidth * 2.0f)) {
-         double denominator = (((float)windfieldWidth * 2.0f - rankineWidth) / 2.0f);
-         if (denominator > 0) {
-             perc = (float)Math.pow(1.0 - (dist - (double)(rankineWidth / 2.0f)) / denominator, 1.5);
-             perc = Math.max(0.0f, Math.min(1.0f, perc));
-         }
-     }
-     
-     if (Float.isNaN(perc)) {
-         perc = 0.0f;
-     }
-     
-     // Rotational component
-     Vec3 relativePos = pos.subtract(tornadoPos);
-     Vec3 rotational = new Vec3(relativePos.z, 0.0, -relativePos.x).normalize();
-     Vec3 motion = rotational.multiply((double)windspeed * (double)perc, 0.0, (double)windspeed * (double)perc);
-     
-     // Translational component (simplified)
-     float affectPerc = (float)Math.sqrt(Math.max(0, 1.0 - dist / (double)((float)windfieldWidth * 2.0f)));
-     motion = motion.add(new Vec3(15.0 * affectPerc, 0.0, 15.0 * affectPerc));
-     
-     return motion.length();
- }
+    /**
+     * True when the Storm mixin is feeding exact block changes from an integrated server,
+     * so the heuristic rescans can be skipped. Only singleplayer and a LAN host get here: LAN guests
+     * and dedicated server clients have no server storms in their JVM, and fall back to the block
+     * update detector and the frontier scan.
+     */
+    public boolean isExactDamageCaptureActive() {
+        return TornadoDamageEventBuffer.getInstance().isInstalled() && Minecraft.getInstance().hasSingleplayerServer();
+    }
 
- private static float getBlockStrengthPMWeather(net.minecraft.world.level.block.Block block, Level level) {
-     net.minecraft.world.item.ItemStack item = new net.minecraft.world.item.ItemStack(net.minecraft.world.item.Items.IRON_AXE);
-     float destroySpeed = block.defaultBlockState().getDestroySpeed(level, BlockPos.ZERO);
-     
-     try {
-         destroySpeed /= item.getDestroySpeed(block.defaultBlockState());
-     } catch (Exception e) {
-         destroySpeed = 1.0f;
-     }
-     
-     return 60.0f + net.minecraft.util.Mth.sqrt(destroySpeed) * 60.0f;
- }
-    
-    
-    
-    
     /**
-     * Default block strength calculation (copied from Storm.java)
+     * ADDED: Drain block changes captured from Storm.tick into damage, debarking and scouring evidence.
+     * Called every client tick; handles at most MAX_CAPTURE_BATCHES batches so a burst can't stall a frame.
      */
-    private static float getBlockStrengthDefault(Block block, Level level) {
-        net.minecraft.world.item.ItemStack item = new net.minecraft.world.item.ItemStack(net.minecraft.world.item.Items.IRON_AXE);
-        float destroySpeed = block.defaultBlockState().getDestroySpeed(level, BlockPos.ZERO);
-        return 60.0f + Mth.sqrt((destroySpeed /= item.getDestroySpeed(block.defaultBlockState()))) * 60.0f;
+    public void drainCapturedDamage(Level level) {
+        TornadoDamageEventBuffer buffer = TornadoDamageEventBuffer.getInstance();
+        StormSnapshot storms = StormSnapshotService.getInstance().getSnapshot(level);
+        TornadoTracker tracker = TornadoTracker.getInstance();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int recorded = 0;
+        int otherLevel = 0;
+
+        for (int b = 0; b < MAX_CAPTURE_BATCHES && buffer.drain(captureBatch) > 0; b++) {
+            for (int i = 0; i < captureBatch.size; i++) {
+                long stormId = captureBatch.stormId[i];
+
+                // Storms from other dimensions on the integrated server aren't in this level's snapshot
+                if (storms.indexOf(stormId) < 0) {
+                    otherLevel++;
+                    continue;
+                }
+
+                pos.set(BlockPos.getX(captureBatch.packedPos[i]), BlockPos.getY(captureBatch.packedPos[i]), BlockPos.getZ(captureBatch.packedPos[i]));
+                BlockState original = Block.stateById(captureBatch.oldStateId[i]);
+                BlockState resulting = Block.stateById(captureBatch.newStateId[i]);
+                ChunkPos chunk = new ChunkPos(pos);
+                BlockPos blockPos = pos.immutable();
+
+                if (original.is(BlockTags.LOGS) && resulting.is(Tags.Blocks.STRIPPED_LOGS)) {
+                    addDebarkingEvidence(stormId, chunk, blockPos);
+                } else if (original.is(Blocks.GRASS_BLOCK) && resulting.is(Blocks.DIRT)) {
+                    addScouringEvidence(stormId, chunk, blockPos, ChunkDamageData.ScouringLevel.GRASS_TO_DIRT);
+                } else if (isMediumScouringBlock(resulting)) {
+                    addScouringEvidence(stormId, chunk, blockPos, ChunkDamageData.ScouringLevel.DIRT_TO_MEDIUM);
+                } else if (isHeavyScouringBlock(resulting)) {
+                    addScouringEvidence(stormId, chunk, blockPos, ChunkDamageData.ScouringLevel.MEDIUM_TO_HEAVY);
+                } else {
+                    addDamage(stormId, chunk, blockPos, original, resulting, Math.round(captureBatch.localWind[i]), level);
+                }
+
+                TornadoData tornadoData = tracker.getTornadoData(stormId);
+                if (tornadoData != null) {
+                    tornadoData.addDamagedChunk(chunk);
+                }
+                recorded++;
+            }
+        }
+
+        long dropped = buffer.takeDroppedCount();
+        if (dropped > 0) {
+            EASAddon.LOGGER.warn("Tornado damage capture buffer overflowed, {} block changes dropped", dropped);
+        }
+        if (recorded > 0) {
+            EASAddon.LOGGER.debug("Recorded {} captured tornado block changes", recorded);
+        }
+        if (otherLevel > 0) {
+            // Storms in other dimensions, or not yet synced to this client
+            capturedChangesSkipped += otherLevel;
+            EASAddon.LOGGER.debug("Skipped {} captured block changes from storms not in this level's snapshot ({} since startup)",
+                otherLevel, capturedChangesSkipped);
+        }
     }
-    
+
     /**
      * ADDED: Add debarking evidence to tornado damage data
      */
     public void addDebarkingEvidence(long tornadoId, ChunkPos chunk, BlockPos pos) {
-        Map<ChunkPos, ChunkDamageData> tornadoChunks = tornadoDamageData.computeIfAbsent(tornadoId, k -> new ConcurrentHashMap<>());
-        ChunkDamageData chunkData = tornadoChunks.computeIfAbsent(chunk, ChunkDamageData::new);
+        ChunkDamageData chunkData = getOrCreateChunkData(tornadoId, chunk);
         
         chunkData.addDebarkingEvidence(pos);
+        markEvidenceDirty(chunk);
         
         EASAddon.LOGGER.debug("Added debarking evidence for tornado {} at chunk ({}, {}) position {}", 
             tornadoId, chunk.x, chunk.z, pos);
@@ -1661,10 +1464,10 @@ private boolean isHeavyScouringBlock(net.minecraft.world.level.block.state.Block
      * ADDED: Add scouring evidence to tornado damage data
      */
     public void addScouringEvidence(long tornadoId, ChunkPos chunk, BlockPos pos, ChunkDamageData.ScouringLevel level) {
-        Map<ChunkPos, ChunkDamageData> tornadoChunks = tornadoDamageData.computeIfAbsent(tornadoId, k -> new ConcurrentHashMap<>());
-        ChunkDamageData chunkData = tornadoChunks.computeIfAbsent(chunk, ChunkDamageData::new);
+        ChunkDamageData chunkData = getOrCreateChunkData(tornadoId, chunk);
         
         chunkData.addScouringEvidence(pos, level);
+        markEvidenceDirty(chunk);
         
         EASAddon.LOGGER.debug("Added {} scouring evidence for tornado {} at chunk ({}, {}) position {}", 
             level.name(), tornadoId, chunk.x, chunk.z, pos);
@@ -1712,7 +1515,6 @@ private boolean isHeavyScouringBlock(net.minecraft.world.level.block.state.Block
         return session != null ? session.playerName : null;
     }
     
-    
  // Add this method to DamageSurveyManager.java to prevent duplicate calculations
 
     /**
@@ -1727,6 +1529,4 @@ private boolean isHeavyScouringBlock(net.minecraft.world.level.block.state.Block
         return false;
     }
 
-
-    
 }
\ No newline at end of file
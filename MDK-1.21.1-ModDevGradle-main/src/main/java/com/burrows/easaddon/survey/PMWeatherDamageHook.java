@@ -1,7 +1,15 @@
 package com.burrows.easaddon.survey;
 
 import com.burrows.easaddon.EASAddon;
+import com.burrows.easaddon.compat.PMWeatherBridge;
+import com.burrows.easaddon.compat.StormAccess;
+import com.burrows.easaddon.compat.StormSnapshot;
+import com.burrows.easaddon.compat.StormSnapshotService;
+import com.burrows.easaddon.tornado.BlockStrengthTable;
+import com.burrows.easaddon.tornado.ClientWorkScheduler;
 import com.burrows.easaddon.tornado.TornadoTracker;
+import com.burrows.easaddon.tornado.WindFieldModel;
+import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
@@ -14,12 +22,10 @@ import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.event.level.BlockEvent;
 import net.neoforged.neoforge.event.tick.LevelTickEvent;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.util.List;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
 import java.util.Map;
-import java.util.Set;
-import java.util.HashSet;
 
 /**
  * Hooks into actual block break events to track tornado damage
@@ -28,21 +34,17 @@ import java.util.HashSet;
 public class PMWeatherDamageHook {
     private static PMWeatherDamageHook instance;
     
-    // Reflection cache for PMWeather classes
-    private Class<?> stormClass;
-    private Class<?> serverConfigClass;
-    private Field stormPositionField;
-    private Field stormWindspeedField;
-    private Field stormIDField;
-    private Field stormStageField;
-    private Field blockStrengthsField;
-    private Method getStormsMethod;
+    // PMWeather access (compiled bridge or reflection fallback)
+    private StormAccess stormAccess;
     private boolean reflectionInitialized = false;
     
-    // ADDED: Track recently changed blocks to detect scouring
-    private Set<BlockPos> recentlyChangedBlocks = new HashSet<>();
     private long lastCleanupTime = 0;
     
+    // ADDED: Per-storm scan frontier, so each pass only scans chunks that are new or left behind
+    private final Long2ObjectOpenHashMap<StormScanFrontier> frontiers = new Long2ObjectOpenHashMap<>();
+    private Level frontierLevel;
+    private long scanPass = 0;
+    
     private PMWeatherDamageHook() {
         initializeReflection();
     }
@@ -59,40 +61,14 @@ public class PMWeatherDamageHook {
             return;
         }
         
-        try {
-            // Get PMWeather classes
-            Class<?> weatherHandlerClass = Class.forName("dev.protomanly.pmweather.weather.WeatherHandler");
-            stormClass = Class.forName("dev.protomanly.pmweather.weather.Storm");
-            serverConfigClass = Class.forName("dev.protomanly.pmweather.config.ServerConfig");
-            
-            // Get fields from Storm class
-            stormPositionField = stormClass.getDeclaredField("position");
-            stormPositionField.setAccessible(true);
-            
-            stormWindspeedField = stormClass.getDeclaredField("windspeed");
-            stormWindspeedField.setAccessible(true);
-            
-            stormIDField = stormClass.getDeclaredField("ID");
-            stormIDField.setAccessible(true);
-            
-            stormStageField = stormClass.getDeclaredField("stage");
-            stormStageField.setAccessible(true);
-            
-            // Get custom block strengths field
-            blockStrengthsField = serverConfigClass.getDeclaredField("blockStrengths");
-            blockStrengthsField.setAccessible(true);
-            
-            // Get the getStorms() method
-            getStormsMethod = weatherHandlerClass.getDeclaredMethod("getStorms");
-            getStormsMethod.setAccessible(true);
-            
-            reflectionInitialized = true;
-            EASAddon.LOGGER.info("PMWeather damage hook initialized successfully with enhanced scouring detection");
-            
-        } catch (Exception e) {
-            EASAddon.LOGGER.error("Failed to initialize PMWeather damage hook reflection", e);
-            reflectionInitialized = false;
+        stormAccess = PMWeatherBridge.get();
+        if (stormAccess == null) {
+            EASAddon.LOGGER.error("Failed to initialize PMWeather damage hook - storm access unavailable");
+            return;
         }
+        
+        reflectionInitialized = true;
+        EASAddon.LOGGER.info("PMWeather damage hook initialized successfully with enhanced scouring detection");
     }
     
     @SubscribeEvent
@@ -111,33 +87,27 @@ public class PMWeatherDamageHook {
             return; // Player-caused break, not tornado damage
         }
         
-        // Track this position for potential scouring detection
-        recentlyChangedBlocks.add(pos);
-        
         // Find nearby active tornadoes that could have caused this damage
         try {
-            Object weatherHandler = getWeatherHandler(level);
-            if (weatherHandler == null) return;
-            
-            List<?> storms = (List<?>) getStormsMethod.invoke(weatherHandler);
-            if (storms == null) return;
+            StormSnapshot storms = StormSnapshotService.getInstance().getSnapshot(level);
+            if (storms.isEmpty()) return;
             
             // Check each storm to see if it could have caused this damage
-            for (Object storm : storms) {
+            for (int i = 0; i < storms.size; i++) {
                 try {
-                    int stormType = (Integer) stormClass.getField("stormType").get(storm);
+                    int stormType = storms.stormType[i];
                     if (stormType != 0) continue; // Only track tornadoes
                     
-                    long stormId = (Long) stormIDField.get(storm);
-                    net.minecraft.world.phys.Vec3 stormPos = (net.minecraft.world.phys.Vec3) stormPositionField.get(storm);
-                    int windspeed = (Integer) stormWindspeedField.get(storm);
-                    int stage = (Integer) stormStageField.get(storm);
+                    long stormId = storms.id[i];
+                    net.minecraft.world.phys.Vec3 stormPos = storms.position(i);
+                    int windspeed = storms.windspeed[i];
+                    int stage = storms.stage[i];
                     
                     // Only track damage from active stage 3+ tornadoes
                     if (stage < 3 || windspeed < 40) continue;
                     
                     // Use PMWeather's actual damage range calculation
-                    float width = (Float) stormClass.getField("width").get(storm);
+                    float width = storms.width[i];
                     int windfieldWidth = Math.max((int)width, 40);
                     double maxDamageRange = windfieldWidth * 2.0; // PMWeather's actual damage range
                     
@@ -146,11 +116,10 @@ public class PMWeatherDamageHook {
                     
                     if (distance <= maxDamageRange) {
                         // Calculate actual wind effect at block position
-                        double windEffectAtBlock = calculateWindEffectUsingPMWeatherLogic(
-                            pos.getCenter(), stormPos, width, windspeed, windfieldWidth);
+                        double windEffectAtBlock = WindFieldModel.windAtBlock(pos, stormPos, windfieldWidth, windspeed);
                         
                         // Get block strength using PMWeather's method
-                        float blockStrength = getBlockStrengthWithCustom(state.getBlock(), level);
+                        float blockStrength = BlockStrengthTable.getInstance().getStrength(state);
                         
                         // Only record as tornado damage if wind was strong enough to break this block
                         if (windEffectAtBlock >= blockStrength) {
@@ -207,22 +176,20 @@ public class PMWeatherDamageHook {
     }
 
     /**
-     * FIXED: Enhanced detection using multiple event types and periodic scanning
+     * FIXED: Enhanced detection using multiple event types and periodic scanning.
+     * CHANGED: Fallback for what the server block update hook can't see; see StormScanFrontier.
      */
     @SubscribeEvent
     public void onLevelTick(LevelTickEvent.Post event) {
         if (!reflectionInitialized || !event.getLevel().isClientSide()) return;
         
-        // Clean up old tracked blocks every 5 seconds and scan for evidence
+        // Scan for evidence every 5 seconds
         long currentTime = System.currentTimeMillis();
         if (currentTime - lastCleanupTime > 5000) {
-            scanForScouringAndDebarkingEvidence(event.getLevel());
-            
-            // Clean up old positions (remove blocks older than 30 seconds)
-            recentlyChangedBlocks.removeIf(pos -> {
-                // Simple cleanup - in a real implementation you'd track timestamps
-                return recentlyChangedBlocks.size() > 100; // Keep only recent 100 positions
-            });
+            // Exact capture already records every debarked log and scoured block
+            if (!DamageSurveyManager.getInstance().isExactDamageCaptureActive()) {
+                scanForScouringAndDebarkingEvidence(event.getLevel());
+            }
             
             lastCleanupTime = currentTime;
         }
@@ -232,28 +199,33 @@ public class PMWeatherDamageHook {
      * ADDED: Comprehensive scanning for debarking and scouring evidence
      */
     private void scanForScouringAndDebarkingEvidence(Level level) {
+        // Frontiers belong to one level; a dimension change or new world starts them over
+        if (frontierLevel != level) {
+            frontiers.clear();
+            frontierLevel = level;
+        }
+        long pass = ++scanPass;
+        // Block updates already report changes exactly; only chunks that arrived already changed need scanning
+        boolean entryOnly = ClientBlockChangeDetector.getInstance().isReceivingUpdates(level);
+        
         try {
-            Object weatherHandler = getWeatherHandler(level);
-            if (weatherHandler == null) return;
-            
-            List<?> storms = (List<?>) getStormsMethod.invoke(weatherHandler);
-            if (storms == null) return;
+            StormSnapshot storms = StormSnapshotService.getInstance().getSnapshot(level);
             
             // Check each active tornado
-            for (Object storm : storms) {
+            for (int i = 0; i < storms.size; i++) {
                 try {
-                    int stormType = (Integer) stormClass.getField("stormType").get(storm);
+                    int stormType = storms.stormType[i];
                     if (stormType != 0) continue; // Only tornadoes
                     
-                    long stormId = (Long) stormIDField.get(storm);
-                    net.minecraft.world.phys.Vec3 stormPos = (net.minecraft.world.phys.Vec3) stormPositionField.get(storm);
-                    int windspeed = (Integer) stormWindspeedField.get(storm);
-                    int stage = (Integer) stormStageField.get(storm);
+                    long stormId = storms.id[i];
+                    net.minecraft.world.phys.Vec3 stormPos = storms.position(i);
+                    int windspeed = storms.windspeed[i];
+                    int stage = storms.stage[i];
                     
                     // Only check active stage 3+ tornadoes with sufficient wind
                     if (stage < 3 || windspeed < 140) continue;
                     
-                    float width = (Float) stormClass.getField("width").get(storm);
+                    float width = storms.width[i];
                     int windfieldWidth = Math.max((int)width, 40);
                     double maxDamageRange = windfieldWidth * 2.0;
                     
@@ -263,10 +235,29 @@ public class PMWeatherDamageHook {
                     com.burrows.easaddon.tornado.TornadoData tornadoData = tracker.getTornadoData(stormId);
                     if (tornadoData == null) continue;
                     
-                    // Scan damaged chunks for evidence
-                    Set<ChunkPos> damagedChunks = tornadoData.getDamagedChunks();
-                    for (ChunkPos chunkPos : damagedChunks) {
-                        scanChunkForEvidence(stormId, chunkPos, stormPos, windspeed, windfieldWidth, level);
+                    // CHANGED: Only scan what the frontier hands out (chunks just reached or just passed)
+                    // rather than every chunk on the damage path, every pass
+                    StormScanFrontier frontier = frontiers.computeIfAbsent(stormId, id -> new StormScanFrontier());
+                    frontier.lastPass = pass;
+                    // Same damage radius the damaged chunk tracking uses
+                    double damageRadius = Math.min(windfieldWidth * 1.5, 150.0);
+                    LongArrayList toScan = new LongArrayList();
+                    frontier.advance(stormPos.x, stormPos.z, damageRadius, level, entryOnly, toScan);
+                    if (toScan.isEmpty()) continue;
+                    
+                    EASAddon.LOGGER.debug("Evidence scan: storm {} queued {} chunks (frontier {}, settled {})",
+                        stormId, toScan.size(), frontier.frontierSize(), frontier.settledSize());
+                    
+                    // Queue one scan per chunk instead of scanning them all in this tick.
+                    // A chunk still queued from the last pass isn't queued twice.
+                    ClientWorkScheduler scheduler = ClientWorkScheduler.getInstance();
+                    for (long chunkKey : toScan.toLongArray()) {
+                        ChunkPos chunkPos = new ChunkPos(chunkKey);
+                        scheduler.submit(ClientWorkScheduler.Priority.CHUNK_SCAN, "evidence-scan:" + stormId + ":" + chunkKey, () -> {
+                            if (Minecraft.getInstance().level == level) {
+                                scanChunkForEvidence(stormId, chunkPos, stormPos, windspeed, windfieldWidth, level);
+                            }
+                        });
                     }
                     
                 } catch (Exception e) {
@@ -277,6 +268,9 @@ public class PMWeatherDamageHook {
         } catch (Exception e) {
             EASAddon.LOGGER.debug("Error in evidence scanning: {}", e.getMessage());
         }
+        
+        // Storms that dissipated or stopped qualifying since the last pass
+        frontiers.values().removeIf(frontier -> frontier.lastPass != pass);
     }
 
     /**
@@ -310,6 +304,11 @@ public class PMWeatherDamageHook {
     private void scanForDebarkingAt(long stormId, ChunkPos chunkPos, BlockPos pos, 
                                    Vec3 stormPos, int windspeed, int windfieldWidth, Level level) {
         
+        // ADDED: Skip the neighborhood when no section it touches can hold a stripped log
+        if (!SectionPaletteFilter.mayContain(level, pos.offset(-2, -2, -2), pos.offset(2, 3, 2), SectionPaletteFilter.STRIPPED_LOGS)) {
+            return;
+        }
+        
         // Check area around position for stripped logs
         for (int dx = -2; dx <= 2; dx++) {
             for (int dy = -2; dy <= 3; dy++) {
@@ -328,8 +327,7 @@ public class PMWeatherDamageHook {
                         isInNaturalForestArea(checkPos, level)) {
                         
                         // Calculate wind effect to verify this tornado could cause debarking
-                        double windEffect = calculateWindEffectUsingPMWeatherLogic(
-                            checkPos.getCenter(), stormPos, (float)windfieldWidth / 2.0f, windspeed, windfieldWidth);
+                        double windEffect = WindFieldModel.windAtBlock(checkPos, stormPos, windfieldWidth, windspeed);
                         
                         if (windEffect >= 140.0) { // PMWeather's debarking threshold
                             DamageSurveyManager.getInstance().addDebarkingEvidence(stormId, chunkPos, checkPos);
@@ -356,8 +354,7 @@ public class PMWeatherDamageHook {
         BlockState surfaceState = level.getBlockState(pos);
         
         // Calculate wind effect at this position
-        double windEffect = calculateWindEffectUsingPMWeatherLogic(
-            pos.getCenter(), stormPos, (float)windfieldWidth / 2.0f, windspeed, windfieldWidth);
+        double windEffect = WindFieldModel.windAtBlock(pos, stormPos, windfieldWidth, windspeed);
         
         ChunkDamageData.ScouringLevel scouringLevel = null;
         
@@ -381,151 +378,8 @@ public class PMWeatherDamageHook {
         }
     }
 
-    /**
-     * Calculate wind effect using PMWeather's Rankine vortex model
-     */
-    private double calculateWindEffectUsingPMWeatherLogic(Vec3 blockPos, Vec3 tornadoPos, 
-                                                         float tornadoWidth, int windspeed, int windfieldWidth) {
-        try {
-            // 1. Distance calculation (2D, ignoring Y)
-            double dist = tornadoPos.multiply(1.0, 0.0, 1.0).distanceTo(blockPos.multiply(1.0, 0.0, 1.0));
-            
-            // 2. Rankine vortex calculation
-            float rankineFactor = 4.5f; // Default from Storm.java
-            float perc = calculateRankinePercentage(dist, windfieldWidth, rankineFactor);
-            
-            // 3. Rotational wind calculation
-            Vec3 relativePos = blockPos.subtract(tornadoPos);
-            Vec3 rotational = new Vec3(relativePos.z, 0.0, -relativePos.x).normalize();
-            
-            // 4. Basic wind calculation (simplified but accurate for damage detection)
-            double realWind = (double)windspeed;
-            Vec3 motion = rotational.multiply(realWind * (double)perc, 0.0, realWind * (double)perc);
-            
-            // 5. Add translational velocity effect
-            float affectPerc = (float)Math.sqrt(Math.max(0, 1.0 - dist / (double)((float)windfieldWidth * 2.0f)));
-            double estimatedVelocityMagnitude = 15.0; // Typical tornado speed
-            motion = motion.add(new Vec3(estimatedVelocityMagnitude * affectPerc, 0.0, estimatedVelocityMagnitude * affectPerc));
-            
-            return motion.length();
-            
-        } catch (Exception e) {
-            EASAddon.LOGGER.debug("Error calculating wind effect: {}", e.getMessage());
-            return 0.0;
-        }
-    }
 
-    /**
-     * Replicate PMWeather's Rankine vortex calculation from Storm.getRankine()
-     */
-    private float calculateRankinePercentage(double dist, int windfieldWidth, float rankineFactor) {
-        float rankineWidth = (float)windfieldWidth / rankineFactor;
-        float perc = 0.0f;
-        
-        if (dist <= (double)(rankineWidth / 2.0f)) {
-            // Inner core - linear increase
-            perc = (float)dist / (rankineWidth / 2.0f);
-        } else if (dist <= (double)((float)windfieldWidth * 2.0f)) {
-            // Outer region - power decay
-            double denominator = (((float)windfieldWidth * 2.0f - rankineWidth) / 2.0f);
-            if (denominator > 0) {
-                double falloff = (dist - (double)(rankineWidth / 2.0f)) / denominator;
-                perc = (float)Math.pow(Math.max(0, 1.0 - falloff), 1.5);
-                perc = Math.max(0.0f, Math.min(1.0f, perc));
-            }
-        }
-        
-        if (Float.isNaN(perc)) {
-            perc = 0.0f;
-        }
-        
-        return perc;
-    }
-
-    /**
-     * Block strength calculation with PMWeather custom values support
-     */
-    private float getBlockStrengthWithCustom(net.minecraft.world.level.block.Block block, Level level) {
-        try {
-            // Check if PMWeather has a custom strength for this block
-            if (reflectionInitialized && blockStrengthsField != null) {
-                Map<net.minecraft.world.level.block.Block, Float> customStrengths = 
-                    (Map<net.minecraft.world.level.block.Block, Float>) blockStrengthsField.get(null);
-                
-                if (customStrengths != null && customStrengths.containsKey(block)) {
-                    return customStrengths.get(block);
-                }
-            }
-        } catch (Exception e) {
-            // Fall through to default calculation
-        }
-        
-        // Use PMWeather's default calculation
-        return getBlockStrengthDefaultPMWeather(block, level);
-    }
-
-    /**
-     * PMWeather's exact default block strength calculation
-     */
-    private static float getBlockStrengthDefaultPMWeather(net.minecraft.world.level.block.Block block, Level level) {
-        net.minecraft.world.item.ItemStack item = new net.minecraft.world.item.ItemStack(net.minecraft.world.item.Items.IRON_AXE);
-        float destroySpeed = block.defaultBlockState().getDestroySpeed(level, BlockPos.ZERO);
-        
-        try {
-            destroySpeed /= item.getDestroySpeed(block.defaultBlockState());
-        } catch (Exception e) {
-            destroySpeed = 1.0f; // Safe fallback
-        }
-        
-        // PMWeather's exact formula
-        return 60.0f + net.minecraft.util.Mth.sqrt(destroySpeed) * 60.0f;
-    }
     
-    private Object getWeatherHandler(Level level) {
-        // Reuse the same weather handler finding logic from TornadoTracker
-        try {
-            // Method 1: Look for WeatherHandlerClient class specifically
-            try {
-                Class<?> weatherHandlerClientClass = Class.forName("dev.protomanly.pmweather.weather.WeatherHandlerClient");
-                
-                // Look for static instances or fields
-                Field[] staticFields = weatherHandlerClientClass.getDeclaredFields();
-                for (Field field : staticFields) {
-                    if (java.lang.reflect.Modifier.isStatic(field.getModifiers())) {
-                        try {
-                            field.setAccessible(true);
-                            Object fieldValue = field.get(null);
-                            if (fieldValue != null) {
-                                return fieldValue;
-                            }
-                        } catch (Exception e) {
-                            // Continue trying
-                        }
-                    }
-                }
-                
-            } catch (ClassNotFoundException e) {
-                // Continue to next method
-            }
-            
-            // Method 2: Look in GameBusEvents for managers
-            try {
-                Class<?> gbe = Class.forName("dev.protomanly.pmweather.event.GameBusEvents");
-                Field managersF = gbe.getField("MANAGERS");
-                Map managers = (Map)managersF.get(null);
-                Object handler = managers.get(level.dimension());
-                return handler;
-            } catch (Exception e) {
-                // Continue
-            }
-            
-            return null;
-            
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
     /**
      * Helper methods for block type detection
      */
@@ -572,24 +426,12 @@ public class PMWeatherDamageHook {
     }
 
     private boolean isMediumScouringBlock(BlockState state) {
-        try {
-            Class<?> modBlocks = Class.forName("dev.protomanly.pmweather.block.ModBlocks");
-            Object mediumScouringHolder = modBlocks.getField("MEDIUM_SCOURING").get(null);
-            Object mediumScouringBlock = mediumScouringHolder.getClass().getMethod("get").invoke(mediumScouringHolder);
-            return state.getBlock() == mediumScouringBlock;
-        } catch (Exception e) {
-            return false;
-        }
+        StormAccess pm = PMWeatherBridge.get();
+        return pm != null && state.getBlock() == pm.getMediumScouringBlock();
     }
 
     private boolean isHeavyScouringBlock(BlockState state) {
-        try {
-            Class<?> modBlocks = Class.forName("dev.protomanly.pmweather.block.ModBlocks");
-            Object heavyScouringHolder = modBlocks.getField("HEAVY_SCOURING").get(null);
-            Object heavyScouringBlock = heavyScouringHolder.getClass().getMethod("get").invoke(heavyScouringHolder);
-            return state.getBlock() == heavyScouringBlock;
-        } catch (Exception e) {
-            return false;
-        }
+        StormAccess pm = PMWeatherBridge.get();
+        return pm != null && state.getBlock() == pm.getHeavyScouringBlock();
     }
 }
\ No newline at end of file
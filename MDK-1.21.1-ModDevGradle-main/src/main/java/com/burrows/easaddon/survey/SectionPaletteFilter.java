@@ -0,0 +1,55 @@
+package com.burrows.easaddon.survey;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.neoforged.neoforge.common.Tags;
+
+import java.util.function.Predicate;
+
+/**
+ * Asks chunk section palettes whether a block could be present before anything reads blocks.
+ *
+ * A section's palette lists every state it holds (plus, until it is repacked, some it no longer
+ * does), so a palette with no matching entry rules the whole 16x16x16 section out. Sections on the
+ * global palette can't be ruled out. Most chunks a tornado crosses hold no stripped logs at all,
+ * which lets evidence scans skip nearly all of their block reads.
+ */
+public final class SectionPaletteFilter {
+    public static final Predicate<BlockState> STRIPPED_LOGS = state -> state.is(Tags.Blocks.STRIPPED_LOGS);
+
+    private SectionPaletteFilter() {}
+
+    /**
+     * Whether any block in the box (inclusive) may match target. Boxes reaching into chunks the
+     * level doesn't have are assumed to, since telling would mean loading them.
+     */
+    public static boolean mayContain(Level level, BlockPos min, BlockPos max, Predicate<BlockState> target) {
+        int minY = Math.max(min.getY(), level.getMinBuildHeight());
+        int maxY = Math.min(max.getY(), level.getMaxBuildHeight() - 1);
+        if (minY > maxY) return false;
+
+        int minSectionY = SectionPos.blockToSectionCoord(minY);
+        int maxSectionY = SectionPos.blockToSectionCoord(maxY);
+        for (int chunkX = SectionPos.blockToSectionCoord(min.getX()); chunkX <= SectionPos.blockToSectionCoord(max.getX()); chunkX++) {
+            for (int chunkZ = SectionPos.blockToSectionCoord(min.getZ()); chunkZ <= SectionPos.blockToSectionCoord(max.getZ()); chunkZ++) {
+                if (!level.hasChunk(chunkX, chunkZ)) return true;
+
+                LevelChunk chunk = level.getChunk(chunkX, chunkZ);
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    if (mayContain(chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY)), target)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    public static boolean mayContain(LevelChunkSection section, Predicate<BlockState> target) {
+        return !section.hasOnlyAir() && section.maybeHas(target);
+    }
+}
@@ -3,6 +3,7 @@ package com.burrows.easaddon.survey;
 import com.burrows.easaddon.EASAddon;
 
 import com.burrows.easaddon.network.SurveyNetworkPackets;
+import com.burrows.easaddon.tornado.ServerTornadoTracker;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
@@ -15,6 +16,8 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.chunk.LevelChunk;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
 
 /**
  * Server-side survey coordination and state management
@@ -25,8 +28,14 @@ public class ServerSurveyManager {
     // Server-side survey state
     private final Map<Long, ServerSurveySession> activeSurveys = new ConcurrentHashMap<>();
     private final Map<Long, SurveyResults> completedSurveys = new ConcurrentHashMap<>();
-    private final Set<ChunkPos> serverForceLoadedChunks = new HashSet<>();
     private static final int SERVER_CHUNK_LOAD_TIMEOUT_MS = 3000;
+    // Survey chunks stay loaded until the survey is finished or quit. Every surveyed chunk renews the
+    // lease; it only runs out if the surveyor goes five minutes without one (left without quitting).
+    private static final long CHUNK_LEASE_TICKS = 6000;
+    // ADDED: Chunk lease of each survey, tornado ID -> lease ID (see SurveyChunkLeaseManager)
+    private final Map<Long, Long> chunkLeases = new ConcurrentHashMap<>();
+    // ADDED: Survey starts still waiting for their chunks to load, tornado ID -> surveyor
+    private final Map<Long, UUID> pendingStarts = new ConcurrentHashMap<>();
     
     public static class ServerSurveySession {
         public final long tornadoId;
@@ -167,6 +176,12 @@ public void handleStartSurvey(Player player, long tornadoId, List<ChunkPos> vali
         return;
     }
     
+    // ADDED: A start for this tornado is already waiting on chunk loads
+    if (pendingStarts.containsKey(tornadoId)) {
+        serverPlayer.sendSystemMessage(Component.literal("§eThis survey is already being prepared"));
+        return;
+    }
+    
     Set<ChunkPos> validatedChunksSet = new HashSet<>(validatedChunks);
     
     if (validatedChunksSet.isEmpty()) {
@@ -190,21 +205,82 @@ public void handleStartSurvey(Player player, long tornadoId, List<ChunkPos> vali
         }
     }
     
-    if (!chunksToLoad.isEmpty()) {
-        EASAddon.LOGGER.info("SERVER: Force loading {} unloaded chunks for survey consistency", chunksToLoad.size());
-        forceLoadChunksOnServer(chunksToLoad, serverLevel);
-        
-        // Wait briefly for chunks to load
-        try {
-            Thread.sleep(300);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    if (chunksToLoad.isEmpty()) {
+        createSurveySession(serverPlayer, tornadoId, validatedChunks, validatedChunksSet, chunksToLoad, -1L);
+        return;
+    }
+    
+    EASAddon.LOGGER.info("SERVER: Loading {} unloaded chunks for survey consistency", chunksToLoad.size());
+    // FIXED: Region tickets through the lease manager instead of setChunkForced, which is saved with the world
+    long leaseId = SurveyChunkLeaseManager.getInstance().acquire(serverLevel, chunksToLoad, CHUNK_LEASE_TICKS);
+    
+    // FIXED: Wait for the chunk futures instead of sleeping on the server thread
+    pendingStarts.put(tornadoId, playerId);
+    serverPlayer.displayClientMessage(Component.literal("§ePreparing survey: loading " + chunksToLoad.size() + " chunks..."), true);
+    
+    awaitChunkLoads(chunksToLoad, serverLevel, serverPlayer)
+        .orTimeout(SERVER_CHUNK_LOAD_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+        .whenCompleteAsync((ignored, error) -> {
+            // Quit or replaced while the chunks were loading
+            if (!pendingStarts.remove(tornadoId, playerId)) {
+                SurveyChunkLeaseManager.getInstance().release(serverLevel, leaseId);
+                return;
+            }
+            if (serverPlayer.hasDisconnected()) {
+                EASAddon.LOGGER.info("SERVER: {} left before survey of tornado {} was ready", playerName, tornadoId);
+                SurveyChunkLeaseManager.getInstance().release(serverLevel, leaseId);
+                return;
+            }
+            if (error != null) {
+                // Not fatal: the session only needs the chunk list, the chunks finish loading on their own
+                EASAddon.LOGGER.warn("SERVER: Not all survey chunks for tornado {} loaded in time: {}", tornadoId, error.toString());
+            }
+            createSurveySession(serverPlayer, tornadoId, validatedChunks, validatedChunksSet, chunksToLoad, leaseId);
+        }, serverLevel.getServer());
+}
+
+/**
+ * ADDED: Completes once every chunk is loaded to FULL, reporting progress on the player's action bar.
+ * Must be called on the server thread.
+ */
+private CompletableFuture<Void> awaitChunkLoads(Set<ChunkPos> chunks, ServerLevel serverLevel, ServerPlayer player) {
+    int total = chunks.size();
+    AtomicInteger loaded = new AtomicInteger();
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[total];
+    
+    int i = 0;
+    for (ChunkPos chunk : chunks) {
+        futures[i++] = serverLevel.getChunkSource().getChunkFuture(chunk.x, chunk.z, ChunkStatus.FULL, true)
+            .thenRun(() -> {
+                int done = loaded.incrementAndGet();
+                player.displayClientMessage(Component.literal("§ePreparing survey: loaded " + done + "/" + total + " chunks"), true);
+            });
+    }
+    return CompletableFuture.allOf(futures);
+}
+
+/**
+ * Register the survey once its chunks are ready and tell the clients
+ */
+private void createSurveySession(ServerPlayer serverPlayer, long tornadoId, List<ChunkPos> validatedChunks,
+                                 Set<ChunkPos> validatedChunksSet, Set<ChunkPos> chunksToLoad, long leaseId) {
+    String playerName = serverPlayer.getName().getString();
+    UUID playerId = serverPlayer.getUUID();
+    ServerLevel serverLevel = serverPlayer.serverLevel();
+    
+    // Someone else's survey may have started while this one was loading
+    if (activeSurveys.containsKey(tornadoId)) {
+        serverPlayer.sendSystemMessage(Component.literal("§cThis tornado is already being surveyed by " + activeSurveys.get(tornadoId).playerName));
+        SurveyChunkLeaseManager.getInstance().release(serverLevel, leaseId);
+        return;
     }
     
     // Create survey session with the same chunks the client validated
     ServerSurveySession session = new ServerSurveySession(tornadoId, playerName, playerId, validatedChunksSet);
     activeSurveys.put(tornadoId, session);
+    if (leaseId >= 0) {
+        chunkLeases.put(tornadoId, leaseId);
+    }
     
     // ENHANCED LOGGING: Verify client-server chunk sync
     EASAddon.LOGGER.info("SERVER SURVEY SESSION CREATED:");
@@ -228,35 +304,10 @@ public void handleStartSurvey(Player player, long tornadoId, List<ChunkPos> vali
     serverPlayer.sendSystemMessage(Component.literal("§eValidated chunks: " + validatedChunksSet.size() + 
         " (need " + session.requiredSurveys + ")"));
     
-    // Schedule cleanup of force-loaded chunks
-    if (!chunksToLoad.isEmpty()) {
-        scheduleServerChunkCleanup(chunksToLoad, serverLevel, 60000); // Clean up after 1 minute
-    }
-    
     EASAddon.LOGGER.info("Player {} started surveying tornado {} with {} validated chunks (need {})", 
         playerName, tornadoId, validatedChunksSet.size(), session.requiredSurveys);
 }
 
-/**
- * Force load chunks on server side for survey consistency
- */
-private void forceLoadChunksOnServer(Set<ChunkPos> chunks, ServerLevel serverLevel) {
-    for (ChunkPos chunk : chunks) {
-        try {
-            EASAddon.LOGGER.debug("SERVER: Force loading chunk ({}, {})", chunk.x, chunk.z);
-            
-            // Use server-side chunk force loading
-            serverLevel.setChunkForced(chunk.x, chunk.z, true);
-            serverForceLoadedChunks.add(chunk);
-            
-            EASAddon.LOGGER.debug("SERVER: Successfully force loaded chunk ({}, {})", chunk.x, chunk.z);
-            
-        } catch (Exception e) {
-            EASAddon.LOGGER.error("SERVER: Failed to force load chunk ({}, {}): {}", chunk.x, chunk.z, e.getMessage());
-        }
-    }
-}
-
 /**
  * ENHANCED: Handle finish survey request with chunk cleanup
  * This replaces the existing handleFinishSurvey method
@@ -282,13 +333,16 @@ public void handleFinishSurvey(Player player, long tornadoId, int finalRating, f
     int surveyedChunks = session.surveyedChunks.size();
     float completion = totalChunks > 0 ? ((float) surveyedChunks / totalChunks) * 100f : 0f;
     
-    // ENHANCED: Clean up any force-loaded chunks for this survey
+    // ENHANCED: Release the chunks loaded for this survey
     ServerLevel serverLevel = (ServerLevel) player.level();
-    cleanupSurveyChunks(session.availableChunks, serverLevel);
+    releaseSurveyChunks(tornadoId, serverLevel);
     
     // Remove session
     activeSurveys.remove(tornadoId);
     
+    // ADDED: Keep the rating on the server's tornado record
+    ServerTornadoTracker.getInstance().recordSurveyResults(serverLevel, tornadoId, playerName, finalRating, finalWindspeed);
+    
     // Log completion
     EASAddon.LOGGER.info("SERVER: Survey completed for tornado {} by {}", tornadoId, playerName);
     EASAddon.LOGGER.info("  Final rating: EF{}", finalRating);
@@ -320,6 +374,12 @@ public void handleQuitSurvey(Player player, long tornadoId) {
     String playerName = player.getName().getString();
     ServerSurveySession session = activeSurveys.get(tornadoId);
     
+    // ADDED: Quitting while the survey is still loading cancels the start; its chunks are released when the load finishes
+    if (session == null && pendingStarts.remove(tornadoId, player.getUUID())) {
+        serverPlayer.sendSystemMessage(Component.literal("§6Survey start cancelled"));
+        return;
+    }
+    
     if (session == null) {
         serverPlayer.sendSystemMessage(Component.literal("§cNo active survey for this tornado"));
         return;
@@ -330,9 +390,9 @@ public void handleQuitSurvey(Player player, long tornadoId) {
         return;
     }
     
-    // ENHANCED: Clean up any force-loaded chunks for this survey
+    // ENHANCED: Release the chunks loaded for this survey
     ServerLevel serverLevel = (ServerLevel) player.level();
-    cleanupSurveyChunks(session.availableChunks, serverLevel);
+    releaseSurveyChunks(tornadoId, serverLevel);
     
     // Remove session
     activeSurveys.remove(tornadoId);
@@ -361,103 +421,52 @@ public void handleQuitSurvey(Player player, long tornadoId) {
 }
 
 /**
- * Clean up force-loaded chunks for a specific survey
+ * Keep a running survey's chunks loaded for another CHUNK_LEASE_TICKS. If the lease already ran
+ * out, the chunks still to be surveyed are leased again.
  */
-private void cleanupSurveyChunks(Set<ChunkPos> surveyChunks, ServerLevel serverLevel) {
-    Set<ChunkPos> chunksToCleanup = new HashSet<>();
-    
-    // Find which chunks were force-loaded for this survey
-    for (ChunkPos chunk : surveyChunks) {
-        if (serverForceLoadedChunks.contains(chunk)) {
-            chunksToCleanup.add(chunk);
-        }
-    }
-    
-    if (!chunksToCleanup.isEmpty()) {
-        EASAddon.LOGGER.info("SERVER: Cleaning up {} force-loaded chunks from completed survey", chunksToCleanup.size());
-        cleanupServerForceLoadedChunks(chunksToCleanup, serverLevel);
+private void renewSurveyChunks(ServerLevel serverLevel, ServerSurveySession session) {
+    SurveyChunkLeaseManager leases = SurveyChunkLeaseManager.getInstance();
+    Long leaseId = chunkLeases.get(session.tornadoId);
+    // No lease means every chunk was already loaded when the survey started
+    if (leaseId == null || leases.renew(serverLevel, leaseId, CHUNK_LEASE_TICKS)) return;
+    
+    Set<ChunkPos> remaining = new HashSet<>(session.availableChunks);
+    remaining.removeAll(session.surveyedChunks);
+    if (remaining.isEmpty()) {
+        chunkLeases.remove(session.tornadoId);
+        return;
     }
+    chunkLeases.put(session.tornadoId, leases.acquire(serverLevel, remaining, CHUNK_LEASE_TICKS));
+    EASAddon.LOGGER.debug("Survey lease for tornado {} ran out; leased {} remaining chunks again", session.tornadoId, remaining.size());
 }
 
 /**
- * Schedule cleanup of server force-loaded chunks after delay
- */
-private void scheduleServerChunkCleanup(Set<ChunkPos> chunksToClean, ServerLevel serverLevel, long delayMs) {
-    if (chunksToClean.isEmpty()) return;
-    
-    EASAddon.LOGGER.info("SERVER: Scheduling cleanup of {} force-loaded chunks in {}ms", chunksToClean.size(), delayMs);
-    
-    // Use a separate thread to clean up after delay
-    CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS).execute(() -> {
-        cleanupServerForceLoadedChunks(chunksToClean, serverLevel);
-    });
-}
-
-/**
- * Clean up server force-loaded chunks
+ * Release the chunks loaded for a survey, if it still holds them
  */
-private void cleanupServerForceLoadedChunks(Set<ChunkPos> chunksToClean, ServerLevel serverLevel) {
-    EASAddon.LOGGER.info("SERVER: Cleaning up {} force-loaded chunks", chunksToClean.size());
-    
-    for (ChunkPos chunk : chunksToClean) {
-        try {
-            if (serverForceLoadedChunks.contains(chunk)) {
-                serverLevel.setChunkForced(chunk.x, chunk.z, false);
-                serverForceLoadedChunks.remove(chunk);
-                EASAddon.LOGGER.debug("SERVER: Released force-loaded chunk ({}, {})", chunk.x, chunk.z);
-            }
-        } catch (Exception e) {
-            EASAddon.LOGGER.error("SERVER: Error cleaning up chunk ({}, {}): {}", chunk.x, chunk.z, e.getMessage());
-        }
+private void releaseSurveyChunks(long tornadoId, ServerLevel serverLevel) {
+    Long leaseId = chunkLeases.remove(tornadoId);
+    if (leaseId != null) {
+        SurveyChunkLeaseManager.getInstance().release(serverLevel, leaseId);
     }
 }
 
 /**
- * Get all currently force-loaded chunks (for debugging/monitoring)
+ * Get all chunks currently loaded for surveys (for debugging/monitoring)
  */
 public Set<ChunkPos> getForceLoadedChunks() {
-    return new HashSet<>(serverForceLoadedChunks);
+    return SurveyChunkLeaseManager.getInstance().getLeasedChunks();
 }
 
 /**
- * ENHANCED: Shutdown method to clean up all force-loaded chunks
+ * ENHANCED: Shutdown method to drop survey state. Chunk tickets don't outlive the server, so
+ * there is nothing left loaded to clean up.
  */
 public void shutdown() {
-    EASAddon.LOGGER.info("SERVER: Shutting down server survey manager, cleaning up {} force-loaded chunks", 
-        serverForceLoadedChunks.size());
-    
-    // Clean up all remaining force-loaded chunks
-    if (!serverForceLoadedChunks.isEmpty()) {
-        // Get any available server level for cleanup
-        try {
-            // This is a simplified approach - in practice you'd want to track per-level
-            if (activeSurveys.values().iterator().hasNext()) {
-                ServerSurveySession anySession = activeSurveys.values().iterator().next();
-                // Find the level from any active session's player, but this is a fallback approach
-                // In a real implementation, you'd want to track chunks per ServerLevel
-            }
-            
-            // For now, just clear tracking and log
-            Set<ChunkPos> chunksToLog = new HashSet<>(serverForceLoadedChunks);
-            serverForceLoadedChunks.clear();
-            
-            EASAddon.LOGGER.warn("SERVER: Cleared tracking of {} force-loaded chunks on shutdown. " +
-                "These chunks may remain force-loaded until server restart: {}", 
-                chunksToLog.size(), 
-                chunksToLog.stream()
-                    .limit(10) // Show only first 10 to avoid spam
-                    .map(chunk -> "(" + chunk.x + "," + chunk.z + ")")
-                    .collect(java.util.stream.Collectors.joining(", "))
-                    + (chunksToLog.size() > 10 ? "..." : ""));
-                    
-        } catch (Exception e) {
-            EASAddon.LOGGER.error("SERVER: Error during shutdown cleanup: {}", e.getMessage());
-        }
-    }
-    
+    EASAddon.LOGGER.info("SERVER: Shutting down server survey manager ({} active surveys)", activeSurveys.size());
     activeSurveys.clear();
-}
-    
+    pendingStarts.clear();
+    chunkLeases.clear();
+}    
     /**
      * FIXED: Handle survey chunk action from client with client-calculated rating and windspeed
      * REMOVED duplicate messages to prevent client-server message duplication
@@ -502,6 +511,9 @@ public void shutdown() {
         session.surveyedChunks.add(chunkPos);
         session.chunkRatings.put(chunkPos, new ServerSurveySession.ChunkSurveyData(efRating, maxWindspeed));
         
+        // ADDED: Progress keeps the survey's chunks loaded
+        renewSurveyChunks(serverPlayer.serverLevel(), session);
+        
         // REMOVED: Duplicate success messages - these are already sent by DamageSurveyManager on client
         // The client handles all user feedback, server only handles validation and state management
         
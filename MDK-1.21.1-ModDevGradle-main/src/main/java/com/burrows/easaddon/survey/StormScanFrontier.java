@@ -0,0 +1,80 @@
+package com.burrows.easaddon.survey;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.api.distmarker.OnlyIn;
+
+/**
+ * One storm's evidence scan state: the chunks inside its damage radius right now (the frontier)
+ * and the chunks it has already passed (settled).
+ *
+ * A chunk is scanned when it enters the frontier and once more when the storm leaves it behind and
+ * the damage there is final. Settled chunks are not scanned again. Each pass therefore costs about
+ * the size of the windfield, not the length of the track.
+ *
+ * While {@link ClientBlockChangeDetector} is receiving server block updates it already reports
+ * every change to a loaded chunk, so only the entry scan is kept: it covers chunks that arrived
+ * from the server already damaged, which no block update was ever sent for.
+ */
+@OnlyIn(Dist.CLIENT)
+final class StormScanFrontier {
+    private final LongOpenHashSet frontier = new LongOpenHashSet();
+    private final LongOpenHashSet settled = new LongOpenHashSet();
+    // Scan pass this storm was last seen in; storms missing from a pass are dropped
+    long lastPass;
+
+    /**
+     * Move the frontier to the storm's current position and add the chunks to scan this pass to out.
+     * With entryOnly, only chunks new to the frontier are scanned.
+     */
+    void advance(double x, double z, double radius, Level level, boolean entryOnly, LongArrayList out) {
+        int chunkRadius = (int) Math.ceil(radius / 16.0);
+        int centerChunkX = (int) Math.floor(x) >> 4;
+        int centerChunkZ = (int) Math.floor(z) >> 4;
+        double radiusSqr = radius * radius;
+
+        LongOpenHashSet inRange = new LongOpenHashSet();
+        for (int dx = -chunkRadius; dx <= chunkRadius; dx++) {
+            for (int dz = -chunkRadius; dz <= chunkRadius; dz++) {
+                int chunkX = centerChunkX + dx;
+                int chunkZ = centerChunkZ + dz;
+                // Same chunk-centre test the damaged chunk tracking uses
+                double offsetX = chunkX * 16 + 8 - x;
+                double offsetZ = chunkZ * 16 + 8 - z;
+                if (offsetX * offsetX + offsetZ * offsetZ > radiusSqr) continue;
+                // Unloaded chunks have nothing to read; they join the frontier once they load
+                if (!level.hasChunk(chunkX, chunkZ)) continue;
+                inRange.add(ChunkPos.asLong(chunkX, chunkZ));
+            }
+        }
+
+        // Left behind: one last scan now that the damage is done
+        for (LongIterator it = frontier.iterator(); it.hasNext(); ) {
+            long chunk = it.nextLong();
+            if (!inRange.contains(chunk)) {
+                it.remove();
+                settled.add(chunk);
+                if (!entryOnly) out.add(chunk);
+            }
+        }
+
+        for (LongIterator it = inRange.iterator(); it.hasNext(); ) {
+            long chunk = it.nextLong();
+            // Passed already (the storm doubled back or wobbled)
+            if (settled.contains(chunk)) continue;
+            if (frontier.add(chunk)) out.add(chunk);
+        }
+    }
+
+    int frontierSize() {
+        return frontier.size();
+    }
+
+    int settledSize() {
+        return settled.size();
+    }
+}
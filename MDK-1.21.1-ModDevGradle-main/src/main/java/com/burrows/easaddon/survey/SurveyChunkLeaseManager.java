@@ -0,0 +1,170 @@
+package com.burrows.easaddon.survey;
+
+import com.burrows.easaddon.EASAddon;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps survey chunks loaded on the server with reference-counted region tickets.
+ *
+ * A survey takes a lease on its chunks; each chunk holds one ticket for as long as any lease
+ * covers it, so one survey releasing a chunk never unloads it under another. Leases end when
+ * released or when their TTL runs out, checked on the level tick. Unlike setChunkForced, tickets
+ * are not saved with the world, so a missed release can't leave chunks loaded forever.
+ *
+ * Server thread only.
+ */
+public class SurveyChunkLeaseManager {
+    private static SurveyChunkLeaseManager instance;
+
+    private static final TicketType<ChunkPos> SURVEY_TICKET =
+        TicketType.create(EASAddon.MODID + ":survey", Comparator.comparingLong(ChunkPos::toLong));
+    // Ticket level FULL: blocks are readable, the chunk doesn't tick
+    private static final int TICKET_DISTANCE = 0;
+
+    private static final class Lease {
+        final ResourceKey<Level> dimension;
+        final long[] chunks;
+        long expiresAt;
+
+        Lease(ResourceKey<Level> dimension, long[] chunks, long expiresAt) {
+            this.dimension = dimension;
+            this.chunks = chunks;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final Long2ObjectOpenHashMap<Lease> leases = new Long2ObjectOpenHashMap<>();
+    private final Map<ResourceKey<Level>, Long2IntOpenHashMap> refCounts = new HashMap<>();
+    private long nextLeaseId = 1;
+
+    private SurveyChunkLeaseManager() {}
+
+    public static SurveyChunkLeaseManager getInstance() {
+        if (instance == null) {
+            instance = new SurveyChunkLeaseManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Keep the chunks loaded for up to ttlTicks of game time. Returns the lease ID for
+     * {@link #release}.
+     */
+    public long acquire(ServerLevel level, Collection<ChunkPos> chunks, long ttlTicks) {
+        long[] keys = new long[chunks.size()];
+        int i = 0;
+        for (ChunkPos chunk : chunks) {
+            keys[i++] = chunk.toLong();
+        }
+
+        Long2IntOpenHashMap counts = refCounts.computeIfAbsent(level.dimension(), k -> new Long2IntOpenHashMap());
+        for (long key : keys) {
+            if (counts.addTo(key, 1) == 0) {
+                ChunkPos pos = new ChunkPos(key);
+                level.getChunkSource().addRegionTicket(SURVEY_TICKET, pos, TICKET_DISTANCE, pos);
+            }
+        }
+
+        long id = nextLeaseId++;
+        leases.put(id, new Lease(level.dimension(), keys, level.getGameTime() + ttlTicks));
+        EASAddon.LOGGER.debug("Survey lease {}: {} chunks in {} for {} ticks", id, keys.length, level.dimension().location(), ttlTicks);
+        return id;
+    }
+
+    /**
+     * Extend a lease to ttlTicks from now. Returns false if it already ended.
+     */
+    public boolean renew(ServerLevel level, long leaseId, long ttlTicks) {
+        Lease lease = leases.get(leaseId);
+        if (lease == null) return false;
+        lease.expiresAt = level.getGameTime() + ttlTicks;
+        return true;
+    }
+
+    /**
+     * End a lease now. Chunks no other lease covers lose their ticket. Unknown IDs are ignored.
+     */
+    public void release(ServerLevel level, long leaseId) {
+        Lease lease = leases.remove(leaseId);
+        if (lease == null) return;
+        if (lease.dimension != level.dimension()) {
+            level = level.getServer().getLevel(lease.dimension);
+        }
+        releaseChunks(level, lease);
+    }
+
+    /**
+     * Chunks currently held by any lease, across dimensions (for debugging/monitoring)
+     */
+    public Set<ChunkPos> getLeasedChunks() {
+        Set<ChunkPos> result = new HashSet<>();
+        for (Long2IntOpenHashMap counts : refCounts.values()) {
+            counts.keySet().forEach(key -> result.add(new ChunkPos(key)));
+        }
+        return result;
+    }
+
+    @SubscribeEvent
+    public void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel level) || leases.isEmpty()) return;
+
+        long now = level.getGameTime();
+        for (Iterator<Lease> it = leases.values().iterator(); it.hasNext(); ) {
+            Lease lease = it.next();
+            if (lease.dimension == level.dimension() && lease.expiresAt <= now) {
+                it.remove();
+                releaseChunks(level, lease);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            // Tickets go away with the level
+            leases.values().removeIf(lease -> lease.dimension == level.dimension());
+            refCounts.remove(level.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public void onServerStopped(ServerStoppedEvent event) {
+        leases.clear();
+        refCounts.clear();
+    }
+
+    private void releaseChunks(ServerLevel level, Lease lease) {
+        Long2IntOpenHashMap counts = refCounts.get(lease.dimension);
+        if (counts == null) return;
+
+        for (long key : lease.chunks) {
+            int remaining = counts.addTo(key, -1) - 1;
+            if (remaining > 0) continue;
+
+            counts.remove(key);
+            if (level != null) {
+                ChunkPos pos = new ChunkPos(key);
+                level.getChunkSource().removeRegionTicket(SURVEY_TICKET, pos, TICKET_DISTANCE, pos);
+            }
+        }
+        EASAddon.LOGGER.debug("Released survey lease of {} chunks in {}", lease.chunks.length, lease.dimension.location());
+    }
+}
@@ -0,0 +1,169 @@
+package com.burrows.easaddon.survey;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded lock-free ring buffer of block changes made by PMWeather's Storm.tick.
+ *
+ * Filled by the Storm mixin on the (integrated) server thread and drained in batches by
+ * {@link DamageSurveyManager} on the client thread. Slots are plain primitive arrays; each slot's
+ * sequence number publishes it (Vyukov-style), so producers never block and a full buffer
+ * drops the event instead of waiting.
+ */
+public final class TornadoDamageEventBuffer {
+    private static final TornadoDamageEventBuffer INSTANCE = new TornadoDamageEventBuffer(8192);
+
+    private final int capacity;
+    private final int mask;
+
+    private final AtomicLongArray sequence;
+    private final long[] stormId;
+    private final long[] packedPos;
+    private final int[] oldStateId;
+    private final int[] newStateId;
+    private final float[] localWind;
+
+    private final AtomicLong tail = new AtomicLong();
+    // Single consumer, only touched from drain()
+    private long head = 0L;
+
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean installed = false;
+    private volatile boolean consumerAttached = false;
+
+    /**
+     * Reusable destination for {@link #drain(Batch)}
+     */
+    public static final class Batch {
+        public final long[] stormId;
+        public final long[] packedPos;
+        public final int[] oldStateId;
+        public final int[] newStateId;
+        public final float[] localWind;
+        public int size;
+
+        public Batch(int capacity) {
+            this.stormId = new long[capacity];
+            this.packedPos = new long[capacity];
+            this.oldStateId = new int[capacity];
+            this.newStateId = new int[capacity];
+            this.localWind = new float[capacity];
+        }
+
+        public int capacity() {
+            return stormId.length;
+        }
+    }
+
+    private TornadoDamageEventBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.sequence = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequence.set(i, i);
+        }
+        this.stormId = new long[capacity];
+        this.packedPos = new long[capacity];
+        this.oldStateId = new int[capacity];
+        this.newStateId = new int[capacity];
+        this.localWind = new float[capacity];
+    }
+
+    public static TornadoDamageEventBuffer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Called by the Storm mixin so readers know exact capture is wired up
+     */
+    public void markInstalled() {
+        if (!installed) {
+            installed = true;
+        }
+    }
+
+    public boolean isInstalled() {
+        return installed;
+    }
+
+    /**
+     * True once something has drained the buffer. Producers skip offering until then so a
+     * dedicated server without a reader doesn't just fill and drop.
+     */
+    public boolean hasConsumer() {
+        return consumerAttached;
+    }
+
+    /**
+     * Record one block change. Returns false (and counts a drop) if the buffer is full.
+     */
+    public boolean offer(long storm, long pos, int oldState, int newState, float wind) {
+        long slot = tail.get();
+        while (true) {
+            int index = (int) (slot & mask);
+            long diff = sequence.getAcquire(index) - slot;
+            if (diff == 0) {
+                if (tail.compareAndSet(slot, slot + 1)) {
+                    stormId[index] = storm;
+                    packedPos[index] = pos;
+                    oldStateId[index] = oldState;
+                    newStateId[index] = newState;
+                    localWind[index] = wind;
+                    sequence.setRelease(index, slot + 1);
+                    return true;
+                }
+                slot = tail.get();
+            } else if (diff < 0) {
+                dropped.increment();
+                return false;
+            } else {
+                slot = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Move up to batch.capacity() events into the batch. Must only be called from one thread.
+     * @return number of events drained (also stored in batch.size)
+     */
+    public int drain(Batch batch) {
+        if (!consumerAttached) {
+            consumerAttached = true;
+        }
+
+        int count = 0;
+        int limit = batch.capacity();
+        long slot = head;
+
+        while (count < limit) {
+            int index = (int) (slot & mask);
+            if (sequence.getAcquire(index) != slot + 1) break;
+
+            batch.stormId[count] = stormId[index];
+            batch.packedPos[count] = packedPos[index];
+            batch.oldStateId[count] = oldStateId[index];
+            batch.newStateId[count] = newStateId[index];
+            batch.localWind[count] = localWind[index];
+            count++;
+
+            sequence.setRelease(index, slot + capacity);
+            slot++;
+        }
+
+        head = slot;
+        batch.size = count;
+        return count;
+    }
+
+    /**
+     * Events dropped since the last call because the consumer fell behind
+     */
+    public long takeDroppedCount() {
+        return dropped.sumThenReset();
+    }
+}
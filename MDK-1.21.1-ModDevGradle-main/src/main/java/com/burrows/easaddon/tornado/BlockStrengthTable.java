@@ -0,0 +1,133 @@
+package com.burrows.easaddon.tornado;
+
+import com.burrows.easaddon.EASAddon;
+import com.burrows.easaddon.compat.PMWeatherBridge;
+import com.burrows.easaddon.compat.StormAccess;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Tornado strength (mph of wind needed to remove a block) for every BlockState, indexed by
+ * Block.getId(state).
+ *
+ * Values follow Storm.getBlockStrength() (60 + sqrt(destroy speed / iron axe speed) * 60) with
+ * PMWeather's ServerConfig.blockStrengths applied on top. Built lazily on first lookup (registries
+ * are frozen by then) and rebuilt when PMWeather reloads its config, which replaces the map.
+ */
+public class BlockStrengthTable {
+    private static BlockStrengthTable instance;
+
+    private static final int CONFIG_CHECK_INTERVAL = 20;
+
+    private volatile float[] strengths;
+    // Identity of the PMWeather custom strength map the table was built from
+    private volatile Object builtFromCustom;
+
+    private BlockStrengthTable() {}
+
+    public static BlockStrengthTable getInstance() {
+        if (instance == null) {
+            instance = new BlockStrengthTable();
+        }
+        return instance;
+    }
+
+    public float getStrength(BlockState state) {
+        float[] table = strengths;
+        if (table == null) {
+            table = rebuild();
+        }
+        int id = Block.getId(state);
+        return id >= 0 && id < table.length ? table[id] : computeDefault(state.getBlock(), new ItemStack(Items.IRON_AXE));
+    }
+
+    public float getStrength(Block block) {
+        return getStrength(block.defaultBlockState());
+    }
+
+    /**
+     * Rebuild from the current registries and PMWeather config
+     */
+    public synchronized float[] rebuild() {
+        long start = System.nanoTime();
+        Map<Block, Float> custom = getCustomStrengths();
+
+        ItemStack axe = new ItemStack(Items.IRON_AXE);
+        Map<Block, Float> perBlock = new IdentityHashMap<>();
+        float[] table = new float[Block.BLOCK_STATE_REGISTRY.size()];
+
+        for (BlockState state : Block.BLOCK_STATE_REGISTRY) {
+            Block block = state.getBlock();
+            Float strength = perBlock.get(block);
+            if (strength == null) {
+                strength = custom != null && custom.containsKey(block) ? custom.get(block) : computeDefault(block, axe);
+                perBlock.put(block, strength);
+            }
+            table[Block.getId(state)] = strength;
+        }
+
+        strengths = table;
+        builtFromCustom = custom;
+        EASAddon.LOGGER.info("Built block strength table: {} states, {} custom strengths, {} ms",
+            table.length, custom != null ? custom.size() : 0, (System.nanoTime() - start) / 1_000_000);
+        return table;
+    }
+
+    public synchronized void invalidate() {
+        strengths = null;
+        builtFromCustom = null;
+    }
+
+    /**
+     * PMWeather assigns a new blockStrengths map whenever its server config (re)loads,
+     * so a changed reference means the custom values need reapplying.
+     */
+    @SubscribeEvent
+    public void onLevelTick(LevelTickEvent.Pre event) {
+        if (strengths == null || event.getLevel().getGameTime() % CONFIG_CHECK_INTERVAL != 0) return;
+
+        Map<Block, Float> custom = getCustomStrengths();
+        if (custom != builtFromCustom) {
+            EASAddon.LOGGER.debug("PMWeather block strengths changed, rebuilding strength table");
+            rebuild();
+        }
+    }
+
+    private static Map<Block, Float> getCustomStrengths() {
+        StormAccess pm = PMWeatherBridge.get();
+        if (pm == null) return null;
+
+        try {
+            return pm.getCustomBlockStrengths();
+        } catch (Exception e) {
+            EASAddon.LOGGER.debug("Failed to read PMWeather block strengths: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Storm.getBlockStrength() without a level; vanilla destroy speed doesn't depend on position
+     */
+    private static float computeDefault(Block block, ItemStack axe) {
+        BlockState state = block.defaultBlockState();
+        float destroySpeed = state.getDestroySpeed(EmptyBlockGetter.INSTANCE, BlockPos.ZERO);
+
+        try {
+            destroySpeed /= axe.getDestroySpeed(state);
+        } catch (Exception e) {
+            destroySpeed = 1.0f;
+        }
+
+        return 60.0f + Mth.sqrt(destroySpeed) * 60.0f;
+    }
+}
@@ -6,7 +6,8 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.phys.Vec3;
 
-import java.io.*;
+import java.io.IOException;
+import java.io.Reader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
@@ -14,173 +15,131 @@ import java.util.*;
 public class ClientTornadoPersistence {
     private static final String TORNADO_DATA_FOLDER = "easaddon";
     private static final String TORNADO_DATA_FILE = "tornado_data.json";
-    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    // FIXED: Binary snapshot + append-only journal instead of rewriting the whole JSON file
+    private static final String SNAPSHOT_FILE = "tornado_data.bin";
+    private static final String JOURNAL_FILE = "tornado_data.journal";
     
-    public static void saveTornadoData(String dimensionKey, Map<Long, TornadoData> tornadoData) {
+    // One open store per world/dimension, keyed by snapshot path
+    private static final Map<Path, TornadoJournal> journals = new HashMap<>();
+    
+    /**
+     * ADDED: Directory holding this world's tornado files, or null if there is no world.
+     * Resolve it on the client thread; the file work itself runs on the persistence worker.
+     */
+    public static Path getDataDirectory() {
+        Path worldDir = getWorldSaveDirectory();
+        return worldDir != null ? worldDir.resolve(TORNADO_DATA_FOLDER) : null;
+    }
+    
+    // Runs on the persistence worker
+    static void saveEntries(Path modDir, String dimensionKey, Collection<TornadoJournal.Entry> changed, long[] liveIds) {
         try {
-            // Get the world save directory
-            Path worldDir = getWorldSaveDirectory();
-            if (worldDir == null) {
-                EASAddon.LOGGER.warn("Could not get world save directory, skipping tornado data save");
-                return;
-            }
-            
-            // Create our mod's data directory
-            Path modDir = worldDir.resolve(TORNADO_DATA_FOLDER);
             Files.createDirectories(modDir);
             
-            // Create dimension-specific file name
-            String fileName = dimensionKey.replace(":", "_").replace("/", "_") + "_" + TORNADO_DATA_FILE;
-            Path dataFile = modDir.resolve(fileName);
-            
-            // FIXED: Create backup of existing file
-            if (Files.exists(dataFile)) {
-                Path backupFile = modDir.resolve(fileName + ".bak");
-                try {
-                    Files.copy(dataFile, backupFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-                } catch (Exception e) {
-                    EASAddon.LOGGER.warn("Failed to create backup: {}", e.getMessage());
-                }
-            }
-            
-            // Convert to JSON
-            JsonObject root = new JsonObject();
-            root.addProperty("version", 3); // INCREASED: Version for survey data support
-            root.addProperty("dimension", dimensionKey);
-            root.addProperty("saveTime", System.currentTimeMillis());
-            root.addProperty("totalTornadoes", tornadoData.size());
-            
-            JsonArray tornadoArray = new JsonArray();
-            for (TornadoData tornado : tornadoData.values()) {
-                JsonObject tornadoObj = tornadoToJson(tornado);
-                tornadoArray.add(tornadoObj);
-            }
-            root.add("tornadoes", tornadoArray);
-            
-            // Write to temporary file first, then rename (atomic operation)
-            Path tempFile = modDir.resolve(fileName + ".tmp");
-            try (FileWriter writer = new FileWriter(tempFile.toFile())) {
-                GSON.toJson(root, writer);
-                writer.flush();
-            }
-            
-            // Atomic move to final file
-            Files.move(tempFile, dataFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            // Only what changed since the last save is appended
+            getJournal(modDir, dimensionKey).save(changed, liveIds);
             
-            EASAddon.LOGGER.info("Saved {} tornado records for dimension {} to {}", 
-                               tornadoData.size(), dimensionKey, dataFile);
+            EASAddon.LOGGER.debug("Saved {} changed of {} tornado records for dimension {}", 
+                changed.size(), liveIds.length, dimensionKey);
             
         } catch (Exception e) {
             EASAddon.LOGGER.error("Failed to save tornado data: {}", e.getMessage(), e);
         }
     }
     
-    public static Map<Long, TornadoData> loadTornadoData(String dimensionKey) {
+    // Runs on the persistence worker
+    static Map<Long, TornadoData> loadTornadoData(Path modDir, String dimensionKey) {
         Map<Long, TornadoData> result = new HashMap<>();
         
         try {
-            // Get the world save directory
-            Path worldDir = getWorldSaveDirectory();
-            if (worldDir == null) {
-                EASAddon.LOGGER.warn("Could not get world save directory, returning empty tornado data");
-                return result;
-            }
+            TornadoJournal journal = getJournal(modDir, dimensionKey);
             
-            // Get our mod's data directory
-            Path modDir = worldDir.resolve(TORNADO_DATA_FOLDER);
-            String fileName = dimensionKey.replace(":", "_").replace("/", "_") + "_" + TORNADO_DATA_FILE;
-            Path dataFile = modDir.resolve(fileName);
-            
-            if (!Files.exists(dataFile)) {
-                // FIXED: Try to load from backup if main file doesn't exist
-                Path backupFile = modDir.resolve(fileName + ".bak");
-                if (Files.exists(backupFile)) {
-                    EASAddon.LOGGER.info("Main file not found, attempting to load from backup for dimension {}", dimensionKey);
-                    dataFile = backupFile;
-                } else {
-                    EASAddon.LOGGER.info("No tornado data file found for dimension {}, starting fresh", dimensionKey);
-                    return result;
-                }
+            if (journal.exists()) {
+                result.putAll(journal.load());
+                EASAddon.LOGGER.info("Loaded {} tornado records for dimension {}", result.size(), dimensionKey);
+                return result;
             }
             
-            // Read and parse JSON
-            String jsonContent = Files.readString(dataFile);
-            JsonObject root = JsonParser.parseString(jsonContent).getAsJsonObject();
-            
-            // Check version compatibility
-            int version = root.has("version") ? root.get("version").getAsInt() : 1;
-            if (version > 3) {
-                EASAddon.LOGGER.warn("Tornado data file has newer version {} than supported (3), attempting to load anyway", version);
+            // ADDED: One-time migration from the old JSON file; the next save writes the binary snapshot
+            String fileName = filePrefix(dimensionKey) + TORNADO_DATA_FILE;
+            Path legacyFile = modDir.resolve(fileName);
+            if (!Files.exists(legacyFile)) {
+                legacyFile = modDir.resolve(fileName + ".bak");
             }
-            
-            // Validate dimension
-            String savedDimension = root.get("dimension").getAsString();
-            if (!dimensionKey.equals(savedDimension)) {
-                EASAddon.LOGGER.warn("Dimension mismatch in tornado data file: expected {}, got {}", 
-                                   dimensionKey, savedDimension);
-                return result;
+            if (Files.exists(legacyFile)) {
+                EASAddon.LOGGER.info("Migrating legacy tornado data for dimension {} from {}", dimensionKey, legacyFile);
+                return loadTornadoDataFromFile(legacyFile, dimensionKey);
             }
             
-            // Parse tornadoes
-            JsonArray tornadoArray = root.getAsJsonArray("tornadoes");
-            int loadedCount = 0;
-            int errorCount = 0;
+            EASAddon.LOGGER.info("No tornado data file found for dimension {}, starting fresh", dimensionKey);
             
-            for (JsonElement element : tornadoArray) {
+        } catch (Exception e) {
+            EASAddon.LOGGER.error("Failed to load tornado data: {}", e.getMessage(), e);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * ADDED: Fsync pending journal writes (on level unload)
+     */
+    static void flush() {
+        synchronized (journals) {
+            for (TornadoJournal journal : journals.values()) {
                 try {
-                    TornadoData tornado = tornadoFromJson(element.getAsJsonObject(), version);
-                    result.put(tornado.getId(), tornado);
-                    loadedCount++;
-                } catch (Exception e) {
-                    errorCount++;
-                    EASAddon.LOGGER.error("Failed to parse tornado data entry: {}", e.getMessage());
+                    journal.flush();
+                } catch (IOException e) {
+                    EASAddon.LOGGER.error("Failed to flush tornado journal: {}", e.getMessage());
                 }
             }
-            
-            EASAddon.LOGGER.info("Loaded {} tornado records for dimension {} from {} (errors: {})", 
-                               loadedCount, dimensionKey, dataFile, errorCount);
-            
-            // FIXED: Validate loaded data integrity
-            if (root.has("totalTornadoes")) {
-                int expectedCount = root.get("totalTornadoes").getAsInt();
-                if (loadedCount != expectedCount) {
-                    EASAddon.LOGGER.warn("Data integrity issue: expected {} tornadoes, loaded {}", expectedCount, loadedCount);
-                }
-            }
-            
-        } catch (Exception e) {
-            EASAddon.LOGGER.error("Failed to load tornado data: {}", e.getMessage(), e);
-            
-            // FIXED: Try backup file as last resort
-            try {
-                Path worldDir = getWorldSaveDirectory();
-                if (worldDir != null) {
-                    Path modDir = worldDir.resolve(TORNADO_DATA_FOLDER);
-                    String fileName = dimensionKey.replace(":", "_").replace("/", "_") + "_" + TORNADO_DATA_FILE;
-                    Path backupFile = modDir.resolve(fileName + ".bak");
-                    
-                    if (Files.exists(backupFile)) {
-                        EASAddon.LOGGER.info("Attempting to recover from backup file...");
-                        return loadTornadoDataFromFile(backupFile, dimensionKey);
-                    }
+        }
+    }
+    
+    /**
+     * ADDED: Flush and close every open store (on world switch)
+     */
+    static void closeAll() {
+        synchronized (journals) {
+            for (TornadoJournal journal : journals.values()) {
+                try {
+                    journal.close();
+                } catch (IOException e) {
+                    EASAddon.LOGGER.error("Failed to close tornado journal: {}", e.getMessage());
                 }
-            } catch (Exception backupError) {
-                EASAddon.LOGGER.error("Backup recovery also failed: {}", backupError.getMessage());
             }
+            journals.clear();
         }
-        
-        return result;
     }
     
-    // FIXED: Helper method for loading from specific file
+    private static TornadoJournal getJournal(Path modDir, String dimensionKey) {
+        String prefix = filePrefix(dimensionKey);
+        Path snapshotFile = modDir.resolve(prefix + SNAPSHOT_FILE);
+        synchronized (journals) {
+            return journals.computeIfAbsent(snapshotFile,
+                file -> new TornadoJournal(file, modDir.resolve(prefix + JOURNAL_FILE), dimensionKey));
+        }
+    }
+    
+    private static String filePrefix(String dimensionKey) {
+        return dimensionKey.replace(":", "_").replace("/", "_") + "_";
+    }
+    
+    // Reads a legacy JSON file
     private static Map<Long, TornadoData> loadTornadoDataFromFile(Path dataFile, String dimensionKey) {
         Map<Long, TornadoData> result = new HashMap<>();
         
-        try {
-            String jsonContent = Files.readString(dataFile);
-            JsonObject root = JsonParser.parseString(jsonContent).getAsJsonObject();
+        try (Reader reader = Files.newBufferedReader(dataFile)) {
+            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
             
             int version = root.has("version") ? root.get("version").getAsInt() : 1;
+            
+            // Validate dimension
+            if (root.has("dimension") && !dimensionKey.equals(root.get("dimension").getAsString())) {
+                EASAddon.LOGGER.warn("Dimension mismatch in tornado data file: expected {}, got {}", 
+                                   dimensionKey, root.get("dimension").getAsString());
+                return result;
+            }
+            
             JsonArray tornadoArray = root.getAsJsonArray("tornadoes");
             
             for (JsonElement element : tornadoArray) {
@@ -188,13 +147,13 @@ public class ClientTornadoPersistence {
                     TornadoData tornado = tornadoFromJson(element.getAsJsonObject(), version);
                     result.put(tornado.getId(), tornado);
                 } catch (Exception e) {
-                    EASAddon.LOGGER.error("Failed to parse tornado entry during backup recovery: {}", e.getMessage());
+                    EASAddon.LOGGER.error("Failed to parse legacy tornado entry: {}", e.getMessage());
                 }
             }
             
-            EASAddon.LOGGER.info("Recovered {} tornado records from backup", result.size());
+            EASAddon.LOGGER.info("Read {} tornado records from legacy file", result.size());
         } catch (Exception e) {
-            EASAddon.LOGGER.error("Backup file recovery failed: {}", e.getMessage());
+            EASAddon.LOGGER.error("Legacy tornado file could not be read: {}", e.getMessage());
         }
         
         return result;
@@ -306,54 +265,6 @@ public static boolean isNewWorldSession(String previousWorldId, String currentWo
     return !previousWorldId.equals(currentWorldId);
 }
     
-    private static JsonObject tornadoToJson(TornadoData tornado) {
-        JsonObject obj = new JsonObject();
-        
-        obj.addProperty("id", tornado.getId());
-        obj.addProperty("active", tornado.isActive());
-        obj.addProperty("maxWindspeed", tornado.getMaxWindspeed());
-        obj.addProperty("maxWidth", tornado.getMaxWidth());
-        obj.addProperty("rating", tornado.getRating());
-        obj.addProperty("firstSeenTime", tornado.getFirstSeenTime());
-        obj.addProperty("lastSeenTime", tornado.getLastSeenTime());
-        obj.addProperty("hasRecordedData", tornado.hasRecordedData());
-        
-        // FIXED: Enhanced survey data storage
-        obj.addProperty("surveyed", tornado.isSurveyed());
-        if (tornado.getSurveyedBy() != null) {
-            obj.addProperty("surveyedBy", tornado.getSurveyedBy());
-        }
-        obj.addProperty("surveyTime", tornado.getSurveyTime());
-        obj.addProperty("surveyedEFRating", tornado.getSurveyedEFRating());
-        obj.addProperty("surveyedMaxWindspeed", tornado.getSurveyedMaxWindspeed());
-        
-        // Position history
-        JsonArray positionArray = new JsonArray();
-        for (TornadoData.PositionRecord record : tornado.getPositionHistory()) {
-            JsonObject posObj = new JsonObject();
-            posObj.addProperty("x", record.position.x);
-            posObj.addProperty("y", record.position.y);
-            posObj.addProperty("z", record.position.z);
-            posObj.addProperty("timestamp", record.timestamp);
-            posObj.addProperty("windspeed", record.windspeed);
-            posObj.addProperty("width", record.width);
-            positionArray.add(posObj);
-        }
-        obj.add("positionHistory", positionArray);
-        
-        // Damaged chunks
-        JsonArray chunkArray = new JsonArray();
-        for (ChunkPos chunkPos : tornado.getDamagedChunks()) {
-            JsonObject chunkObj = new JsonObject();
-            chunkObj.addProperty("x", chunkPos.x);
-            chunkObj.addProperty("z", chunkPos.z);
-            chunkArray.add(chunkObj);
-        }
-        obj.add("damagedChunks", chunkArray);
-        
-        return obj;
-    }
-    
     private static TornadoData tornadoFromJson(JsonObject obj, int version) {
         long id = obj.get("id").getAsLong();
         TornadoData tornado = new TornadoData(id);
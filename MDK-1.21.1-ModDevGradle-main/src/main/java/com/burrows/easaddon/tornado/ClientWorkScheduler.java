@@ -0,0 +1,166 @@
+package com.burrows.easaddon.tornado;
+
+import com.burrows.easaddon.Config;
+import com.burrows.easaddon.EASAddon;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.api.distmarker.OnlyIn;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+import net.neoforged.neoforge.client.event.RenderFrameEvent;
+
+import javax.annotation.Nullable;
+import java.util.HashSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Runs the client's background tornado work (tracking, saves, chunk scans, retroactive analysis,
+ * maintenance) from one prioritized queue instead of each feature firing on its own tick modulo.
+ *
+ * Every client tick the queue is drained highest priority first until the time budget is spent.
+ * The budget comes from the config and is scaled back while frames run slower than the target
+ * frame time, then grows back once they recover, so a burst of scans queues up instead of
+ * landing in a single frame. At least one task runs per tick so the queue always moves.
+ *
+ * Client thread only.
+ */
+@OnlyIn(Dist.CLIENT)
+public class ClientWorkScheduler {
+    private static ClientWorkScheduler instance;
+
+    /**
+     * Task priorities, most urgent first
+     */
+    public enum Priority {
+        SAVE,
+        TRACKING,
+        RETROACTIVE,
+        CHUNK_SCAN,
+        MAINTENANCE
+    }
+
+    // Budget never shrinks below this, whatever the frame time
+    private static final long MIN_BUDGET_NANOS = 250_000L;
+    // Weight of the newest frame in the smoothed frame time
+    private static final double FRAME_SMOOTHING = 0.125;
+
+    private record Task(Priority priority, long sequence, @Nullable String key, Runnable work) {
+    }
+
+    private final PriorityQueue<Task> queue = new PriorityQueue<>((a, b) -> {
+        int byPriority = a.priority.compareTo(b.priority);
+        return byPriority != 0 ? byPriority : Long.compare(a.sequence, b.sequence);
+    });
+    // Keys of queued tasks, so repeated requests for the same work collapse into one
+    private final Set<String> queuedKeys = new HashSet<>();
+    private long nextSequence = 0;
+
+    private long budgetNanos = configuredBudgetNanos();
+    private long lastFrameNanos = 0;
+    private double smoothedFrameNanos = 0;
+
+    private ClientWorkScheduler() {}
+
+    public static ClientWorkScheduler getInstance() {
+        if (instance == null) {
+            instance = new ClientWorkScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Queue work. A task with the same key as one still queued is dropped; pass null to always
+     * queue. Returns true if the task was queued.
+     */
+    public boolean submit(Priority priority, @Nullable String key, Runnable work) {
+        if (key != null && !queuedKeys.add(key)) {
+            return false;
+        }
+        queue.add(new Task(priority, nextSequence++, key, work));
+        return true;
+    }
+
+    public boolean isQueued(String key) {
+        return queuedKeys.contains(key);
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public double getBudgetMillis() {
+        return budgetNanos / 1_000_000.0;
+    }
+
+    /**
+     * Drop everything queued, e.g. when leaving a world
+     */
+    public void clear() {
+        queue.clear();
+        queuedKeys.clear();
+    }
+
+    @SubscribeEvent
+    public void onRenderFrame(RenderFrameEvent.Pre event) {
+        long now = System.nanoTime();
+        if (lastFrameNanos != 0) {
+            long frameNanos = now - lastFrameNanos;
+            smoothedFrameNanos = smoothedFrameNanos == 0
+                ? frameNanos
+                : smoothedFrameNanos + (frameNanos - smoothedFrameNanos) * FRAME_SMOOTHING;
+        }
+        lastFrameNanos = now;
+    }
+
+    @SubscribeEvent
+    public void onClientTick(ClientTickEvent.Post event) {
+        adjustBudget();
+        if (queue.isEmpty()) return;
+
+        long start = System.nanoTime();
+        int ran = 0;
+        Task task;
+        while ((task = queue.poll()) != null) {
+            if (task.key != null) {
+                queuedKeys.remove(task.key);
+            }
+            try {
+                task.work.run();
+            } catch (Exception e) {
+                EASAddon.LOGGER.error("Client {} task failed: {}", task.priority, e.getMessage());
+            }
+            ran++;
+            if (System.nanoTime() - start >= budgetNanos) break;
+        }
+
+        if (!queue.isEmpty()) {
+            EASAddon.LOGGER.debug("Client work: ran {} tasks in {}us, {} left (budget {}ms)",
+                ran, (System.nanoTime() - start) / 1000, queue.size(), String.format("%.2f", getBudgetMillis()));
+        }
+    }
+
+    @SubscribeEvent
+    public void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        clear();
+        lastFrameNanos = 0;
+        smoothedFrameNanos = 0;
+    }
+
+    /**
+     * Shrink the budget by a quarter while frames are over target, grow it back by a tenth when not
+     */
+    private void adjustBudget() {
+        long configured = configuredBudgetNanos();
+        double targetFrameNanos = Config.targetFrameTimeMs * 1_000_000.0;
+        if (smoothedFrameNanos > targetFrameNanos) {
+            budgetNanos = Math.max(MIN_BUDGET_NANOS, budgetNanos * 3 / 4);
+        } else {
+            budgetNanos = Math.min(configured, budgetNanos + Math.max(budgetNanos / 10, 50_000L));
+        }
+    }
+
+    private static long configuredBudgetNanos() {
+        return Math.max(MIN_BUDGET_NANOS, (long) (Config.clientWorkBudgetMs * 1_000_000.0));
+    }
+}
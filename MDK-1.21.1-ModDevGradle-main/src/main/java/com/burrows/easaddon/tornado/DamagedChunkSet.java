@@ -0,0 +1,150 @@
+package com.burrows.easaddon.tornado;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+/**
+ * Set of chunks a tornado damaged, stored as packed ChunkPos longs in a primitive hash set.
+ *
+ * Membership checks and iteration don't allocate a ChunkPos per entry or copy the set.
+ * {@link #asSet()} gives existing Set&lt;ChunkPos&gt; callers a read-only view.
+ */
+public class DamagedChunkSet {
+    private final LongOpenHashSet chunks = new LongOpenHashSet();
+    private final Set<ChunkPos> view = new ReadOnlyView();
+    // Bumped on every change, so savers can tell whether the set changed without comparing it
+    private int revision = 0;
+
+    public synchronized boolean add(long chunkKey) {
+        if (!chunks.add(chunkKey)) return false;
+        revision++;
+        return true;
+    }
+
+    public boolean add(ChunkPos chunkPos) {
+        return add(chunkPos.toLong());
+    }
+
+    public synchronized boolean contains(long chunkKey) {
+        return chunks.contains(chunkKey);
+    }
+
+    public boolean contains(ChunkPos chunkPos) {
+        return contains(chunkPos.toLong());
+    }
+
+    public synchronized int size() {
+        return chunks.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return chunks.isEmpty();
+    }
+
+    public synchronized void clear() {
+        chunks.clear();
+        revision++;
+    }
+
+    public synchronized int revision() {
+        return revision;
+    }
+
+    /**
+     * Visit every packed chunk key while holding the lock
+     */
+    public synchronized void forEach(LongConsumer action) {
+        LongIterator it = chunks.iterator();
+        while (it.hasNext()) {
+            action.accept(it.nextLong());
+        }
+    }
+
+    public synchronized long[] toLongArray() {
+        return chunks.toLongArray();
+    }
+
+    /**
+     * Read-only Set view backed by this set; iterate it on the thread that writes the set
+     */
+    public Set<ChunkPos> asSet() {
+        return view;
+    }
+
+    /**
+     * Keep only the maxSize chunks whose centres are nearest to (x, z). Works on squared
+     * distances in primitive arrays; returns how many chunks were removed.
+     */
+    public synchronized int trimToNearest(int maxSize, double x, double z) {
+        int size = chunks.size();
+        if (size <= maxSize) return 0;
+
+        long[] keys = chunks.toLongArray();
+        double[] distSqr = new double[size];
+        for (int i = 0; i < size; i++) {
+            distSqr[i] = centreDistSqr(keys[i], x, z);
+        }
+
+        // Distance of the maxSize-th nearest chunk; everything beyond it goes
+        double[] sorted = distSqr.clone();
+        Arrays.sort(sorted);
+        double cutoff = sorted[Math.max(maxSize - 1, 0)];
+
+        // Chunks tied with the cutoff may still be over the cap; drop just enough of those
+        int keepAtCutoff = 0;
+        for (int i = 0; i < maxSize; i++) {
+            if (sorted[i] == cutoff) keepAtCutoff++;
+        }
+
+        int removed = 0;
+        for (int i = 0; i < size; i++) {
+            if (maxSize == 0 || distSqr[i] > cutoff || (distSqr[i] == cutoff && keepAtCutoff-- <= 0)) {
+                chunks.remove(keys[i]);
+                removed++;
+            }
+        }
+        revision++;
+        return removed;
+    }
+
+    private static double centreDistSqr(long chunkKey, double x, double z) {
+        double dx = (ChunkPos.getX(chunkKey) << 4) + 8 - x;
+        double dz = (ChunkPos.getZ(chunkKey) << 4) + 8 - z;
+        return dx * dx + dz * dz;
+    }
+
+    private class ReadOnlyView extends AbstractSet<ChunkPos> {
+        @Override
+        public int size() {
+            return DamagedChunkSet.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof ChunkPos chunkPos && DamagedChunkSet.this.contains(chunkPos);
+        }
+
+        @Override
+        public Iterator<ChunkPos> iterator() {
+            LongIterator it = chunks.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public ChunkPos next() {
+                    return new ChunkPos(it.nextLong());
+                }
+            };
+        }
+    }
+}
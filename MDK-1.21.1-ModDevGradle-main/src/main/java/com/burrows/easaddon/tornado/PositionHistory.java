@@ -0,0 +1,162 @@
+package com.burrows.easaddon.tornado;
+
+import net.minecraft.world.phys.Vec3;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A tornado's position history stored as parallel primitive arrays instead of a list of
+ * PositionRecord/Vec3 objects.
+ *
+ * History is append-only; clear() starts over on fresh arrays. Existing entries are never
+ * rewritten, so a {@link View} (array references plus the size when it was taken) is an
+ * immutable snapshot that readers can hold and iterate without copying or locking.
+ */
+public final class PositionHistory {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private double[] x;
+    private double[] y;
+    private double[] z;
+    private long[] timestamp;
+    private int[] windspeed;
+    private float[] width;
+    private int size;
+
+    private View view;
+
+    public PositionHistory() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public synchronized void add(double px, double py, double pz, long time, int wind, float w) {
+        if (size == x.length) {
+            int capacity = x.length * 2;
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            z = Arrays.copyOf(z, capacity);
+            timestamp = Arrays.copyOf(timestamp, capacity);
+            windspeed = Arrays.copyOf(windspeed, capacity);
+            width = Arrays.copyOf(width, capacity);
+        }
+        x[size] = px;
+        y[size] = py;
+        z[size] = pz;
+        timestamp[size] = time;
+        windspeed[size] = wind;
+        width[size] = w;
+        size++;
+        view = null;
+    }
+
+    public void add(TornadoData.PositionRecord record) {
+        add(record.position.x, record.position.y, record.position.z, record.timestamp, record.windspeed, record.width);
+    }
+
+    public synchronized void clear() {
+        // Fresh arrays, so views handed out earlier keep seeing the old entries
+        allocate(INITIAL_CAPACITY);
+        size = 0;
+        view = null;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Read-only snapshot of the history as it is now. Cached until the next write.
+     */
+    public synchronized View view() {
+        if (view == null) {
+            view = new View(x, y, z, timestamp, windspeed, width, size);
+        }
+        return view;
+    }
+
+    private void allocate(int capacity) {
+        x = new double[capacity];
+        y = new double[capacity];
+        z = new double[capacity];
+        timestamp = new long[capacity];
+        windspeed = new int[capacity];
+        width = new float[capacity];
+    }
+
+    /**
+     * Zero-copy snapshot of the history. Use the primitive accessors in hot paths; the List
+     * interface builds a PositionRecord per get() for code that still wants records.
+     */
+    public static final class View extends AbstractList<TornadoData.PositionRecord> implements RandomAccess {
+        private final double[] x;
+        private final double[] y;
+        private final double[] z;
+        private final long[] timestamp;
+        private final int[] windspeed;
+        private final float[] width;
+        private final int size;
+
+        private View(double[] x, double[] y, double[] z, long[] timestamp, int[] windspeed, float[] width, int size) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.timestamp = timestamp;
+            this.windspeed = windspeed;
+            this.width = width;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public TornadoData.PositionRecord get(int i) {
+            return new TornadoData.PositionRecord(position(i), timestamp(i), windspeed(i), width(i));
+        }
+
+        public double x(int i) {
+            checkIndex(i);
+            return x[i];
+        }
+
+        public double y(int i) {
+            checkIndex(i);
+            return y[i];
+        }
+
+        public double z(int i) {
+            checkIndex(i);
+            return z[i];
+        }
+
+        public long timestamp(int i) {
+            checkIndex(i);
+            return timestamp[i];
+        }
+
+        public int windspeed(int i) {
+            checkIndex(i);
+            return windspeed[i];
+        }
+
+        public float width(int i) {
+            checkIndex(i);
+            return width[i];
+        }
+
+        public Vec3 position(int i) {
+            checkIndex(i);
+            return new Vec3(x[i], y[i], z[i]);
+        }
+
+        private void checkIndex(int i) {
+            if (i < 0 || i >= size) {
+                throw new IndexOutOfBoundsException("Index " + i + " out of bounds for history of " + size);
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.burrows.easaddon.tornado;
+
+import com.burrows.easaddon.EASAddon;
+import com.burrows.easaddon.compat.PMWeatherBridge;
+import com.burrows.easaddon.compat.StormSnapshot;
+import com.burrows.easaddon.compat.StormSnapshotService;
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Tracks tornadoes once per dimension on the logical server and keeps the results in that
+ * dimension's {@link TornadoSavedData}, so they are saved with the world.
+ *
+ * Runs on dedicated and integrated servers alike; every connected client reads the same
+ * tracks instead of polling PMWeather itself.
+ */
+public class ServerTornadoTracker {
+    private static ServerTornadoTracker instance;
+
+    // Same cadence as the client tracker: track every second, clean up every 10 seconds
+    private static final int TRACK_INTERVAL_TICKS = 20;
+    private static final int CLEANUP_INTERVAL_TICKS = 200;
+
+    private ServerTornadoTracker() {}
+
+    public static ServerTornadoTracker getInstance() {
+        if (instance == null) {
+            instance = new ServerTornadoTracker();
+        }
+        return instance;
+    }
+
+    @SubscribeEvent
+    public void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel level) || !PMWeatherBridge.isAvailable()) return;
+
+        long gameTime = level.getGameTime();
+        if (gameTime % TRACK_INTERVAL_TICKS != 0) return;
+
+        try {
+            TornadoSavedData data = TornadoSavedData.get(level);
+            Map<Long, TornadoData> tornadoes = data.getTornadoData();
+
+            StormSnapshot storms = StormSnapshotService.getInstance().getSnapshot(level);
+            boolean changed = TornadoTrackUpdater.update(storms, tornadoes);
+
+            if (gameTime % CLEANUP_INTERVAL_TICKS == 0) {
+                changed |= TornadoTrackUpdater.removeExpired(tornadoes);
+            }
+
+            if (changed) {
+                data.setDirty();
+            }
+        } catch (Exception e) {
+            EASAddon.LOGGER.error("Error in server tornado tracking for {}: {}", level.dimension().location(), e.getMessage());
+        }
+    }
+
+    /**
+     * Read-only view of the tornadoes tracked in this dimension. Server thread only.
+     */
+    public Map<Long, TornadoData> getTornadoes(ServerLevel level) {
+        return Collections.unmodifiableMap(TornadoSavedData.get(level).getTornadoData());
+    }
+
+    public TornadoData getTornado(ServerLevel level, long tornadoId) {
+        return TornadoSavedData.get(level).getTornadoData().get(tornadoId);
+    }
+
+    /**
+     * Store a finished survey on the tornado's record
+     */
+    public void recordSurveyResults(ServerLevel level, long tornadoId, String surveyorName, int efRating, float maxWindspeed) {
+        TornadoSavedData data = TornadoSavedData.get(level);
+        TornadoData tornado = data.getTornadoData().get(tornadoId);
+        if (tornado == null) {
+            EASAddon.LOGGER.warn("Survey finished for tornado {} which the server is not tracking", tornadoId);
+            return;
+        }
+        tornado.setSurveyResults(surveyorName, efRating, maxWindspeed);
+        data.setDirty();
+    }
+}
@@ -18,8 +18,10 @@ public class TornadoData {
     private boolean hasRecordedData;
     
     // Position and damage tracking
-    private final List<PositionRecord> positionHistory = new ArrayList<>();
-    private final Set<ChunkPos> damagedChunks = new HashSet<>();
+    // FIXED: Primitive parallel arrays instead of a list of records; readers get a zero-copy view
+    private final PositionHistory positionHistory = new PositionHistory();
+    private final DamagedChunkSet damagedChunks = new DamagedChunkSet();
+    private final TornadoTrackIndex trackIndex = new TornadoTrackIndex(positionHistory);
     private long lastPositionRecordTime = 0;
     private Vec3 lastKnownPosition;
     
@@ -30,6 +32,10 @@ public class TornadoData {
     private int surveyedEFRating = -1; // -1 = not surveyed, 0-5 = EF0-EF5
     private float surveyedMaxWindspeed = 0.0f;
     
+    /**
+     * One entry of the position history. History is stored as primitive arrays in
+     * {@link PositionHistory}; records are built on demand for code that wants them.
+     */
     public static class PositionRecord {
         public final Vec3 position;
         public final long timestamp;
@@ -68,12 +74,12 @@ public class TornadoData {
                 // When roping out, use the historical max width instead of current inflated width
                 // This prevents the 1/10th max size display issue
                 float historicalWidth = Math.min(this.maxWidth, currentWidth);
-                positionHistory.add(new PositionRecord(position, System.currentTimeMillis(), 0, historicalWidth));
+                appendPositionRecord(new PositionRecord(position, System.currentTimeMillis(), 0, historicalWidth));
                 EASAddon.LOGGER.debug("Tornado {} roping out - using historical width {:.1f} instead of current {:.1f}", 
                                     id, historicalWidth, currentWidth);
             } else {
                 // Normal tracking with actual values
-                positionHistory.add(new PositionRecord(position, System.currentTimeMillis(), currentWindspeed, currentWidth));
+                appendPositionRecord(new PositionRecord(position, System.currentTimeMillis(), currentWindspeed, currentWidth));
             }
             lastPositionRecordTime = System.currentTimeMillis();
         }
@@ -112,14 +118,15 @@ public class TornadoData {
         this.active = false;
         
         // Add final position if we have one and it's been a while since last record
-        if (lastKnownPosition != null && (positionHistory.isEmpty() || 
-            System.currentTimeMillis() - positionHistory.get(positionHistory.size() - 1).timestamp > 5000)) {
+        PositionHistory.View history = positionHistory.view();
+        if (lastKnownPosition != null && (history.isEmpty() || 
+            System.currentTimeMillis() - history.timestamp(history.size() - 1) > 5000)) {
             
             // Use historical values for the final position record, not zeros
             int finalWindspeed = 0; // Tornado has dissipated
             float finalWidth = this.maxWidth * 0.1f; // Small remnant width
             
-            positionHistory.add(new PositionRecord(lastKnownPosition, System.currentTimeMillis(), finalWindspeed, finalWidth));
+            appendPositionRecord(new PositionRecord(lastKnownPosition, System.currentTimeMillis(), finalWindspeed, finalWidth));
             
             EASAddon.LOGGER.info("Tornado {} marked inactive - final position recorded with width {:.1f}", 
                                id, finalWidth);
@@ -222,7 +229,15 @@ public class TornadoData {
      * Method to add position records (for loading from NBT/JSON)
      */
     public void addPositionRecord(PositionRecord record) {
-        positionHistory.add(record);
+        appendPositionRecord(record);
+    }
+    
+    /**
+     * ADDED: Primitive variant for loaders that stream records, no Vec3/PositionRecord per point
+     */
+    public void addPositionRecord(double x, double y, double z, long timestamp, int windspeed, float width) {
+        positionHistory.add(x, y, z, timestamp, windspeed, width);
+        trackIndex.update();
     }
     
     /**
@@ -230,6 +245,27 @@ public class TornadoData {
      */
     public void clearPositionHistory() {
         positionHistory.clear();
+        trackIndex.clear();
+    }
+    
+    /**
+     * ADDED: Every history write goes through here so the track index stays in step
+     */
+    private void appendPositionRecord(PositionRecord record) {
+        positionHistory.add(record);
+        trackIndex.update();
+    }
+    
+    /**
+     * ADDED: Closest point of the track to (x, z) within maxDistance, using only stretches where
+     * the tornado had at least minWindspeed. Horizontal distance; null if none.
+     */
+    public TornadoTrackIndex.Approach findClosestApproach(double x, double z, double maxDistance, int minWindspeed) {
+        return trackIndex.findClosest(x, z, maxDistance, minWindspeed);
+    }
+    
+    public TornadoTrackIndex getTrackIndex() {
+        return trackIndex;
     }
     
     // ========== BASIC GETTERS ==========
@@ -281,12 +317,40 @@ public class TornadoData {
         return hasRecordedData; 
     }
     
+    /**
+     * FIXED: Read-only snapshot of the history, no longer a copy. Same as getPositionView().
+     */
     public List<PositionRecord> getPositionHistory() { 
-        return new ArrayList<>(positionHistory); 
+        return positionHistory.view(); 
     }
     
+    /**
+     * ADDED: Zero-copy snapshot with primitive accessors, for per-frame/per-tick readers
+     */
+    public PositionHistory.View getPositionView() {
+        return positionHistory.view();
+    }
+    
+    /**
+     * FIXED: Read-only view of the damaged chunks, no longer a copy
+     */
     public Set<ChunkPos> getDamagedChunks() { 
-        return new HashSet<>(damagedChunks); 
+        return damagedChunks.asSet(); 
+    }
+    
+    /**
+     * ADDED: Primitive chunk set for contains/iteration without allocating ChunkPos
+     */
+    public DamagedChunkSet getDamagedChunkSet() {
+        return damagedChunks;
+    }
+    
+    public boolean hasDamagedChunk(ChunkPos chunkPos) {
+        return damagedChunks.contains(chunkPos);
+    }
+    
+    public int getDamagedChunkCount() {
+        return damagedChunks.size();
     }
     
     // ========== SURVEY GETTERS ==========
@@ -314,11 +378,13 @@ public class TornadoData {
     // ========== UTILITY METHODS ==========
     
     public double getTotalPathLength() {
+        PositionHistory.View history = positionHistory.view();
         double totalLength = 0;
-        for (int i = 1; i < positionHistory.size(); i++) {
-            Vec3 prev = positionHistory.get(i - 1).position;
-            Vec3 curr = positionHistory.get(i).position;
-            totalLength += prev.distanceTo(curr);
+        for (int i = 1; i < history.size(); i++) {
+            double dx = history.x(i) - history.x(i - 1);
+            double dy = history.y(i) - history.y(i - 1);
+            double dz = history.z(i) - history.z(i - 1);
+            totalLength += Math.sqrt(dx * dx + dy * dy + dz * dz);
         }
         return totalLength;
     }
@@ -0,0 +1,552 @@
+package com.burrows.easaddon.tornado;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Binary tornado store for one dimension: a snapshot file plus an append-only journal.
+ *
+ * A save only appends what changed since the previous one: header/survey changes, new position
+ * records, newly damaged chunks and removed tornadoes. It works from immutable {@link Entry}
+ * snapshots, so it can run off the thread that owns the tornadoes. The journal is fsynced at most every
+ * {@link #FSYNC_INTERVAL_MS} and folded into a fresh snapshot once it outgrows it. Both files are
+ * a stream of CRC-checked records, so loading reads them sequentially and stops at a torn tail.
+ * Both file headers carry a generation that compaction bumps; a journal whose generation doesn't
+ * match the snapshot's was already folded into it (a crash between the two steps) and is dropped.
+ */
+public final class TornadoJournal {
+    private static final int SNAPSHOT_MAGIC = 0x45415353; // "EASS"
+    private static final int JOURNAL_MAGIC = 0x4541534A;  // "EASJ"
+    // 2: generation in the file header
+    private static final int FORMAT_VERSION = 2;
+
+    private static final byte REC_HEADER = 1;
+    private static final byte REC_POSITIONS = 2;
+    private static final byte REC_CHUNKS = 3;
+    private static final byte REC_REMOVE = 4;
+
+    private static final long FSYNC_INTERVAL_MS = 5000;
+    private static final long COMPACT_MIN_BYTES = 1L << 20;
+    private static final int MAX_RECORD_BYTES = 64 << 20;
+    private static final int WRITE_CHUNK_BYTES = 1 << 20;
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final String dimensionKey;
+
+    private FileChannel journal;
+    private long journalBytes = 0;
+    private long snapshotBytes = 0;
+    private long lastForceTime = 0;
+    private boolean unforced = false;
+    // Generation of the snapshot on disk; the journal being appended to carries the same one
+    private long generation = 0;
+
+    // What the files hold right now, per tornado; only trusted once a load or compaction set it
+    private final Long2ObjectOpenHashMap<Persisted> persisted = new Long2ObjectOpenHashMap<>();
+    // Latest entry of every live tornado, for compaction
+    private final Long2ObjectOpenHashMap<Entry> latest = new Long2ObjectOpenHashMap<>();
+    private boolean stateKnown = false;
+
+    // Reused while encoding
+    private final ByteArrayOutputStream batchBytes = new ByteArrayOutputStream(4096);
+    private final DataOutputStream batch = new DataOutputStream(batchBytes);
+    private final ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(1024);
+    private final DataOutputStream payload = new DataOutputStream(payloadBytes);
+    private final CRC32 crc = new CRC32();
+
+    record Header(boolean active, int maxWindspeed, float maxWidth, String rating,
+                          long firstSeenTime, long lastSeenTime, boolean hasRecordedData,
+                          boolean surveyed, String surveyedBy, long surveyTime,
+                          int surveyedEFRating, float surveyedMaxWindspeed) {
+
+        static Header of(TornadoData tornado) {
+            return new Header(tornado.isActive(), tornado.getRawMaxWindspeed(), tornado.getMaxWidth(), tornado.getRating(),
+                tornado.getFirstSeenTime(), tornado.getLastSeenTime(), tornado.hasRecordedData(),
+                tornado.isSurveyed(), tornado.getSurveyedBy(), tornado.getSurveyTime(),
+                tornado.getSurveyedEFRating(), tornado.getSurveyedMaxWindspeed());
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeBoolean(active);
+            out.writeInt(maxWindspeed);
+            out.writeFloat(maxWidth);
+            out.writeUTF(rating != null ? rating : "EFU");
+            out.writeLong(firstSeenTime);
+            out.writeLong(lastSeenTime);
+            out.writeBoolean(hasRecordedData);
+            out.writeBoolean(surveyed);
+            out.writeBoolean(surveyedBy != null);
+            if (surveyedBy != null) {
+                out.writeUTF(surveyedBy);
+            }
+            out.writeLong(surveyTime);
+            out.writeInt(surveyedEFRating);
+            out.writeFloat(surveyedMaxWindspeed);
+        }
+    }
+
+    /**
+     * Immutable copy of one tornado's persisted state, taken on the thread that owns the tornado.
+     * The position view is already an immutable snapshot, so this doesn't copy the history.
+     */
+    record Entry(long id, Header header, PositionHistory.View positions, long[] chunks, int chunkRevision) {
+        static Entry of(TornadoData tornado) {
+            DamagedChunkSet chunks = tornado.getDamagedChunkSet();
+            synchronized (chunks) {
+                return new Entry(tornado.getId(), Header.of(tornado), tornado.getPositionView(), chunks.toLongArray(), chunks.revision());
+            }
+        }
+
+        /**
+         * True if the tornado changed since this entry was taken
+         */
+        boolean isStale(TornadoData tornado) {
+            return positions != tornado.getPositionView()
+                || chunkRevision != tornado.getDamagedChunkSet().revision()
+                || !header.equals(Header.of(tornado));
+        }
+    }
+
+    /**
+     * Header fields of a file that was read, and the offset just past its last good record
+     */
+    private record FileRead(long generation, long validBytes) {}
+
+    private static final class Persisted {
+        Header header;
+        int positions;
+        long lastTimestamp;
+        final LongOpenHashSet chunks = new LongOpenHashSet();
+    }
+
+    public TornadoJournal(Path snapshotFile, Path journalFile, String dimensionKey) {
+        this.snapshotFile = snapshotFile;
+        this.journalFile = journalFile;
+        this.dimensionKey = dimensionKey;
+    }
+
+    public boolean exists() {
+        return Files.exists(snapshotFile) || Files.exists(journalFile);
+    }
+
+    /**
+     * Stream the snapshot and then the journal into tornado data. A torn or corrupt journal tail
+     * is cut off so later appends follow the last good record.
+     */
+    public synchronized Map<Long, TornadoData> load() throws IOException {
+        closeJournal();
+        Map<Long, TornadoData> result = new HashMap<>();
+
+        generation = 0;
+        if (Files.exists(snapshotFile)) {
+            snapshotBytes = Files.size(snapshotFile);
+            FileRead snapshot = readFile(snapshotFile, SNAPSHOT_MAGIC, -1, result);
+            if (snapshot == null) {
+                throw new IOException("Not a tornado snapshot for " + dimensionKey + ": " + snapshotFile);
+            }
+            generation = snapshot.generation();
+        }
+
+        if (Files.exists(journalFile)) {
+            FileRead journalRead = readFile(journalFile, JOURNAL_MAGIC, generation, result);
+            if (journalRead == null) {
+                // Not ours, or left over from before the snapshot was last compacted
+                Files.delete(journalFile);
+            } else if (journalRead.validBytes() < Files.size(journalFile)) {
+                try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+                    channel.truncate(journalRead.validBytes());
+                }
+            }
+        }
+
+        persisted.clear();
+        latest.clear();
+        for (TornadoData tornado : result.values()) {
+            Entry entry = Entry.of(tornado);
+            Persisted p = new Persisted();
+            p.header = entry.header();
+            p.positions = entry.positions().size();
+            p.lastTimestamp = p.positions == 0 ? 0 : entry.positions().timestamp(p.positions - 1);
+            p.chunks.addAll(LongArrayList.wrap(entry.chunks()));
+            persisted.put(tornado.getId(), p);
+            latest.put(tornado.getId(), entry);
+        }
+        stateKnown = true;
+        return result;
+    }
+
+    /**
+     * Save the changed entries and drop every tornado not in liveIds. Appends to the journal, or
+     * writes a fresh snapshot when there is none yet, the on-disk state is unknown, or the journal
+     * has outgrown the snapshot.
+     */
+    public synchronized void save(Collection<Entry> changed, long[] liveIds) throws IOException {
+        LongOpenHashSet live = new LongOpenHashSet(liveIds);
+        latest.keySet().retainAll(live);
+        for (Entry entry : changed) {
+            if (live.contains(entry.id())) {
+                latest.put(entry.id(), entry);
+            }
+        }
+
+        try {
+            if (!stateKnown || !Files.exists(snapshotFile) || journalBytes > Math.max(COMPACT_MIN_BYTES, snapshotBytes)) {
+                compact();
+            } else {
+                append(changed, live);
+            }
+        } catch (IOException e) {
+            // The files may not match what we think they hold; rewrite them on the next save
+            stateKnown = false;
+            batchBytes.reset();
+            throw e;
+        }
+    }
+
+    /**
+     * Fsync journal writes that are still pending
+     */
+    public synchronized void flush() throws IOException {
+        if (unforced && journal != null) {
+            force();
+        }
+    }
+
+    public synchronized void close() throws IOException {
+        flush();
+        closeJournal();
+    }
+
+    // ========== WRITING ==========
+
+    private void append(Collection<Entry> changed, LongOpenHashSet live) throws IOException {
+        batchBytes.reset();
+        LongIterator ids = persisted.keySet().iterator();
+        while (ids.hasNext()) {
+            long id = ids.nextLong();
+            if (!live.contains(id)) {
+                beginRecord(id);
+                endRecord(REC_REMOVE);
+                ids.remove();
+            }
+        }
+        for (Entry entry : changed) {
+            if (!live.contains(entry.id())) continue;
+            Persisted p = persisted.get(entry.id());
+            if (p == null) {
+                p = new Persisted();
+                persisted.put(entry.id(), p);
+            }
+            appendChanges(entry, p);
+        }
+        if (batchBytes.size() == 0) return;
+
+        openJournal();
+        writeFully(journal, batchBytes);
+        journalBytes += batchBytes.size();
+        batchBytes.reset();
+        unforced = true;
+
+        long now = System.currentTimeMillis();
+        if (now - lastForceTime >= FSYNC_INTERVAL_MS) {
+            force();
+        }
+    }
+
+    private void compact() throws IOException {
+        Path tmp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        // The old journal keeps the old generation, so it is ignored if we crash before deleting it
+        long nextGeneration = generation + 1;
+        persisted.clear();
+        batchBytes.reset();
+
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFileHeader(SNAPSHOT_MAGIC, nextGeneration);
+            for (Entry entry : latest.values()) {
+                Persisted p = new Persisted();
+                persisted.put(entry.id(), p);
+                appendChanges(entry, p);
+                if (batchBytes.size() >= WRITE_CHUNK_BYTES) {
+                    writeFully(out, batchBytes);
+                    batchBytes.reset();
+                }
+            }
+            writeFully(out, batchBytes);
+            batchBytes.reset();
+            out.force(true);
+        }
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        generation = nextGeneration;
+        snapshotBytes = Files.size(snapshotFile);
+
+        // Everything in the journal is now in the snapshot
+        closeJournal();
+        Files.deleteIfExists(journalFile);
+        journalBytes = 0;
+        unforced = false;
+        stateKnown = true;
+    }
+
+    private void appendChanges(Entry entry, Persisted p) throws IOException {
+        long id = entry.id();
+
+        Header header = entry.header();
+        if (!header.equals(p.header)) {
+            beginRecord(id);
+            header.write(payload);
+            endRecord(REC_HEADER);
+            p.header = header;
+        }
+
+        PositionHistory.View history = entry.positions();
+        int size = history.size();
+        int start = p.positions;
+        if (start > size || (start > 0 && history.timestamp(start - 1) != p.lastTimestamp)) {
+            // History was cleared or rebuilt since the last save; rewrite it from the start
+            start = 0;
+        }
+        if (start < size || (start == 0 && p.positions > 0)) {
+            beginRecord(id);
+            payload.writeInt(start);
+            payload.writeInt(size - start);
+            for (int i = start; i < size; i++) {
+                payload.writeDouble(history.x(i));
+                payload.writeDouble(history.y(i));
+                payload.writeDouble(history.z(i));
+                payload.writeLong(history.timestamp(i));
+                payload.writeInt(history.windspeed(i));
+                payload.writeFloat(history.width(i));
+            }
+            endRecord(REC_POSITIONS);
+            p.positions = size;
+            p.lastTimestamp = size > 0 ? history.timestamp(size - 1) : 0;
+        }
+
+        long[] chunks = entry.chunks();
+        int added = 0;
+        for (long chunk : chunks) {
+            if (!p.chunks.contains(chunk)) added++;
+        }
+        // Fewer survivors than before means the set was trimmed; store it whole
+        boolean reset = chunks.length - added < p.chunks.size();
+        if (reset || added > 0) {
+            beginRecord(id);
+            payload.writeBoolean(reset);
+            payload.writeInt(reset ? chunks.length : added);
+            if (reset) {
+                p.chunks.clear();
+            }
+            for (long chunk : chunks) {
+                if (p.chunks.add(chunk)) {
+                    payload.writeLong(chunk);
+                }
+            }
+            endRecord(REC_CHUNKS);
+        }
+    }
+
+    private void beginRecord(long id) throws IOException {
+        payloadBytes.reset();
+        payload.writeLong(id);
+    }
+
+    private void endRecord(byte type) throws IOException {
+        payload.flush();
+        byte[] data = payloadBytes.toByteArray();
+        crc.reset();
+        crc.update(type);
+        crc.update(data);
+        batch.writeByte(type);
+        batch.writeInt(data.length);
+        batch.write(data);
+        batch.writeInt((int) crc.getValue());
+        batch.flush();
+    }
+
+    private void writeFileHeader(int magic, long fileGeneration) throws IOException {
+        byte[] dimension = dimensionKey.getBytes(StandardCharsets.UTF_8);
+        batch.writeInt(magic);
+        batch.writeInt(FORMAT_VERSION);
+        batch.writeInt(dimension.length);
+        batch.write(dimension);
+        batch.writeLong(fileGeneration);
+        batch.flush();
+    }
+
+    private void openJournal() throws IOException {
+        if (journal != null) return;
+        boolean fresh = !Files.exists(journalFile) || Files.size(journalFile) == 0;
+        journal = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (fresh) {
+            // Batch may already hold records; the header has to go in front of them
+            byte[] pending = batchBytes.toByteArray();
+            batchBytes.reset();
+            writeFileHeader(JOURNAL_MAGIC, generation);
+            batch.write(pending);
+            batch.flush();
+            journalBytes = 0;
+        } else {
+            journalBytes = journal.size();
+        }
+    }
+
+    private void force() throws IOException {
+        journal.force(false);
+        unforced = false;
+        lastForceTime = System.currentTimeMillis();
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteArrayOutputStream bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // ========== READING ==========
+
+    /**
+     * Apply every intact record in the file, or return null without applying any if the file
+     * header doesn't match. requiredGeneration is ignored when negative.
+     */
+    private FileRead readFile(Path file, int magic, long requiredGeneration, Map<Long, TornadoData> into) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            long offset;
+            long fileGeneration;
+            try {
+                if (in.readInt() != magic) return null;
+                int version = in.readInt();
+                if (version > FORMAT_VERSION) return null;
+                int dimensionLength = in.readInt();
+                if (dimensionLength < 0 || dimensionLength > 1024) return null;
+                byte[] dimension = in.readNBytes(dimensionLength);
+                if (!dimensionKey.equals(new String(dimension, StandardCharsets.UTF_8))) return null;
+                offset = 12L + dimensionLength;
+                // Version 1 files predate generations; they only ever pair with each other
+                fileGeneration = 0;
+                if (version >= 2) {
+                    fileGeneration = in.readLong();
+                    offset += 8;
+                }
+            } catch (EOFException e) {
+                return null;
+            }
+            if (requiredGeneration >= 0 && fileGeneration != requiredGeneration) return null;
+
+            while (true) {
+                int type = in.read();
+                if (type < 0) break;
+
+                byte[] data;
+                int storedCrc;
+                try {
+                    int length = in.readInt();
+                    if (length < 0 || length > MAX_RECORD_BYTES) break;
+                    data = in.readNBytes(length);
+                    if (data.length < length) break;
+                    storedCrc = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+
+                crc.reset();
+                crc.update(type);
+                crc.update(data);
+                if ((int) crc.getValue() != storedCrc) break;
+
+                applyRecord((byte) type, new DataInputStream(new ByteArrayInputStream(data)), into);
+                offset += 9L + data.length;
+            }
+            return new FileRead(fileGeneration, offset);
+        }
+    }
+
+    private static void applyRecord(byte type, DataInputStream in, Map<Long, TornadoData> into) throws IOException {
+        long id = in.readLong();
+        switch (type) {
+            case REC_HEADER -> readHeader(in, into.computeIfAbsent(id, TornadoData::new));
+            case REC_POSITIONS -> {
+                TornadoData tornado = into.computeIfAbsent(id, TornadoData::new);
+                int start = in.readInt();
+                int count = in.readInt();
+                if (start == 0) {
+                    tornado.clearPositionHistory();
+                }
+                // Records already present (journal replayed over a snapshot that has them) are skipped
+                int skip = Math.max(tornado.getPositionView().size() - start, 0);
+                for (int i = 0; i < count; i++) {
+                    double x = in.readDouble();
+                    double y = in.readDouble();
+                    double z = in.readDouble();
+                    long timestamp = in.readLong();
+                    int windspeed = in.readInt();
+                    float width = in.readFloat();
+                    if (i >= skip) {
+                        tornado.addPositionRecord(x, y, z, timestamp, windspeed, width);
+                    }
+                }
+            }
+            case REC_CHUNKS -> {
+                DamagedChunkSet chunks = into.computeIfAbsent(id, TornadoData::new).getDamagedChunkSet();
+                if (in.readBoolean()) {
+                    chunks.clear();
+                }
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    chunks.add(in.readLong());
+                }
+            }
+            case REC_REMOVE -> into.remove(id);
+            default -> {
+                // Unknown record type from a newer version; skip it
+            }
+        }
+    }
+
+    private static void readHeader(DataInputStream in, TornadoData tornado) throws IOException {
+        tornado.setActive(in.readBoolean());
+        tornado.setMaxWindspeed(in.readInt());
+        tornado.setMaxWidth(in.readFloat());
+        String rating = in.readUTF();
+        tornado.setFirstSeenTime(in.readLong());
+        tornado.setLastSeenTime(in.readLong());
+        tornado.setHasRecordedData(in.readBoolean());
+        tornado.setSurveyed(in.readBoolean());
+        tornado.setSurveyedBy(in.readBoolean() ? in.readUTF() : null);
+        tornado.setSurveyTime(in.readLong());
+        tornado.setSurveyedEFRating(in.readInt());
+        tornado.setSurveyedMaxWindspeed(in.readFloat());
+        // Rating last; it is only accepted once the tornado is marked surveyed
+        tornado.setRating(rating);
+    }
+}
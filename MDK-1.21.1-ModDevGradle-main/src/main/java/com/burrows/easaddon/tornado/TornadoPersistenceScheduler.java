@@ -0,0 +1,214 @@
+package com.burrows.easaddon.tornado;
+
+import com.burrows.easaddon.EASAddon;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs tornado persistence on a single worker thread so disk I/O never happens on the client
+ * tick/render thread.
+ *
+ * Save requests snapshot only the tornadoes that changed since the previous request (as
+ * immutable {@link TornadoJournal.Entry}s) and are coalesced: everything requested within
+ * {@link #DEBOUNCE_MS} is written by one worker task. Loads run on the same worker, so they
+ * always see earlier saves.
+ */
+public class TornadoPersistenceScheduler {
+    private static TornadoPersistenceScheduler instance;
+
+    private static final long DEBOUNCE_MS = 2000;
+    // How long game shutdown waits for queued writes
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    // A daemon, so it never holds the JVM open; shutdown() finishes queued writes when the game exits
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "EASAddon Tornado Persistence");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Client thread only: the entry last queued per tornado, to tell which ones changed
+    private final Map<Long, TornadoJournal.Entry> submitted = new HashMap<>();
+    private Path submittedDir;
+    private String submittedDimension;
+
+    // Guarded by this
+    private PendingSave pending;
+    private ScheduledFuture<?> scheduledWrite;
+
+    private static final class PendingSave {
+        final Path dataDir;
+        final String dimensionKey;
+        final Map<Long, TornadoJournal.Entry> changed = new HashMap<>();
+        long[] liveIds;
+
+        PendingSave(Path dataDir, String dimensionKey) {
+            this.dataDir = dataDir;
+            this.dimensionKey = dimensionKey;
+        }
+
+        boolean isFor(Path dir, String dimension) {
+            return dataDir.equals(dir) && dimensionKey.equals(dimension);
+        }
+    }
+
+    private TornadoPersistenceScheduler() {}
+
+    public static TornadoPersistenceScheduler getInstance() {
+        if (instance == null) {
+            instance = new TornadoPersistenceScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Queue a save of the tornadoes that changed since the last request. Must be called on the
+     * thread that updates the tornadoes; only cheap snapshots are taken here.
+     */
+    public void requestSave(Path dataDir, String dimensionKey, Map<Long, TornadoData> tornadoes) {
+        if (!dataDir.equals(submittedDir) || !dimensionKey.equals(submittedDimension)) {
+            submitted.clear();
+            submittedDir = dataDir;
+            submittedDimension = dimensionKey;
+        }
+
+        List<TornadoJournal.Entry> dirty = new ArrayList<>();
+        long[] liveIds = new long[tornadoes.size()];
+        int liveCount = 0;
+        for (TornadoData tornado : tornadoes.values()) {
+            if (liveCount == liveIds.length) {
+                liveIds = Arrays.copyOf(liveIds, liveCount * 2 + 1);
+            }
+            liveIds[liveCount++] = tornado.getId();
+
+            TornadoJournal.Entry previous = submitted.get(tornado.getId());
+            if (previous == null || previous.isStale(tornado)) {
+                TornadoJournal.Entry entry = TornadoJournal.Entry.of(tornado);
+                submitted.put(tornado.getId(), entry);
+                dirty.add(entry);
+            }
+        }
+        boolean removed = submitted.keySet().removeIf(id -> !tornadoes.containsKey(id));
+        if (dirty.isEmpty() && !removed) return;
+
+        long[] live = liveCount == liveIds.length ? liveIds : Arrays.copyOf(liveIds, liveCount);
+        synchronized (this) {
+            if (pending != null && !pending.isFor(dataDir, dimensionKey)) {
+                // A different world/dimension; write the old one out before collecting for this one
+                submitPending();
+            }
+            if (pending == null) {
+                pending = new PendingSave(dataDir, dimensionKey);
+            }
+            for (TornadoJournal.Entry entry : dirty) {
+                pending.changed.put(entry.id(), entry);
+            }
+            pending.liveIds = live;
+            if (scheduledWrite == null) {
+                scheduledWrite = worker.schedule(this::writePending, DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Write queued saves now instead of after the debounce window, optionally fsyncing the
+     * journals. The returned future completes once the worker is done.
+     */
+    public CompletableFuture<Void> flush(boolean sync) {
+        synchronized (this) {
+            submitPending();
+        }
+        return CompletableFuture.runAsync(() -> {
+            if (sync) {
+                ClientTornadoPersistence.flush();
+            }
+        }, worker);
+    }
+
+    /**
+     * Write everything queued, then close the stores (world switch)
+     */
+    public void closeAll() {
+        synchronized (this) {
+            submitPending();
+        }
+        submitted.clear();
+        submittedDir = null;
+        submittedDimension = null;
+        worker.execute(ClientTornadoPersistence::closeAll);
+    }
+
+    /**
+     * Load a dimension's tornadoes on the worker, after any saves already queued
+     */
+    public CompletableFuture<Map<Long, TornadoData>> load(Path dataDir, String dimensionKey) {
+        synchronized (this) {
+            submitPending();
+        }
+        return CompletableFuture.supplyAsync(() -> ClientTornadoPersistence.loadTornadoData(dataDir, dimensionKey), worker);
+    }
+
+    /**
+     * Write everything queued, flush and close the stores and stop the worker. Called when the game
+     * shuts down; waits up to SHUTDOWN_TIMEOUT_SECONDS for the worker to finish.
+     */
+    public void shutdown() {
+        if (worker.isShutdown()) return;
+        synchronized (this) {
+            submitPending();
+        }
+        // closeAll flushes each journal before closing it
+        worker.execute(ClientTornadoPersistence::closeAll);
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                EASAddon.LOGGER.warn("Tornado persistence did not finish within {}s of shutdown", SHUTDOWN_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Caller holds the lock
+    private void submitPending() {
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel(false);
+            scheduledWrite = null;
+        }
+        PendingSave save = pending;
+        pending = null;
+        if (save != null) {
+            worker.execute(() -> write(save));
+        }
+    }
+
+    private void writePending() {
+        PendingSave save;
+        synchronized (this) {
+            save = pending;
+            pending = null;
+            scheduledWrite = null;
+        }
+        if (save != null) {
+            write(save);
+        }
+    }
+
+    private static void write(PendingSave save) {
+        try {
+            ClientTornadoPersistence.saveEntries(save.dataDir, save.dimensionKey, save.changed.values(), save.liveIds);
+        } catch (Exception e) {
+            EASAddon.LOGGER.error("Tornado persistence task failed: {}", e.getMessage());
+        }
+    }
+}
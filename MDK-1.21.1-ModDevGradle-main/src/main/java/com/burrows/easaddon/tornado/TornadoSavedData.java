@@ -4,6 +4,7 @@ import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.saveddata.SavedData;
 import net.minecraft.world.phys.Vec3;
@@ -14,6 +15,10 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * Server-side tornado database of one dimension, saved with the world by the level's
+ * DimensionDataStorage. Only touched on the server thread.
+ */
 public class TornadoSavedData extends SavedData {
     private static final String DATA_NAME = "easaddon_tornado_data";
     
@@ -33,6 +38,13 @@ public class TornadoSavedData extends SavedData {
         return new Factory<>(TornadoSavedData::create, TornadoSavedData::new);
     }
     
+    /**
+     * The tornado data of this dimension, loaded from the world save on first use
+     */
+    public static TornadoSavedData get(ServerLevel level) {
+        return level.getDataStorage().computeIfAbsent(factory(), DATA_NAME);
+    }
+    
     public void load(CompoundTag tag) {
         tornadoData.clear();
         
@@ -50,11 +62,21 @@ public class TornadoSavedData extends SavedData {
                     tornado.setActive(tornadoTag.getBoolean("active"));
                     tornado.setMaxWindspeed(tornadoTag.getInt("maxWindspeed"));
                     tornado.setMaxWidth(tornadoTag.getFloat("maxWidth"));
-                    tornado.setRating(tornadoTag.getString("rating"));
                     tornado.setFirstSeenTime(tornadoTag.getLong("firstSeenTime"));
                     tornado.setLastSeenTime(tornadoTag.getLong("lastSeenTime"));
                     tornado.setHasRecordedData(tornadoTag.getBoolean("hasRecordedData"));
                     
+                    // ADDED: Survey results
+                    if (tornadoTag.getBoolean("surveyed")) {
+                        tornado.setSurveyed(true);
+                        tornado.setSurveyedBy(tornadoTag.getString("surveyedBy"));
+                        tornado.setSurveyTime(tornadoTag.getLong("surveyTime"));
+                        tornado.setSurveyedEFRating(tornadoTag.getInt("surveyedEFRating"));
+                        tornado.setSurveyedMaxWindspeed(tornadoTag.getFloat("surveyedMaxWindspeed"));
+                    }
+                    // Rating last; it is only accepted once the tornado is marked surveyed
+                    tornado.setRating(tornadoTag.getString("rating"));
+                    
                     // Load position history
                     if (tornadoTag.contains("positionHistory", Tag.TAG_LIST)) {
                         ListTag positionList = tornadoTag.getList("positionHistory", Tag.TAG_COMPOUND);
@@ -104,23 +126,33 @@ public class TornadoSavedData extends SavedData {
             // Save basic data
             tornadoTag.putLong("id", tornado.getId());
             tornadoTag.putBoolean("active", tornado.isActive());
-            tornadoTag.putInt("maxWindspeed", tornado.getMaxWindspeed());
+            tornadoTag.putInt("maxWindspeed", tornado.getRawMaxWindspeed());
             tornadoTag.putFloat("maxWidth", tornado.getMaxWidth());
             tornadoTag.putString("rating", tornado.getRating());
             tornadoTag.putLong("firstSeenTime", tornado.getFirstSeenTime());
             tornadoTag.putLong("lastSeenTime", tornado.getLastSeenTime());
             tornadoTag.putBoolean("hasRecordedData", tornado.hasRecordedData());
             
+            // ADDED: Survey results
+            if (tornado.isSurveyed()) {
+                tornadoTag.putBoolean("surveyed", true);
+                tornadoTag.putString("surveyedBy", tornado.getSurveyedBy() != null ? tornado.getSurveyedBy() : "");
+                tornadoTag.putLong("surveyTime", tornado.getSurveyTime());
+                tornadoTag.putInt("surveyedEFRating", tornado.getSurveyedEFRating());
+                tornadoTag.putFloat("surveyedMaxWindspeed", tornado.getSurveyedMaxWindspeed());
+            }
+            
             // Save position history
             ListTag positionList = new ListTag();
-            for (TornadoData.PositionRecord record : tornado.getPositionHistory()) {
+            PositionHistory.View history = tornado.getPositionView();
+            for (int i = 0; i < history.size(); i++) {
                 CompoundTag posTag = new CompoundTag();
-                posTag.putDouble("x", record.position.x);
-                posTag.putDouble("y", record.position.y);
-                posTag.putDouble("z", record.position.z);
-                posTag.putLong("timestamp", record.timestamp);
-                posTag.putInt("windspeed", record.windspeed);
-                posTag.putFloat("width", record.width);
+                posTag.putDouble("x", history.x(i));
+                posTag.putDouble("y", history.y(i));
+                posTag.putDouble("z", history.z(i));
+                posTag.putLong("timestamp", history.timestamp(i));
+                posTag.putInt("windspeed", history.windspeed(i));
+                posTag.putFloat("width", history.width(i));
                 positionList.add(posTag);
             }
             tornadoTag.put("positionHistory", positionList);
@@ -140,7 +172,7 @@ public class TornadoSavedData extends SavedData {
         
         tag.put("tornadoes", tornadoList);
         
-        EASAddon.LOGGER.info("Saved {} tornado records to world save", tornadoData.size());
+        EASAddon.LOGGER.debug("Saved {} tornado records to world save", tornadoData.size());
         return tag;
     }
     
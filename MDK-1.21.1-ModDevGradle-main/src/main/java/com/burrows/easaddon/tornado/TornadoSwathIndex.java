@@ -0,0 +1,190 @@
+package com.burrows.easaddon.tornado;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.Map;
+
+/**
+ * Inverted index from chunk (ChunkPos.toLong()) to the ids of tornadoes whose damage swath
+ * covers that chunk, so a chunk load is a single lookup instead of a scan over every tracked track.
+ *
+ * A chunk is in a tornado's swath when its centre is within max(maxWidth * 2, 100) blocks of a
+ * stretch of track where the tornado was at damaging strength (the same test as
+ * TornadoTracker.shouldCalculateRetroactiveDamage). The index is a superset filter; callers still
+ * run that check on the candidates. Kept up to date incrementally by {@link #sync}.
+ */
+public class TornadoSwathIndex {
+    private static final int MIN_DAMAGING_WINDSPEED = 40;
+    private static final double MIN_SWATH_RADIUS = 100.0;
+    private static final long[] NONE = new long[0];
+
+    private final Long2ObjectOpenHashMap<long[]> chunkToTornadoes = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<Swath> swaths = new Long2ObjectOpenHashMap<>();
+
+    private static final class Swath {
+        final TornadoData source;
+        final LongOpenHashSet chunks = new LongOpenHashSet();
+        int indexedPoints = 0;
+        double radius = 0.0;
+
+        Swath(TornadoData source) {
+            this.source = source;
+        }
+    }
+
+    /**
+     * Ids of tornadoes whose swath covers the chunk. The returned array is shared; don't modify it.
+     */
+    public synchronized long[] getTornadoesAt(long chunkKey) {
+        long[] ids = chunkToTornadoes.get(chunkKey);
+        return ids != null ? ids : NONE;
+    }
+
+    public synchronized int getIndexedChunkCount() {
+        return chunkToTornadoes.size();
+    }
+
+    /**
+     * Bring the index in line with the tracked tornadoes: stamp track points added since the last
+     * sync, widen swaths whose tornado grew, and drop tornadoes that are no longer tracked.
+     */
+    public synchronized void sync(Map<Long, TornadoData> tornadoes) {
+        // Forget tornadoes that were removed or replaced by a different TornadoData instance
+        ObjectIterator<Long2ObjectMap.Entry<Swath>> it = swaths.long2ObjectEntrySet().fastIterator();
+        while (it.hasNext()) {
+            Long2ObjectMap.Entry<Swath> entry = it.next();
+            if (tornadoes.get(entry.getLongKey()) != entry.getValue().source) {
+                unstampAll(entry.getLongKey(), entry.getValue());
+                it.remove();
+            }
+        }
+
+        for (TornadoData tornado : tornadoes.values()) {
+            Swath swath = swaths.get(tornado.getId());
+            if (swath == null) {
+                swath = new Swath(tornado);
+                swaths.put(tornado.getId(), swath);
+            }
+            update(tornado.getId(), swath);
+        }
+    }
+
+    public synchronized void clear() {
+        chunkToTornadoes.clear();
+        swaths.clear();
+    }
+
+    private void update(long tornadoId, Swath swath) {
+        PositionHistory.View track = swath.source.getPositionView();
+        int size = track.size();
+
+        if (size < swath.indexedPoints) {
+            // History was cleared
+            unstampAll(tornadoId, swath);
+            swath.indexedPoints = 0;
+        }
+
+        double radius = Math.max(swath.source.getMaxWidth() * 2.0, MIN_SWATH_RADIUS);
+        if (radius > swath.radius) {
+            // Max width only grows, so the old chunks stay valid; restamp the whole track wider
+            swath.radius = radius;
+            swath.indexedPoints = 0;
+        }
+
+        if (size == swath.indexedPoints || size == 0) return;
+
+        if (size == 1) {
+            stampSegment(tornadoId, swath, track, 0, 0);
+        } else {
+            // The last indexed point starts the first new segment
+            for (int seg = Math.max(swath.indexedPoints - 1, 0); seg < size - 1; seg++) {
+                stampSegment(tornadoId, swath, track, seg, seg + 1);
+            }
+        }
+        swath.indexedPoints = size;
+    }
+
+    private void stampSegment(long tornadoId, Swath swath, PositionHistory.View track, int a, int b) {
+        if (track.windspeed(a) < MIN_DAMAGING_WINDSPEED && track.windspeed(b) < MIN_DAMAGING_WINDSPEED) return;
+
+        double ax = track.x(a), az = track.z(a);
+        double bx = track.x(b), bz = track.z(b);
+        double radius = swath.radius;
+        double radiusSqr = radius * radius;
+
+        int minChunkX = (int) Math.floor(Math.min(ax, bx) - radius) >> 4;
+        int maxChunkX = (int) Math.floor(Math.max(ax, bx) + radius) >> 4;
+        int minChunkZ = (int) Math.floor(Math.min(az, bz) - radius) >> 4;
+        int maxChunkZ = (int) Math.floor(Math.max(az, bz) + radius) >> 4;
+
+        double sx = bx - ax;
+        double sz = bz - az;
+        double lenSqr = sx * sx + sz * sz;
+
+        for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+            double centerX = cx * 16 + 8;
+            for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                double centerZ = cz * 16 + 8;
+
+                double t = lenSqr == 0.0 ? 0.0 : ((centerX - ax) * sx + (centerZ - az) * sz) / lenSqr;
+                t = t < 0.0 ? 0.0 : (t > 1.0 ? 1.0 : t);
+                double dx = ax + sx * t - centerX;
+                double dz = az + sz * t - centerZ;
+                if (dx * dx + dz * dz > radiusSqr) continue;
+
+                long chunkKey = ChunkPos.asLong(cx, cz);
+                if (swath.chunks.add(chunkKey)) {
+                    addToChunk(chunkKey, tornadoId);
+                }
+            }
+        }
+    }
+
+    private void unstampAll(long tornadoId, Swath swath) {
+        LongIterator chunks = swath.chunks.iterator();
+        while (chunks.hasNext()) {
+            removeFromChunk(chunks.nextLong(), tornadoId);
+        }
+        swath.chunks.clear();
+    }
+
+    private void addToChunk(long chunkKey, long tornadoId) {
+        long[] ids = chunkToTornadoes.get(chunkKey);
+        if (ids == null) {
+            chunkToTornadoes.put(chunkKey, new long[] { tornadoId });
+            return;
+        }
+        long[] grown = new long[ids.length + 1];
+        System.arraycopy(ids, 0, grown, 0, ids.length);
+        grown[ids.length] = tornadoId;
+        chunkToTornadoes.put(chunkKey, grown);
+    }
+
+    private void removeFromChunk(long chunkKey, long tornadoId) {
+        long[] ids = chunkToTornadoes.get(chunkKey);
+        if (ids == null) return;
+
+        int index = -1;
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == tornadoId) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) return;
+
+        if (ids.length == 1) {
+            chunkToTornadoes.remove(chunkKey);
+            return;
+        }
+        long[] shrunk = new long[ids.length - 1];
+        System.arraycopy(ids, 0, shrunk, 0, index);
+        System.arraycopy(ids, index + 1, shrunk, index, ids.length - index - 1);
+        chunkToTornadoes.put(chunkKey, shrunk);
+    }
+}
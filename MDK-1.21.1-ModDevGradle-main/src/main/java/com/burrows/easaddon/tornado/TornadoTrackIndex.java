@@ -0,0 +1,259 @@
+package com.burrows.easaddon.tornado;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import java.util.Arrays;
+
+/**
+ * Uniform-grid index over a tornado's track, built incrementally as position records arrive.
+ * The points themselves live in the tornado's {@link PositionHistory}; this only holds the grid.
+ *
+ * Each segment (record i to record i + 1) is registered in every grid cell its bounding box
+ * touches, so a closest-approach query only looks at segments in the cells around the query
+ * point instead of the whole history. All coordinates are horizontal (x/z).
+ */
+public class TornadoTrackIndex {
+    private static final int CELL_SHIFT = 6; // 64-block cells
+    private static final double CELL_SIZE = 1 << CELL_SHIFT;
+
+    private final PositionHistory points;
+    // Number of points already registered in the grid
+    private int size = 0;
+
+    // cell key -> ids of segments starting at that point index
+    private final Long2ObjectOpenHashMap<IntArrayList> cells = new Long2ObjectOpenHashMap<>();
+    private int minCellX = Integer.MAX_VALUE, minCellZ = Integer.MAX_VALUE;
+    private int maxCellX = Integer.MIN_VALUE, maxCellZ = Integer.MIN_VALUE;
+
+    // Per-segment stamp so a segment spanning several cells is only measured once per query
+    private int[] visited = new int[16];
+    private int queryStamp = 0;
+
+    /**
+     * Result of a closest-approach query. Windspeed and width are interpolated along the segment.
+     */
+    public static final class Approach {
+        public final double distance;
+        public final double x;
+        public final double z;
+        public final int windspeed;
+        public final float width;
+        public final long timestamp;
+
+        Approach(double distance, double x, double z, int windspeed, float width, long timestamp) {
+            this.distance = distance;
+            this.x = x;
+            this.z = z;
+            this.windspeed = windspeed;
+            this.width = width;
+            this.timestamp = timestamp;
+        }
+    }
+
+    public TornadoTrackIndex(PositionHistory points) {
+        this.points = points;
+    }
+
+    /**
+     * Register points appended to the history since the last call
+     */
+    public synchronized void update() {
+        PositionHistory.View pts = points.view();
+        while (size < pts.size()) {
+            double px = pts.x(size);
+            double pz = pts.z(size);
+            size++;
+
+            if (size == 1) {
+                // A lone point is indexed as a zero-length segment until the next one arrives
+                insertSegment(0, px, pz, px, pz);
+            } else {
+                int seg = size - 2;
+                if (size == 2) {
+                    removeSegment(0, pts.x(0), pts.z(0), pts.x(0), pts.z(0));
+                }
+                insertSegment(seg, pts.x(seg), pts.z(seg), px, pz);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        size = 0;
+        cells.clear();
+        minCellX = minCellZ = Integer.MAX_VALUE;
+        maxCellX = maxCellZ = Integer.MIN_VALUE;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public PositionHistory getPoints() {
+        return points;
+    }
+
+    /**
+     * Closest point on the track to (px, pz) within maxDistance, considering only segments where
+     * at least one end had windspeed >= minWindspeed. Pass Double.POSITIVE_INFINITY for an
+     * unbounded search. Returns null if nothing qualifies.
+     */
+    public synchronized Approach findClosest(double px, double pz, double maxDistance, int minWindspeed) {
+        PositionHistory.View pts = points.view();
+        // Grid may briefly lag behind a cleared history; only trust points both agree on
+        int count = Math.min(size, pts.size());
+        if (count == 0) return null;
+
+        int stamp = nextStamp();
+        int cx = cellOf(px);
+        int cz = cellOf(pz);
+
+        // Rings beyond these can't contain any segment
+        int maxRing = Math.max(
+            Math.max(Math.abs(cx - minCellX), Math.abs(maxCellX - cx)),
+            Math.max(Math.abs(cz - minCellZ), Math.abs(maxCellZ - cz)));
+        if (maxDistance != Double.POSITIVE_INFINITY) {
+            maxRing = Math.min(maxRing, (int) Math.ceil(maxDistance / CELL_SIZE) + 1);
+        }
+
+        double bestDistSqr = maxDistance == Double.POSITIVE_INFINITY ? Double.MAX_VALUE : maxDistance * maxDistance;
+        int bestSeg = -1;
+        double bestT = 0.0;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dz = -ring; dz <= ring; dz++) {
+                    // Only the outline of this ring; the inside was done already
+                    if (Math.abs(dx) != ring && Math.abs(dz) != ring) continue;
+
+                    IntArrayList segments = cells.get(cellKey(cx + dx, cz + dz));
+                    if (segments == null) continue;
+
+                    for (int n = 0, segCount = segments.size(); n < segCount; n++) {
+                        int seg = segments.getInt(n);
+                        if (seg >= count || visited[seg] == stamp) continue;
+                        visited[seg] = stamp;
+
+                        int end = seg + 1 < count ? seg + 1 : seg;
+                        if (pts.windspeed(seg) < minWindspeed && pts.windspeed(end) < minWindspeed) continue;
+
+                        double t = projectOnSegment(pts, px, pz, seg, end);
+                        double qx = pts.x(seg) + (pts.x(end) - pts.x(seg)) * t;
+                        double qz = pts.z(seg) + (pts.z(end) - pts.z(seg)) * t;
+                        double ddx = qx - px;
+                        double ddz = qz - pz;
+                        double distSqr = ddx * ddx + ddz * ddz;
+
+                        if (distSqr <= bestDistSqr) {
+                            bestDistSqr = distSqr;
+                            bestSeg = seg;
+                            bestT = t;
+                        }
+                    }
+                }
+            }
+
+            // Every cell in the next ring is at least ring * CELL_SIZE away
+            if (bestSeg >= 0 && bestDistSqr <= (ring * CELL_SIZE) * (ring * CELL_SIZE)) break;
+        }
+
+        if (bestSeg < 0) return null;
+
+        int end = bestSeg + 1 < count ? bestSeg + 1 : bestSeg;
+        double qx = pts.x(bestSeg) + (pts.x(end) - pts.x(bestSeg)) * bestT;
+        double qz = pts.z(bestSeg) + (pts.z(end) - pts.z(bestSeg)) * bestT;
+        int wind = (int) Math.round(pts.windspeed(bestSeg) + (pts.windspeed(end) - pts.windspeed(bestSeg)) * bestT);
+        float w = (float) (pts.width(bestSeg) + (pts.width(end) - pts.width(bestSeg)) * bestT);
+        long time = pts.timestamp(bestSeg) + Math.round((pts.timestamp(end) - pts.timestamp(bestSeg)) * bestT);
+        return new Approach(Math.sqrt(bestDistSqr), qx, qz, wind, w, time);
+    }
+
+    /**
+     * True if any qualifying segment passes within maxDistance of (px, pz)
+     */
+    public boolean isWithin(double px, double pz, double maxDistance, int minWindspeed) {
+        return findClosest(px, pz, maxDistance, minWindspeed) != null;
+    }
+
+    /**
+     * Add the index of every track point whose segment touches the given box to out (deduplicated).
+     */
+    public synchronized void collectPointsNear(double minX, double minZ, double maxX, double maxZ, IntArrayList out) {
+        int count = Math.min(size, points.size());
+        if (count == 0) return;
+
+        int stamp = nextStamp();
+        int fromX = Math.max(cellOf(minX), minCellX), toX = Math.min(cellOf(maxX), maxCellX);
+        int fromZ = Math.max(cellOf(minZ), minCellZ), toZ = Math.min(cellOf(maxZ), maxCellZ);
+
+        for (int cx = fromX; cx <= toX; cx++) {
+            for (int cz = fromZ; cz <= toZ; cz++) {
+                IntArrayList segments = cells.get(cellKey(cx, cz));
+                if (segments == null) continue;
+
+                for (int n = 0, segCount = segments.size(); n < segCount; n++) {
+                    int seg = segments.getInt(n);
+                    if (seg >= count || visited[seg] == stamp) continue;
+                    visited[seg] = stamp;
+                    out.add(seg);
+                    if (seg + 1 < count) out.add(seg + 1);
+                }
+            }
+        }
+    }
+
+    private static double projectOnSegment(PositionHistory.View pts, double px, double pz, int a, int b) {
+        double sx = pts.x(b) - pts.x(a);
+        double sz = pts.z(b) - pts.z(a);
+        double lenSqr = sx * sx + sz * sz;
+        if (lenSqr == 0.0) return 0.0;
+        double t = ((px - pts.x(a)) * sx + (pz - pts.z(a)) * sz) / lenSqr;
+        return t < 0.0 ? 0.0 : (t > 1.0 ? 1.0 : t);
+    }
+
+    private void insertSegment(int seg, double ax, double az, double bx, double bz) {
+        int x0 = cellOf(Math.min(ax, bx)), x1 = cellOf(Math.max(ax, bx));
+        int z0 = cellOf(Math.min(az, bz)), z1 = cellOf(Math.max(az, bz));
+        for (int cx = x0; cx <= x1; cx++) {
+            for (int cz = z0; cz <= z1; cz++) {
+                cells.computeIfAbsent(cellKey(cx, cz), k -> new IntArrayList(4)).add(seg);
+            }
+        }
+        minCellX = Math.min(minCellX, x0);
+        maxCellX = Math.max(maxCellX, x1);
+        minCellZ = Math.min(minCellZ, z0);
+        maxCellZ = Math.max(maxCellZ, z1);
+    }
+
+    private void removeSegment(int seg, double ax, double az, double bx, double bz) {
+        int x0 = cellOf(Math.min(ax, bx)), x1 = cellOf(Math.max(ax, bx));
+        int z0 = cellOf(Math.min(az, bz)), z1 = cellOf(Math.max(az, bz));
+        for (int cx = x0; cx <= x1; cx++) {
+            for (int cz = z0; cz <= z1; cz++) {
+                IntArrayList segments = cells.get(cellKey(cx, cz));
+                if (segments != null) {
+                    segments.rem(seg);
+                }
+            }
+        }
+    }
+
+    private int nextStamp() {
+        if (visited.length < size) {
+            visited = Arrays.copyOf(visited, Math.max(size, visited.length * 2));
+        }
+        if (++queryStamp == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            queryStamp = 1;
+        }
+        return queryStamp;
+    }
+
+    private static int cellOf(double coord) {
+        return (int) Math.floor(coord) >> CELL_SHIFT;
+    }
+
+    private static long cellKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+}
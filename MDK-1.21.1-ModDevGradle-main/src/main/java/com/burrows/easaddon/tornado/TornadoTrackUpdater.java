@@ -0,0 +1,203 @@
+package com.burrows.easaddon.tornado;
+
+import com.burrows.easaddon.EASAddon;
+import com.burrows.easaddon.compat.StormSnapshot;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies one storm snapshot to a set of tracked tornadoes: starts tracking new tornadoes,
+ * records positions and damaged chunks, and marks tornadoes inactive once PMWeather stops
+ * reporting them. Shared by the server tracker and the client tracker so both follow the
+ * same rules.
+ */
+final class TornadoTrackUpdater {
+    // Grace period before a tornado missing from the storm list is marked inactive
+    private static final long INACTIVE_GRACE_MS = 30000;
+    // Inactive tornadoes are dropped from tracking after this long
+    private static final long INACTIVE_EXPIRY_MS = 600000;
+
+    private static final int MAX_CHUNKS_PER_UPDATE = 25;
+    private static final int MAX_DAMAGED_CHUNKS = 500;
+
+    private TornadoTrackUpdater() {}
+
+    /**
+     * Update the tornadoes from the snapshot. Returns true if a tornado started being tracked or
+     * its recorded positions, peak windspeed or width, damaged chunks or active flag changed.
+     */
+    static boolean update(StormSnapshot storms, Map<Long, TornadoData> tornadoes) {
+        boolean changed = false;
+
+        // Track all storm IDs currently active in PMWeather
+        Set<Long> activeStormIds = new HashSet<>();
+
+        for (int i = 0; i < storms.size; i++) {
+            try {
+                // Only track tornadoes (stage 3+, type 0) that are not dead
+                if (!storms.isTornado(i)) continue;
+
+                int stage = storms.stage[i];
+                long stormId = storms.id[i];
+                Vec3 position = storms.position(i);
+                int windspeed = storms.windspeed[i];
+                float width = storms.width[i];
+
+                activeStormIds.add(stormId);
+
+                // Prevent duplicate tracking - only create new if doesn't exist
+                TornadoData tornadoData = tornadoes.get(stormId);
+                // FIXED: Only report a change when something saved actually changed, not every pass
+                int positionsBefore = 0;
+                int maxWindspeedBefore = 0;
+                float maxWidthBefore = 0.0f;
+                int chunkRevisionBefore = 0;
+                if (tornadoData != null) {
+                    positionsBefore = tornadoData.getPositionView().size();
+                    maxWindspeedBefore = tornadoData.getRawMaxWindspeed();
+                    maxWidthBefore = tornadoData.getMaxWidth();
+                    chunkRevisionBefore = tornadoData.getDamagedChunkSet().revision();
+                }
+
+                if (tornadoData == null) {
+                    tornadoData = new TornadoData(stormId);
+                    tornadoes.put(stormId, tornadoData);
+                    changed = true;
+                    EASAddon.LOGGER.info("Started tracking new tornado: ID={}, Windspeed={}mph, Width={}",
+                                       stormId, windspeed, width);
+                } else if (!tornadoData.isActive()) {
+                    // Ensure tornado is marked as active if PMWeather reports it as active
+                    tornadoData.setActive(true);
+                    changed = true;
+                    EASAddon.LOGGER.info("Reactivated tornado {} (was inactive but PMWeather reports as active)", stormId);
+                }
+
+                // Only update data if tornado is truly active (windspeed > 0 OR width > 0)
+                // This prevents the "roping out" issue where 0mph winds show incorrect width
+                if (windspeed > 0 || width > 5.0f) {
+                    tornadoData.updateData(windspeed, width, stage, position);
+
+                    // Track damaged chunks only for significant tornadoes
+                    if (windspeed >= 40 && width >= 5.0f) {
+                        trackDamagedChunks(storms, i, tornadoData);
+                    }
+                } else {
+                    // Tornado is roping out - just update position but don't record bogus width/windspeed
+                    long now = System.currentTimeMillis();
+                    tornadoData.setLastSeenTime(now);
+                    PositionHistory.View history = tornadoData.getPositionView();
+                    if (history.isEmpty() || now - history.timestamp(history.size() - 1) > 10000) {
+                        // Only add position record with actual historical max values, not current zeros
+                        tornadoData.addPositionRecord(new TornadoData.PositionRecord(position, now,
+                            tornadoData.getRawMaxWindspeed(), tornadoData.getMaxWidth()));
+                    }
+                }
+
+                changed |= tornadoData.getPositionView().size() != positionsBefore
+                    || tornadoData.getRawMaxWindspeed() != maxWindspeedBefore
+                    || tornadoData.getMaxWidth() != maxWidthBefore
+                    || tornadoData.getDamagedChunkSet().revision() != chunkRevisionBefore;
+
+            } catch (Exception e) {
+                EASAddon.LOGGER.error("Error processing storm: {}", e.getMessage());
+            }
+        }
+
+        // Mark tornadoes as inactive ONLY if they haven't been seen for 30+ seconds AND are not in active storms
+        long currentTime = System.currentTimeMillis();
+        for (TornadoData tornado : tornadoes.values()) {
+            if (tornado.isActive() && !activeStormIds.contains(tornado.getId())
+                    && (currentTime - tornado.getLastSeenTime()) > INACTIVE_GRACE_MS) {
+                tornado.markInactive();
+                changed = true;
+                EASAddon.LOGGER.info("Marked tornado {} as inactive (missing from storms list for >30s)",
+                                   tornado.getId());
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Drop tornadoes that have been inactive for more than 10 minutes. Returns true if any were removed.
+     */
+    static boolean removeExpired(Map<Long, TornadoData> tornadoes) {
+        long currentTime = System.currentTimeMillis();
+        boolean removed = false;
+
+        Iterator<TornadoData> iterator = tornadoes.values().iterator();
+        while (iterator.hasNext()) {
+            TornadoData tornado = iterator.next();
+            if (!tornado.isActive() && (currentTime - tornado.getLastSeenTime()) > INACTIVE_EXPIRY_MS) {
+                iterator.remove();
+                removed = true;
+                EASAddon.LOGGER.debug("Cleaned up old inactive tornado: {}", tornado.getId());
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Add the chunks inside the tornado's damage radius to its damaged chunk set
+     */
+    static void trackDamagedChunks(StormSnapshot storms, int index, TornadoData tornadoData) {
+        try {
+            int windspeed = storms.windspeed[index];
+            int stage = storms.stage[index];
+            float width = storms.width[index];
+
+            // Only track significant damage (prevent weak tornadoes from creating excessive chunk lists)
+            if (stage < 3 || windspeed < 40 || width < 5.0f) return;
+
+            double x = storms.x[index];
+            double z = storms.z[index];
+
+            // Use PMWeather's actual damage radius calculation, capped to prevent excessive chunk checking
+            int windfieldWidth = Math.max((int) width, 40);
+            float damageRadius = Math.min(windfieldWidth * 1.5f, 150.0f);
+
+            int chunkRadius = (int) Math.ceil(damageRadius / 16.0);
+            int centerChunkX = SectionPos.blockToSectionCoord(x);
+            int centerChunkZ = SectionPos.blockToSectionCoord(z);
+            double damageRadiusSqr = damageRadius * damageRadius;
+            DamagedChunkSet damagedChunks = tornadoData.getDamagedChunkSet();
+
+            // Limit the number of chunks we process per update to prevent performance issues
+            int chunksProcessed = 0;
+
+            for (int dx = -chunkRadius; dx <= chunkRadius && chunksProcessed < MAX_CHUNKS_PER_UPDATE; dx++) {
+                for (int dz = -chunkRadius; dz <= chunkRadius && chunksProcessed < MAX_CHUNKS_PER_UPDATE; dz++) {
+                    int chunkX = centerChunkX + dx;
+                    int chunkZ = centerChunkZ + dz;
+
+                    // Squared distance from chunk center to tornado
+                    double offsetX = chunkX * 16 + 8 - x;
+                    double offsetZ = chunkZ * 16 + 8 - z;
+
+                    // Only add chunks that are actually within damage radius
+                    if (offsetX * offsetX + offsetZ * offsetZ <= damageRadiusSqr) {
+                        damagedChunks.add(ChunkPos.asLong(chunkX, chunkZ));
+                        chunksProcessed++;
+                    }
+                }
+            }
+
+            // Limit total damaged chunks per tornado to prevent memory issues
+            if (damagedChunks.size() > MAX_DAMAGED_CHUNKS) {
+                EASAddon.LOGGER.warn("Tornado {} has excessive damaged chunks ({}), limiting to prevent memory issues",
+                                   tornadoData.getId(), damagedChunks.size());
+
+                // Keep the 500 closest
+                damagedChunks.trimToNearest(MAX_DAMAGED_CHUNKS, x, z);
+            }
+        } catch (Exception e) {
+            EASAddon.LOGGER.error("Error tracking damaged chunks for tornado {}: {}", tornadoData.getId(), e.getMessage());
+        }
+    }
+}
@@ -1,24 +1,30 @@
 package com.burrows.easaddon.tornado;
 
 import com.burrows.easaddon.EASAddon;
+import com.burrows.easaddon.compat.PMWeatherBridge;
+import com.burrows.easaddon.compat.StormAccess;
+import com.burrows.easaddon.compat.StormSnapshot;
+import com.burrows.easaddon.compat.StormSnapshotService;
+import com.burrows.easaddon.compat.WeatherHandlerResolver;
+import com.burrows.easaddon.network.TornadoSyncPackets;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 
 import com.burrows.easaddon.survey.ChunkDamageData;
 import com.burrows.easaddon.survey.DamageSurveyManager;
+import com.burrows.easaddon.survey.SectionPaletteFilter;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.api.distmarker.OnlyIn;
 import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.neoforge.event.tick.LevelTickEvent;
 import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.GameShuttingDownEvent;
 import net.minecraft.util.Mth;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -35,31 +41,29 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
 import net.minecraft.util.Mth;
 
-
-
-
 @OnlyIn(Dist.CLIENT)
 public class TornadoTracker {
     private static TornadoTracker instance;
     private final Map<Long, TornadoData> trackedTornadoes = new ConcurrentHashMap<>();
+    // ADDED: chunk -> tornadoes whose damage swath covers it, kept in sync with trackedTornadoes
+    private final TornadoSwathIndex swathIndex = new TornadoSwathIndex();
     private int tickCounter = 0;
     private String currentDimension = null;
     private String currentWorldId = null;
     
     // Persistence
     private boolean dataLoaded = false;
+    // ADDED: world|dimension of the load running on the persistence worker, null when none is
+    private String pendingLoadKey = null;
+    // Data directory resolved for dataDirWorldId; resolving it logs and touches the disk
+    private Path dataDir = null;
+    private String dataDirWorldId = null;
     
-    // Reflection cache
-    private Class<?> weatherHandlerClass;
-    private Class<?> stormClass;
-    private Field stormPositionField;
-    private Field stormWindspeedField;
-    private Field stormWidthField;
-    private Field stormStageField;
-    private Field stormIDField;
-    private Field stormDeadField;
-    private Field stormTypeField;
-    private Method getStormsMethod;
+    // ADDED: Set once the server streams its tornado tracks; local polling and saving are off then
+    private boolean serverFed = false;
+    
+    // PMWeather access (compiled bridge or reflection fallback)
+    private StormAccess stormAccess;
     private boolean reflectionInitialized = false;
     
     private TornadoTracker() {
@@ -78,43 +82,12 @@ public class TornadoTracker {
             return;
         }
         
-        try {
-            // Get PMWeather classes
-            weatherHandlerClass = Class.forName("dev.protomanly.pmweather.weather.WeatherHandler");
-            stormClass = Class.forName("dev.protomanly.pmweather.weather.Storm");
-            
-            // Get fields from Storm class
-            stormPositionField = stormClass.getDeclaredField("position");
-            stormPositionField.setAccessible(true);
-            
-            stormWindspeedField = stormClass.getDeclaredField("windspeed");
-            stormWindspeedField.setAccessible(true);
-            
-            stormWidthField = stormClass.getDeclaredField("width");
-            stormWidthField.setAccessible(true);
-            
-            stormStageField = stormClass.getDeclaredField("stage");
-            stormStageField.setAccessible(true);
-            
-            stormIDField = stormClass.getDeclaredField("ID");
-            stormIDField.setAccessible(true);
-            
-            stormDeadField = stormClass.getDeclaredField("dead");
-            stormDeadField.setAccessible(true);
-            
-            stormTypeField = stormClass.getDeclaredField("stormType");
-            stormTypeField.setAccessible(true);
-            
-            // Get the getStorms() method instead of accessing field directly
-            getStormsMethod = weatherHandlerClass.getDeclaredMethod("getStorms");
-            getStormsMethod.setAccessible(true);
-            
-            reflectionInitialized = true;
+        stormAccess = PMWeatherBridge.get();
+        reflectionInitialized = stormAccess != null;
+        if (reflectionInitialized) {
             EASAddon.LOGGER.info("Tornado tracker initialized successfully");
-            
-        } catch (Exception e) {
-            EASAddon.LOGGER.error("Failed to initialize tornado tracker reflection", e);
-            reflectionInitialized = false;
+        } else {
+            EASAddon.LOGGER.error("Failed to initialize tornado tracker - PMWeather storm access unavailable");
         }
     }
     
@@ -159,16 +132,33 @@ public class TornadoTracker {
         if (event.getLevel().isClientSide() && event.getLevel() instanceof Level level) {
             EASAddon.LOGGER.info("Level unload detected for world: {}", currentWorldId);
             saveDataForLevel(level);
+            // Written in order on the persistence worker, so a later load still sees it; not waited on
+            TornadoPersistenceScheduler.getInstance().flush(true);
             
             // DON'T clear currentWorldId here - we might just be changing dimensions
             // Let onLevelLoad handle world vs dimension detection
         }
     }
     
+    @SubscribeEvent
+    public void onGameShuttingDown(GameShuttingDownEvent event) {
+        // The persistence worker is a daemon thread, so write out and close the journals before exit
+        TornadoPersistenceScheduler.getInstance().shutdown();
+    }
     
     private void clearAllInMemoryData() {
         EASAddon.LOGGER.info("Clearing all in-memory tornado data (world switch)");
         trackedTornadoes.clear();
+        swathIndex.clear();
+        
+        // Journals of the previous world are done with
+        TornadoPersistenceScheduler.getInstance().closeAll();
+        // Queued work belongs to the previous world too
+        ClientWorkScheduler.getInstance().clear();
+        pendingLoadKey = null;
+        dataDir = null;
+        dataDirWorldId = null;
+        serverFed = false;
         
         // Also clear any survey data that might be world-specific
         try {
@@ -184,7 +174,7 @@ public class TornadoTracker {
     private void saveCurrentWorldData() {
         try {
             if (currentDimension != null && !trackedTornadoes.isEmpty()) {
-                ClientTornadoPersistence.saveTornadoData(currentDimension, trackedTornadoes);
+                requestSave();
                 EASAddon.LOGGER.info("Saved tornado data for world: {} (dimension: {})", currentWorldId, currentDimension);
             }
         } catch (Exception e) {
@@ -205,6 +195,7 @@ public class TornadoTracker {
             
             // Clear and switch to new world
             clearAllInMemoryData();
+            WeatherHandlerResolver.getInstance().invalidateAll();
             currentWorldId = newWorldId;
             currentDimension = newDimension;
             dataLoaded = false;
@@ -226,6 +217,9 @@ public class TornadoTracker {
             // Save current dimension data
             saveDataForLevel(level);
             
+            // Cached weather handlers belong to the old dimension
+            WeatherHandlerResolver.getInstance().invalidateAll();
+            
             // Switch to new dimension (but same world)
             currentDimension = newDimension;
             dataLoaded = false; // Force reload for new dimension
@@ -254,20 +248,35 @@ public class TornadoTracker {
             
             // Only load if we haven't loaded data for this world/dimension yet
             if (!dataLoaded || !newDimension.equals(currentDimension)) {
+                String loadKey = currentWorldId + "|" + newDimension;
+                if (loadKey.equals(pendingLoadKey)) {
+                    return; // Still loading on the persistence worker
+                }
+                
                 EASAddon.LOGGER.info("Loading tornado data for world: {} (dimension: {})", currentWorldId, newDimension);
                 
                 // Clear current data before loading
                 trackedTornadoes.clear();
+                swathIndex.sync(trackedTornadoes);
+                currentDimension = newDimension;
+                dataLoaded = false;
                 
-                // Load data for this specific dimension in this world
-                Map<Long, TornadoData> loadedData = ClientTornadoPersistence.loadTornadoData(newDimension);
-                trackedTornadoes.putAll(loadedData);
+                // The server sends this dimension's snapshot itself
+                if (serverFed) {
+                    dataLoaded = true;
+                    return;
+                }
                 
-                currentDimension = newDimension;
-                dataLoaded = true;
+                Path dir = getDataDirectory();
+                if (dir == null) {
+                    dataLoaded = true;
+                    return;
+                }
                 
-                EASAddon.LOGGER.info("Loaded {} tornado records for world: {} (dimension: {})", 
-                    loadedData.size(), currentWorldId, newDimension);
+                // FIXED: Read on the persistence worker and merge back on the client thread
+                pendingLoadKey = loadKey;
+                TornadoPersistenceScheduler.getInstance().load(dir, newDimension).whenComplete((loaded, error) ->
+                    Minecraft.getInstance().execute(() -> finishLoad(loadKey, loaded, error)));
             } else {
                 EASAddon.LOGGER.info("Data already loaded for current world/dimension - skipping");
             }
@@ -278,6 +287,104 @@ public class TornadoTracker {
         }
     }
     
+    /**
+     * ADDED: Apply a snapshot or delta from the server's tornado tracker
+     */
+    public void applyServerSync(TornadoSyncPackets.TornadoSyncPacket packet) {
+        Level level = Minecraft.getInstance().level;
+        // Sent for a dimension the player has already left
+        if (level == null || !level.dimension().location().toString().equals(packet.dimension())) {
+            return;
+        }
+        
+        if (packet.replaceAll()) {
+            if (!serverFed) {
+                EASAddon.LOGGER.info("Server is tracking tornadoes - using its data for dimension {}", packet.dimension());
+            }
+            serverFed = true;
+            trackedTornadoes.clear();
+            currentDimension = packet.dimension();
+            // Drop a disk load still in flight
+            pendingLoadKey = null;
+            dataLoaded = true;
+        }
+        
+        for (TornadoSyncPackets.TornadoDelta delta : packet.tornadoes()) {
+            TornadoData tornado = trackedTornadoes.computeIfAbsent(delta.id(), TornadoData::new);
+            if (delta.status() != null) {
+                delta.status().applyTo(tornado);
+            }
+            
+            PositionHistory.View positions = delta.positions();
+            if (!positions.isEmpty()) {
+                if (delta.positionStart() == 0) {
+                    tornado.clearPositionHistory();
+                }
+                // Records already received in a snapshot that overlapped this delta are skipped
+                int skip = Math.max(tornado.getPositionView().size() - delta.positionStart(), 0);
+                for (int i = skip; i < positions.size(); i++) {
+                    tornado.addPositionRecord(positions.x(i), positions.y(i), positions.z(i),
+                        positions.timestamp(i), positions.windspeed(i), positions.width(i));
+                }
+            }
+            
+            DamagedChunkSet chunks = tornado.getDamagedChunkSet();
+            if (delta.resetChunks()) {
+                chunks.clear();
+            }
+            for (long chunk : delta.chunks()) {
+                chunks.add(chunk);
+            }
+        }
+        
+        for (long id : packet.removed()) {
+            trackedTornadoes.remove(id);
+        }
+        swathIndex.sync(trackedTornadoes);
+    }
+    
+    private void finishLoad(String loadKey, Map<Long, TornadoData> loaded, Throwable error) {
+        // A world or dimension switch since the request makes this result stale
+        if (!loadKey.equals(pendingLoadKey)) {
+            return;
+        }
+        pendingLoadKey = null;
+        
+        if (error != null) {
+            EASAddon.LOGGER.error("Failed to load tornado data: {}", error.getMessage());
+        } else {
+            // Tornadoes tracked while the load ran are newer than their saved copies
+            for (Map.Entry<Long, TornadoData> entry : loaded.entrySet()) {
+                trackedTornadoes.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            swathIndex.sync(trackedTornadoes);
+            EASAddon.LOGGER.info("Loaded {} tornado records for world: {} (dimension: {})", 
+                loaded.size(), currentWorldId, currentDimension);
+        }
+        
+        // Set even on failure to prevent infinite reload attempts
+        dataLoaded = true;
+    }
+    
+    private Path getDataDirectory() {
+        if (dataDir == null || !Objects.equals(dataDirWorldId, currentWorldId)) {
+            dataDir = ClientTornadoPersistence.getDataDirectory();
+            dataDirWorldId = currentWorldId;
+        }
+        return dataDir;
+    }
+    
+    // FIXED: Only snapshots changed tornadoes here; the write happens on the persistence worker
+    private void requestSave() {
+        // Saving before the load finishes would drop the stored tornadoes; a server-fed client has nothing of its own to save
+        if (currentDimension == null || !dataLoaded || serverFed) {
+            return;
+        }
+        Path dir = getDataDirectory();
+        if (dir != null) {
+            TornadoPersistenceScheduler.getInstance().requestSave(dir, currentDimension, trackedTornadoes);
+        }
+    }
     
  // Add this new method to TornadoTracker.java class
 
@@ -300,26 +407,45 @@ public class TornadoTracker {
             return;
         }
         
+        // CHANGED: Chunks arrive in bursts (joining, flying); analyze them from the client work queue
+        ClientWorkScheduler.getInstance().submit(ClientWorkScheduler.Priority.RETROACTIVE, "retroactive:" + chunkPos.toLong(), () -> {
+            if (Minecraft.getInstance().level == level && level.hasChunk(chunkPos.x, chunkPos.z)) {
+                analyzeLoadedChunk(chunkPos, level);
+            }
+        });
+    }
+    
+    /**
+     * Retroactive damage for a chunk that loaded after the tornado passed
+     */
+    private void analyzeLoadedChunk(ChunkPos chunkPos, Level level) {
         try {
-            // Check all active and recently inactive tornadoes (within last 5 minutes)
+            // Only recently inactive tornadoes (within last 5 minutes) are still worth checking
             long currentTime = System.currentTimeMillis();
             long recentCutoff = currentTime - 300000; // 5 minutes ago
             
             boolean foundRelevantTornado = false;
             
-            for (TornadoData tornadoData : trackedTornadoes.values()) {
-                // Skip very old inactive tornadoes
-                if (!tornadoData.isActive() && tornadoData.getLastSeenTime() < recentCutoff) {
-                    continue;
-                }
-                
-                // Check if this tornado was close enough to damage this chunk
-                if (shouldCalculateRetroactiveDamage(tornadoData, chunkPos)) {
-                    EASAddon.LOGGER.info("Chunk ({}, {}) loaded - calculating retroactive damage for tornado {}", 
-                        chunkPos.x, chunkPos.z, tornadoData.getId());
+            // Not needed when exact damage is captured, the server already recorded it
+            if (!DamageSurveyManager.getInstance().isExactDamageCaptureActive()) {
+                // Only tornadoes whose swath covers this chunk
+                for (long tornadoId : swathIndex.getTornadoesAt(chunkPos.toLong())) {
+                    TornadoData tornadoData = trackedTornadoes.get(tornadoId);
+                    if (tornadoData == null) continue;
+                    
+                    // Skip very old inactive tornadoes
+                    if (!tornadoData.isActive() && tornadoData.getLastSeenTime() < recentCutoff) {
+                        continue;
+                    }
                     
-                    calculateRetroactiveDamageForChunk(tornadoData, chunkPos, level);
-                    foundRelevantTornado = true;
+                    // Check if this tornado was close enough to damage this chunk
+                    if (shouldCalculateRetroactiveDamage(tornadoData, chunkPos)) {
+                        EASAddon.LOGGER.info("Chunk ({}, {}) loaded - calculating retroactive damage for tornado {}", 
+                            chunkPos.x, chunkPos.z, tornadoData.getId());
+                        
+                        calculateRetroactiveDamageForChunk(tornadoData, chunkPos, level);
+                        foundRelevantTornado = true;
+                    }
                 }
             }
             
@@ -328,17 +454,11 @@ public class TornadoTracker {
                     chunkPos.x, chunkPos.z);
             }
             
-            // Also check if DamageSurveyManager has pending retroactive analysis for this chunk
-            for (TornadoData tornadoData : trackedTornadoes.values()) {
-                try {
-                    if (DamageSurveyManager.getInstance().processRetroactiveDamageForChunk(
-                            tornadoData.getId(), chunkPos, level)) {
-                        EASAddon.LOGGER.debug("Processed pending retroactive damage for tornado {} in chunk ({}, {})", 
-                            tornadoData.getId(), chunkPos.x, chunkPos.z);
-                    }
-                } catch (Exception e) {
-                    // Continue processing other tornadoes
-                }
+            // Also process any pending retroactive analysis DamageSurveyManager queued for this chunk
+            int processed = DamageSurveyManager.getInstance().processRetroactiveDamageForChunk(chunkPos, level);
+            if (processed > 0) {
+                EASAddon.LOGGER.debug("Processed pending retroactive damage for {} tornadoes in chunk ({}, {})", 
+                    processed, chunkPos.x, chunkPos.z);
             }
             
         } catch (Exception e) {
@@ -352,26 +472,23 @@ public class TornadoTracker {
      */
     private boolean shouldCalculateRetroactiveDamage(TornadoData tornadoData, ChunkPos chunkPos) {
         // Check if we already have damage data for this chunk
-        if (tornadoData.getDamagedChunks().contains(chunkPos)) {
+        if (tornadoData.hasDamagedChunk(chunkPos)) {
             return false; // Already tracked
         }
         
         // Calculate chunk center
-        Vec3 chunkCenter = new Vec3(chunkPos.x * 16 + 8, 0, chunkPos.z * 16 + 8);
+        double chunkCenterX = chunkPos.x * 16 + 8;
+        double chunkCenterZ = chunkPos.z * 16 + 8;
         
         // Check if tornado was ever close enough to damage this chunk
         double maxDamageRange = Math.max(tornadoData.getMaxWidth() * 2.0, 100.0);
         
-        for (TornadoData.PositionRecord record : tornadoData.getPositionHistory()) {
-            // Only consider records when tornado was at damaging strength
-            if (record.windspeed >= 40) {
-                double distance = record.position.distanceTo(chunkCenter);
-                if (distance <= maxDamageRange) {
-                    EASAddon.LOGGER.debug("Tornado {} was within range of chunk ({}, {}) - distance: {}m, max range: {}m", 
-                        tornadoData.getId(), chunkPos.x, chunkPos.z, Math.round(distance), Math.round(maxDamageRange));
-                    return true;
-                }
-            }
+        // Only consider stretches of track where tornado was at damaging strength
+        TornadoTrackIndex.Approach approach = tornadoData.findClosestApproach(chunkCenterX, chunkCenterZ, maxDamageRange, 40);
+        if (approach != null) {
+            EASAddon.LOGGER.debug("Tornado {} was within range of chunk ({}, {}) - distance: {}m, max range: {}m", 
+                tornadoData.getId(), chunkPos.x, chunkPos.z, Math.round(approach.distance), Math.round(maxDamageRange));
+            return true;
         }
         
         return false;
@@ -383,26 +500,18 @@ public class TornadoTracker {
     private void calculateRetroactiveDamageForChunk(TornadoData tornadoData, ChunkPos chunkPos, Level level) {
         try {
             // Find the closest tornado approach to this chunk
-            Vec3 chunkCenter = new Vec3(chunkPos.x * 16 + 8, 0, chunkPos.z * 16 + 8);
-            TornadoData.PositionRecord closestRecord = null;
-            double minDistance = Double.MAX_VALUE;
+            TornadoTrackIndex.Approach approach = tornadoData.findClosestApproach(
+                chunkPos.x * 16 + 8, chunkPos.z * 16 + 8, Double.POSITIVE_INFINITY, 40);
             
-            for (TornadoData.PositionRecord record : tornadoData.getPositionHistory()) {
-                if (record.windspeed >= 40) {
-                    double distance = record.position.distanceTo(chunkCenter);
-                    if (distance < minDistance) {
-                        minDistance = distance;
-                        closestRecord = record;
-                    }
-                }
-            }
-            
-            if (closestRecord == null) {
+            if (approach == null) {
                 return;
             }
             
+            double minDistance = approach.distance;
+            Vec3 approachPos = new Vec3(approach.x, 0.0, approach.z);
+            
             // Use PMWeather's damage calculation logic
-            int windfieldWidth = Math.max((int)closestRecord.width, 40);
+            int windfieldWidth = Math.max((int)approach.width, 40);
             float damageRadius = windfieldWidth * 2.0f;
             
             // Only proceed if chunk is within damage radius
@@ -411,18 +520,18 @@ public class TornadoTracker {
             }
             
             // Check if this chunk would have destroyable blocks
-            if (checkChunkForDestroyableBlocks(chunkPos, closestRecord.position, 
-                    closestRecord.width, closestRecord.windspeed, windfieldWidth, level)) {
+            if (checkChunkForDestroyableBlocks(chunkPos, approachPos, 
+                    approach.width, approach.windspeed, windfieldWidth, level)) {
                 
                 // Add chunk to tornado's damaged chunks list
                 tornadoData.addDamagedChunk(chunkPos);
                 
                 // Create accurate damage evidence using existing method
                 createAccurateDamageEvidence(tornadoData.getId(), chunkPos, 
-                    closestRecord.windspeed, closestRecord.position, level, windfieldWidth);
+                    approach.windspeed, approachPos, level, windfieldWidth);
                 
                 EASAddon.LOGGER.info("Retroactive damage calculated for tornado {} in chunk ({}, {}) - windspeed: {}mph, distance: {}m", 
-                    tornadoData.getId(), chunkPos.x, chunkPos.z, closestRecord.windspeed, Math.round(minDistance));
+                    tornadoData.getId(), chunkPos.x, chunkPos.z, approach.windspeed, Math.round(minDistance));
             }
             
         } catch (Exception e) {
@@ -431,25 +540,16 @@ public class TornadoTracker {
         }
     }
     
-    
-    
-    
-    
-    
-    
-    
-    
-    
-    
     // UPDATED: Clear method with world session reset
     public void clearData() {
         EASAddon.LOGGER.info("Manual clear requested - clearing data for world: {}", currentWorldId);
         
         trackedTornadoes.clear();
+        swathIndex.clear();
         
         // Also clear the saved data for current dimension if we have world info
         if (currentDimension != null) {
-            ClientTornadoPersistence.saveTornadoData(currentDimension, trackedTornadoes);
+            requestSave();
         }
         
         // Clear survey data too
@@ -476,39 +576,10 @@ public class TornadoTracker {
         dataLoaded = false;
     }
     
-    
-    @SubscribeEvent
-    public void onLevelTick(LevelTickEvent.Pre event) {
-        // Only track on client side and only every 20 ticks to reduce performance impact
-        if (event.getLevel().isClientSide() && reflectionInitialized && ++tickCounter % 20 == 0) {
-            // Check if dimension changed and load/save data if so
-            checkDimensionChange(event.getLevel());
-            
-            // Ensure data is loaded for current level
-            if (!dataLoaded) {
-                loadDataForLevel(event.getLevel());
-            }
-            
-            updateTornadoTracking(event.getLevel());
-            
-            // Auto-save every 30 seconds (600 ticks) to prevent data loss
-            if (tickCounter % 600 == 0) {
-                saveDataForLevel(event.getLevel());
-            }
-            
-            // FIXED: Additional save on significant changes
-            if (tickCounter % 20 == 0) { // Every second, check for changes
-                checkAndSaveIfNeeded(event.getLevel());
-            }
-        }
-    }
-    
- 
+    // REMOVED: onLevelTick. It advanced tickCounter as well as onClientTick, so tracking ran twice a
+    // second; its dimension checks, loading and saves are driven from onClientTick now.
     
     private void checkAndSaveIfNeeded(Level level) {
-        // Track if significant changes occurred
-        int currentActiveCount = (int) trackedTornadoes.values().stream().filter(TornadoData::isActive).count();
-        
         // Save if tornado count changed significantly or if any tornado became inactive
         boolean shouldSave = false;
         for (TornadoData tornado : trackedTornadoes.values()) {
@@ -527,16 +598,13 @@ public class TornadoTracker {
     private void saveDataForLevel(Level level) {
         try {
             if (currentDimension != null) {
-                ClientTornadoPersistence.saveTornadoData(currentDimension, trackedTornadoes);
+                requestSave();
             }
         } catch (Exception e) {
             EASAddon.LOGGER.error("Failed to save tornado data: {}", e.getMessage());
         }
     }
     
-      
-
-
 /**
  * ADDED: Mark a chunk for retroactive damage calculation when it loads
  */
@@ -570,9 +638,8 @@ private boolean checkIfChunkWouldHaveDamage(ChunkPos chunkPos, Vec3 tornadoPos,
             int worldZ = chunkPos.z * 16 + sz;
             
             // Calculate wind effect at this position
-            Vec3 samplePos = new Vec3(worldX, tornadoPos.y, worldZ);
-            double windEffect = calculateWindEffectAtPosition(
-                samplePos, tornadoPos, windfieldWidth, windspeed);
+            double windEffect = WindFieldModel.windAt(
+                worldX, worldZ, tornadoPos.x, tornadoPos.z, windfieldWidth, windspeed);
             
             // If wind is strong enough to damage typical blocks
             if (windEffect >= 50) { // Grass/dirt threshold
@@ -616,11 +683,10 @@ continue;
 }
 
 // Calculate wind effect at this position
-double windEffect = calculateWindEffectAtPosition(
-checkPos.getCenter(), tornadoPos, windfieldWidth, windspeed);
+double windEffect = WindFieldModel.windAtBlock(checkPos, tornadoPos, windfieldWidth, windspeed);
 
 // Calculate block strength
-float blockStrength = getBlockStrengthPMWeather(blockState.getBlock(), level);
+float blockStrength = BlockStrengthTable.getInstance().getStrength(blockState);
 
 // Check if tornado would destroy this block
 if (windEffect >= blockStrength) {
@@ -640,10 +706,8 @@ return destroyableBlocks > 0; // At least one block would be destroyed
 // For unloaded chunks, estimate based on tornado strength and distance
 double chunkCenterX = chunkPos.x * 16 + 8;
 double chunkCenterZ = chunkPos.z * 16 + 8;
-Vec3 chunkCenter = new Vec3(chunkCenterX, tornadoPos.y, chunkCenterZ);
-
 // Calculate average wind effect in the chunk
-double avgWindEffect = calculateWindEffectAtPosition(chunkCenter, tornadoPos, windfieldWidth, windspeed);
+double avgWindEffect = WindFieldModel.windAt(chunkCenterX, chunkCenterZ, tornadoPos.x, tornadoPos.z, windfieldWidth, windspeed);
 
 // Assume chunk has destroyable blocks if wind is strong enough
 // This threshold matches typical grass/vegetation strength
@@ -684,8 +748,7 @@ private void createDamageEvidenceForChunk(long tornadoId, ChunkPos chunkPos, int
         }
         
         // Calculate wind effect
-        double windEffect = calculateWindEffectAtPosition(
-            surfacePos.getCenter(), tornadoPos, windfieldWidth, windspeed);
+        double windEffect = WindFieldModel.windAtBlock(surfacePos, tornadoPos, windfieldWidth, windspeed);
         
         // Create appropriate damage evidence
         if (windEffect >= 50) {
@@ -714,7 +777,7 @@ private void createBlockDamageEvidence(long tornadoId, ChunkPos chunkPos, BlockP
         if (level.hasChunkAt(checkPos)) {
             BlockState state = level.getBlockState(checkPos);
             if (!state.isAir() && state.getFluidState().isEmpty()) {
-                float blockStrength = getBlockStrengthPMWeather(state.getBlock(), level);
+                float blockStrength = BlockStrengthTable.getInstance().getStrength(state);
                 
                 if (windEffect >= blockStrength) {
                     DamageSurveyManager.getInstance().addDamage(
@@ -802,70 +865,6 @@ private void createScouringEvidence(long tornadoId, ChunkPos chunkPos, BlockPos
     }
 }
 
- /**
-  * Check if a chunk actually contains blocks that would be destroyed by this tornado
-  * This prevents false positives by only including chunks with destroyable content
-  */
- 
-
- /**
-  * Create accurate damage evidence based on blocks that would actually be destroyed
-  */
- /**
-  * Calculate wind effect using PMWeather's logic from Storm.getWind()
-  */
- private double calculateWindEffectAtPosition(Vec3 pos, Vec3 tornadoPos, int windfieldWidth, int windspeed) {
-     
-     // Distance calculation (2D)
-     double dist = tornadoPos.multiply(1.0, 0.0, 1.0).distanceTo(pos.multiply(1.0, 0.0, 1.0));
-     
-     // Rankine vortex calculation (from Storm.getRankine())
-     float rankineFactor = 4.5f;
-     float rankineWidth = (float)windfieldWidth / rankineFactor;
-     float perc = 0.0f;
-     
-     if (dist <= (double)(rankineWidth / 2.0f)) {
-         perc = (float)dist / (rankineWidth / 2.0f);
-     } else if (dist <= (double)((float)windfieldWidth * 2.0f)) {
-         double denominator = (((float)windfieldWidth * 2.0f - rankineWidth) / 2.0f);
-         if (denominator > 0) {
-             perc = (float)Math.pow(1.0 - (dist - (double)(rankineWidth / 2.0f)) / denominator, 1.5);
-             perc = Math.max(0.0f, Math.min(1.0f, perc));
-         }
-     }
-     
-     if (Float.isNaN(perc)) {
-         perc = 0.0f;
-     }
-     
-     // Rotational component
-     Vec3 relativePos = pos.subtract(tornadoPos);
-     Vec3 rotational = new Vec3(relativePos.z, 0.0, -relativePos.x).normalize();
-     Vec3 motion = rotational.multiply((double)windspeed * (double)perc, 0.0, (double)windspeed * (double)perc);
-     
-     // Translational component (simplified)
-     float affectPerc = (float)Math.sqrt(Math.max(0, 1.0 - dist / (double)((float)windfieldWidth * 2.0f)));
-     motion = motion.add(new Vec3(15.0 * affectPerc, 0.0, 15.0 * affectPerc));
-     
-     return motion.length();
- }
-
- /**
-  * PMWeather's exact block strength calculation
-  */
- private static float getBlockStrengthPMWeather(net.minecraft.world.level.block.Block block, Level level) {
-     net.minecraft.world.item.ItemStack item = new net.minecraft.world.item.ItemStack(net.minecraft.world.item.Items.IRON_AXE);
-     float destroySpeed = block.defaultBlockState().getDestroySpeed(level, BlockPos.ZERO);
-     
-     try {
-         destroySpeed /= item.getDestroySpeed(block.defaultBlockState());
-     } catch (Exception e) {
-         destroySpeed = 1.0f;
-     }
-     
-     return 60.0f + net.minecraft.util.Mth.sqrt(destroySpeed) * 60.0f;
- }
-
 // REMOVED: All the theoretical damage creation methods
 // - calculateMaxWindEffectForChunk
 // - calculateWindEffectAtPosition  
@@ -874,197 +873,8 @@ private void createScouringEvidence(long tornadoId, ChunkPos chunkPos, BlockPos
 
 // These were creating fake damage records instead of tracking real damage
 
-/**
- * Get block strength using PMWeather's exact calculation from Storm.getBlockStrength()
-
-
-/**
- * Create damage evidence for chunks affected by tornado
- * This simulates the damage that PMWeather tornadoes would cause
- */
-
-
 private Object getWeatherHandler(Level level) {
-        try {
-            // Method 1: Look for WeatherHandlerClient class specifically (since we're on client side)
-            try {
-                Class<?> weatherHandlerClientClass = Class.forName("dev.protomanly.pmweather.weather.WeatherHandlerClient");
-                
-                // Look for static instances or fields
-                Field[] staticFields = weatherHandlerClientClass.getDeclaredFields();
-                for (Field field : staticFields) {
-                    if (java.lang.reflect.Modifier.isStatic(field.getModifiers())) {
-                        try {
-                            field.setAccessible(true);
-                            Object fieldValue = field.get(null);
-                            if (fieldValue != null && weatherHandlerClass.isInstance(fieldValue)) {
-                                return fieldValue;
-                            }
-                        } catch (Exception e) {
-                            // Continue trying
-                        }
-                    }
-                }
-                
-                // Try to find getInstance methods
-                try {
-                    Method[] methods = weatherHandlerClientClass.getDeclaredMethods();
-                    for (Method method : methods) {
-                        if (java.lang.reflect.Modifier.isStatic(method.getModifiers()) && 
-                            method.getName().contains("getInstance")) {
-                            try {
-                                method.setAccessible(true);
-                                Object result = method.invoke(null);
-                                if (result != null && weatherHandlerClass.isInstance(result)) {
-                                    return result;
-                                }
-                            } catch (Exception e) {
-                                // Continue trying
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    // Continue
-                }
-                
-            } catch (ClassNotFoundException e) {
-                // Continue to next method
-            }
-            
-            // Method 2: Look for PMWeather main class and check for weather handler instances
-            try {
-                Class<?> pmweatherMainClass = Class.forName("dev.protomanly.pmweather.PMWeather");
-                Field[] pmFields = pmweatherMainClass.getDeclaredFields();
-                
-                for (Field field : pmFields) {
-                    try {
-                        field.setAccessible(true);
-                        Object fieldValue = field.get(null);
-                        if (fieldValue != null && weatherHandlerClass.isInstance(fieldValue)) {
-                            return fieldValue;
-                        }
-                        
-                        // Check if it's a map or collection that might contain weather handlers
-                        if (fieldValue instanceof java.util.Map) {
-                            java.util.Map<?, ?> map = (java.util.Map<?, ?>) fieldValue;
-                            for (Object value : map.values()) {
-                                if (value != null && weatherHandlerClass.isInstance(value)) {
-                                    return value;
-                                }
-                            }
-                        }
-                        
-                        if (fieldValue instanceof java.util.Collection) {
-                            java.util.Collection<?> collection = (java.util.Collection<?>) fieldValue;
-                            for (Object value : collection) {
-                                if (value != null && weatherHandlerClass.isInstance(value)) {
-                                    return value;
-                                }
-                            }
-                        }
-                        
-                    } catch (Exception e) {
-                        // Continue trying other fields
-                    }
-                }
-            } catch (ClassNotFoundException e) {
-                // Continue
-            }
-            
-            // Method 3: Look in level fields
-            Field[] levelFields = level.getClass().getDeclaredFields();
-            for (Field field : levelFields) {
-                field.setAccessible(true);
-                try {
-                    Object fieldValue = field.get(level);
-                    if (fieldValue != null && weatherHandlerClass.isInstance(fieldValue)) {
-                        return fieldValue;
-                    }
-                } catch (Exception e) {
-                    // Skip fields that can't be accessed
-                }
-            }
-            
-            // Method 4: Look in superclass fields
-            Class<?> levelSuperClass = level.getClass().getSuperclass();
-            if (levelSuperClass != null) {
-                Field[] superFields = levelSuperClass.getDeclaredFields();
-                for (Field field : superFields) {
-                    field.setAccessible(true);
-                    try {
-                        Object fieldValue = field.get(level);
-                        if (fieldValue != null && weatherHandlerClass.isInstance(fieldValue)) {
-                            return fieldValue;
-                        }
-                    } catch (Exception e) {
-                        // Skip fields that can't be accessed
-                    }
-                }
-            }
-            
-            // Method 5: Try alternative search
-            Object altResult = findWeatherHandlerAlternative();
-            if (altResult != null) {
-                return altResult;
-            }
-            
-            return null;
-            
-        } catch (Exception e) {
-            return null;
-        }
-    }
-    
-    // Try to find weather handler through alternative means
-    private Object findWeatherHandlerAlternative() {
-        try {
-            // Look for any static weather handler instances across all PMWeather classes
-            String[] classesToCheck = {
-                "dev.protomanly.pmweather.PMWeather",
-                "dev.protomanly.pmweather.weather.WeatherHandlerClient", 
-                "dev.protomanly.pmweather.weather.WeatherManager",
-                "dev.protomanly.pmweather.ClientSetup",
-                "dev.protomanly.pmweather.event.GameBusClientEvents"
-            };
-            
-            for (String className : classesToCheck) {
-                try {
-                    Class<?> clazz = Class.forName(className);
-                    
-                    // Check static fields
-                    Field[] fields = clazz.getDeclaredFields();
-                    for (Field field : fields) {
-                        if (java.lang.reflect.Modifier.isStatic(field.getModifiers())) {
-                            try {
-                                field.setAccessible(true);
-                                Object value = field.get(null);
-                                if (value != null && weatherHandlerClass.isInstance(value)) {
-                                    return value;
-                                }
-                                
-                                // Check maps and collections
-                                if (value instanceof java.util.Map) {
-                                    for (Object mapValue : ((java.util.Map<?, ?>) value).values()) {
-                                        if (mapValue != null && weatherHandlerClass.isInstance(mapValue)) {
-                                            return mapValue;
-                                        }
-                                    }
-                                }
-                            } catch (Exception e) {
-                                // Continue
-                            }
-                        }
-                    }
-                    
-                } catch (ClassNotFoundException e) {
-                    // Class doesn't exist, continue
-                }
-            }
-            
-            return null;
-        } catch (Exception e) {
-            return null;
-        }
+        return WeatherHandlerResolver.getInstance().getWeatherHandler(level);
     }
     
  // ENHANCED: Replace the createAccurateDamageEvidence method in TornadoTracker.java
@@ -1118,11 +928,10 @@ private Object getWeatherHandler(Level level) {
             }
             
             // Calculate wind effect
-            double windEffect = calculateWindEffectAtPosition(
-                pos.getCenter(), tornadoPos, windfieldWidth, windspeed);
+            double windEffect = WindFieldModel.windAtBlock(pos, tornadoPos, windfieldWidth, windspeed);
             
             // Calculate block strength
-            float blockStrength = getBlockStrengthPMWeather(blockState.getBlock(), level);
+            float blockStrength = BlockStrengthTable.getInstance().getStrength(blockState);
             
             // Only create damage record if wind would destroy this block
             if (windEffect >= blockStrength) {
@@ -1136,8 +945,6 @@ private Object getWeatherHandler(Level level) {
                     level
                 );
                 
-        
-                
                 // Limit evidence per sample point
                 return;
             }
@@ -1170,8 +977,7 @@ private Object getWeatherHandler(Level level) {
                         !blockState.is(net.neoforged.neoforge.common.Tags.Blocks.STRIPPED_LOGS)) {
                         
                         // Calculate wind effect at this position
-                        double windEffect = calculateWindEffectAtPosition(
-                            pos.getCenter(), tornadoPos, windfieldWidth, windspeed);
+                        double windEffect = WindFieldModel.windAtBlock(pos, tornadoPos, windfieldWidth, windspeed);
                         
                         // PMWeather's debarking threshold is 140 mph
                         if (windEffect >= 140.0) {
@@ -1207,8 +1013,7 @@ private Object getWeatherHandler(Level level) {
         net.minecraft.world.level.block.state.BlockState surfaceState = level.getBlockState(surfacePos);
         
         // Calculate wind effect at surface
-        double windEffect = calculateWindEffectAtPosition(
-            surfacePos.getCenter(), tornadoPos, windfieldWidth, windspeed);
+        double windEffect = WindFieldModel.windAtBlock(surfacePos, tornadoPos, windfieldWidth, windspeed);
         
         // Check for grass -> dirt scouring (140+ mph)
         if (surfaceState.is(net.minecraft.world.level.block.Blocks.GRASS_BLOCK) && windEffect >= 140.0) {
@@ -1268,7 +1073,10 @@ private Object getWeatherHandler(Level level) {
                         net.minecraft.world.level.levelgen.Heightmap.Types.WORLD_SURFACE, worldPos);
                     
                     // Check for existing stripped logs in natural areas
-                    for (int dy = -2; dy <= 4; dy++) {
+                    // ADDED: unless no section around the column can hold one
+                    boolean mayHaveStrippedLogs = SectionPaletteFilter.mayContain(level,
+                        surfacePos.below(2), surfacePos.above(4), SectionPaletteFilter.STRIPPED_LOGS);
+                    for (int dy = -2; mayHaveStrippedLogs && dy <= 4; dy++) {
                         BlockPos checkPos = surfacePos.offset(0, dy, 0);
                         if (checkPos.getY() < level.getMinBuildHeight() || checkPos.getY() > level.getMaxBuildHeight()) {
                             continue;
@@ -1310,9 +1118,6 @@ private Object getWeatherHandler(Level level) {
         }
     }
     
-    
-    
-    
 /**
  * CRITICAL FIX: Clean up tornado data to prevent massive lists and duplicates
  * FIXED: Completely avoid String formatting to prevent crashes
@@ -1325,16 +1130,14 @@ public void performMaintenanceCleanup() {
     Map<String, List<TornadoData>> positionGroups = new HashMap<>();
     
     for (TornadoData tornado : new ArrayList<>(trackedTornadoes.values())) {
-        if (!tornado.getPositionHistory().isEmpty()) {
-            Vec3 firstPos = tornado.getPositionHistory().get(0).position;
-            long firstTime = tornado.getPositionHistory().get(0).timestamp;
-            
+        PositionHistory.View track = tornado.getPositionView();
+        if (!track.isEmpty()) {
             // FIXED: Create a key using simple concatenation instead of String.format
             // This avoids all potential formatting issues
-            long roundedX = Math.round(firstPos.x / 10) * 10;
-            long roundedY = Math.round(firstPos.y / 10) * 10;
-            long roundedZ = Math.round(firstPos.z / 10) * 10;
-            long timeWindow = firstTime / 60000; // 1-minute time windows
+            long roundedX = Math.round(track.x(0) / 10) * 10;
+            long roundedY = Math.round(track.y(0) / 10) * 10;
+            long roundedZ = Math.round(track.z(0) / 10) * 10;
+            long timeWindow = track.timestamp(0) / 60000; // 1-minute time windows
             
             String key = roundedX + "_" + roundedY + "_" + roundedZ + "_" + timeWindow;
                 
@@ -1354,7 +1157,7 @@ public void performMaintenanceCleanup() {
                 if (a.isSurveyed() && !b.isSurveyed()) return -1;
                 if (!a.isSurveyed() && b.isSurveyed()) return 1;
                 
-                int posCountDiff = b.getPositionHistory().size() - a.getPositionHistory().size();
+                int posCountDiff = b.getPositionView().size() - a.getPositionView().size();
                 if (posCountDiff != 0) return posCountDiff;
                 
                 return Integer.compare(b.getMaxWindspeed(), a.getMaxWindspeed());
@@ -1376,7 +1179,7 @@ public void performMaintenanceCleanup() {
     // Step 3: Remove tornadoes with excessive position history (path length sanity check)
     int excessiveHistoryRemoved = 0;
     for (TornadoData tornado : new ArrayList<>(trackedTornadoes.values())) {
-        List<TornadoData.PositionRecord> history = tornado.getPositionHistory();
+        PositionHistory.View history = tornado.getPositionView();
         
         // If tornado has more than 1000 position records or path length > 50km, it's probably corrupt
         if (history.size() > 1000 || tornado.getTotalPathLength() > 50000) {
@@ -1403,6 +1206,8 @@ public void performMaintenanceCleanup() {
     int totalRemoved = initialCount - finalCount;
     
     if (totalRemoved > 0) {
+        swathIndex.sync(trackedTornadoes);
+        
         EASAddon.LOGGER.info("Maintenance cleanup completed: {} -> {} tornadoes ({} removed)", 
                            initialCount, finalCount, totalRemoved);
         EASAddon.LOGGER.info("  Duplicates removed: {}", duplicatesRemoved);
@@ -1414,113 +1219,56 @@ public void performMaintenanceCleanup() {
     }
 }
 
-    /**
-     * FIXED: Enhanced position tracking with duplicate prevention
-     */
-    private void trackDamagedChunks(Object storm, TornadoData tornadoData) {
-        try {
-            int windspeed = (Integer) stormWindspeedField.get(storm);
-            int stage = (Integer) stormStageField.get(storm);
-            Vec3 position = (Vec3) stormPositionField.get(storm);
-            float width = (Float) stormWidthField.get(storm);
-            
-            // Only track significant damage (prevent weak tornadoes from creating excessive chunk lists)
-            if (stage >= 3 && windspeed >= 40 && width >= 5.0f) {
-                
-                // Use PMWeather's actual damage radius calculation
-                int windfieldWidth = Math.max((int)width, 40);
-                float damageRadius = windfieldWidth * 1.5f; // Reduced from 2.0f to prevent excessive chunks
-                
-                // Cap at reasonable maximum to prevent excessive chunk checking
-                damageRadius = Math.min(damageRadius, 150.0f); // Reduced from 200.0f
-                
-                int chunkRadius = (int) Math.ceil(damageRadius / 16.0);
-                ChunkPos centerChunk = new ChunkPos(new BlockPos((int)position.x, (int)position.y, (int)position.z));
-                
-                Level level = Minecraft.getInstance().level;
-                if (level == null) return;
-                
-                // FIXED: Limit the number of chunks we process per update to prevent performance issues
-                int maxChunksPerUpdate = 25; // Limit chunk processing
-                int chunksProcessed = 0;
-                
-                for (int dx = -chunkRadius; dx <= chunkRadius && chunksProcessed < maxChunksPerUpdate; dx++) {
-                    for (int dz = -chunkRadius; dz <= chunkRadius && chunksProcessed < maxChunksPerUpdate; dz++) {
-                        ChunkPos chunkPos = new ChunkPos(centerChunk.x + dx, centerChunk.z + dz);
-                        
-                        // Calculate distance from chunk center to tornado
-                        double chunkCenterX = chunkPos.x * 16 + 8;
-                        double chunkCenterZ = chunkPos.z * 16 + 8;
-                        double distanceToTornado = Math.sqrt(
-                            Math.pow(chunkCenterX - position.x, 2) + 
-                            Math.pow(chunkCenterZ - position.z, 2)
-                        );
-                        
-                        // Only add chunks that are actually within damage radius
-                        if (distanceToTornado <= damageRadius) {
-                            // FIXED: Prevent duplicate chunk additions
-                            if (!tornadoData.getDamagedChunks().contains(chunkPos)) {
-                                tornadoData.addDamagedChunk(chunkPos);
-                            }
-                            chunksProcessed++;
-                        }
-                    }
-                }
-                
-                // FIXED: Limit total damaged chunks per tornado to prevent memory issues
-                Set<ChunkPos> damagedChunks = tornadoData.getDamagedChunks();
-                if (damagedChunks.size() > 500) { // Maximum 500 chunks per tornado
-                    EASAddon.LOGGER.warn("Tornado {} has excessive damaged chunks ({}), limiting to prevent memory issues", 
-                                       tornadoData.getId(), damagedChunks.size());
-                    
-                    // Keep only the most recent 500 chunks (convert to list, sort by distance, keep closest)
-                    List<ChunkPos> chunkList = new ArrayList<>(damagedChunks);
-                    chunkList.sort((a, b) -> {
-                        double distA = Math.sqrt(Math.pow((a.x * 16 + 8) - position.x, 2) + Math.pow((a.z * 16 + 8) - position.z, 2));
-                        double distB = Math.sqrt(Math.pow((b.x * 16 + 8) - position.x, 2) + Math.pow((b.z * 16 + 8) - position.z, 2));
-                        return Double.compare(distA, distB);
-                    });
-                    
-                    // Clear and re-add only the closest 500 chunks
-                    damagedChunks.clear();
-                    for (int i = 0; i < Math.min(500, chunkList.size()); i++) {
-                        damagedChunks.add(chunkList.get(i));
-                    }
-                }
-            }
-        } catch (Exception e) {
-            EASAddon.LOGGER.error("Error tracking damaged chunks for tornado {}: {}", tornadoData.getId(), e.getMessage());
-        }
-    }
-
     /**
      * ENHANCED: Add periodic maintenance to the tick handler
      */
     @SubscribeEvent
     public void onClientTick(ClientTickEvent.Pre event) {
+        // The tracker's only clock
         tickCounter++;
         
-        // Update tornado tracking every 20 ticks (1 second)
-        if (tickCounter % 20 == 0) {
-            Level level = Minecraft.getInstance().level;
-            if (level != null) {
-                updateTornadoTracking(level);
+        Level level = Minecraft.getInstance().level;
+        if (level == null) return;
+        
+        // ADDED: Pick up exact block changes captured from PMWeather's Storm.tick
+        if (reflectionInitialized) {
+            DamageSurveyManager.getInstance().drainCapturedDamage(level);
+        }
+        
+        // ADDED: Adopt damage evidence saved with chunks that just loaded
+        DamageSurveyManager.getInstance().adoptRestoredEvidence(level);
+        
+        // CHANGED: Periodic work goes through the client work queue, run within its time budget
+        ClientWorkScheduler scheduler = ClientWorkScheduler.getInstance();
+        
+        // Every second: follow dimension changes, load data, update tracking, save on changes
+        if (tickCounter % 20 == 0 && reflectionInitialized) {
+            checkDimensionChange(level);
+            if (!dataLoaded) {
+                loadDataForLevel(level);
             }
+            
+            scheduler.submit(ClientWorkScheduler.Priority.TRACKING, "tornado-tracking", () -> {
+                if (Minecraft.getInstance().level == level) {
+                    updateTornadoTracking(level);
+                }
+            });
+            scheduler.submit(ClientWorkScheduler.Priority.SAVE, "tornado-save-check", () -> checkAndSaveIfNeeded(level));
         }
         
-        // Clean up inactive tornadoes every 200 ticks (10 seconds)  
-        if (tickCounter % 200 == 0) {
-            cleanupInactiveTornadoes();
+        // Clean up inactive tornadoes every 200 ticks (10 seconds)
+        if (tickCounter % 200 == 0 && !serverFed) {
+            scheduler.submit(ClientWorkScheduler.Priority.MAINTENANCE, "tornado-cleanup", this::cleanupInactiveTornadoes);
         }
         
         // ADDED: Perform deep maintenance cleanup every 6000 ticks (5 minutes)
-        if (tickCounter % 6000 == 0) {
-            performMaintenanceCleanup();
+        if (tickCounter % 6000 == 0 && !serverFed) {
+            scheduler.submit(ClientWorkScheduler.Priority.MAINTENANCE, "tornado-maintenance", this::performMaintenanceCleanup);
         }
         
-        // Force save every 1200 ticks (1 minute)
-        if (tickCounter % 1200 == 0) {
-            forceSave();
+        // Auto-save every 600 ticks (30 seconds); only changed tornadoes are written
+        if (tickCounter % 600 == 0) {
+            scheduler.submit(ClientWorkScheduler.Priority.SAVE, "tornado-save", this::forceSave);
         }
     }
 
@@ -1528,96 +1276,21 @@ public void performMaintenanceCleanup() {
      * FIXED: Enhanced tornado tracking with proper status management and duplicate prevention
      */
     private void updateTornadoTracking(Level level) {
-        if (!isTrackingEnabled()) return;
+        if (!isTrackingEnabled() || serverFed) return;
         
         try {
             // Get current weather handler - FIXED: Use existing getWeatherHandler method
             Object weatherHandler = getWeatherHandler(level);
             if (weatherHandler == null) return;
             
-            // Get current storms list
-            @SuppressWarnings("unchecked")
-            List<Object> currentStorms = (List<Object>) getStormsMethod.invoke(weatherHandler);
-            if (currentStorms == null) return;
+            // Shared per-tick storm snapshot
+            StormSnapshot storms = StormSnapshotService.getInstance().getSnapshot(level);
             
-            // Track all storm IDs currently active in PMWeather
-            Set<Long> activeStormIds = new HashSet<>();
+            // MOVED: Tracking rules are shared with the server tracker
+            TornadoTrackUpdater.update(storms, trackedTornadoes);
             
-            // Process each active storm
-            for (Object storm : currentStorms) {
-                try {
-                    // Extract storm data
-                    int stage = (Integer) stormStageField.get(storm);
-                    int type = (Integer) stormTypeField.get(storm);
-                    boolean dead = (Boolean) stormDeadField.get(storm);
-                    
-                    // Only track tornadoes (stage 3+, type 0) that are not dead
-                    if (stage < 3 || type != 0 || dead) continue;
-                    
-                    long stormId = (Long) stormIDField.get(storm);
-                    Vec3 position = (Vec3) stormPositionField.get(storm);
-                    int windspeed = (Integer) stormWindspeedField.get(storm);
-                    float width = (Float) stormWidthField.get(storm);
-                    
-                    // Add to active storm tracking
-                    activeStormIds.add(stormId);
-                    
-                    // FIXED: Prevent duplicate tracking - only create new if doesn't exist
-                    TornadoData tornadoData = trackedTornadoes.get(stormId);
-                    if (tornadoData == null) {
-                        tornadoData = new TornadoData(stormId);
-                        trackedTornadoes.put(stormId, tornadoData);
-                        EASAddon.LOGGER.info("Started tracking new tornado: ID={}, Windspeed={}mph, Width={}", 
-                                           stormId, windspeed, width);
-                    } else {
-                        // FIXED: Ensure tornado is marked as active if PMWeather reports it as active
-                        if (!tornadoData.isActive()) {
-                            tornadoData.setActive(true);
-                            EASAddon.LOGGER.info("Reactivated tornado {} (was inactive but PMWeather reports as active)", stormId);
-                        }
-                    }
-                    
-                    // FIXED: Only update data if tornado is truly active (windspeed > 0 OR width > 0)
-                    // This prevents the "roping out" issue where 0mph winds show incorrect width
-                    if (windspeed > 0 || width > 5.0f) {
-                        tornadoData.updateData(windspeed, width, stage, position);
-                        
-                        // Track damaged chunks only for significant tornadoes
-                        if (windspeed >= 40 && width >= 5.0f) {
-                            trackDamagedChunks(storm, tornadoData);
-                        }
-                    } else {
-                        // Tornado is roping out - just update position but don't record bogus width/windspeed
-                        tornadoData.setLastSeenTime(System.currentTimeMillis());
-                        if (tornadoData.getPositionHistory().isEmpty() || 
-                            System.currentTimeMillis() - tornadoData.getPositionHistory().get(tornadoData.getPositionHistory().size() - 1).timestamp > 10000) {
-                            // Only add position record with actual historical max values, not current zeros
-                            int historicalMaxWind = tornadoData.getRawMaxWindspeed();
-                            float historicalMaxWidth = tornadoData.getMaxWidth();
-                            tornadoData.addPositionRecord(new TornadoData.PositionRecord(position, System.currentTimeMillis(), historicalMaxWind, historicalMaxWidth));
-                        }
-                    }
-                    
-                } catch (Exception e) {
-                    EASAddon.LOGGER.error("Error processing storm: {}", e.getMessage());
-                }
-            }
-            
-            // FIXED: Mark tornadoes as inactive ONLY if they haven't been seen for 30+ seconds AND are not in active storms
-            long currentTime = System.currentTimeMillis();
-            for (TornadoData tornado : trackedTornadoes.values()) {
-                if (tornado.isActive()) {
-                    // Check if this tornado is no longer in the active storms list
-                    if (!activeStormIds.contains(tornado.getId())) {
-                        // Give it a 30-second grace period before marking inactive
-                        if ((currentTime - tornado.getLastSeenTime()) > 30000) {
-                            tornado.markInactive();
-                            EASAddon.LOGGER.info("Marked tornado {} as inactive (missing from storms list for >30s)", 
-                                               tornado.getId());
-                        }
-                    }
-                }
-            }
+            // Stamp the new track points into the chunk swath index
+            swathIndex.sync(trackedTornadoes);
             
         } catch (Exception e) {
             EASAddon.LOGGER.error("Error in tornado tracking: {}", e.getMessage());
@@ -1643,43 +1316,15 @@ public void performMaintenanceCleanup() {
         return sortedList;
     }
 
-
-    /**
-     * FIXED: Enhanced tornado tracking with proper status management and duplicate prevention
-     */
-
-
     /**
      * FIXED: Clean up old inactive tornadoes to prevent memory leaks and massive lists
      */
     private void cleanupInactiveTornadoes() {
-        long currentTime = System.currentTimeMillis();
-        List<Long> toRemove = new ArrayList<>();
-        
-        for (TornadoData tornado : trackedTornadoes.values()) {
-            // Remove tornadoes that have been inactive for more than 10 minutes
-            if (!tornado.isActive() && (currentTime - tornado.getLastSeenTime()) > 600000) {
-                toRemove.add(tornado.getId());
-            }
-        }
-        
-        for (Long id : toRemove) {
-            trackedTornadoes.remove(id);
-            EASAddon.LOGGER.debug("Cleaned up old inactive tornado: {}", id);
+        if (TornadoTrackUpdater.removeExpired(trackedTornadoes)) {
+            swathIndex.sync(trackedTornadoes);
         }
     }
 
-    /**
-     * FIXED: Return properly sorted tornado data - active first, then by ID
-     */
-   
-    
-    
-    
-    
-    
-    
-
     /**
      * ADDED: Check if position is in a natural forest area
      */
@@ -1734,25 +1379,13 @@ public void performMaintenanceCleanup() {
      * ADDED: Helper methods for block type detection
      */
     private boolean isMediumScouringBlock(net.minecraft.world.level.block.state.BlockState state) {
-        try {
-            Class<?> modBlocks = Class.forName("dev.protomanly.pmweather.block.ModBlocks");
-            Object mediumScouringHolder = modBlocks.getField("MEDIUM_SCOURING").get(null);
-            Object mediumScouringBlock = mediumScouringHolder.getClass().getMethod("get").invoke(mediumScouringHolder);
-            return state.getBlock() == mediumScouringBlock;
-        } catch (Exception e) {
-            return false;
-        }
+        StormAccess pm = PMWeatherBridge.get();
+        return pm != null && state.getBlock() == pm.getMediumScouringBlock();
     }
 
     private boolean isHeavyScouringBlock(net.minecraft.world.level.block.state.BlockState state) {
-        try {
-            Class<?> modBlocks = Class.forName("dev.protomanly.pmweather.block.ModBlocks");
-            Object heavyScouringHolder = modBlocks.getField("HEAVY_SCOURING").get(null);
-            Object heavyScouringBlock = heavyScouringHolder.getClass().getMethod("get").invoke(heavyScouringHolder);
-            return state.getBlock() == heavyScouringBlock;
-        } catch (Exception e) {
-            return false;
-        }
+        StormAccess pm = PMWeatherBridge.get();
+        return pm != null && state.getBlock() == pm.getHeavyScouringBlock();
     }
 
     private boolean isInNaturalGrassArea(BlockPos pos, Level level) {
@@ -1775,7 +1408,6 @@ public void performMaintenanceCleanup() {
         return totalChecked > 0 && (double)grassBlocks / totalChecked > 0.4;
     }
     
-    
     public List<TornadoData> getActiveTornadoData() {
         return trackedTornadoes.values().stream()
                 .filter(TornadoData::isActive)
@@ -1789,6 +1421,7 @@ public void performMaintenanceCleanup() {
     // FIXED: Add method to add/update tornado data (for survey results from other clients)
     public void addOrUpdateTornadoData(TornadoData tornadoData) {
         trackedTornadoes.put(tornadoData.getId(), tornadoData);
+        swathIndex.sync(trackedTornadoes);
         EASAddon.LOGGER.info("Added/updated tornado data for ID: {}", tornadoData.getId());
     }
     
@@ -1800,8 +1433,6 @@ public void performMaintenanceCleanup() {
         return (int) trackedTornadoes.values().stream().filter(TornadoData::isActive).count();
     }
     
-
-    
     public void forceUpdate() {
         if (Minecraft.getInstance().level != null) {
             updateTornadoTracking(Minecraft.getInstance().level);
@@ -1812,6 +1443,7 @@ public void performMaintenanceCleanup() {
         TornadoData tornado = trackedTornadoes.get(id);
         if (tornado != null && !tornado.isActive()) {
             trackedTornadoes.remove(id);
+            swathIndex.sync(trackedTornadoes);
             EASAddon.LOGGER.info("Removed inactive tornado with ID: {}", id);
         }
     }
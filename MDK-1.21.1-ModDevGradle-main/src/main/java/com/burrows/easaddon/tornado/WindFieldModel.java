@@ -0,0 +1,133 @@
+package com.burrows.easaddon.tornado;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Tornado near-surface wind model shared by the tracker, survey and damage code.
+ *
+ * Mirrors Storm.getRankine() and the rotational + translational part of Storm.getWind()
+ * (without PMWeather's noise), using primitive doubles only so it can be evaluated thousands
+ * of times per scan without allocating. All distances are horizontal.
+ */
+public final class WindFieldModel {
+    /** Storm.rankineFactor default */
+    public static final double RANKINE_FACTOR = 4.5;
+    /** Assumed translational speed (mph) when the storm's own velocity isn't used */
+    public static final double TRANSLATIONAL_SPEED = 15.0;
+
+    public static final int CHUNK_COLUMNS = 256;
+
+    private WindFieldModel() {}
+
+    /**
+     * Storm.getRankine(): fraction of peak rotational wind at this distance from the centre.
+     * Rises linearly through the core, then falls off as t^1.5 where t runs from 1 at the core edge to 0 at the windfield edge.
+     */
+    public static double rankine(double dist, int windfieldWidth) {
+        double coreRadius = windfieldWidth / RANKINE_FACTOR / 2.0;
+        if (dist <= coreRadius) {
+            return coreRadius > 0.0 ? dist / coreRadius : 0.0;
+        }
+
+        double outer = windfieldWidth * 2.0;
+        if (dist > outer) return 0.0;
+
+        double denominator = (outer - coreRadius * 2.0) / 2.0;
+        if (denominator <= 0.0) return 0.0;
+
+        double t = 1.0 - (dist - coreRadius) / denominator;
+        if (t <= 0.0) return 0.0;
+        if (t >= 1.0) return 1.0;
+        return t * Math.sqrt(t);
+    }
+
+    /**
+     * Wind speed (mph) at a point: rotational Rankine wind plus a fixed translational component
+     * that fades out over twice the windfield width.
+     */
+    public static double windAt(double x, double z, double tornadoX, double tornadoZ, int windfieldWidth, int windspeed) {
+        double dx = x - tornadoX;
+        double dz = z - tornadoZ;
+        double distSqr = dx * dx + dz * dz;
+        double dist = Math.sqrt(distSqr);
+
+        double affect = 1.0 - dist / (windfieldWidth * 2.0);
+        double translational = affect > 0.0 ? TRANSLATIONAL_SPEED * Math.sqrt(affect) : 0.0;
+
+        if (distSqr == 0.0) {
+            // Rotational direction is undefined at the exact centre
+            return translational * Math.sqrt(2.0);
+        }
+
+        double rotational = windspeed * rankine(dist, windfieldWidth);
+        // Unit tangent is (dz, -dx) / dist
+        double vx = dz / dist * rotational + translational;
+        double vz = -dx / dist * rotational + translational;
+        return Math.sqrt(vx * vx + vz * vz);
+    }
+
+    public static double windAt(Vec3 pos, Vec3 tornadoPos, int windfieldWidth, int windspeed) {
+        return windAt(pos.x, pos.z, tornadoPos.x, tornadoPos.z, windfieldWidth, windspeed);
+    }
+
+    /**
+     * Wind at the centre of a block column, without going through BlockPos.getCenter()
+     */
+    public static double windAtBlock(BlockPos pos, Vec3 tornadoPos, int windfieldWidth, int windspeed) {
+        return windAt(pos.getX() + 0.5, pos.getZ() + 0.5, tornadoPos.x, tornadoPos.z, windfieldWidth, windspeed);
+    }
+
+    /**
+     * Index into a 256-entry chunk column array for a world (or chunk-local) block x/z
+     */
+    public static int columnIndex(int blockX, int blockZ) {
+        return ((blockZ & 15) << 4) | (blockX & 15);
+    }
+
+    /**
+     * Fill out[columnIndex(x, z)] with the wind at every column centre of one chunk.
+     */
+    public static void fillChunk(int chunkX, int chunkZ, double tornadoX, double tornadoZ,
+                                 int windfieldWidth, int windspeed, float[] out) {
+        double baseX = (chunkX << 4) + 0.5;
+        double baseZ = (chunkZ << 4) + 0.5;
+        for (int z = 0; z < 16; z++) {
+            double wz = baseZ + z;
+            int row = z << 4;
+            for (int x = 0; x < 16; x++) {
+                out[row | x] = (float) windAt(baseX + x, wz, tornadoX, tornadoZ, windfieldWidth, windspeed);
+            }
+        }
+    }
+
+    /**
+     * Like {@link #fillChunk} but keeps the per-column maximum already in out, so calling it
+     * for each track point gives the peak wind the chunk saw over the whole path.
+     * Track points whose outer windfield misses the chunk entirely are skipped.
+     */
+    public static void accumulateChunkPeak(int chunkX, int chunkZ, double tornadoX, double tornadoZ,
+                                            int windfieldWidth, int windspeed, float[] out) {
+        double baseX = (chunkX << 4) + 0.5;
+        double baseZ = (chunkZ << 4) + 0.5;
+
+        // Nearest point of the chunk to the tornado; if that's outside the windfield, so is every column
+        double nearestX = Math.max(baseX - 0.5, Math.min(tornadoX, baseX + 15.5));
+        double nearestZ = Math.max(baseZ - 0.5, Math.min(tornadoZ, baseZ + 15.5));
+        double ndx = nearestX - tornadoX;
+        double ndz = nearestZ - tornadoZ;
+        double outer = windfieldWidth * 2.0;
+        if (ndx * ndx + ndz * ndz > outer * outer) return;
+
+        for (int z = 0; z < 16; z++) {
+            double wz = baseZ + z;
+            int row = z << 4;
+            for (int x = 0; x < 16; x++) {
+                float wind = (float) windAt(baseX + x, wz, tornadoX, tornadoZ, windfieldWidth, windspeed);
+                if (wind > out[row | x]) {
+                    out[row | x] = wind;
+                }
+            }
+        }
+    }
+}
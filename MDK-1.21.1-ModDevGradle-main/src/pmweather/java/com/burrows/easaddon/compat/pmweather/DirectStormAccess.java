@@ -0,0 +1,125 @@
+package com.burrows.easaddon.compat.pmweather;
+
+import com.burrows.easaddon.compat.StormAccess;
+import dev.protomanly.pmweather.block.MetarBlock;
+import dev.protomanly.pmweather.block.ModBlocks;
+import dev.protomanly.pmweather.block.RadarBlock;
+import dev.protomanly.pmweather.config.ServerConfig;
+import dev.protomanly.pmweather.event.GameBusClientEvents;
+import dev.protomanly.pmweather.event.GameBusEvents;
+import dev.protomanly.pmweather.weather.Storm;
+import dev.protomanly.pmweather.weather.WeatherHandler;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.phys.Vec3;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StormAccess compiled directly against PMWeather. Loaded through ServiceLoader
+ * only when PMWeather is present, so none of these references resolve otherwise.
+ */
+public class DirectStormAccess implements StormAccess {
+
+    @Override
+    @Nullable
+    public Object getServerWeatherHandler(ResourceKey<Level> dimension) {
+        return GameBusEvents.MANAGERS.get(dimension);
+    }
+
+    @Override
+    @Nullable
+    public Object getClientWeatherHandler() {
+        return GameBusClientEvents.weatherHandler;
+    }
+
+    @Override
+    public boolean isWeatherHandler(@Nullable Object handler) {
+        return handler instanceof WeatherHandler;
+    }
+
+    @Override
+    public List<?> getStorms(Object weatherHandler) {
+        return ((WeatherHandler) weatherHandler).getStorms();
+    }
+
+    @Override
+    public long getId(Object storm) {
+        return ((Storm) storm).ID;
+    }
+
+    @Override
+    public int getStormType(Object storm) {
+        return ((Storm) storm).stormType;
+    }
+
+    @Override
+    public int getStage(Object storm) {
+        return ((Storm) storm).stage;
+    }
+
+    @Override
+    public Vec3 getPosition(Object storm) {
+        return ((Storm) storm).position;
+    }
+
+    @Override
+    public int getWindspeed(Object storm) {
+        return ((Storm) storm).windspeed;
+    }
+
+    @Override
+    public float getWidth(Object storm) {
+        return ((Storm) storm).width;
+    }
+
+    @Override
+    public Vec3 getVelocity(Object storm) {
+        Vec3 velocity = ((Storm) storm).velocity;
+        return velocity != null ? velocity : Vec3.ZERO;
+    }
+
+    @Override
+    public float getOcclusion(Object storm) {
+        return ((Storm) storm).occlusion;
+    }
+
+    @Override
+    public boolean isDead(Object storm) {
+        return ((Storm) storm).dead;
+    }
+
+    @Override
+    public boolean isRadarBlock(Block block) {
+        return block instanceof RadarBlock;
+    }
+
+    @Override
+    public boolean isMetarBlock(Block block) {
+        return block instanceof MetarBlock;
+    }
+
+    @Override
+    public Block getMediumScouringBlock() {
+        return ModBlocks.MEDIUM_SCOURING.get();
+    }
+
+    @Override
+    public Block getHeavyScouringBlock() {
+        return ModBlocks.HEAVY_SCOURING.get();
+    }
+
+    @Override
+    @Nullable
+    public Map<Block, Float> getCustomBlockStrengths() {
+        return ServerConfig.blockStrengths;
+    }
+
+    @Override
+    public String getName() {
+        return "compiled bridge";
+    }
+}
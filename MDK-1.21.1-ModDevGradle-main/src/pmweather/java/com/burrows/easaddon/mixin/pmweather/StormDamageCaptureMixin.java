@@ -0,0 +1,74 @@
+package com.burrows.easaddon.mixin.pmweather;
+
+import com.burrows.easaddon.survey.TornadoDamageEventBuffer;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import dev.protomanly.pmweather.weather.Storm;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Captures every block PMWeather's tornado damage pass changes in Storm.tick.
+ *
+ * setBlockAndUpdate covers debarking and scouring, removeBlock covers glass, loose blocks
+ * and the MovingBlock debris path (the source block is removed right after the entity is made).
+ * Each change goes into {@link TornadoDamageEventBuffer} with the wind PMWeather sees at that block.
+ */
+@Mixin(Storm.class)
+public class StormDamageCaptureMixin {
+
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void easaddon$markCaptureInstalled(CallbackInfo ci) {
+        // Damage is only applied by server-side storms, so only those prove capture is wired up
+        Level level = ((Storm) (Object) this).level;
+        if (level != null && !level.isClientSide()) {
+            TornadoDamageEventBuffer.getInstance().markInstalled();
+        }
+    }
+
+    @WrapOperation(method = "tick", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/level/Level;setBlockAndUpdate(Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/level/block/state/BlockState;)Z"))
+    private boolean easaddon$captureReplace(Level level, BlockPos pos, BlockState state, Operation<Boolean> original) {
+        if (!TornadoDamageEventBuffer.getInstance().hasConsumer()) {
+            return original.call(level, pos, state);
+        }
+
+        BlockState previous = level.getBlockState(pos);
+        boolean changed = original.call(level, pos, state);
+        if (changed) {
+            easaddon$record(pos, previous, state);
+        }
+        return changed;
+    }
+
+    @WrapOperation(method = "tick", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/level/Level;removeBlock(Lnet/minecraft/core/BlockPos;Z)Z"))
+    private boolean easaddon$captureRemove(Level level, BlockPos pos, boolean isMoving, Operation<Boolean> original) {
+        if (!TornadoDamageEventBuffer.getInstance().hasConsumer()) {
+            return original.call(level, pos, isMoving);
+        }
+
+        BlockState previous = level.getBlockState(pos);
+        boolean changed = original.call(level, pos, isMoving);
+        if (changed) {
+            easaddon$record(pos, previous, level.getBlockState(pos));
+        }
+        return changed;
+    }
+
+    private void easaddon$record(BlockPos pos, BlockState previous, BlockState resulting) {
+        Storm storm = (Storm) (Object) this;
+        TornadoDamageEventBuffer.getInstance().offer(
+            storm.ID,
+            pos.asLong(),
+            Block.getId(previous),
+            Block.getId(resulting),
+            storm.getWind(pos.getCenter()));
+    }
+}